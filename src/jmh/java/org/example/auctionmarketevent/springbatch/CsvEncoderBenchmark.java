@@ -0,0 +1,79 @@
+package org.example.auctionmarketevent.springbatch;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.example.auctionmarketevent.springbatch.job.dto.AuctionsWinningBidDto;
+import org.example.auctionmarketevent.springbatch.job.writer.AuctionsWinningBidCsvEncoder;
+import org.example.auctionmarketevent.springbatch.job.writer.StagingFileEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+// chunk 하나(ROWS 행) 인코딩 비용 비교 => 결과는 행당 값 (@OperationsPerInvocation)
+// ./gradlew jmh => gc.alloc.rate.norm (B/op) 가 행당 할당량
+// => 출력 스트림은 호출마다 새로 만듦 (try-with-resources 가 닫은 스트림은 다음 호출에서 IOException)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CsvEncoderBenchmark {
+
+	private static final int ROWS = 1000; // 기본 chunk 크기
+
+	// 변경 전 Writer 의 Jackson 경로 (스키마는 한 번만 만듦)
+	private CsvMapper csvMapper;
+	private CsvSchema csvSchema;
+
+	private List<AuctionsWinningBidDto> items;
+
+	@Setup
+	public void setUp() {
+		csvMapper = new CsvMapper();
+		csvMapper.registerModule(new JavaTimeModule());
+		csvMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		csvSchema = csvMapper.schemaFor(AuctionsWinningBidDto.class).withoutHeader();
+
+		Instant base = Instant.parse("2025-04-18T09:30:15.123456Z");
+		items = new ArrayList<>();
+		for (int i = 0; i < ROWS; i++) {
+			Instant time = base.plusMillis(i * 1_234L);
+			items.add(AuctionsWinningBidDto.builder()
+				.auctionId(1_000_000L + i).productId(500_000L + i)
+				.productName("테스트 상품 " + i).productCategory(i % 2 == 0 ? "전자제품" : "생활 용품")
+				.maxPrice(10_000L + i * 100L)
+				.auctionStartTime(time).auctionEndTime(time.plusSeconds(3_600)).lastModified(time)
+				.build());
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void jackson() throws IOException {
+		try (SequenceWriter writer = csvMapper.writer(csvSchema).writeValues(OutputStream.nullOutputStream())) {
+			writer.writeAll(items);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void purposeBuilt() throws IOException {
+		try (StagingFileEncoder encoder = new AuctionsWinningBidCsvEncoder(OutputStream.nullOutputStream())) {
+			encoder.write(items);
+		}
+	}
+}
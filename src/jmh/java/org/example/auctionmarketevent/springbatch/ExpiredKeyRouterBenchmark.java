@@ -0,0 +1,66 @@
+package org.example.auctionmarketevent.springbatch;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.example.auctionmarketevent.common.listener.ExpiredKeyRouter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+// 만료 이벤트 처리량 비교: 변경 전 String 경로 vs ExpiredKeyRouter => 결과는 이벤트당 초당 처리 수 (@OperationsPerInvocation)
+// ./gradlew jmh => gc.alloc.rate.norm (B/op) 가 이벤트당 할당량 (경매 키가 아닌 이벤트는 0 에 가까워야 함)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ExpiredKeyRouterBenchmark {
+
+	private static final int EVENTS = 1000;
+
+	@Param({"10", "90"})
+	private int auctionKeyPercent; // 만료 키 중 경매 종료 키 비율 (나머지는 세션 / 캐시 등)
+
+	private byte[][] bodies;
+	private ExpiredKeyRouter router;
+	private Blackhole blackhole;
+
+	@Setup
+	public void setUp(Blackhole blackhole) {
+		this.blackhole = blackhole;
+		bodies = new byte[EVENTS][];
+		for (int i = 0; i < EVENTS; i++) {
+			String key = i % 100 < auctionKeyPercent
+				? "auction:end:" + (1_000_000L + i)
+				: "spring:session:sessions:expires:" + Integer.toHexString(i * 7919) + "-4f1c-9a";
+			bodies[i] = key.getBytes(StandardCharsets.UTF_8);
+		}
+		router = new ExpiredKeyRouter().register("auction:end:", id -> this.blackhole.consume(id));
+	}
+
+	// 변경 전 onMessage: message.toString() => startsWith => split(":")[2]
+	@Benchmark
+	@OperationsPerInvocation(EVENTS)
+	public void stringPath() {
+		for (byte[] body : bodies) {
+			String expiredKey = new String(body, StandardCharsets.UTF_8);
+			if (expiredKey.startsWith("auction:end:")) {
+				blackhole.consume(expiredKey.split(":")[2]);
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(EVENTS)
+	public void byteRouter() {
+		for (byte[] body : bodies) {
+			router.route(body);
+		}
+	}
+}
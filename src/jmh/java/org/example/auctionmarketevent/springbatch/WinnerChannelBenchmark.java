@@ -0,0 +1,145 @@
+package org.example.auctionmarketevent.springbatch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.example.auctionmarketevent.common.config.WebClientConfig;
+import org.example.auctionmarketevent.common.dispatch.CircuitBreaker;
+import org.example.auctionmarketevent.common.dispatch.OverflowPolicy;
+import org.example.auctionmarketevent.common.dispatch.StripedDispatcher;
+import org.example.auctionmarketevent.common.notify.WinnerNotificationChannel;
+import org.example.auctionmarketevent.common.notify.SocketServerNodes;
+import org.example.auctionmarketevent.common.notify.WinnerNotificationClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+// 경매 AUCTIONS 개가 한꺼번에 끝났을 때 HTTP 단건 요청 vs WebSocket 채널 처리량 비교 (로컬 루프백 서버)
+// => 결과 ops/s = 초당 알림한 경매 수 (@OperationsPerInvocation)
+// => httpPerAuction: 경매마다 POST (작업자 WORKERS 개가 응답까지 대기)
+// => channel: 연결 하나에 프레임 전송, 작업자는 ack 를 기다리지 않음 (동시 알림은 maxInFlight 까지)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WinnerChannelBenchmark {
+
+	private static final int AUCTIONS = 1000;
+	private static final int WORKERS = 8; // expirationDispatcher 기본 작업자 수
+
+	@Param({"64", "256"})
+	public int maxInFlight;
+
+	private DisposableServer loopbackServer;
+	private StripedDispatcher dispatcher;
+	private WinnerNotificationClient client;
+	private WinnerNotificationChannel channel;
+	private List<String> auctionIds;
+
+	@Setup(Level.Trial)
+	public void setUp() throws InterruptedException {
+		// 단건 POST => 200, winner 프레임 => 같은 seq 로 ack
+		ObjectMapper objectMapper = new ObjectMapper();
+		loopbackServer = HttpServer.create()
+			.host("127.0.0.1")
+			.port(0)
+			.route(routes -> routes
+				.post("/internal/auction/{auctionId}/winner", (request, response) ->
+					request.receive().then(Mono.defer(() -> Mono.from(response.status(200).send()))))
+				.ws("/internal/auction/ws", (in, out) -> out.sendString(in.receive().asString().map(text -> {
+					try {
+						long seq = objectMapper.readTree(text).path("seq").asLong();
+						return "{\"type\":\"ack\",\"seq\":" + seq + ",\"status\":\"ok\"}";
+					} catch (Exception e) {
+						throw new IllegalStateException(e);
+					}
+				}))))
+			.bindNow();
+
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		String baseUrl = "http://127.0.0.1:" + loopbackServer.port();
+		WebClient webClient = WebClientConfig.notificationWebClient(WORKERS * 2, 10_000, Duration.ofSeconds(10),
+			Duration.ofSeconds(30), Duration.ofSeconds(1), Duration.ofSeconds(5), false);
+		SocketServerNodes nodes = new SocketServerNodes(webClient, meterRegistry,
+			new CircuitBreaker("benchmark", 20, 50, Duration.ofSeconds(1), 3), baseUrl, 160, "/actuator/health",
+			Duration.ofSeconds(5), Duration.ofSeconds(1), 2, WORKERS * 2, Duration.ofSeconds(10));
+		client = new WinnerNotificationClient(webClient, nodes, Duration.ofSeconds(10), meterRegistry, 3, Duration.ofMillis(50), Duration.ofMillis(500), null);
+		channel = new WinnerNotificationChannel(new ReactorNettyWebSocketClient(), objectMapper, null, meterRegistry,
+			true, "ws://127.0.0.1:" + loopbackServer.port() + "/internal/auction/ws", maxInFlight,
+			Duration.ofSeconds(10), Duration.ofMillis(50), Duration.ofSeconds(1));
+		channel.start();
+		dispatcher = new StripedDispatcher("benchmark", WORKERS, AUCTIONS * 2, OverflowPolicy.BLOCK,
+			Duration.ofSeconds(10), meterRegistry);
+
+		auctionIds = new ArrayList<>();
+		for (int i = 0; i < AUCTIONS; i++) {
+			auctionIds.add(String.valueOf(1_000_000 + i));
+		}
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (!channel.isConnected() && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		channel.shutdown();
+		dispatcher.shutdown(Duration.ofSeconds(10));
+		loopbackServer.disposeNow();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(AUCTIONS)
+	public void httpPerAuction() throws InterruptedException {
+		CountDownLatch done = new CountDownLatch(AUCTIONS);
+		for (String auctionId : auctionIds) {
+			dispatcher.dispatch(auctionId, () -> {
+				try {
+					client.notifyWinner(auctionId);
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		done.await();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(AUCTIONS)
+	public void channel() {
+		List<CompletableFuture<Void>> results = new ArrayList<>(AUCTIONS);
+		for (String auctionId : auctionIds) {
+			CompletableFuture<Void> result = new CompletableFuture<>();
+			results.add(result);
+			dispatcher.dispatch(auctionId, () -> channel.send(auctionId).whenComplete((ignored, error) -> {
+				if (error == null) {
+					result.complete(null);
+				} else {
+					result.completeExceptionally(error);
+				}
+			}));
+		}
+		CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+	}
+}
@@ -0,0 +1,153 @@
+package org.example.auctionmarketevent.springbatch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.auctionmarketevent.common.config.WebClientConfig;
+import org.example.auctionmarketevent.common.dispatch.CircuitBreaker;
+import org.example.auctionmarketevent.common.dispatch.OverflowPolicy;
+import org.example.auctionmarketevent.common.dispatch.StripedDispatcher;
+import org.example.auctionmarketevent.common.notify.BatchingWinnerNotifier;
+import org.example.auctionmarketevent.common.notify.SocketServerNodes;
+import org.example.auctionmarketevent.common.notify.WinnerNotificationClient;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 경매 AUCTIONS 개가 한꺼번에 끝났을 때 소켓 서버 알림 처리량 비교 (로컬 스텁 서버)
+// => 결과 ops/s = 초당 알림한 경매 수 (@OperationsPerInvocation), httpRequests = 초당 HTTP 요청 수 (@AuxCounters)
+// => perAuction: 경매마다 POST (작업자 WORKERS 개), coalesced: BatchingWinnerNotifier 묶음 요청
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WinnerNotificationBenchmark {
+
+	private static final int AUCTIONS = 1000;
+	private static final int WORKERS = 8; // expirationDispatcher 기본 작업자 수
+
+	@Param({"20", "100"})
+	public int maxBatchSize;
+
+	private HttpServer stubServer;
+	private ExecutorService stubExecutor;
+	private final AtomicLong stubRequests = new AtomicLong(); // 스텁 서버가 받은 요청 수
+	private StripedDispatcher dispatcher;
+	private WinnerNotificationClient client;
+	private BatchingWinnerNotifier notifier;
+	private List<String> auctionIds;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class RequestCounter {
+		public long httpRequests;
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		stubServer.createContext("/internal/auction/", this::handle);
+		stubExecutor = Executors.newFixedThreadPool(WORKERS);
+		stubServer.setExecutor(stubExecutor);
+		stubServer.start();
+
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		String baseUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort();
+		WebClient webClient = WebClientConfig.notificationWebClient(WORKERS * 2, 10_000, Duration.ofSeconds(10),
+			Duration.ofSeconds(30), Duration.ofSeconds(1), Duration.ofSeconds(5), false);
+		SocketServerNodes nodes = new SocketServerNodes(webClient, meterRegistry,
+			new CircuitBreaker("benchmark", 20, 50, Duration.ofSeconds(1), 3), baseUrl, 160, "/actuator/health",
+			Duration.ofSeconds(5), Duration.ofSeconds(1), 2, WORKERS * 2, Duration.ofSeconds(10));
+		client = new WinnerNotificationClient(webClient, nodes, Duration.ofSeconds(10), meterRegistry, 3, Duration.ofMillis(50), Duration.ofMillis(500), null);
+		dispatcher = new StripedDispatcher("benchmark", WORKERS, AUCTIONS * 2, OverflowPolicy.BLOCK,
+			Duration.ofSeconds(10), meterRegistry);
+		notifier = new BatchingWinnerNotifier(client, dispatcher, meterRegistry, true, Duration.ofMillis(20),
+			maxBatchSize, AUCTIONS * 2, 3);
+		notifier.start();
+
+		auctionIds = new ArrayList<>();
+		for (int i = 0; i < AUCTIONS; i++) {
+			auctionIds.add(String.valueOf(1_000_000 + i));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		notifier.shutdown();
+		dispatcher.shutdown(Duration.ofSeconds(10));
+		stubServer.stop(0);
+		stubExecutor.shutdownNow();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(AUCTIONS)
+	public void perAuction(RequestCounter counter) throws InterruptedException {
+		long before = stubRequests.get();
+		CountDownLatch done = new CountDownLatch(AUCTIONS);
+		for (String auctionId : auctionIds) {
+			dispatcher.dispatch(auctionId, () -> {
+				try {
+					client.notifyWinner(auctionId);
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		done.await();
+		counter.httpRequests += stubRequests.get() - before;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(AUCTIONS)
+	public void coalesced(RequestCounter counter) {
+		long before = stubRequests.get();
+		List<CompletableFuture<Void>> results = new ArrayList<>(AUCTIONS);
+		for (String auctionId : auctionIds) {
+			results.add(notifier.submit(auctionId));
+		}
+		CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+		counter.httpRequests += stubRequests.get() - before;
+	}
+
+	// 단건 / 묶음 모두 200, 묶음은 실패 ID 없음
+	private void handle(HttpExchange exchange) throws IOException {
+		stubRequests.incrementAndGet();
+		try (InputStream body = exchange.getRequestBody()) {
+			body.readAllBytes();
+		}
+		byte[] response = exchange.getRequestURI().getPath().endsWith("/winners")
+			? "{\"failedAuctionIds\":[]}".getBytes(StandardCharsets.UTF_8)
+			: new byte[0];
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, response.length == 0 ? -1 : response.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(response);
+		}
+	}
+}
@@ -1,16 +1,28 @@
 package org.example.auctionmarketevent.common.config;
 
 import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.sql.DataSource;
 
 import org.example.auctionmarketevent.common.listener.IncrementalTimestampStepListener;
+import org.example.auctionmarketevent.common.provider.AuctionChangeLogCursor;
 import org.example.auctionmarketevent.common.provider.MySqlCustomPagingQueryProvider;
 import org.example.auctionmarketevent.springbatch.job.dto.AuctionProductDto;
 import org.example.auctionmarketevent.springbatch.job.dto.AuctionsWinningBidDto;
+import org.example.auctionmarketevent.springbatch.job.partition.AuctionIdRangePartitioner;
+import org.example.auctionmarketevent.springbatch.job.partition.StagingFileStepExecutionAggregator;
+import org.example.auctionmarketevent.springbatch.job.reader.AuctionChangeLogReader;
+import org.example.auctionmarketevent.springbatch.job.reader.AuctionProductKeysetCursorReader;
 import org.example.auctionmarketevent.springbatch.job.reader.AuctionProductRowMapper;
+import org.example.auctionmarketevent.springbatch.job.writer.AdaptiveBigQueryItemWriter;
+import org.example.auctionmarketevent.springbatch.job.writer.BigQueryItemWriter;
+import org.example.auctionmarketevent.springbatch.job.writer.DirectBigQueryItemWriter;
+import org.example.auctionmarketevent.springbatch.job.writer.StreamingGcsItemWriter;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.StepScope;
@@ -27,6 +39,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 
@@ -37,63 +52,198 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class BatchJobConfig { //  배치 작업 설정 => ETL 파이프라인
 
+	// 추출 컬럼 / 조인 (paging, cursor, changelog Reader 공통)
+	private static final String BASE_SELECT = "a.id AS auction_id, p.id AS product_id, p.product_name, "
+		+ "p.category AS product_category, a.max_price, a.start_time AS auction_start_time, "
+		+ "a.end_time AS auction_end_time, GREATEST(a.modified_at, p.modified_at) AS last_modified";
+	private static final String FROM_CLAUSE = "auctions a JOIN product p ON a.product_id = p.id";
+
 	//application.yml 에서 값 받아서 사용
 	private final DataSource dataSource; // DB 연결 정보
 	private final int chunkSize; // 한 번에 처리할 데이터 개수
 	private final String jobName; // 배치 작업의 이름
+	private final int maxItemCount; // 한 번의 Step 에서 읽을 최대 데이터 개수 (파티션 모드에서는 파티션 하나당 평균)
+	private final boolean partitionEnabled; // 파티션 병렬 추출 사용 여부
+	private final int gridSize; // 파티션 개수 (= 동시에 실행되는 Worker Step 수)
+	private final String readerMode; // Reader 방식: paging(JdbcPagingItemReader) / cursor(스트리밍 커서) / changelog(auction_change_log 따라가기)
+	private final int changeLogBatchSize; // changelog 모드에서 한 번에 가져올 변경 로그 행 수
+	private final Duration changeLogSafetyLag; // changelog 모드에서 아직 읽지 않는 최근 변경 구간 (늦게 커밋되는 작은 id 대기)
+	private final int fetchSize; // cursor 모드의 JDBC fetch size (Integer.MIN_VALUE: MySQL 행 단위 스트리밍)
+	private final String writerMode; // Writer 방식: chunk(chunk 마다 GCS 파일) / streaming(GCS 로 스트리밍 + 크기 단위로 파일 분할) / direct(BigQuery 에 바로 쓰기) / adaptive(추정 행 수로 선택)
+	private final String adaptiveStagedMode; // adaptive 모드에서 큰 변경분에 사용할 스테이징 방식 (chunk / streaming)
 
 	// 작업 관리 + 기록 도구
 	private final JobRepository jobRepository; // 작업 기록 저장소 => 어디까지 진행했는지 기록
 	private final PlatformTransactionManager transactionManager; // 트랜잭션 => 중간에 실패하면 롤백
 
-	private final ItemReader<AuctionProductDto> reader; // MySQL 에서 데이터를 읽어옴
 	private final ItemProcessor<AuctionProductDto, AuctionsWinningBidDto> processor; // 읽어온 데이터를 BigQuery 형식으로 변환
-	private final ItemWriter<AuctionsWinningBidDto> writer; // 변환된 데이터를 BigQuery 에 적재
+	private final BigQueryItemWriter writer; // 변환된 데이터를 BigQuery 에 적재
+	private final StreamingGcsItemWriter streamingWriter; // streaming 모드 Writer
+	private final DirectBigQueryItemWriter directWriter; // direct 모드 Writer
+	private final AdaptiveBigQueryItemWriter adaptiveWriter; // adaptive 모드 Writer
 	private final IncrementalTimestampStepListener listener; // Step 실행 전후에 마지막 처리 시각을 관리
+	private final AuctionChangeLogCursor changeLogCursor; // changelog 모드의 진행 위치
 
 	// 생성자
 	@Autowired
 	public BatchJobConfig(DataSource dataSource,
 		@Value("${app.batch.chunk-size}") int chunkSize,
 		@Value("${app.batch.job-name}") String jobName,
+		@Value("${app.batch.max-item-count:5000}") int maxItemCount,
+		@Value("${app.batch.partition.enabled:false}") boolean partitionEnabled,
+		@Value("${app.batch.partition.grid-size:4}") int gridSize,
+		@Value("${app.batch.reader.mode:paging}") String readerMode,
+		@Value("${app.batch.reader.fetch-size:-2147483648}") int fetchSize,
+		@Value("${app.batch.reader.change-log.batch-size:500}") int changeLogBatchSize,
+		@Value("${app.batch.reader.change-log.safety-lag:PT30S}") Duration changeLogSafetyLag,
+		@Value("${app.batch.writer.mode:chunk}") String writerMode,
+		@Value("${app.batch.writer.adaptive.staged-mode:chunk}") String adaptiveStagedMode,
+		@Value("${app.batch.load.mode:append}") String loadMode,
 		JobRepository jobRepository,
 		PlatformTransactionManager transactionManager,
-		ItemReader<AuctionProductDto> reader,// => Extract
 		ItemProcessor<AuctionProductDto, AuctionsWinningBidDto> processor, // =>Transform
-		ItemWriter<AuctionsWinningBidDto> writer, // => Load
-		IncrementalTimestampStepListener listener) {
+		BigQueryItemWriter writer, // => Load
+		StreamingGcsItemWriter streamingWriter,
+		DirectBigQueryItemWriter directWriter,
+		AdaptiveBigQueryItemWriter adaptiveWriter,
+		IncrementalTimestampStepListener listener,
+		AuctionChangeLogCursor changeLogCursor) {
 
 		this.dataSource = dataSource;
 		this.chunkSize = chunkSize;
 		this.jobName = jobName;
+		this.maxItemCount = maxItemCount;
+		this.partitionEnabled = partitionEnabled;
+		this.gridSize = gridSize;
+		this.readerMode = readerMode;
+		this.fetchSize = fetchSize;
+		this.changeLogBatchSize = changeLogBatchSize;
+		this.changeLogSafetyLag = changeLogSafetyLag;
+		this.writerMode = writerMode;
+		// MERGE 적재는 스테이징 파일을 거쳐야 중복 제거가 됨 => insertAll 로 바로 쓰는 direct / adaptive 와 함께 쓰면 중복이 그대로 쌓임
+		if ("merge".equalsIgnoreCase(loadMode.trim())
+			&& ("direct".equals(writerMode) || "adaptive".equals(writerMode))) {
+			throw new IllegalStateException(
+				"app.batch.load.mode=merge 는 app.batch.writer.mode=" + writerMode + " 와 함께 사용할 수 없습니다 (chunk 또는 streaming 사용)");
+		}
+		this.adaptiveStagedMode = adaptiveStagedMode;
 		this.jobRepository = jobRepository;
 		this.transactionManager = transactionManager;
-		this.reader = reader;
 		this.processor = processor;
 		this.writer = writer;
+		this.streamingWriter = streamingWriter;
+		this.directWriter = directWriter;
+		this.adaptiveWriter = adaptiveWriter;
 		this.listener = listener;
+		this.changeLogCursor = changeLogCursor;
 	}
 
-	// ItemReader 정의
+	// ItemReader 정의 (paging 모드)
 	@Bean
 	@StepScope // 각 Step 이 시작될 때마다 새로운 Bean 인스턴스가 생성되도록 함 => 간섭 방지
 	public JdbcPagingItemReader<AuctionProductDto> mysqlItemReader(
 		// #{stepExecutionContext['lastProcessedTimestamp']}: step 이 실행될 때 stepExecutionContext 에서 lastProcessedTimestamp 가져옴
 		// stepExecutionContext 에 lastProcessedTimestamp 값을 넣는 것은 Listener(IncrementalTimestampStepListener)에서 UPDATE 해줌
+		@Value("#{stepExecutionContext['lastProcessedTimestamp']}") Timestamp lastProcessedTimestamp,
+		// 파티션 모드에서 Partitioner 가 Worker Step 마다 넣어주는 auction_id 구간 (단일 Step 모드에서는 null)
+		@Value("#{stepExecutionContext['minAuctionId']}") Long minAuctionId,
+		@Value("#{stepExecutionContext['maxAuctionId']}") Long maxAuctionId,
+		// drain 모드에서 BacklogDrainer 가 넘겨주는 시간 구간 상한 (일반 실행에서는 null)
+		@Value("#{jobParameters['sliceEnd']}") LocalDateTime sliceEnd,
+		// 파티션 모드에서 Partitioner 가 모든 Worker 에 넣어주는 공통 시각 상한 (변경분이 적으면 null)
+		@Value("#{stepExecutionContext['partitionUpperBound']}") Timestamp partitionUpperBound
+	) {
+		Timestamp upperBound = upperBound(sliceEnd, partitionUpperBound);
+		log.info("mysqlItemReader 빈 생성 시작. lastProcessedTimestamp 값: {}, auction_id 구간: {} ~ {}, 상한: {}",
+			lastProcessedTimestamp, minAuctionId, maxAuctionId, upperBound);
+
+		return new JdbcPagingItemReaderBuilder<AuctionProductDto>()
+			.name("mysqlAuctionProductReader")
+			.dataSource(this.dataSource)
+			.queryProvider(createQueryProvider(minAuctionId, maxAuctionId, upperBound))
+			.parameterValues(createParameterValues(lastProcessedTimestamp, minAuctionId, maxAuctionId, upperBound))
+			.pageSize(this.chunkSize)
+			// DB 컬럼명과 DTO 필드명이 같으면 커스텀 매퍼 안쓰고 내장된 BeanPropertyRowMapper 써도 됨
+			// 하지만 BeanPropertyRowMapper 는 set 기반이기에 build 방식으로 쓰기 위해서 커스텀 매퍼 따로 만들어줌
+			.rowMapper(new AuctionProductRowMapper())
+			.maxItemCount(maxItemCount(sliceEnd, minAuctionId))
+			.saveState(saveReaderState())
+			.build();
+	}
+
+	// ItemReader 정의 (cursor 모드)
+	// => mysqlItemReader 와 같은 SELECT 를 페이지 없이 하나의 스트리밍 커서로 읽음 (대량 백필용)
+	@Bean
+	@StepScope
+	public AuctionProductKeysetCursorReader mysqlCursorItemReader(
+		@Value("#{stepExecutionContext['lastProcessedTimestamp']}") Timestamp lastProcessedTimestamp,
+		@Value("#{stepExecutionContext['minAuctionId']}") Long minAuctionId,
+		@Value("#{stepExecutionContext['maxAuctionId']}") Long maxAuctionId,
+		@Value("#{jobParameters['sliceEnd']}") LocalDateTime sliceEnd,
+		@Value("#{stepExecutionContext['partitionUpperBound']}") Timestamp partitionUpperBound
+	) {
+		Timestamp upperBound = upperBound(sliceEnd, partitionUpperBound);
+		log.info("mysqlCursorItemReader 빈 생성 시작. lastProcessedTimestamp 값: {}, fetchSize: {}, 상한: {}",
+			lastProcessedTimestamp, this.fetchSize, upperBound);
+
+		AuctionProductKeysetCursorReader reader = new AuctionProductKeysetCursorReader(
+			"mysqlAuctionProductCursorReader",
+			this.dataSource,
+			createQueryProvider(minAuctionId, maxAuctionId, upperBound),
+			createParameterValues(lastProcessedTimestamp, minAuctionId, maxAuctionId, upperBound),
+			this.fetchSize,
+			maxItemCount(sliceEnd, minAuctionId)
+		);
+		reader.setSaveState(saveReaderState());
+		return reader;
+	}
+
+	// ItemReader 정의 (changelog 모드)
+	// => auction_change_log 를 id 순서로 따라가며 변경된 경매만 조회 (진행 위치는 AuctionChangeLogCursor)
+	@Bean
+	@StepScope
+	public AuctionChangeLogReader changeLogItemReader(
 		@Value("#{stepExecutionContext['lastProcessedTimestamp']}") Timestamp lastProcessedTimestamp
 	) {
-		log.info("mysqlItemReader 빈 생성 시작. lastProcessedTimestamp 값: {}", lastProcessedTimestamp);
+		long startChangeId = this.changeLogCursor.read(lastProcessedTimestamp);
+		log.info("changeLogItemReader 빈 생성 시작. 시작 위치: {}, batchSize: {}", startChangeId, this.changeLogBatchSize);
 
-		// 데이터 가져올 SQL 쿼리 설정
-		// Custom Provider 사용
-		String baseSelect = "a.id AS auction_id, p.id AS product_id, p.product_name, p.category AS product_category, "
-			+ "a.max_price, a.start_time AS auction_start_time, a.end_time AS auction_end_time, "
-			+ "GREATEST(a.modified_at, p.modified_at) AS last_modified";
-		String from = "auctions a JOIN product p ON a.product_id = p.id";
-		String where = "GREATEST(a.modified_at, p.modified_at) > :lastProcessedTimestamp";
+		AuctionChangeLogReader reader = new AuctionChangeLogReader(
+			"auctionChangeLogReader",
+			this.dataSource,
+			BASE_SELECT,
+			FROM_CLAUSE,
+			startChangeId,
+			this.changeLogBatchSize,
+			this.maxItemCount,
+			this.changeLogSafetyLag
+		);
+		reader.setSaveState(saveReaderState());
+		return reader;
+	}
+
+	// 데이터 가져올 SQL 쿼리 설정 (paging / cursor 모드 공통)
+	// Custom Provider 사용 => 변경 컬럼(a.modified_at, p.modified_at)별 인덱스 범위 스캔을 UNION ALL 로 합침
+	private MySqlCustomPagingQueryProvider createQueryProvider(Long minAuctionId, Long maxAuctionId,
+		Timestamp upperBound) {
+		// 워터마크 조건은 Provider 가 브랜치마다 생성
+		// 파티션 Worker 인 경우 자신의 auction_id 구간만 읽음
+		String where = (minAuctionId != null && maxAuctionId != null)
+			? "a.id BETWEEN :minAuctionId AND :maxAuctionId"
+			: null;
 
-		MySqlCustomPagingQueryProvider queryProvider = new MySqlCustomPagingQueryProvider(baseSelect, from, where);
+		MySqlCustomPagingQueryProvider queryProvider = new MySqlCustomPagingQueryProvider(
+			BASE_SELECT, FROM_CLAUSE, List.of("a.modified_at", "p.modified_at"), "a.id", "lastProcessedTimestamp", where);
+
+		// drain 모드 / 파티션 모드: (lastProcessedTimestamp, 상한] 구간만 읽음
+		if (upperBound != null) {
+			queryProvider.setUpperBoundParameter("upperBound");
+		}
+		return queryProvider;
+	}
 
+	private Map<String, Object> createParameterValues(Timestamp lastProcessedTimestamp, Long minAuctionId,
+		Long maxAuctionId, Timestamp upperBound) {
 		Map<String, Object> parameterValues = new HashMap<>();
 
 		// lastProcessedTimestamp 가 null 일 경우 기본값
@@ -101,17 +251,66 @@ public class BatchJobConfig { //  배치 작업 설정 => ETL 파이프라인
 		parameterValues.put("lastProcessedTimestamp",
 			lastProcessedTimestamp == null ? defaultTimestamp : lastProcessedTimestamp);
 
-		return new JdbcPagingItemReaderBuilder<AuctionProductDto>()
-			.name("mysqlAuctionProductReader")
-			.dataSource(this.dataSource)
-			.queryProvider(queryProvider)
-			.parameterValues(parameterValues)
-			.pageSize(this.chunkSize)
-			// DB 컬럼명과 DTO 필드명이 같으면 커스텀 매퍼 안쓰고 내장된 BeanPropertyRowMapper 써도 됨
-			// 하지만 BeanPropertyRowMapper 는 set 기반이기에 build 방식으로 쓰기 위해서 커스텀 매퍼 따로 만들어줌
-			.rowMapper(new AuctionProductRowMapper())
-			.maxItemCount(5000)
-			.build();
+		if (minAuctionId != null && maxAuctionId != null) {
+			parameterValues.put("minAuctionId", minAuctionId);
+			parameterValues.put("maxAuctionId", maxAuctionId);
+		}
+
+		if (upperBound != null) {
+			parameterValues.put("upperBound", upperBound);
+		}
+		return parameterValues;
+	}
+
+	// 읽기 상한: drain 구간 끝이 있으면 그 값, 없으면 파티션 공통 상한 (둘 다 없으면 null)
+	private Timestamp upperBound(LocalDateTime sliceEnd, Timestamp partitionUpperBound) {
+		return sliceEnd != null ? Timestamp.valueOf(sliceEnd) : partitionUpperBound;
+	}
+
+	// drain 모드 / 파티션 Worker 는 시간 구간(상한)이 한 번의 실행 크기를 제한하므로 개수 상한을 두지 않음
+	// => 구간 안의 행을 모두 읽어야 워터마크를 구간 끝까지 올릴 수 있음
+	// => 파티션마다 개수 상한으로 멈추면 멈춘 시각이 파티션마다 달라져 먼저 끝난 파티션의 행이 다음 실행에서 다시 적재됨
+	private int maxItemCount(LocalDateTime sliceEnd, Long minAuctionId) {
+		return sliceEnd != null || minAuctionId != null ? Integer.MAX_VALUE : this.maxItemCount;
+	}
+
+	// streaming Writer / 비동기 업로드는 chunk 커밋 시점에 GCS 파일이 완료되지 않음 => 커밋된 Reader 위치가 적재 가능한 데이터보다 앞설 수 있음
+	// => Reader 위치를 저장하지 않고 재시작 시 워터마크부터 다시 읽음
+	// (Reader 빈 생성 시점 = Step 범위 안 => StepScope Writer 프록시 호출 가능)
+	private boolean saveReaderState() {
+		String stagedMode = "adaptive".equals(this.writerMode) ? this.adaptiveStagedMode : this.writerMode;
+		if ("streaming".equals(stagedMode)) {
+			return false;
+		}
+		if ("direct".equals(stagedMode)) {
+			return true;
+		}
+		return this.writer.isUploadedOnCommit();
+	}
+
+	// app.batch.reader.mode 값에 따라 사용할 Reader 선택 (StepScope 프록시 반환)
+	private ItemReader<AuctionProductDto> reader() {
+		if ("cursor".equals(this.readerMode)) {
+			return mysqlCursorItemReader(null, null, null, null, null);
+		}
+		if ("changelog".equals(this.readerMode)) {
+			return changeLogItemReader(null);
+		}
+		return mysqlItemReader(null, null, null, null, null);
+	}
+
+	// app.batch.writer.mode 값에 따라 사용할 Writer 선택 (StepScope 프록시)
+	private ItemWriter<AuctionsWinningBidDto> writer() {
+		if ("streaming".equals(this.writerMode)) {
+			return this.streamingWriter;
+		}
+		if ("direct".equals(this.writerMode)) {
+			return this.directWriter;
+		}
+		if ("adaptive".equals(this.writerMode)) {
+			return this.adaptiveWriter;
+		}
+		return this.writer;
 	}
 
 	// Reader, Processor, Writer, Listener 를 하나로 묶음
@@ -126,9 +325,61 @@ public class BatchJobConfig { //  배치 작업 설정 => ETL 파이프라인
 				this.chunkSize,
 				transactionManager // 실패하면 transactionManager 으로 롤백
 			)
-			.reader(this.reader)
+			.reader(reader())
+			.processor(this.processor)
+			.writer(writer())
+			.listener(this.listener)
+			.build();
+	}
+
+	// 파티션 모드: 변경된 행 범위를 auction_id 구간으로 나누는 Partitioner
+	@Bean
+	@StepScope // Manager Step 의 beforeStep 에서 Listener 가 넣어준 lastProcessedTimestamp 사용
+	public AuctionIdRangePartitioner auctionIdRangePartitioner(
+		JdbcTemplate jdbcTemplate,
+		@Value("#{stepExecutionContext['lastProcessedTimestamp']}") Timestamp lastProcessedTimestamp,
+		@Value("#{jobParameters['sliceEnd']}") LocalDateTime sliceEnd
+	) {
+		return new AuctionIdRangePartitioner(jdbcTemplate, lastProcessedTimestamp, sliceEnd, this.maxItemCount);
+	}
+
+	// 파티션 모드: Worker Step 을 동시에 실행할 스레드 풀 (gridSize 만큼으로 제한)
+	@Bean
+	public TaskExecutor partitionTaskExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(this.gridSize);
+		executor.setMaxPoolSize(this.gridSize);
+		executor.setQueueCapacity(this.gridSize);
+		executor.setThreadNamePrefix("batch-partition-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		return executor;
+	}
+
+	// 파티션 모드: 구간 하나를 처리하는 Worker Step
+	// => 각 Worker 는 자신의 Reader/Writer(StepScope) 와 ExecutionContext(GCS 파일 목록, 최신 타임스탬프)를 가짐
+	// => BigQuery 로드/메타데이터 업데이트는 Manager Step 의 Listener 가 한 번만 수행하므로 Listener 등록 안함
+	@Bean
+	public Step mysqlToBigQueryWorkerStep() {
+		return new StepBuilder("mysqlToBigQueryWorkerStep", jobRepository)
+			.<AuctionProductDto, AuctionsWinningBidDto>chunk(this.chunkSize, transactionManager)
+			.reader(reader())
 			.processor(this.processor)
-			.writer(this.writer)
+			.writer(writer())
+			.build();
+	}
+
+	// 파티션 모드: Worker Step 들을 병렬로 실행하고 결과를 합치는 Manager Step
+	@Bean
+	public Step mysqlToBigQueryPartitionedStep() {
+		log.info("mysqlToBigQueryPartitionedStep 빈 생성 시작: gridSize = {}", this.gridSize);
+
+		return new StepBuilder("mysqlToBigQueryPartitionedStep", jobRepository)
+			.partitioner("mysqlToBigQueryWorkerStep", auctionIdRangePartitioner(null, null, null))
+			.step(mysqlToBigQueryWorkerStep())
+			.gridSize(this.gridSize)
+			.taskExecutor(partitionTaskExecutor())
+			// 모든 파티션이 성공한 뒤 GCS 파일 목록 / 워터마크를 Manager 의 ExecutionContext 로 합침
+			.aggregator(new StagingFileStepExecutionAggregator())
 			.listener(this.listener)
 			.build();
 	}
@@ -143,7 +394,10 @@ public class BatchJobConfig { //  배치 작업 설정 => ETL 파이프라인
 			// incrementer: 작업을 실행할 때마다 run.id 식별자 1씩 증가
 			.incrementer(new RunIdIncrementer())
 			// 시작할 스텝 정의
-			.start(mysqlToBigQueryStep())
+			// app.batch.partition.enabled 값에 따라 단일 Step / 파티션 Step 선택
+			// changelog 모드는 변경 로그 위치 하나를 따라가므로 auction_id 구간 파티션을 쓰지 않음
+			.start(this.partitionEnabled && !"changelog".equals(this.readerMode)
+				? mysqlToBigQueryPartitionedStep() : mysqlToBigQueryStep())
 			.build();
 	}
 
@@ -1,14 +1,20 @@
 package org.example.auctionmarketevent.common.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.example.auctionmarketevent.common.dispatch.OverflowPolicy;
+import org.example.auctionmarketevent.common.dispatch.StripedDispatcher;
 import org.example.auctionmarketevent.common.listener.RedisExpirationListener;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
 
 @Configuration
 @RequiredArgsConstructor
@@ -18,12 +24,22 @@ public class RedisConfig {
     public RedisMessageListenerContainer container(RedisConnectionFactory connectionFactory, RedisExpirationListener listener) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
+        // 기본 executor 는 메시지마다 새 스레드 => 리스너는 키만 확인하고 expirationDispatcher 에 넘기므로 구독 스레드에서 바로 호출
+        // => 리스너에서 Redis 호출 금지 (선점 확인 등은 작업자에서, RedisExpirationListenerTest 가 확인)
+        container.setTaskExecutor(new SyncTaskExecutor());
+        // zset 모드에서도 구독 => AuctionEndScheduler 에 예약되지 않은 경매의 대비 경로 (중복은 AuctionEndIdempotencyGuard 가 막음)
         container.addMessageListener(listener, new ChannelTopic("__keyevent@0__:expired"));
         return container;
     }
 
+    // 만료 이벤트 처리용 작업자 풀: auctionId 기준 stripe => 같은 경매의 이벤트는 순서대로, 동시 실행 수 / 대기 수 제한
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder().build();
+    public StripedDispatcher expirationDispatcher(MeterRegistry meterRegistry,
+            @Value("${app.redis.dispatch.workers:8}") int workers,
+            @Value("${app.redis.dispatch.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.redis.dispatch.overflow-policy:block}") String overflowPolicy,
+            @Value("${app.redis.dispatch.block-timeout:PT5S}") Duration blockTimeout) {
+        return new StripedDispatcher("redis-expiration", workers, queueCapacity,
+                OverflowPolicy.from(overflowPolicy), blockTimeout, meterRegistry);
     }
 }
@@ -0,0 +1,68 @@
+package org.example.auctionmarketevent.common.config;
+
+import java.time.Duration;
+
+import org.example.auctionmarketevent.common.dispatch.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+public class WebClientConfig { // 소켓 서버 알림용 WebClient (커넥션 풀 / 타임아웃) + 회로 차단기
+
+	@Bean
+	public WebClient webClient(
+		@Value("${app.notify.http.max-connections:50}") int maxConnections,
+		@Value("${app.notify.http.pending-acquire-max:1000}") int pendingAcquireMax,
+		@Value("${app.notify.http.pending-acquire-timeout:PT5S}") Duration pendingAcquireTimeout,
+		@Value("${app.notify.http.max-idle-time:PT30S}") Duration maxIdleTime,
+		@Value("${app.notify.http.connect-timeout:PT1S}") Duration connectTimeout,
+		@Value("${app.notify.http.response-timeout:PT3S}") Duration responseTimeout,
+		@Value("${app.notify.http.h2c:false}") boolean h2c) {
+		return notificationWebClient(maxConnections, pendingAcquireMax, pendingAcquireTimeout, maxIdleTime,
+			connectTimeout, responseTimeout, h2c);
+	}
+
+	// 설정 템플릿 => SocketServerNodes 가 노드마다 복사해서 사용 (한 노드의 장애가 다른 노드 요청을 막지 않음)
+	@Bean
+	public CircuitBreaker winnerNotificationCircuitBreaker(
+		@Value("${app.notify.circuit-breaker.window-size:20}") int windowSize,
+		@Value("${app.notify.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+		@Value("${app.notify.circuit-breaker.open-duration:PT10S}") Duration openDuration,
+		@Value("${app.notify.circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+		return new CircuitBreaker("winner-notification", windowSize, failureRateThreshold, openDuration,
+			halfOpenCalls);
+	}
+
+	// 기본 WebClient.builder().build() 는 풀 크기 / 대기 수 / 타임아웃 제한이 없음
+	// => 동시 연결 수 + 연결 대기 수 제한, 유휴 연결은 keep-alive 로 재사용 (maxIdleTime 뒤 정리)
+	// => h2c 활성화 시 HTTP/2 (평문) 우선, 서버가 지원하지 않으면 HTTP/1.1
+	public static WebClient notificationWebClient(int maxConnections, int pendingAcquireMax,
+		Duration pendingAcquireTimeout, Duration maxIdleTime, Duration connectTimeout, Duration responseTimeout,
+		boolean h2c) {
+		ConnectionProvider provider = ConnectionProvider.builder("winner-notification")
+			.maxConnections(maxConnections)
+			.pendingAcquireMaxCount(pendingAcquireMax)
+			.pendingAcquireTimeout(pendingAcquireTimeout)
+			.maxIdleTime(maxIdleTime)
+			.build();
+
+		HttpClient httpClient = HttpClient.create(provider)
+			.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int)connectTimeout.toMillis())
+			.responseTimeout(responseTimeout)
+			.keepAlive(true)
+			.protocol(h2c ? new HttpProtocol[] {HttpProtocol.H2C, HttpProtocol.HTTP11}
+				: new HttpProtocol[] {HttpProtocol.HTTP11});
+
+		return WebClient.builder()
+			.clientConnector(new ReactorClientHttpConnector(httpClient))
+			.build();
+	}
+}
@@ -0,0 +1,138 @@
+package org.example.auctionmarketevent.common.dispatch;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class CircuitBreaker {
+	// 횟수 기반 회로 차단기: 최근 windowSize 번 호출 중 실패 비율이 기준 이상이면 OPEN
+	// => OPEN: openDuration 동안 호출을 바로 거절 (상대 서버에 요청을 더 쌓지 않음)
+	// => 이후 HALF_OPEN: halfOpenCalls 번만 시험 호출 => 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+	// => 호출 전 tryAcquire() 로 허용 여부 확인, 끝나면 onSuccess() / onFailure() 로 결과 기록
+
+	public enum State {
+		CLOSED, HALF_OPEN, OPEN
+	}
+
+	private final String name;
+	private final int windowSize; // 실패 비율을 계산할 최근 호출 수
+	private final int minimumCalls; // 이 수 이상 기록된 뒤부터 실패 비율 판단
+	private final int failureRateThreshold; // 실패 비율 기준 (%)
+	private final long openNanos; // OPEN 유지 시간
+	private final int halfOpenCalls; // HALF_OPEN 에서 허용할 시험 호출 수
+	private final LongSupplier nanoClock;
+
+	private final boolean[] window; // true => 실패
+	private int windowIndex;
+	private int windowCount;
+	private int windowFailures;
+
+	private State state = State.CLOSED;
+	private long openedAt;
+	private int halfOpenPermits;
+	private int halfOpenSuccesses;
+
+	public CircuitBreaker(String name, int windowSize, int failureRateThreshold, Duration openDuration,
+		int halfOpenCalls) {
+		this(name, windowSize, failureRateThreshold, openDuration, halfOpenCalls, System::nanoTime);
+	}
+
+	// 생성자 (시각 주입 => 테스트용)
+	public CircuitBreaker(String name, int windowSize, int failureRateThreshold, Duration openDuration,
+		int halfOpenCalls, LongSupplier nanoClock) {
+		this.name = name;
+		this.windowSize = Math.max(1, windowSize);
+		this.minimumCalls = Math.max(1, this.windowSize / 2);
+		this.failureRateThreshold = failureRateThreshold;
+		this.openNanos = openDuration.toNanos();
+		this.halfOpenCalls = Math.max(1, halfOpenCalls);
+		this.nanoClock = nanoClock;
+		this.window = new boolean[this.windowSize];
+	}
+
+	// 호출 허용 여부 (OPEN 이 끝났으면 HALF_OPEN 으로 바꾸고 시험 호출 허용)
+	public synchronized boolean tryAcquire() {
+		if (state == State.OPEN) {
+			if (nanoClock.getAsLong() - openedAt < openNanos) {
+				return false;
+			}
+			state = State.HALF_OPEN;
+			halfOpenPermits = halfOpenCalls;
+			halfOpenSuccesses = 0;
+			log.info("회로 차단기 HALF_OPEN: {}", name);
+		}
+		if (state == State.HALF_OPEN) {
+			if (halfOpenPermits == 0) {
+				return false;
+			}
+			halfOpenPermits--;
+		}
+		return true;
+	}
+
+	public synchronized void onSuccess() {
+		if (state == State.HALF_OPEN) {
+			if (++halfOpenSuccesses >= halfOpenCalls) {
+				close();
+			}
+			return;
+		}
+		if (state == State.CLOSED) {
+			record(false);
+		}
+	}
+
+	public synchronized void onFailure() {
+		if (state == State.HALF_OPEN) {
+			open();
+			return;
+		}
+		if (state == State.CLOSED) {
+			record(true);
+			if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+				open();
+			}
+		}
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	// 같은 설정 / 시각의 새 회로 차단기 (상태는 공유하지 않음 => 대상마다 하나씩)
+	public CircuitBreaker copy(String name) {
+		return new CircuitBreaker(name, windowSize, failureRateThreshold, Duration.ofNanos(openNanos), halfOpenCalls,
+			nanoClock);
+	}
+
+	private void record(boolean failure) {
+		if (windowCount == windowSize) {
+			if (window[windowIndex]) {
+				windowFailures--;
+			}
+		} else {
+			windowCount++;
+		}
+		window[windowIndex] = failure;
+		if (failure) {
+			windowFailures++;
+		}
+		windowIndex = (windowIndex + 1) % windowSize;
+	}
+
+	private void open() {
+		log.warn("회로 차단기 OPEN: {}, 최근 실패 = {}/{}", name, windowFailures, windowCount);
+		state = State.OPEN;
+		openedAt = nanoClock.getAsLong();
+	}
+
+	private void close() {
+		log.info("회로 차단기 CLOSED: {}", name);
+		state = State.CLOSED;
+		windowIndex = 0;
+		windowCount = 0;
+		windowFailures = 0;
+	}
+}
@@ -0,0 +1,77 @@
+package org.example.auctionmarketevent.common.dispatch;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+public final class ConsistentHashRing {
+	// 일관 해시 링: 키 => 노드 (같은 키는 노드 목록이 같으면 항상 같은 노드)
+	// => 노드마다 가상 노드 virtualNodes 개를 링에 배치 => 키 해시 이상인 첫 가상 노드의 노드 선택 (없으면 처음으로)
+	// => 노드 하나가 빠지거나 추가되면 그 노드에 걸린 구간의 키만 옮겨감 (약 1 / 노드 수)
+	// => 만든 뒤에는 변경하지 않음 (노드 목록이 바뀌면 새로 만들어서 교체) => 조회는 잠금 없이 이진 탐색
+
+	private final long[] points; // 가상 노드 해시 (오름차순)
+	private final String[] owners; // points 와 같은 위치의 노드
+	private final List<String> nodes;
+
+	public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+		this.nodes = List.copyOf(nodes);
+		int replicas = Math.max(1, virtualNodes);
+		long[] hashes = new long[this.nodes.size() * replicas];
+		String[] hashOwners = new String[hashes.length];
+		Integer[] order = new Integer[hashes.length];
+		int index = 0;
+		for (String node : this.nodes) {
+			for (int replica = 0; replica < replicas; replica++) {
+				hashes[index] = hash(node + "#" + replica);
+				hashOwners[index] = node;
+				order[index] = index;
+				index++;
+			}
+		}
+		Arrays.sort(order, (left, right) -> Long.compare(hashes[left], hashes[right]));
+
+		this.points = new long[hashes.length];
+		this.owners = new String[hashes.length];
+		for (int i = 0; i < order.length; i++) {
+			points[i] = hashes[order[i]];
+			owners[i] = hashOwners[order[i]];
+		}
+	}
+
+	public List<String> nodes() {
+		return nodes;
+	}
+
+	public boolean isEmpty() {
+		return points.length == 0;
+	}
+
+	// 키가 속한 노드 (링이 비어 있으면 null)
+	public String nodeFor(String key) {
+		if (points.length == 0) {
+			return null;
+		}
+		int index = Arrays.binarySearch(points, hash(key));
+		if (index < 0) {
+			index = -index - 1; // 해시 이상인 첫 가상 노드
+		}
+		return owners[index == points.length ? 0 : index];
+	}
+
+	// FNV-1a 64 + murmur3 fmix64 => 짧은 문자열 (auctionId, 노드#번호) 도 링에 고르게 퍼짐
+	static long hash(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xFF;
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -0,0 +1,16 @@
+package org.example.auctionmarketevent.common.dispatch;
+
+public enum OverflowPolicy {
+	// StripedDispatcher 의 stripe 큐가 가득 찼을 때 처리 방식
+
+	REJECT, // 버리고 rejected 지표 증가
+	CALLER_RUNS, // 호출 스레드에서 바로 실행 (같은 키의 앞선 작업보다 먼저 실행될 수 있음)
+	BLOCK; // 자리가 날 때까지 blockTimeout 만큼 대기, 그래도 없으면 버림
+
+	public static OverflowPolicy from(String value) {
+		if (value == null || value.isBlank()) {
+			return BLOCK;
+		}
+		return valueOf(value.trim().toUpperCase().replace('-', '_'));
+	}
+}
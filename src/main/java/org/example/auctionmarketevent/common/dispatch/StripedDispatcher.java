@@ -0,0 +1,182 @@
+package org.example.auctionmarketevent.common.dispatch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class StripedDispatcher implements AutoCloseable {
+	// 키(auctionId 등) 기준으로 stripe 를 골라 작업을 넣는 고정 크기 작업자 풀
+	// => stripe 마다 제한된 큐 + 전용 스레드 하나 => 같은 키의 작업은 들어온 순서대로 실행
+	// => 동시 실행 수 = stripe 수, 대기 작업 수 = stripe 수 * stripe 큐 크기 로 제한
+	// => 큐가 가득 차면 OverflowPolicy 에 따라 처리
+	// => 같은 stripe 의 작업자 스레드에서 다시 등록하면 큐에 넣지 않고 바로 실행 (자기 큐가 가득 찼을 때 자기를 기다리지 않도록)
+
+	private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30); // 빈 종료 시 남은 작업 처리 대기 시간
+	private static final long IDLE_POLL_MILLIS = 200; // 큐가 비어 있을 때 종료 요청을 확인하는 간격
+
+	private final String name;
+	private final List<BlockingQueue<Runnable>> queues;
+	private final List<Thread> workers;
+	private final OverflowPolicy overflowPolicy;
+	private final Duration blockTimeout;
+	private final Counter rejectedCounter;
+	private final Counter callerRunsCounter;
+	private volatile boolean running = true;
+
+	public StripedDispatcher(String name, int stripes, int queueCapacity, OverflowPolicy overflowPolicy,
+		Duration blockTimeout, MeterRegistry meterRegistry) {
+		if (stripes < 1 || queueCapacity < 1) {
+			throw new IllegalArgumentException("stripe 수 / 큐 크기는 1 이상이어야 함: stripes = " + stripes
+				+ ", queueCapacity = " + queueCapacity);
+		}
+		this.name = name;
+		this.overflowPolicy = overflowPolicy;
+		this.blockTimeout = blockTimeout;
+
+		int stripeCapacity = Math.max(1, queueCapacity / stripes); // 전체 큐 크기를 stripe 마다 나눔
+		this.queues = new ArrayList<>(stripes);
+		this.workers = new ArrayList<>(stripes);
+		for (int i = 0; i < stripes; i++) {
+			BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(stripeCapacity);
+			Thread worker = new Thread(() -> work(queue), name + "-" + i);
+			worker.setDaemon(true);
+			queues.add(queue);
+			workers.add(worker);
+		}
+
+		Gauge.builder("dispatch.queue.depth", this, StripedDispatcher::getQueueDepth)
+			.tag("dispatcher", name)
+			.description("stripe 큐에 대기 중인 작업 수")
+			.register(meterRegistry);
+		this.rejectedCounter = Counter.builder("dispatch.rejected")
+			.tag("dispatcher", name)
+			.description("큐가 가득 차서 버린 작업 수")
+			.register(meterRegistry);
+		this.callerRunsCounter = Counter.builder("dispatch.caller_runs")
+			.tag("dispatcher", name)
+			.description("큐가 가득 차서 호출 스레드에서 실행한 작업 수")
+			.register(meterRegistry);
+
+		workers.forEach(Thread::start);
+	}
+
+	// 작업 등록 => 큐에 넣었거나 (CALLER_RUNS) 실행했으면 true, 버렸으면 false
+	public boolean dispatch(Object key, Runnable task) {
+		if (!running) {
+			rejectedCounter.increment();
+			log.warn("dispatcher 종료됨, 작업 버림: dispatcher = {}, 키 = {}", name, key);
+			return false;
+		}
+
+		int stripe = stripeOf(key);
+		if (workers.get(stripe) == Thread.currentThread()) {
+			runSafely(task);
+			return true;
+		}
+
+		BlockingQueue<Runnable> queue = queues.get(stripe);
+		if (queue.offer(task)) {
+			return true;
+		}
+
+		switch (overflowPolicy) {
+			case CALLER_RUNS -> {
+				callerRunsCounter.increment();
+				runSafely(task);
+				return true;
+			}
+			case BLOCK -> {
+				try {
+					if (queue.offer(task, blockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+						return true;
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			default -> {
+			}
+		}
+
+		rejectedCounter.increment();
+		log.warn("dispatch 큐가 가득 차서 작업 버림: dispatcher = {}, 키 = {}, 정책 = {}", name, key, overflowPolicy);
+		return false;
+	}
+
+	public int getQueueDepth() {
+		int depth = 0;
+		for (BlockingQueue<Runnable> queue : queues) {
+			depth += queue.size();
+		}
+		return depth;
+	}
+
+	public double getRejectedCount() {
+		return rejectedCounter.count();
+	}
+
+	// 새 작업은 받지 않고, 큐에 남은 작업은 timeout 안에서 마저 실행
+	public void shutdown(Duration timeout) {
+		running = false;
+		long deadline = System.nanoTime() + timeout.toNanos();
+		for (Thread worker : workers) {
+			try {
+				long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+				if (remaining > 0) {
+					worker.join(remaining);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+		int remaining = getQueueDepth();
+		if (remaining > 0) {
+			log.warn("dispatcher 종료 시 처리하지 못한 작업: dispatcher = {}, 작업 = {}", name, remaining);
+		}
+	}
+
+	// 스프링 빈 종료 시 호출
+	@Override
+	public void close() {
+		shutdown(SHUTDOWN_TIMEOUT);
+	}
+
+	private int stripeOf(Object key) {
+		return key == null ? 0 : Math.floorMod(key.hashCode(), queues.size());
+	}
+
+	// 실행 중인 작업은 인터럽트하지 않음 => 종료 요청 후에는 큐가 빌 때까지 처리하고 끝냄
+	private void work(BlockingQueue<Runnable> queue) {
+		while (true) {
+			Runnable task;
+			try {
+				task = running ? queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS) : queue.poll();
+			} catch (InterruptedException e) {
+				return;
+			}
+			if (task != null) {
+				runSafely(task);
+			} else if (!running) {
+				return;
+			}
+		}
+	}
+
+	private void runSafely(Runnable task) {
+		try {
+			task.run();
+		} catch (RuntimeException e) {
+			log.error("dispatch 작업 실행 중 오류 발생: dispatcher = {}", name, e);
+		}
+	}
+}
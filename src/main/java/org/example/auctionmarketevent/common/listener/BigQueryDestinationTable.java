@@ -0,0 +1,192 @@
+package org.example.auctionmarketevent.common.listener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.example.auctionmarketevent.springbatch.job.schema.BigQueryRowSchema;
+import org.example.auctionmarketevent.springbatch.job.writer.StagingFileFormat;
+import org.example.auctionmarketevent.springbatch.job.writer.StagingPartition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.BigQueryException;
+import com.google.cloud.bigquery.Clustering;
+import com.google.cloud.bigquery.Field;
+import com.google.cloud.bigquery.JobInfo;
+import com.google.cloud.bigquery.LoadJobConfiguration;
+import com.google.cloud.bigquery.Schema;
+import com.google.cloud.bigquery.StandardTableDefinition;
+import com.google.cloud.bigquery.Table;
+import com.google.cloud.bigquery.TableId;
+import com.google.cloud.bigquery.TableInfo;
+import com.google.cloud.bigquery.TimePartitioning;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class BigQueryDestinationTable {
+	// 적재 대상 테이블: auction_end_time 일 단위 파티션 + product_category 클러스터링
+	// => 테이블이 없으면 생성, 있으면 파티션 설정 확인 + DTO 에 새로 생긴 컬럼 추가 (처음 로드할 때 한 번)
+	//    (MERGE / insertAll 은 컬럼을 추가하지 않음, 로드 작업은 ALLOW_FIELD_ADDITION 으로 추가)
+	// => 동기 로드: 스텝의 파일 전체를 테이블에 작업 하나로 추가 (행은 BigQuery 가 auction_end_time 으로 파티션에 나눔)
+	//    => 작업 하나는 전부 들어가거나 전부 안 들어감 => 일부 파티션만 들어간 채 스텝이 실패해서 재실행 시 중복되는 일 없음
+	// => 비동기 로드: 파티션 표시가 있는 스테이징 파일은 파티션별로 묶어서 파티션 데코레이터(table$yyyyMMdd)로 로드
+	// => 두 경로 모두 WRITE_APPEND (데코레이터 추가 = 테이블 추가와 같은 결과)
+	//    스테이징 파일은 워터마크 이후 바뀐 행만 담음 => 그 날짜 파티션 전체가 아니므로 파티션 교체 (WRITE_TRUNCATE) 는 쓰지 않음
+	// => 이미 있는 테이블이 파티션 테이블이 아니면 (파티션 설정은 나중에 바꿀 수 없음) 기존처럼 테이블 전체에 추가
+	// => 테이블 생성 / 컬럼 추가는 파티셔닝 설정과 상관없이 항상 (MERGE / insertAll 경로가 의존)
+	//    파티셔닝 비활성화 => 새 테이블은 파티션 없이 생성, 데코레이터 사용 안함
+
+	private final BigQuery bigquery;
+	private final String datasetName;
+	private final String tableName;
+	private final boolean partitioningEnabled;
+
+	private volatile Boolean partitioned; // 테이블 확인 결과 (null => 아직 확인 전)
+
+	// 생성자
+	@Autowired
+	public BigQueryDestinationTable(BigQuery bigquery,
+		@Value("${spring.cloud.gcp.bigquery.dataset-name}") String datasetName,
+		@Value("${spring.cloud.gcp.bigquery.table-name}") String tableName,
+		@Value("${app.batch.load.partitioning.enabled:true}") boolean partitioningEnabled) {
+		this.bigquery = bigquery;
+		this.datasetName = datasetName;
+		this.tableName = tableName;
+		this.partitioningEnabled = partitioningEnabled;
+	}
+
+	// 스테이징 파일 전체 => 테이블 하나에 추가하는 로드 설정 (테이블이 없으면 파티션 테이블로 먼저 생성)
+	public LoadJobConfiguration tableLoadConfiguration(List<String> gcsFileUris, StagingFileFormat stagingFileFormat) {
+		ensureReady();
+		return appendConfiguration(tableName, gcsFileUris, stagingFileFormat);
+	}
+
+	// 파티션 하나의 로드 설정 (partitionId 가 null 이면 테이블 전체에 추가)
+	public LoadJobConfiguration loadConfiguration(String partitionId, List<String> gcsFileUris,
+		StagingFileFormat stagingFileFormat) {
+		if (partitionId == null || !ensureReady()) {
+			return appendConfiguration(tableName, gcsFileUris, stagingFileFormat);
+		}
+		return appendConfiguration(tableName + "$" + partitionId, gcsFileUris, stagingFileFormat);
+	}
+
+	// WRITE_APPEND 로드 설정 + 스키마에 새로 생긴 컬럼(last_modified 등)이 기존 테이블에 없으면 로드하면서 추가
+	private LoadJobConfiguration appendConfiguration(String destination, List<String> gcsFileUris,
+		StagingFileFormat stagingFileFormat) {
+		return IncrementalTimestampStepListener.loadConfiguration(datasetName, destination, gcsFileUris,
+				stagingFileFormat)
+			.toBuilder()
+			.setSchemaUpdateOptions(List.of(JobInfo.SchemaUpdateOption.ALLOW_FIELD_ADDITION))
+			.build();
+	}
+
+	// 파티션 ID => 그 파티션의 파일 목록 (파티션 표시 없는 파일은 null 키)
+	public static Map<String, List<String>> groupByPartition(List<String> gcsFileUris) {
+		Map<String, List<String>> urisByPartition = new LinkedHashMap<>();
+		for (String uri : gcsFileUris) {
+			urisByPartition.computeIfAbsent(StagingPartition.fromUri(uri), key -> new ArrayList<>()).add(uri);
+		}
+		return urisByPartition;
+	}
+
+	// 테이블 생성 / 확인 + 컬럼 추가 => 파티션 데코레이터를 써도 되면 true
+	public boolean ensureReady() {
+		Boolean result = partitioned;
+		if (result == null) {
+			synchronized (this) {
+				if (partitioned == null) {
+					try {
+						partitioned = createOrVerify();
+					} catch (BigQueryException e) {
+						// 이번 로드는 테이블 전체에 추가, 다음 로드 때 다시 확인
+						log.warn("BigQuery 테이블 확인 실패: 테이블 = {}.{}, 오류 = {}", datasetName, tableName, e.getMessage());
+						return false;
+					}
+				}
+				result = partitioned;
+			}
+		}
+		return result;
+	}
+
+	private boolean createOrVerify() {
+		TableId tableId = TableId.of(datasetName, tableName);
+		Table table = bigquery.getTable(tableId);
+
+		if (table == null) {
+			createTable(tableId);
+			return partitioningEnabled;
+		}
+
+		if (!(table.getDefinition() instanceof StandardTableDefinition definition)) {
+			log.warn("BigQuery 테이블이 일반 테이블이 아님, 파티션 로드 사용 안함: 테이블 = {}.{}", datasetName, tableName);
+			return false;
+		}
+		addMissingColumns(tableId, definition);
+		if (!partitioningEnabled) {
+			return false;
+		}
+
+		TimePartitioning timePartitioning = definition.getTimePartitioning();
+		if (timePartitioning == null || timePartitioning.getType() != TimePartitioning.Type.DAY
+			|| !StagingPartition.PARTITION_FIELD.equals(timePartitioning.getField())) {
+			log.warn("BigQuery 테이블이 {} 일 단위 파티션 테이블이 아님, 파티션 로드 사용 안함: 테이블 = {}.{}, 파티션 = {}",
+				StagingPartition.PARTITION_FIELD, datasetName, tableName, timePartitioning);
+			return false;
+		}
+
+		Clustering clustering = definition.getClustering();
+		if (clustering == null || !clustering.getFields().contains(StagingPartition.CLUSTERING_FIELD)) {
+			log.warn("BigQuery 테이블 클러스터링 설정이 다름: 테이블 = {}.{}, 클러스터링 = {}", datasetName, tableName,
+				clustering != null ? clustering.getFields() : null);
+		}
+		return true;
+	}
+
+	private void createTable(TableId tableId) {
+		StandardTableDefinition.Builder definition = StandardTableDefinition.newBuilder()
+			.setSchema(BigQueryRowSchema.AUCTIONS_WINNING_BID.getBigQuerySchema());
+		if (partitioningEnabled) {
+			definition.setTimePartitioning(TimePartitioning.newBuilder(TimePartitioning.Type.DAY)
+					.setField(StagingPartition.PARTITION_FIELD)
+					.build())
+				.setClustering(Clustering.newBuilder()
+					.setFields(List.of(StagingPartition.CLUSTERING_FIELD))
+					.build());
+		}
+		bigquery.create(TableInfo.of(tableId, definition.build()));
+		if (partitioningEnabled) {
+			log.info("BigQuery 테이블 생성: 테이블 = {}.{}, 파티션 = {}, 클러스터링 = {}",
+				datasetName, tableName, StagingPartition.PARTITION_FIELD, StagingPartition.CLUSTERING_FIELD);
+		} else {
+			log.info("BigQuery 테이블 생성 (파티션 없음): 테이블 = {}.{}", datasetName, tableName);
+		}
+	}
+
+	// DTO 스키마에는 있고 테이블에는 없는 컬럼 추가 (컬럼 추가는 기존 행에 영향 없음, 새 컬럼은 NULL)
+	private void addMissingColumns(TableId tableId, StandardTableDefinition definition) {
+		Schema schema = definition.getSchema();
+		if (schema == null) {
+			return;
+		}
+		List<Field> fields = new ArrayList<>(schema.getFields());
+		List<String> added = new ArrayList<>();
+		for (Field field : BigQueryRowSchema.AUCTIONS_WINNING_BID.getBigQuerySchema().getFields()) {
+			if (fields.stream().noneMatch(existing -> existing.getName().equalsIgnoreCase(field.getName()))) {
+				fields.add(field);
+				added.add(field.getName());
+			}
+		}
+		if (added.isEmpty()) {
+			return;
+		}
+		bigquery.update(TableInfo.of(tableId, definition.toBuilder().setSchema(Schema.of(fields)).build()));
+		log.info("BigQuery 테이블 컬럼 추가: 테이블 = {}.{}, 컬럼 = {}", datasetName, tableName, added);
+	}
+}
@@ -0,0 +1,352 @@
+package org.example.auctionmarketevent.common.listener;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.example.auctionmarketevent.springbatch.job.writer.StagingFileFormat;
+import org.example.auctionmarketevent.springbatch.job.writer.StagingPartition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.BigQueryException;
+import com.google.cloud.bigquery.Job;
+import com.google.cloud.bigquery.JobId;
+import com.google.cloud.bigquery.JobInfo;
+import com.google.cloud.bigquery.JobStatus;
+import com.google.cloud.storage.Storage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class BigQueryLoadTracker {
+	// BigQuery 로드 작업을 Step 밖에서 추적 (app.batch.load.async.enabled=true)
+	// => afterStep 은 로드 작업 제출 + batch_pending_load 에 기록만 하고 바로 끝남 (job.waitFor() 로 배치 스레드를 잡지 않음)
+	// => 별도 스케줄러가 backoff 로 작업 상태를 조회, 성공한 작업만 제출 순서대로 워터마크 반영 + 스테이징 파일 삭제
+	// => 대기 중인 작업은 테이블에 남아 있으므로 재시작 후에도 이어서 추적
+	// 다음 추출은 대기 중인 작업의 워터마크부터 시작 (extractionWatermark) => 로드를 기다리지 않고 중복 없이 진행
+	// 재시도 소진 (FAILED) => 그 구간은 이미 다음 추출에서 제외됐으므로 보존한 파일로 failed-retry-interval 마다 다시 제출
+	// => 성공할 때까지 워터마크 반영 중단 (누락 없음), 다시 추출하지 않음 (뒤 로드가 이미 넣은 행과 중복 없음)
+
+	private static final String STATUS_PENDING = "PENDING"; // 로드 작업 진행 중 (또는 제출 전)
+	private static final String STATUS_SUCCEEDED = "SUCCEEDED"; // 성공, 앞선 작업이 끝나면 워터마크 반영
+	private static final String STATUS_FAILED = "FAILED"; // 재시도 소진 => 워터마크 반영 중단, 파일 보존 + 주기적으로 다시 제출
+	private static final String URI_SEPARATOR = "\n";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final BigQuery bigquery;
+	private final Storage storage;
+	private final BigQueryDestinationTable destinationTable; // 파티션별 로드 설정
+	private final String jobName;
+	private final String gcsBucketName;
+	private final StagingFileFormat stagingFileFormat;
+	private final boolean enabled;
+	private final Duration pollInterval; // 대기 중인 작업 확인 주기
+	private final Duration initialBackoff; // 작업별 첫 재조회 간격 (조회할 때마다 2배)
+	private final Duration maxBackoff; // 작업별 최대 재조회 간격
+	private final int maxAttempts; // 로드 실패 시 같은 파일로 다시 제출하는 최대 횟수
+	private final Duration failedRetryInterval; // 재시도 소진 후 같은 파일로 다시 제출하기까지 기다리는 시간
+
+	private ScheduledExecutorService scheduler;
+
+	// 생성자
+	@Autowired
+	public BigQueryLoadTracker(JdbcTemplate jdbcTemplate,
+		BigQuery bigquery,
+		Storage storage,
+		BigQueryDestinationTable destinationTable,
+		@Value("${app.batch.job-name}") String jobName,
+		@Value("${spring.cloud.gcp.storage.bucket-name}") String gcsBucketName,
+		@Value("${app.batch.writer.format:csv}") String stagingFileFormat,
+		@Value("${app.batch.load.async.enabled:false}") boolean enabled,
+		@Value("${app.batch.load.async.poll-interval:PT5S}") Duration pollInterval,
+		@Value("${app.batch.load.async.initial-backoff:PT5S}") Duration initialBackoff,
+		@Value("${app.batch.load.async.max-backoff:PT2M}") Duration maxBackoff,
+		@Value("${app.batch.load.async.max-attempts:3}") int maxAttempts,
+		@Value("${app.batch.load.async.failed-retry-interval:PT10M}") Duration failedRetryInterval) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.bigquery = bigquery;
+		this.storage = storage;
+		this.destinationTable = destinationTable;
+		this.jobName = jobName;
+		this.gcsBucketName = gcsBucketName;
+		this.stagingFileFormat = StagingFileFormat.from(stagingFileFormat);
+		this.enabled = enabled;
+		this.pollInterval = pollInterval;
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+		this.maxAttempts = maxAttempts;
+		this.failedRetryInterval = failedRetryInterval;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@PostConstruct
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS batch_pending_load ("
+			+ "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+			+ "job_name VARCHAR(100) NOT NULL, "
+			+ "bq_job_id VARCHAR(255), " // null => 로드 없이 워터마크만 올리는 항목 (직접 쓰기 / 빈 drain 구간)
+			+ "bq_job_location VARCHAR(50), "
+			+ "watermark DATETIME(6) NOT NULL, "
+			+ "gcs_file_uris TEXT, "
+			+ "attempt INT NOT NULL, "
+			+ "poll_count INT NOT NULL, "
+			+ "status VARCHAR(20) NOT NULL, "
+			+ "next_poll_at DATETIME(6) NOT NULL)");
+
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "bq-load-tracker");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleWithFixedDelay(this::pollSafely, pollInterval.toMillis(), pollInterval.toMillis(),
+			TimeUnit.MILLISECONDS);
+		log.info("BigQuery 로드 비동기 추적 시작: 작업 = {}, 확인 주기 = {}", jobName, pollInterval);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (scheduler != null) {
+			scheduler.shutdownNow(); // 대기 중인 작업은 테이블에 남아 있으므로 재시작 후 이어서 추적
+		}
+	}
+
+	// 로드 작업 기록 + 제출 (파티션마다 작업 하나, 같은 워터마크 => 모두 성공해야 워터마크 반영)
+	// => 파티션 작업이 실패하면 그 파티션 파일만 다시 제출 (실패한 로드 작업은 행을 남기지 않으므로 중복 없음)
+	public void submit(List<String> gcsFileUris, Timestamp watermark) {
+		for (List<String> partitionUris : BigQueryDestinationTable.groupByPartition(gcsFileUris).values()) {
+			submitLoad(partitionUris, watermark);
+		}
+	}
+
+	// 기록을 먼저 남겨서 제출 직후 종료돼도 재시작 시 작업 ID 로 찾을 수 있음
+	private void submitLoad(List<String> gcsFileUris, Timestamp watermark) {
+		String bqJobId = newBqJobId();
+		jdbcTemplate.update("INSERT INTO batch_pending_load "
+				+ "(job_name, bq_job_id, watermark, gcs_file_uris, attempt, poll_count, status, next_poll_at) "
+				+ "VALUES (?, ?, ?, ?, 1, 0, ?, ?)",
+			jobName, bqJobId, watermark, String.join(URI_SEPARATOR, gcsFileUris), STATUS_PENDING,
+			Timestamp.valueOf(LocalDateTime.now().plus(initialBackoff)));
+
+		createLoadJob(bqJobId, gcsFileUris);
+	}
+
+	// 로드 없이 워터마크만 올림 (직접 쓰기 / 빈 drain 구간)
+	// => 앞선 로드가 대기 중이면 그 뒤에 줄 세워서 순서대로 반영
+	public void advanceWatermark(Timestamp watermark) {
+		jdbcTemplate.update("INSERT INTO batch_pending_load "
+				+ "(job_name, bq_job_id, watermark, gcs_file_uris, attempt, poll_count, status, next_poll_at) "
+				+ "VALUES (?, NULL, ?, NULL, 0, 0, ?, ?)",
+			jobName, watermark, STATUS_SUCCEEDED, Timestamp.valueOf(LocalDateTime.now()));
+		commitCompleted();
+	}
+
+	// 다음 추출 시작 지점 = max(확정된 워터마크, 대기 중인 항목의 워터마크)
+	// => FAILED 항목도 포함 (파일이 남아 있고 다시 제출되므로 그 구간을 다시 추출하지 않음)
+	public Timestamp extractionWatermark(Timestamp committedWatermark) {
+		Timestamp pendingWatermark = jdbcTemplate.queryForObject(
+			"SELECT MAX(watermark) FROM batch_pending_load WHERE job_name = ?", Timestamp.class, jobName);
+		if (pendingWatermark == null || (committedWatermark != null && !pendingWatermark.after(committedWatermark))) {
+			return committedWatermark;
+		}
+		return pendingWatermark;
+	}
+
+	// 대기 중인 작업 상태 확인 + 완료된 작업 반영
+	public void poll() {
+		List<PendingLoad> pendingLoads = jdbcTemplate.query(
+			"SELECT id, status, bq_job_id, bq_job_location, gcs_file_uris, attempt, poll_count, next_poll_at "
+				+ "FROM batch_pending_load WHERE job_name = ? AND status IN (?, ?) ORDER BY id",
+			(rs, rowNum) -> new PendingLoad(rs.getLong("id"), rs.getString("status"), rs.getString("bq_job_id"),
+				rs.getString("bq_job_location"), rs.getString("gcs_file_uris"), rs.getInt("attempt"),
+				rs.getInt("poll_count"), rs.getTimestamp("next_poll_at")),
+			jobName, STATUS_PENDING, STATUS_FAILED);
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		for (PendingLoad pendingLoad : pendingLoads) {
+			if (pendingLoad.nextPollAt().after(now)) {
+				continue; // backoff 중 (FAILED => 다시 제출 대기 중)
+			}
+			if (STATUS_FAILED.equals(pendingLoad.status())) {
+				resubmitFailed(pendingLoad);
+			} else {
+				checkLoadJob(pendingLoad);
+			}
+		}
+		commitCompleted();
+	}
+
+	private void pollSafely() {
+		try {
+			poll();
+		} catch (Exception e) {
+			log.error("BigQuery 로드 추적 중 오류 발생: 작업 = {}", jobName, e);
+		}
+	}
+
+	private void checkLoadJob(PendingLoad pendingLoad) {
+		Job job = bigquery.getJob(jobId(pendingLoad.bqJobId(), pendingLoad.bqJobLocation()));
+
+		if (job == null) {
+			// 기록 후 제출 전에 종료됨 => 같은 작업 ID 로 제출
+			log.warn("BigQuery 로드 작업 없음, 다시 제출: 작업 = {}", pendingLoad.bqJobId());
+			createLoadJob(pendingLoad.bqJobId(), pendingLoad.gcsFileUris());
+			scheduleNextPoll(pendingLoad);
+			return;
+		}
+		if (job.getStatus().getState() != JobStatus.State.DONE) {
+			scheduleNextPoll(pendingLoad);
+			return;
+		}
+
+		if (job.getStatus().getError() == null) {
+			log.info("BigQuery 로드 성공: 작업 = {}, 시도 = {}", pendingLoad.bqJobId(), pendingLoad.attempt());
+			jdbcTemplate.update("UPDATE batch_pending_load SET status = ? WHERE id = ?", STATUS_SUCCEEDED,
+				pendingLoad.id());
+			return;
+		}
+
+		log.error("BigQuery 로드 실패: 작업 = {}, 시도 = {}, 오류 = {}",
+			pendingLoad.bqJobId(), pendingLoad.attempt(), job.getStatus().getError());
+		if (pendingLoad.attempt() >= maxAttempts) {
+			// 이후 항목의 워터마크도 반영하지 않음 (누락 방지) => 스테이징 파일은 남겨두고 failed-retry-interval 후 다시 제출
+			jdbcTemplate.update("UPDATE batch_pending_load SET status = ?, next_poll_at = ? WHERE id = ?", STATUS_FAILED,
+				Timestamp.valueOf(LocalDateTime.now().plus(failedRetryInterval)), pendingLoad.id());
+			log.error("BigQuery 로드 재시도 소진, 워터마크 반영 중단 (수동 확인 필요): 작업 = {}, 파일 = {}, 다시 제출 = {} 후",
+				pendingLoad.bqJobId(), pendingLoad.gcsFileUris(), failedRetryInterval);
+			return;
+		}
+
+		resubmit(pendingLoad, pendingLoad.attempt() + 1);
+	}
+
+	// 재시도 소진 후 대기 시간이 지난 항목 => 같은 파일로 시도 횟수를 처음부터 다시 제출
+	// (다음 추출은 이미 이 구간 뒤에서 시작했으므로 다시 추출하면 뒤 로드와 행이 중복됨)
+	private void resubmitFailed(PendingLoad pendingLoad) {
+		log.error("BigQuery 로드 실패 항목 다시 제출: 이전 작업 = {}, 워터마크 반영 중단 중", pendingLoad.bqJobId());
+		resubmit(pendingLoad, 1);
+	}
+
+	// 같은 파일로 새 작업 ID 로 다시 제출
+	private void resubmit(PendingLoad pendingLoad, int attempt) {
+		String retryJobId = newBqJobId();
+		jdbcTemplate.update("UPDATE batch_pending_load SET bq_job_id = ?, bq_job_location = NULL, attempt = ?, "
+				+ "poll_count = 0, status = ?, next_poll_at = ? WHERE id = ?",
+			retryJobId, attempt, STATUS_PENDING, Timestamp.valueOf(LocalDateTime.now().plus(initialBackoff)),
+			pendingLoad.id());
+		createLoadJob(retryJobId, pendingLoad.gcsFileUris());
+	}
+
+	// 앞에서부터 연속으로 성공한 제출만 워터마크 반영 + 파일 삭제 + 기록 삭제
+	// => submit 한 번의 파티션 항목들은 같은 워터마크로 연달아 기록됨 => 같은 워터마크의 연속된 항목을 한 제출로 보고
+	//    모두 성공해야 반영 (파티션 하나만 성공했을 때 워터마크를 올리면 나머지 파티션이 실패해도 그 구간을 건너뜀)
+	private synchronized void commitCompleted() {
+		List<CompletedLoad> loads = jdbcTemplate.query(
+			"SELECT id, status, watermark, gcs_file_uris FROM batch_pending_load WHERE job_name = ? ORDER BY id",
+			(rs, rowNum) -> new CompletedLoad(rs.getLong("id"), rs.getString("status"), rs.getTimestamp("watermark"),
+				rs.getString("gcs_file_uris")),
+			jobName);
+
+		int start = 0;
+		while (start < loads.size()) {
+			Timestamp watermark = loads.get(start).watermark();
+			int end = start;
+			while (end < loads.size() && loads.get(end).watermark().equals(watermark)) {
+				if (!STATUS_SUCCEEDED.equals(loads.get(end).status())) {
+					return;
+				}
+				end++;
+			}
+
+			int updatedRows = jdbcTemplate.update(
+				"UPDATE batch_job_metadata SET last_processed_timestamp = ? WHERE job_name = ?",
+				watermark, jobName);
+			if (updatedRows == 0) {
+				log.warn("batch_job_metadata 업데이트 실패: 작업 = '{}'", jobName);
+				return;
+			}
+			log.info("batch_job_metadata 업데이트 성공: 작업 = '{}', 타임스탬프 = {}", jobName, watermark);
+
+			for (CompletedLoad load : loads.subList(start, end)) {
+				IncrementalTimestampStepListener.deleteGcsFiles(storage, gcsBucketName, splitUris(load.gcsFileUris()));
+				jdbcTemplate.update("DELETE FROM batch_pending_load WHERE id = ?", load.id());
+			}
+			start = end;
+		}
+	}
+
+	private void createLoadJob(String bqJobId, List<String> gcsFileUris) {
+		try {
+			// 한 기록의 파일은 모두 같은 파티션 (파티션 표시는 객체 이름에 있음)
+			JobInfo jobInfo = JobInfo.newBuilder(
+					destinationTable.loadConfiguration(StagingPartition.fromUri(gcsFileUris.get(0)), gcsFileUris,
+						stagingFileFormat))
+				.setJobId(JobId.of(bqJobId))
+				.build();
+			Job job = bigquery.create(jobInfo);
+			if (job != null && job.getJobId() != null && job.getJobId().getLocation() != null) {
+				jdbcTemplate.update("UPDATE batch_pending_load SET bq_job_location = ? WHERE bq_job_id = ?",
+					job.getJobId().getLocation(), bqJobId);
+			}
+			log.info("BigQuery 로드 제출: 작업 = {}, 파일 수 = {}", bqJobId, gcsFileUris.size());
+		} catch (BigQueryException e) {
+			if (e.getCode() == 409) {
+				return; // 이미 제출된 작업 (재시작 후 재제출)
+			}
+			// 다음 확인 때 작업이 없으면 다시 제출
+			log.error("BigQuery 로드 제출 실패: 작업 = {}, 오류 = {}", bqJobId, e.getMessage(), e);
+		}
+	}
+
+	private void scheduleNextPoll(PendingLoad pendingLoad) {
+		Duration backoff = initialBackoff.multipliedBy(1L << Math.min(pendingLoad.pollCount() + 1, 20));
+		if (backoff.compareTo(maxBackoff) > 0) {
+			backoff = maxBackoff;
+		}
+		jdbcTemplate.update("UPDATE batch_pending_load SET poll_count = ?, next_poll_at = ? WHERE id = ?",
+			pendingLoad.pollCount() + 1, Timestamp.valueOf(LocalDateTime.now().plus(backoff)), pendingLoad.id());
+	}
+
+	private String newBqJobId() {
+		// BigQuery 작업 ID 는 영문 / 숫자 / '_' / '-' 만 허용
+		return "batch_load_" + jobName.replaceAll("[^A-Za-z0-9_-]", "_") + "_" + UUID.randomUUID();
+	}
+
+	private static JobId jobId(String bqJobId, String location) {
+		return location != null ? JobId.newBuilder().setJob(bqJobId).setLocation(location).build() : JobId.of(bqJobId);
+	}
+
+	private static List<String> splitUris(String gcsFileUris) {
+		return gcsFileUris == null || gcsFileUris.isEmpty() ? List.of() : Arrays.asList(gcsFileUris.split(URI_SEPARATOR));
+	}
+
+	// 상태 확인 / 다시 제출 대상 (status = PENDING, FAILED)
+	private record PendingLoad(long id, String status, String bqJobId, String bqJobLocation, String uris, int attempt,
+							   int pollCount, Timestamp nextPollAt) {
+		List<String> gcsFileUris() {
+			return splitUris(uris);
+		}
+	}
+
+	// 워터마크 반영 대상
+	private record CompletedLoad(long id, String status, Timestamp watermark, String gcsFileUris) {
+	}
+}
@@ -0,0 +1,32 @@
+package org.example.auctionmarketevent.common.listener;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.google.cloud.bigquery.LoadJobConfiguration;
+import com.google.cloud.bigquery.Schema;
+import com.google.cloud.bigquery.TableId;
+
+public interface BigQueryMergeClient {
+	// MERGE 적재(app.batch.load.mode=merge)에서 사용하는 BigQuery 호출
+	// => 실제 구현(GoogleBigQueryMergeClient)과 테스트용 메모리 구현을 바꿔 끼울 수 있도록 인터페이스로 분리
+	// => 작업 실패 시 BigQueryException / IllegalStateException
+
+	// 실행마다 만드는 스테이징 테이블 생성 (삭제에 실패해도 만료 시간이 지나면 BigQuery 가 삭제)
+	void createStagingTable(TableId stagingTableId, Schema schema, Duration expiration);
+
+	// GCS 스테이징 파일 => 스테이징 테이블 로드 (완료까지 대기)
+	void load(LoadJobConfiguration loadConfig) throws InterruptedException;
+
+	// 스테이징 테이블 => 대상 테이블 MERGE (keyColumn 이 같으면 UPDATE, 없으면 INSERT)
+	// => 스테이징에 같은 키가 여러 번 있으면 orderColumn 이 가장 큰 행 사용
+	MergeStatistics merge(TableId stagingTableId, TableId targetTableId, String keyColumn, String orderColumn,
+		List<String> columns) throws InterruptedException;
+
+	// 테이블 삭제 => 삭제했으면 true, 없으면 false
+	boolean dropTable(TableId tableId);
+
+	// MERGE 결과 (추가된 행 / 갱신된 행)
+	record MergeStatistics(long insertedRows, long updatedRows) {
+	}
+}
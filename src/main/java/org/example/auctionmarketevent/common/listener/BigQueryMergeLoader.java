@@ -0,0 +1,105 @@
+package org.example.auctionmarketevent.common.listener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.example.auctionmarketevent.springbatch.job.schema.BigQueryRowSchema;
+import org.example.auctionmarketevent.springbatch.job.writer.StagingFileFormat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.cloud.bigquery.BigQueryException;
+import com.google.cloud.bigquery.Field;
+import com.google.cloud.bigquery.JobInfo;
+import com.google.cloud.bigquery.LoadJobConfiguration;
+import com.google.cloud.bigquery.Schema;
+import com.google.cloud.bigquery.TableId;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class BigQueryMergeLoader {
+	// MERGE 적재 (app.batch.load.mode=merge)
+	// => WRITE_APPEND 는 modified_at 이 바뀐 경매를 다시 추가해서 같은 auction_id 의 이전 버전이 계속 쌓임
+	// => 실행마다 스테이징 테이블에 로드 => auction_id 기준 MERGE 한 번 => 스테이징 테이블 삭제
+
+	public static final String KEY_COLUMN = "auction_id"; // MERGE 키
+	public static final String ORDER_COLUMN = "last_modified"; // 스테이징에 같은 키가 여러 번 있으면 이 값이 가장 큰 행 사용
+	private static final Duration STAGING_TABLE_EXPIRATION = Duration.ofDays(1); // 삭제 실패 시 남은 스테이징 테이블 자동 만료
+
+	private final BigQueryMergeClient mergeClient;
+	private final BigQueryDestinationTable destinationTable; // 대상 테이블 생성 / 확인 (null 이면 이미 있다고 가정)
+	private final String datasetName;
+	private final String tableName;
+	private final boolean enabled;
+
+	// 생성자
+	@Autowired
+	public BigQueryMergeLoader(BigQueryMergeClient mergeClient,
+		BigQueryDestinationTable destinationTable,
+		@Value("${spring.cloud.gcp.bigquery.dataset-name}") String datasetName,
+		@Value("${spring.cloud.gcp.bigquery.table-name}") String tableName,
+		@Value("${app.batch.load.mode:append}") String loadMode) {
+		this.mergeClient = mergeClient;
+		this.destinationTable = destinationTable;
+		this.datasetName = datasetName;
+		this.tableName = tableName;
+		this.enabled = "merge".equalsIgnoreCase(loadMode.trim());
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	// 스테이징 파일 => 스테이징 테이블 => 대상 테이블 MERGE (성공/실패와 상관없이 스테이징 테이블 삭제)
+	public BigQueryMergeClient.MergeStatistics load(List<String> gcsFileUris, StagingFileFormat stagingFileFormat)
+		throws InterruptedException {
+		if (destinationTable != null) {
+			destinationTable.ensureReady(); // 대상 테이블이 없으면 생성 (MERGE 는 테이블을 만들지 않음)
+		}
+
+		Schema schema = BigQueryRowSchema.AUCTIONS_WINNING_BID.getBigQuerySchema();
+		TableId targetTableId = TableId.of(datasetName, tableName);
+		TableId stagingTableId = TableId.of(datasetName, stagingTableName());
+
+		try {
+			mergeClient.createStagingTable(stagingTableId, schema, STAGING_TABLE_EXPIRATION);
+
+			LoadJobConfiguration loadConfig = IncrementalTimestampStepListener.loadConfiguration(datasetName,
+					stagingTableId.getTable(), gcsFileUris, stagingFileFormat)
+				.toBuilder()
+				.setWriteDisposition(JobInfo.WriteDisposition.WRITE_TRUNCATE) // 재시도 시 스테이징 행 중복 방지
+				.build();
+			mergeClient.load(loadConfig);
+			log.info("BigQuery 스테이징 로드 완료: 스테이징 테이블 = {}, 파일 크기 = {}", stagingTableId.getTable(),
+				gcsFileUris.size());
+
+			List<String> columns = schema.getFields().stream().map(Field::getName).toList();
+			BigQueryMergeClient.MergeStatistics stats = mergeClient.merge(stagingTableId, targetTableId, KEY_COLUMN,
+				ORDER_COLUMN, columns);
+			log.info("BigQuery MERGE 완료: 테이블 = {}.{}, 추가 = {}, 갱신 = {}", datasetName, tableName,
+				stats.insertedRows(), stats.updatedRows());
+			return stats;
+		} finally {
+			dropStagingTable(stagingTableId);
+		}
+	}
+
+	private void dropStagingTable(TableId stagingTableId) {
+		try {
+			if (!mergeClient.dropTable(stagingTableId)) {
+				log.warn("스테이징 테이블 없음: 스테이징 테이블 = {}", stagingTableId.getTable());
+			}
+		} catch (BigQueryException e) {
+			// 만료 시간이 지나면 BigQuery 가 삭제
+			log.warn("스테이징 테이블 삭제 실패: 스테이징 테이블 = {}, 오류 = {}", stagingTableId.getTable(), e.getMessage());
+		}
+	}
+
+	private String stagingTableName() {
+		return tableName + "_staging_" + UUID.randomUUID().toString().replace("-", "");
+	}
+}
@@ -0,0 +1,86 @@
+package org.example.auctionmarketevent.common.listener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public final class ExpiredKeyRouter {
+	// 만료 키 (바이트) => 등록한 접두사 + 숫자 ID 이면 해당 handler 호출
+	// => DB 0 의 모든 만료 키가 들어오므로 String 변환 / split 없이 message.getBody() 를 바로 비교
+	// => 첫 바이트로 후보 접두사를 고르고 나머지 바이트 비교 + ID 파싱 (long) => 일치하지 않는 키는 할당 없이 버림
+	// => 접두사 등록은 시작할 때만 (구독 스레드에서는 읽기만 함)
+
+	@FunctionalInterface
+	public interface Handler {
+		void handle(long id);
+	}
+
+	private record Route(byte[] prefix, Handler handler) {
+	}
+
+	private static final Route[] NO_ROUTES = new Route[0];
+
+	private final Route[][] routesByFirstByte = new Route[256][];
+
+	public ExpiredKeyRouter() {
+		Arrays.fill(routesByFirstByte, NO_ROUTES);
+	}
+
+	// 접두사 등록 (예: "auction:end:" => 키 "auction:end:42" 는 handler.handle(42))
+	public ExpiredKeyRouter register(String prefix, Handler handler) {
+		byte[] bytes = prefix.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length == 0) {
+			throw new IllegalArgumentException("빈 접두사는 등록할 수 없음");
+		}
+		int first = bytes[0] & 0xFF;
+		Route[] routes = Arrays.copyOf(routesByFirstByte[first], routesByFirstByte[first].length + 1);
+		routes[routes.length - 1] = new Route(bytes, handler);
+		// 긴 접두사부터 비교 (auction:end: 와 auction:end:extra: 가 함께 있어도 더 구체적인 쪽으로)
+		Arrays.sort(routes, (left, right) -> right.prefix().length - left.prefix().length);
+		routesByFirstByte[first] = routes;
+		return this;
+	}
+
+	// 일치하는 접두사가 있고 나머지가 숫자 ID 이면 handler 호출 후 true
+	public boolean route(byte[] key) {
+		if (key == null || key.length == 0) {
+			return false;
+		}
+		for (Route route : routesByFirstByte[key[0] & 0xFF]) {
+			byte[] prefix = route.prefix();
+			if (key.length > prefix.length && startsWith(key, prefix)) {
+				long id = parseId(key, prefix.length);
+				if (id < 0) {
+					return false;
+				}
+				route.handler().handle(id);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean startsWith(byte[] key, byte[] prefix) {
+		for (int i = 1; i < prefix.length; i++) { // 첫 바이트는 테이블에서 이미 일치
+			if (key[i] != prefix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// offset 부터 끝까지 10진수 => long (숫자가 아니거나 범위를 넘으면 -1)
+	static long parseId(byte[] key, int offset) {
+		if (offset >= key.length || key.length - offset > 18) { // 18자리까지는 overflow 없음
+			return -1;
+		}
+		long id = 0;
+		for (int i = offset; i < key.length; i++) {
+			int digit = key[i] - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			id = id * 10 + digit;
+		}
+		return id;
+	}
+}
@@ -0,0 +1,118 @@
+package org.example.auctionmarketevent.common.listener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.DmlStats;
+import com.google.cloud.bigquery.Job;
+import com.google.cloud.bigquery.JobConfiguration;
+import com.google.cloud.bigquery.JobInfo;
+import com.google.cloud.bigquery.JobStatistics;
+import com.google.cloud.bigquery.LoadJobConfiguration;
+import com.google.cloud.bigquery.QueryJobConfiguration;
+import com.google.cloud.bigquery.Schema;
+import com.google.cloud.bigquery.StandardTableDefinition;
+import com.google.cloud.bigquery.TableId;
+import com.google.cloud.bigquery.TableInfo;
+
+@Component
+public class GoogleBigQueryMergeClient implements BigQueryMergeClient {
+	// BigQuery 클라이언트로 로드 작업 / MERGE 쿼리 작업 실행
+
+	private final BigQuery bigquery; // BigQuery 클라이언트 주입
+
+	// 생성자
+	public GoogleBigQueryMergeClient(BigQuery bigquery) {
+		this.bigquery = bigquery;
+	}
+
+	@Override
+	public void createStagingTable(TableId stagingTableId, Schema schema, Duration expiration) {
+		bigquery.create(TableInfo.newBuilder(stagingTableId, StandardTableDefinition.of(schema))
+			.setExpirationTime(System.currentTimeMillis() + expiration.toMillis())
+			.build());
+	}
+
+	@Override
+	public void load(LoadJobConfiguration loadConfig) throws InterruptedException {
+		runJob(loadConfig, "스테이징 로드");
+	}
+
+	@Override
+	public MergeStatistics merge(TableId stagingTableId, TableId targetTableId, String keyColumn, String orderColumn,
+		List<String> columns) throws InterruptedException {
+		QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(
+				mergeQuery(stagingTableId, targetTableId, keyColumn, orderColumn, columns))
+			.setUseLegacySql(false)
+			.build();
+		Job completedJob = runJob(queryConfig, "MERGE");
+
+		JobStatistics.QueryStatistics stats = completedJob.getStatistics();
+		DmlStats dmlStats = stats != null ? stats.getDmlStats() : null;
+		if (dmlStats == null) {
+			return new MergeStatistics(0, 0);
+		}
+		return new MergeStatistics(valueOrZero(dmlStats.getInsertedRowCount()),
+			valueOrZero(dmlStats.getUpdatedRowCount()));
+	}
+
+	@Override
+	public boolean dropTable(TableId tableId) {
+		return bigquery.delete(tableId);
+	}
+
+	// MERGE 쿼리 생성
+	// => 스테이징에 같은 키가 여러 번 있으면 하나만 사용 (대상 행 하나에 원본 행 여러 개가 매칭되면 MERGE 오류)
+	//    재시작으로 같은 경매를 두 번 읽으면 변경 전 / 후 행이 같이 들어옴 => orderColumn(last_modified) 최신 행 선택
+	//    (ORDER BY 가 없으면 BigQuery 가 아무 행이나 고름)
+	public static String mergeQuery(TableId stagingTableId, TableId targetTableId, String keyColumn, String orderColumn,
+		List<String> columns) {
+		String key = quote(keyColumn);
+		String updateSet = columns.stream()
+			.filter(column -> !column.equals(keyColumn))
+			.map(column -> quote(column) + " = S." + quote(column))
+			.collect(Collectors.joining(", "));
+		String insertColumns = columns.stream().map(GoogleBigQueryMergeClient::quote)
+			.collect(Collectors.joining(", "));
+		String insertValues = columns.stream().map(column -> "S." + quote(column))
+			.collect(Collectors.joining(", "));
+
+		return "MERGE " + tableReference(targetTableId) + " T\n"
+			+ "USING (SELECT * FROM " + tableReference(stagingTableId) + " WHERE " + key + " IS NOT NULL\n"
+			+ "  QUALIFY ROW_NUMBER() OVER (PARTITION BY " + key + " ORDER BY " + quote(orderColumn) + " DESC) = 1) S\n"
+			+ "ON T." + key + " = S." + key + "\n"
+			+ "WHEN MATCHED THEN UPDATE SET " + updateSet + "\n"
+			+ "WHEN NOT MATCHED THEN INSERT (" + insertColumns + ") VALUES (" + insertValues + ")";
+	}
+
+	// 작업 실행 + 완료 대기, 실패 시 예외
+	private Job runJob(JobConfiguration jobConfig, String description) throws InterruptedException {
+		Job job = bigquery.create(JobInfo.of(jobConfig));
+		Job completedJob = job.waitFor();
+		if (completedJob == null) {
+			throw new IllegalStateException("BigQuery " + description + " 작업을 찾을 수 없음: 작업 = " + job.getJobId());
+		}
+		if (completedJob.getStatus().getError() != null) {
+			throw new IllegalStateException("BigQuery " + description + " 실패: 작업 = " + completedJob.getJobId()
+				+ ", 오류 = " + completedJob.getStatus().getError());
+		}
+		return completedJob;
+	}
+
+	private static String tableReference(TableId tableId) {
+		String project = tableId.getProject() != null ? tableId.getProject() + "." : "";
+		return "`" + project + tableId.getDataset() + "." + tableId.getTable() + "`";
+	}
+
+	private static String quote(String column) {
+		return "`" + column + "`";
+	}
+
+	private static long valueOrZero(Long value) {
+		return value != null ? value : 0L;
+	}
+}
@@ -6,7 +6,11 @@ import com.google.cloud.storage.Storage;
 
 import lombok.extern.slf4j.Slf4j;
 
+import org.example.auctionmarketevent.common.provider.AuctionChangeLogCursor;
+import org.example.auctionmarketevent.springbatch.job.reader.AuctionChangeLogReader;
+import org.example.auctionmarketevent.springbatch.job.writer.StagingFileFormat;
 import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.item.ExecutionContext;
@@ -35,10 +39,19 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 	private final String datasetName; // BigQuery 데이터셋 이름
 	private final String tableName; // BigQuery 테이블 이름
 	private final String gcsBucketName; // GSC 버킷 이름
+	private final StagingFileFormat stagingFileFormat; // Writer 가 만든 스테이징 파일 형식 (csv / avro)
+	private final BigQueryLoadTracker loadTracker; // 비동기 로드 추적 (null 이거나 비활성화면 afterStep 에서 로드 완료까지 대기)
+	private final BigQueryDestinationTable destinationTable; // 파티션 테이블 생성 / 로드 설정 (null 이면 테이블 확인 없이 추가)
+	private final BigQueryMergeLoader mergeLoader; // MERGE 적재 (null 이거나 비활성화면 WRITE_APPEND 로드)
+	private final AuctionChangeLogCursor changeLogCursor; // changelog Reader 진행 위치 (적재 성공 후 반영)
 
 	private static final String GCS_FILE_URIS_KEY = "gcsFileUris"; // ExecutionContext 에 GCS 파일 경로 리스트를 저장할 때 사용할 키
 	private static final String MAX_TIMESTAMP_KEY = "maxProcessedTimestampInChunk"; // ExecutionContext 에 처리된 데이터 중 최신 타임스탬프 값을 저장할 때 사용할 키
 	private static final String STEP_START_TIME_KEY = "stepStartTime"; // 시작 시간 저장을 위한 키 추가
+	private static final String DIRECT_WRITTEN_ROWS_KEY = "directWrittenRows"; // DirectBigQueryItemWriter 가 BigQuery 에 바로 쓴 행 수
+	private static final String SLICE_END_PARAMETER = "sliceEnd"; // drain 모드에서 BacklogDrainer 가 넘겨주는 시간 구간 상한
+	private static final String MERGE_INSERTED_ROWS_KEY = "mergeInsertedRows"; // MERGE 로 추가된 행 수 (실행 기록용)
+	private static final String MERGE_UPDATED_ROWS_KEY = "mergeUpdatedRows"; // MERGE 로 갱신된 행 수 (실행 기록용)
 	// 생성자
 	public IncrementalTimestampStepListener(JdbcTemplate jdbcTemplate,
 		@Value("${app.batch.job-name}") String jobName,
@@ -46,7 +59,12 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 		Storage storage,
 		@Value("${spring.cloud.gcp.bigquery.dataset-name}") String datasetName,
 		@Value("${spring.cloud.gcp.bigquery.table-name}") String tableName,
-		@Value("${spring.cloud.gcp.storage.bucket-name}") String gcsBucketName) {
+		@Value("${spring.cloud.gcp.storage.bucket-name}") String gcsBucketName,
+		@Value("${app.batch.writer.format:csv}") String stagingFileFormat,
+		BigQueryLoadTracker loadTracker,
+		BigQueryDestinationTable destinationTable,
+		BigQueryMergeLoader mergeLoader,
+		AuctionChangeLogCursor changeLogCursor) {
 		this.jdbcTemplate = jdbcTemplate;
 		this.jobName = jobName;
 		this.bigquery = bigquery;
@@ -54,6 +72,11 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 		this.datasetName = datasetName;
 		this.tableName = tableName;
 		this.gcsBucketName = gcsBucketName;
+		this.stagingFileFormat = StagingFileFormat.from(stagingFileFormat);
+		this.loadTracker = loadTracker;
+		this.destinationTable = destinationTable;
+		this.mergeLoader = mergeLoader;
+		this.changeLogCursor = changeLogCursor;
 	}
 
 	// Step 시작 되기 전에 실행
@@ -77,6 +100,11 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 			log.warn("마지막 처리 타임스탬프를 찾을 수 없음: 작업 = {}", jobName, e);
 			lastProcessedTimestamp = Timestamp.valueOf(LocalDateTime.MIN);
 		}
+		// 비동기 로드: 아직 워터마크에 반영되지 않은 로드가 있으면 그 다음부터 추출 (중복 방지)
+		if (isAsyncLoad()) {
+			lastProcessedTimestamp = loadTracker.extractionWatermark(lastProcessedTimestamp);
+		}
+
 		// ExecutionContext 에 저장
 		stepExecution.getExecutionContext().put("lastProcessedTimestamp", lastProcessedTimestamp);
 	}
@@ -93,11 +121,22 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 			log.info("After Step: BigQuery 로드 시작: 완료된 스텝 = {}, 파일 크기 = {}",
 				stepExecution.getStepName(), gcsFileUris.size());
 
+			// changelog 위치는 로드 성공 직후 반영해야 하므로 비동기 로드 추적을 거치지 않음
+			if (isAsyncLoad() && getChangeLogCursor(stepExecution) == null) {
+				// 로드 작업 제출만 하고 종료 => 워터마크 반영 / 파일 삭제는 BigQueryLoadTracker 가 작업 성공 후 수행
+				Timestamp sliceEnd = getSliceEnd(stepExecution);
+				loadTracker.submit(gcsFileUris, sliceEnd != null ? sliceEnd
+					: (Timestamp)stepExecution.getExecutionContext().get(MAX_TIMESTAMP_KEY));
+				return finishStep(stepExecution);
+			}
+
 			// BigQuery 로드 시간 측정 시작
 			long bqLoadStartTime = System.currentTimeMillis();
 
-			// GCS 에 넣은 파일을 BigQuery 테이블로 로드
-			boolean loadJobSuccessful = runBigQueryLoadJob(gcsFileUris);
+			// GCS 에 넣은 파일을 BigQuery 테이블로 로드 (MERGE 모드면 스테이징 테이블 로드 후 MERGE)
+			boolean loadJobSuccessful = isMergeLoad()
+				? runBigQueryMergeJob(gcsFileUris, stepExecution)
+				: runBigQueryLoadJob(gcsFileUris);
 
 			long bqLoadEndTime = System.currentTimeMillis();
 			long bqLoadDuration = bqLoadEndTime - bqLoadStartTime;
@@ -112,9 +151,12 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 				Object maxTimestampObj = stepExecution.getExecutionContext().get(MAX_TIMESTAMP_KEY);
 
 				// Timestamp 타입으로 변환
-				Timestamp maxTimestamp = (Timestamp)maxTimestampObj;
+				// drain 모드에서는 구간 안의 행을 모두 읽었으므로 구간 끝까지 워터마크를 올림
+				Timestamp sliceEnd = getSliceEnd(stepExecution);
+				Timestamp maxTimestamp = sliceEnd != null ? sliceEnd : (Timestamp)maxTimestampObj;
 				// 최신 타임스탬프로 업데이트
 				updateMetadataTimestamp(maxTimestamp);
+				commitChangeLogCursor(stepExecution);
 
 				// 로드 성공 후 임시 GCS 파일 삭제
 				deleteGcsFiles(gcsFileUris);
@@ -124,15 +166,39 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 				stepExecution.setExitStatus(ExitStatus.FAILED); // step 상태 변경
 			}
 
+		} else if (stepExecution.getExitStatus().equals(ExitStatus.COMPLETED)
+			&& stepExecution.getExecutionContext().getLong(DIRECT_WRITTEN_ROWS_KEY, 0L) > 0) {
+			// 스텝 성공 + Writer 가 BigQuery 에 바로 씀 => 로드 작업 없이 워터마크만 업데이트
+			log.info("After Step: BigQuery 직접 쓰기 완료: 완료된 스텝 = {}, 행 = {}", stepExecution.getStepName(),
+				stepExecution.getExecutionContext().getLong(DIRECT_WRITTEN_ROWS_KEY, 0L));
+
+			Timestamp sliceEnd = getSliceEnd(stepExecution);
+			commitWatermark(sliceEnd != null ? sliceEnd
+				: (Timestamp)stepExecution.getExecutionContext().get(MAX_TIMESTAMP_KEY));
+			commitChangeLogCursor(stepExecution);
+
 		} else if (stepExecution.getExitStatus().equals(ExitStatus.COMPLETED)) {
 			// 스텝은 성공했지만, BigQuery 에 로드할 파일이 없는 경우 (처리할 데이터가 없는 경우)
 			log.info("After Step: 스텝이 완료 됐지만, BigQuery 에 로드할 파일 없음: 완료된 스텝 = {}", stepExecution.getStepName());
+
+			// drain 모드: 빈 구간이어도 워터마크를 구간 끝으로 올려야 다음 구간으로 진행됨
+			Timestamp sliceEnd = getSliceEnd(stepExecution);
+			if (sliceEnd != null) {
+				commitWatermark(sliceEnd);
+			}
+			// changelog: 변경 로그는 있었지만 적재할 경매가 없으면 (삭제된 경매 등) 위치만 올림
+			commitChangeLogCursor(stepExecution);
 		} else {
 			// 스텝 실패
 			log.warn("After Step: 스텝 실패: 실패한 스텝 = {}, 스텝 상태 = {}",
 				stepExecution.getStepName(), stepExecution.getExitStatus());
 		}
 
+		return finishStep(stepExecution);
+	}
+
+	// Step 실행 시간 기록 + 최종 상태 반환
+	private ExitStatus finishStep(StepExecution stepExecution) {
 		// Step 종료 시간 기록
 		LocalDateTime endTime = LocalDateTime.now();
 		ExecutionContext executionContext = stepExecution.getExecutionContext();
@@ -150,39 +216,63 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 		return stepExecution.getExitStatus();
 	}
 
-	// BigQuery 로드 메서드
-	private boolean runBigQueryLoadJob(List<String> gcsFileUris) {
+	// MERGE 는 스테이징 로드 => MERGE => 삭제 순서로 이어지는 작업이라 비동기 로드 추적 대신 afterStep 에서 완료까지 대기
+	private boolean isAsyncLoad() {
+		return loadTracker != null && loadTracker.isEnabled() && !isMergeLoad();
+	}
 
-		try {
-			// BigQuery 테이블 식별하는 객체 생성
-			TableId tableId = TableId.of(datasetName, tableName);
-
-			// BigQuery 테이블 스키마 정의
-			Schema schema = Schema.of(
-				Field.of("auction_id", StandardSQLTypeName.INT64),
-				Field.of("product_id", StandardSQLTypeName.INT64),
-				Field.of("product_name", StandardSQLTypeName.STRING),
-				Field.of("product_category", StandardSQLTypeName.STRING),
-				Field.of("max_price", StandardSQLTypeName.INT64),
-				Field.of("auction_start_time", StandardSQLTypeName.TIMESTAMP),
-				Field.of("auction_end_time", StandardSQLTypeName.TIMESTAMP)
-				// lastModified 포함 안함 (@JsonIgnore)
-			);
+	private boolean isMergeLoad() {
+		return mergeLoader != null && mergeLoader.isEnabled();
+	}
+
+	// 로드 없이 워터마크만 올림 => 비동기 로드 중이면 앞선 로드가 반영된 뒤에 올라가도록 BigQueryLoadTracker 를 거침
+	private void commitWatermark(Timestamp watermark) {
+		if (isAsyncLoad()) {
+			loadTracker.advanceWatermark(watermark);
+			return;
+		}
+		updateMetadataTimestamp(watermark);
+	}
+
+	// changelog Reader 가 Step ExecutionContext 에 남긴 진행 위치 (다른 Reader 면 null)
+	private Long getChangeLogCursor(StepExecution stepExecution) {
+		if (changeLogCursor == null || !changeLogCursor.isEnabled()) {
+			return null;
+		}
+		Object cursor = stepExecution.getExecutionContext().get(AuctionChangeLogReader.CHANGE_LOG_CURSOR_KEY);
+		return cursor instanceof Long lastChangeId ? lastChangeId : null;
+	}
 
-			// CSV 옵션 설정
-			// 헤더 행 없음 => CSV 첫 번째 줄부터 인식
-			CsvOptions csvOptions = CsvOptions.newBuilder().setSkipLeadingRows(0).build();
+	private void commitChangeLogCursor(StepExecution stepExecution) {
+		Long lastChangeId = getChangeLogCursor(stepExecution);
+		if (lastChangeId != null) {
+			changeLogCursor.commit(lastChangeId);
+		}
+	}
 
-			// BigQuery 로드 설정
-			LoadJobConfiguration loadConfig = LoadJobConfiguration.newBuilder(tableId, gcsFileUris)
-				.setFormatOptions(csvOptions)
-				.setSchema(schema)
-				.setWriteDisposition(JobInfo.WriteDisposition.WRITE_APPEND) // WRITE_APPEND: 쓰기 처리 방식 => 기존 데이터에 추가
-				.build();
+	// drain 모드의 시간 구간 상한 조회 (일반 실행이면 null)
+	private Timestamp getSliceEnd(StepExecution stepExecution) {
+		JobParameters jobParameters = stepExecution.getJobParameters();
+		if (jobParameters == null) {
+			return null;
+		}
+		LocalDateTime sliceEnd = jobParameters.getLocalDateTime(SLICE_END_PARAMETER);
+		return sliceEnd != null ? Timestamp.valueOf(sliceEnd) : null;
+	}
+
+	// BigQuery 로드 메서드 (스텝의 파일 전체를 로드 작업 하나로)
+	private boolean runBigQueryLoadJob(List<String> gcsFileUris) {
+
+		try {
+			// BigQuery 로드 설정 (파일 형식 옵션 + 스키마)
+			// => 파티션 데코레이터로 나누면 일부 파티션만 들어간 채 실패할 수 있음 (WRITE_APPEND 재실행 시 중복)
+			LoadJobConfiguration loadConfig = destinationTable != null
+				? destinationTable.tableLoadConfiguration(gcsFileUris, stagingFileFormat)
+				: loadConfiguration(datasetName, tableName, gcsFileUris, stagingFileFormat);
 
 			// 로드 작업 생성 및 실행
 			Job job = bigquery.create(JobInfo.newBuilder(loadConfig).build());
-			log.info("BigQuery 로드 시작: 작업 = {}", job.getJobId());
+			log.info("BigQuery 로드 시작: 작업 = {}, 대상 = {}", job.getJobId(), loadConfig.getDestinationTable().getTable());
 
 			// 작업 완료 대기 (동기 방식)
 			Job completedJob = job.waitFor();
@@ -212,6 +302,41 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 		}
 	}
 
+	// BigQuery MERGE 적재 메서드 (결과 통계는 ExecutionContext 에 기록)
+	private boolean runBigQueryMergeJob(List<String> gcsFileUris, StepExecution stepExecution) {
+		try {
+			BigQueryMergeClient.MergeStatistics stats = mergeLoader.load(gcsFileUris, stagingFileFormat);
+			stepExecution.getExecutionContext().putLong(MERGE_INSERTED_ROWS_KEY, stats.insertedRows());
+			stepExecution.getExecutionContext().putLong(MERGE_UPDATED_ROWS_KEY, stats.updatedRows());
+			log.info("BigQuery MERGE 성공: 스텝 = {}, 추가 = {}, 갱신 = {}", stepExecution.getStepName(),
+				stats.insertedRows(), stats.updatedRows());
+			return true;
+
+		} catch (BigQueryException | IllegalStateException e) {
+			log.error("BigQuery MERGE 실행 중 오류 발생: {}", e.getMessage(), e);
+			return false;
+		} catch (InterruptedException e) {
+			log.error("BigQuery MERGE 대기 중 인터럽트 발생: {}", e.getMessage(), e);
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	// BigQuery 로드 설정 생성 메서드 (BigQueryLoadTracker 가 재제출할 때도 사용)
+	static LoadJobConfiguration loadConfiguration(String datasetName, String tableName, List<String> gcsFileUris,
+		StagingFileFormat stagingFileFormat) {
+		// BigQuery 테이블 식별하는 객체 생성
+		TableId tableId = TableId.of(datasetName, tableName);
+
+		// BigQuery 로드 설정
+		LoadJobConfiguration.Builder loadConfigBuilder = LoadJobConfiguration.newBuilder(tableId, gcsFileUris)
+			.setWriteDisposition(JobInfo.WriteDisposition.WRITE_APPEND); // WRITE_APPEND: 쓰기 처리 방식 => 기존 데이터에 추가
+
+		// 파일 형식 옵션 + 스키마 (DTO 에서 만든 BigQueryRowSchema 사용)
+		stagingFileFormat.configureLoad(loadConfigBuilder);
+		return loadConfigBuilder.build();
+	}
+
 	// batch_job_metadata 타임스탬프 업데이트 메서드
 	private void updateMetadataTimestamp(Timestamp maxTimestamp) {
 		try {
@@ -232,6 +357,10 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 
 	// GCS 버킷에서 임시 파일들을 삭제 메서드
 	private void deleteGcsFiles(List<String> gcsFileUris) {
+		deleteGcsFiles(storage, gcsBucketName, gcsFileUris);
+	}
+
+	static void deleteGcsFiles(Storage storage, String gcsBucketName, List<String> gcsFileUris) {
 
 		// 삭제할 파일 리스트가 비어있으면 아무것도 하지 않고 종료
 		if (CollectionUtils.isEmpty(gcsFileUris)) {
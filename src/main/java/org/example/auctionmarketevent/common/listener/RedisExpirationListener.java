@@ -1,37 +1,51 @@
 package org.example.auctionmarketevent.common.listener;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.auctionmarketevent.common.dispatch.StripedDispatcher;
+import org.example.auctionmarketevent.common.notify.AuctionEndIdempotencyGuard;
+import org.example.auctionmarketevent.common.notify.AuctionEndNotifier;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.connection.Message;
 import org.example.auctionmarketevent.common.message.AuctionEndMessage;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RedisExpirationListener implements MessageListener {
+    // keyspace 만료 이벤트 모드 (app.auction-end.mode=keyspace, 기본값)
+    // => zset 모드에서는 AuctionEndScheduler 가 종료 시각이 된 경매를 가져가고, 이 리스너는 대비 경로로 계속 동작 (같은 가드로 한 번만 알림)
+    // => DB 0 의 모든 만료 키가 들어오므로 ExpiredKeyRouter 로 바이트 그대로 접두사 비교 (경매 키가 아니면 할당 없이 버림)
+    // => 구독 스레드에서 바로 호출되므로 (RedisConfig) Redis 를 호출하지 않음 => 경매 키면 expirationDispatcher 에 넘기고, 선점 확인 + 알림은 작업자에서
 
-    private final WebClient webClient;
+    public static final String AUCTION_END_PREFIX = "auction:end:";
+
+    private final AuctionEndNotifier auctionEndNotifier; // 소켓 서버 낙찰 알림 (묶음 / 단건)
+    private final AuctionEndIdempotencyGuard idempotencyGuard; // 여러 인스턴스가 같은 이벤트를 받으므로 한 인스턴스만 알림
+    private final StripedDispatcher dispatcher; // auctionId 기준 stripe 작업자 풀 (선점 확인 + 알림 실행)
+    private final ExpiredKeyRouter router;
+
+    public RedisExpirationListener(AuctionEndNotifier auctionEndNotifier, AuctionEndIdempotencyGuard idempotencyGuard,
+            @Qualifier("expirationDispatcher") StripedDispatcher dispatcher) {
+        this.auctionEndNotifier = auctionEndNotifier;
+        this.idempotencyGuard = idempotencyGuard;
+        this.dispatcher = dispatcher;
+        this.router = new ExpiredKeyRouter()
+                .register(AUCTION_END_PREFIX, this::onAuctionEnd);
+    }
 
     @Override
     public void onMessage(Message message, byte[] patten) {
-        String expiredKey = message.toString();
-        log.info("TTL 만료 감지: {}", expiredKey);
-
-        if (expiredKey.startsWith("auction:end:")) {
-            String auctionId = expiredKey.split(":")[2];
-            String socketUrl = "http://localhost:8081/internal/auction/" + auctionId + "/winner";
+        router.route(message.getBody());
+    }
 
-            webClient.post()
-                    .uri(socketUrl)
-                    .retrieve()
-                    .toBodilessEntity()
-                    .subscribe(
-                            success -> log.info("웹소캣 서버에 낙찰가 정보 전송 요청 완료: auctionId = {}", auctionId),
-                            error -> log.error("웹소캣 서버 요청 실패: auctionId = {}, error = {}", auctionId, error.getMessage())
-                    );
+    private void onAuctionEnd(long id) {
+        String auctionId = Long.toString(id);
+        log.info("TTL 만료 감지: {}{}", AUCTION_END_PREFIX, auctionId);
+        boolean accepted = dispatcher.dispatch(auctionId,
+                () -> idempotencyGuard.execute(auctionId, () -> auctionEndNotifier.notifyEnded(auctionId)));
+        if (!accepted) {
+            log.warn("경매 종료 작업을 등록하지 못함: auctionId = {}", auctionId);
         }
     }
 }
@@ -0,0 +1,214 @@
+package org.example.auctionmarketevent.common.notify;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class AuctionEndIdempotencyGuard {
+	// 여러 인스턴스 중복 알림 방지: keyspace 만료 이벤트는 모든 인스턴스가 같은 이벤트를 받음
+	// => 경매마다 Redis SET NX PX 로 선점 (값 = 인스턴스 ID) => 선점한 인스턴스만 알림
+	// => 알림 성공 시 DONE 으로 바꾸고 doneTtl 동안 유지 (늦게 온 중복 이벤트도 무시), 실패 시 선점 해제
+	// => 알림이 끝날 때까지 claimTtl / 3 마다 선점 연장 => 알림 경로 (재시도 / 묶음 대기 포함) 가 claimTtl 보다 길어도 다른 인스턴스가 가져가지 않음
+	// => 선점 못한 인스턴스는 claimTtl 뒤에 다시 확인 => 선점한 인스턴스가 확인 전에 죽어서 키가 만료됐으면 대신 처리 (takeover)
+	// => 최근 처리한 경매는 로컬 LRU 캐시에 보관 => 같은 인스턴스에 반복해서 온 이벤트는 Redis 왕복 없이 무시 (진행 중인 처리 결과를 그대로 돌려줌)
+	// => zset 모드에서도 keyspace 이벤트를 대비용으로 구독하므로 AuctionEndScheduler 도 이 가드를 거침 => 두 경로 중 하나만 알림
+	// => execute 결과: 알림 성공 / 이미 처리됨 => 정상 완료, 알림 실패 => 예외로 완료 (zset 모드는 정상 완료일 때만 ack)
+
+	static final String DONE = "DONE";
+
+	// 내가 선점한 경우에만 삭제 (takeover 된 다른 인스턴스의 선점은 유지)
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0", Long.class);
+
+	// 내가 선점한 경우에만 선점 연장 (ARGV[2] = 밀리초)
+	private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end return 0",
+		Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final boolean enabled;
+	private final String keyPrefix;
+	private final Duration claimTtl; // 선점 유지 시간 (알림이 끝날 때까지 연장 => 인스턴스가 죽었을 때 다른 인스턴스가 대신 처리하기까지의 시간)
+	private final Duration doneTtl; // 처리 완료 표시 유지 시간
+	private final int maxTakeovers; // 다시 확인 최대 횟수
+	private final String instanceId = UUID.randomUUID().toString();
+
+	private final Map<String, CompletableFuture<Void>> recentlySeen; // 최근 처리 / 다른 인스턴스가 처리 중인 경매 => 처리 결과 (접근 순서 LRU)
+	private final ScheduledExecutorService recheckExecutor;
+
+	private final Counter suppressedLocal; // 로컬 캐시로 무시한 중복
+	private final Counter suppressedRedis; // Redis 선점 실패로 무시한 중복
+	private final Counter takeovers; // 선점한 인스턴스 대신 처리한 수
+
+	// 생성자
+	@Autowired
+	public AuctionEndIdempotencyGuard(StringRedisTemplate redisTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${app.auction-end.idempotency.enabled:true}") boolean enabled,
+		@Value("${app.auction-end.idempotency.key-prefix:auction-end:claim:}") String keyPrefix,
+		@Value("${app.auction-end.idempotency.claim-ttl:PT30S}") Duration claimTtl,
+		@Value("${app.auction-end.idempotency.done-ttl:PT24H}") Duration doneTtl,
+		@Value("${app.auction-end.idempotency.local-cache-size:10000}") int localCacheSize,
+		@Value("${app.auction-end.idempotency.max-takeovers:3}") int maxTakeovers) {
+		this.redisTemplate = redisTemplate;
+		this.enabled = enabled;
+		this.keyPrefix = keyPrefix;
+		this.claimTtl = claimTtl;
+		this.doneTtl = doneTtl;
+		this.maxTakeovers = maxTakeovers;
+		this.recentlySeen = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<Void>> eldest) {
+				return size() > localCacheSize;
+			}
+		});
+		this.recheckExecutor = enabled ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "auction-end-claim");
+			thread.setDaemon(true);
+			return thread;
+		}) : null;
+		this.suppressedLocal = Counter.builder("auction.end.duplicate.suppressed").tag("source", "local")
+			.register(meterRegistry);
+		this.suppressedRedis = Counter.builder("auction.end.duplicate.suppressed").tag("source", "redis")
+			.register(meterRegistry);
+		this.takeovers = Counter.builder("auction.end.claim.takeover").register(meterRegistry);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (recheckExecutor != null) {
+			recheckExecutor.shutdownNow();
+		}
+	}
+
+	// 선점에 성공한 인스턴스에서만 action 실행 (성공 => DONE, 실패 => 선점 해제)
+	public CompletableFuture<Void> execute(String auctionId, Supplier<CompletableFuture<Void>> action) {
+		if (!enabled) {
+			return action.get();
+		}
+		CompletableFuture<Void> seen = recentlySeen.get(auctionId);
+		if (seen != null) {
+			suppressedLocal.increment();
+			log.debug("중복 경매 종료 이벤트 무시 (로컬): auctionId = {}", auctionId);
+			return seen;
+		}
+		CompletableFuture<Void> result = new CompletableFuture<>();
+		attempt(auctionId, action, 0, result);
+		return result;
+	}
+
+	private void attempt(String auctionId, Supplier<CompletableFuture<Void>> action, int takeover,
+		CompletableFuture<Void> result) {
+		String key = keyPrefix + auctionId;
+		Boolean claimed;
+		try {
+			claimed = redisTemplate.opsForValue().setIfAbsent(key, instanceId, claimTtl);
+		} catch (RuntimeException e) {
+			// Redis 오류 => 알림 누락보다 중복이 나으므로 그대로 처리
+			log.warn("경매 종료 선점 실패, 선점 없이 처리: auctionId = {}, error = {}", auctionId, e.getMessage());
+			forward(action.get(), result);
+			return;
+		}
+
+		recentlySeen.put(auctionId, result);
+		if (Boolean.TRUE.equals(claimed)) {
+			if (takeover > 0) {
+				takeovers.increment();
+				log.info("확인되지 않은 선점 대신 처리: auctionId = {}", auctionId);
+			}
+			ScheduledFuture<?> renewal = scheduleRenewal(key);
+			CompletableFuture<Void> notification;
+			try {
+				notification = action.get();
+			} catch (RuntimeException e) {
+				notification = CompletableFuture.failedFuture(e);
+			}
+			notification.whenComplete((ignored, error) -> {
+				renewal.cancel(false);
+				if (error == null) {
+					confirm(key);
+					result.complete(null);
+				} else {
+					release(auctionId, key);
+					result.completeExceptionally(error);
+				}
+			});
+			return;
+		}
+
+		if (takeover == 0) {
+			suppressedRedis.increment();
+			log.debug("중복 경매 종료 이벤트 무시 (다른 인스턴스 선점): auctionId = {}", auctionId);
+		}
+		if (takeover < maxTakeovers && !DONE.equals(redisTemplate.opsForValue().get(key))) {
+			// 선점한 인스턴스가 처리 중 => 선점이 만료된 뒤 완료 여부 다시 확인
+			recheckExecutor.schedule(() -> attempt(auctionId, action, takeover + 1, result), claimTtl.toMillis(),
+				TimeUnit.MILLISECONDS);
+			return;
+		}
+		result.complete(null); // 처리 완료 또는 다른 인스턴스에 맡김
+	}
+
+	private static void forward(CompletableFuture<Void> source, CompletableFuture<Void> target) {
+		source.whenComplete((ignored, error) -> {
+			if (error == null) {
+				target.complete(null);
+			} else {
+				target.completeExceptionally(error);
+			}
+		});
+	}
+
+	private ScheduledFuture<?> scheduleRenewal(String key) {
+		long period = Math.max(1, claimTtl.toMillis() / 3);
+		return recheckExecutor.scheduleAtFixedRate(() -> {
+			try {
+				redisTemplate.execute(RENEW_SCRIPT, List.of(key), instanceId, String.valueOf(claimTtl.toMillis()));
+			} catch (RuntimeException e) {
+				// 연장 실패 => 다음 주기에 다시 시도 (그 사이 만료되면 다른 인스턴스가 한 번 더 알림할 수 있음)
+				log.warn("경매 종료 선점 연장 실패: key = {}, error = {}", key, e.getMessage());
+			}
+		}, period, period, TimeUnit.MILLISECONDS);
+	}
+
+	private void confirm(String key) {
+		try {
+			redisTemplate.opsForValue().set(key, DONE, doneTtl);
+		} catch (RuntimeException e) {
+			// 선점 키는 claimTtl 뒤 만료 => 다른 인스턴스가 한 번 더 알림할 수 있음
+			log.warn("경매 종료 완료 표시 실패: key = {}, error = {}", key, e.getMessage());
+		}
+	}
+
+	private void release(String auctionId, String key) {
+		recentlySeen.remove(auctionId); // 다시 온 이벤트 / 재시도는 처리되도록
+		try {
+			redisTemplate.execute(RELEASE_SCRIPT, List.of(key), instanceId);
+		} catch (RuntimeException e) {
+			log.warn("경매 종료 선점 해제 실패: key = {}, error = {}", key, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,354 @@
+package org.example.auctionmarketevent.common.notify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.example.auctionmarketevent.common.message.AuctionEndMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class AuctionEndMessageLoader {
+	// 낙찰 알림 본문 (AuctionEndMessage) 을 이 서비스에서 채움 => 소켓 서버가 경매마다 DB 를 다시 조회하지 않음
+	// => 1) auction:end: 키와 함께 쓰인 낙찰 정보 해시 (auction:winner:{id}) 를 파이프라인 HMGET 으로 한 번에 조회
+	// => 2) 해시가 없는 경매만 MySQL 쿼리 하나로 조회 (IN 목록, app.notify.winner.query 를 설정한 경우에만)
+	// => 3) 둘 다 없으면 auctionId 만 채워서 보냄 (소켓 서버가 기존처럼 직접 조회)
+	// => 예열 캐시 적중은 보내기 전에 auctions.max_price 를 PK 조회 한 번으로 다시 확인 => 예열 이후 입찰로 금액이 바뀌었으면 무효화 후 다시 조회
+	// => 단건 알림 (loadOne) 은 lookupWindow 동안 들어온 경매를 모아서 한 번에 조회 => 경매마다 HMGET / 쿼리 하나씩 보내지 않음
+
+	private static final long IDLE_POLL_MILLIS = 200; // 큐가 비어 있을 때 종료 요청을 확인하는 간격
+
+	// 예열 캐시 적중 확인용 (WinnerPrewarmer 와 같은 max_price 기준)
+	private static final String MAX_PRICE_QUERY = "SELECT id, max_price FROM auctions WHERE id IN (:auctionIds)";
+
+	private static final byte[][] HASH_FIELDS = {
+		"userId".getBytes(StandardCharsets.UTF_8),
+		"amount".getBytes(StandardCharsets.UTF_8),
+		"username".getBytes(StandardCharsets.UTF_8)
+	};
+
+	private final StringRedisTemplate redisTemplate;
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final boolean enabled;
+	private final String hashPrefix; // 낙찰 정보 해시 키 접두사
+	private final String winnerQuery; // 해시가 없을 때 조회 쿼리 (:auctionIds => auction_id, user_id, amount, username), null => MySQL 조회 안함
+	private final WinnerMessageCache messageCache; // 종료 전에 예열한 본문 (null => 사용 안함)
+	private final Duration lookupWindow; // 단건 조회를 모으는 최대 시간 (0 => 모으지 않고 바로 조회)
+	private final int lookupMaxBatch; // 한 번에 모아서 조회할 최대 경매 수
+	private final BlockingQueue<PendingLookup> lookups = new LinkedBlockingQueue<>();
+
+	private volatile boolean running;
+	private Thread collector;
+
+	private final Counter fromRedis;
+	private final Counter fromMysql;
+	private final Counter missing;
+	private final Counter stale; // 보내기 전 확인에서 금액이 달라 버린 예열 본문
+
+	// 생성자
+	@Autowired
+	public AuctionEndMessageLoader(StringRedisTemplate redisTemplate,
+		NamedParameterJdbcTemplate jdbcTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${app.notify.winner.prefetch.enabled:true}") boolean enabled,
+		@Value("${app.notify.winner.hash-prefix:auction:winner:}") String hashPrefix,
+		@Value("${app.notify.winner.query:}") String winnerQuery,
+		WinnerMessageCache messageCache,
+		@Value("${app.notify.winner.lookup.window:PT0.002S}") Duration lookupWindow,
+		@Value("${app.notify.winner.lookup.max-batch:100}") int lookupMaxBatch) {
+		this.redisTemplate = redisTemplate;
+		this.jdbcTemplate = jdbcTemplate;
+		this.enabled = enabled;
+		this.hashPrefix = hashPrefix;
+		this.winnerQuery = winnerQuery == null || winnerQuery.isBlank() ? null : winnerQuery;
+		this.messageCache = messageCache;
+		this.lookupWindow = lookupWindow;
+		this.lookupMaxBatch = Math.max(1, lookupMaxBatch);
+		this.fromRedis = Counter.builder("notify.winner.prefetch").tag("source", "redis").register(meterRegistry);
+		this.fromMysql = Counter.builder("notify.winner.prefetch").tag("source", "mysql").register(meterRegistry);
+		this.missing = Counter.builder("notify.winner.prefetch").tag("source", "missing").register(meterRegistry);
+		this.stale = Counter.builder("notify.winner.prewarm.stale").register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		if (enabled && this.winnerQuery == null) {
+			log.warn("app.notify.winner.query 가 없어 낙찰 정보 MySQL 조회 안함 => 해시가 없는 경매는 auctionId 만 전송");
+		}
+		if (!enabled || lookupWindow.isZero() || lookupWindow.isNegative()) {
+			return;
+		}
+		running = true;
+		collector = new Thread(this::collectLoop, "winner-lookup");
+		collector.setDaemon(true);
+		collector.start();
+	}
+
+	// 종료 시 큐에 남은 조회까지 처리
+	@PreDestroy
+	public void shutdown() {
+		running = false;
+		if (collector != null) {
+			try {
+				collector.join(TimeUnit.SECONDS.toMillis(5));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	// 단건 알림용 => 다른 단건 조회와 모아서 한 번에 조회 (예열 캐시 확인 포함)
+	public AuctionEndMessage loadOne(String auctionId) {
+		if (!running) {
+			return load(List.of(auctionId)).get(0);
+		}
+		PendingLookup lookup = new PendingLookup(auctionId, new CompletableFuture<>());
+		lookups.add(lookup);
+		return lookup.result().join();
+	}
+
+	// auctionId 순서대로 메시지 목록 (중복 ID 는 하나로, 조회 실패 / 비활성화 시 auctionId 만 채움)
+	// => 예열 캐시가 켜져 있으면 캐시에 있는 경매는 조회 없이 바로 사용
+	public List<AuctionEndMessage> load(List<String> auctionIds) {
+		return load(auctionIds, messageCache != null && messageCache.isEnabled());
+	}
+
+	// 캐시를 거치지 않고 조회 (예열용)
+	public List<AuctionEndMessage> fetch(List<String> auctionIds) {
+		return load(auctionIds, false);
+	}
+
+	private List<AuctionEndMessage> load(List<String> auctionIds, boolean useCache) {
+		Map<String, AuctionEndMessage> messages = new LinkedHashMap<>();
+		List<String> uncached = new ArrayList<>();
+		Map<String, AuctionEndMessage> hits = new LinkedHashMap<>();
+		for (String auctionId : auctionIds) {
+			if (messages.containsKey(auctionId)) {
+				continue;
+			}
+			AuctionEndMessage cached = useCache ? messageCache.get(auctionId) : null;
+			messages.put(auctionId, cached);
+			if (cached == null) {
+				uncached.add(auctionId);
+			} else {
+				hits.put(auctionId, cached);
+			}
+		}
+		for (String auctionId : staleHits(hits)) {
+			messages.put(auctionId, null);
+			uncached.add(auctionId);
+		}
+
+		if (enabled && !uncached.isEmpty()) {
+			List<String> remaining = loadFromRedis(uncached, messages);
+			if (!remaining.isEmpty() && winnerQuery != null) {
+				loadFromMysql(remaining, messages);
+			}
+		}
+
+		List<AuctionEndMessage> result = new ArrayList<>(messages.size());
+		for (Map.Entry<String, AuctionEndMessage> entry : messages.entrySet()) {
+			if (entry.getValue() != null) {
+				result.add(entry.getValue());
+			} else {
+				missing.increment();
+				result.add(new AuctionEndMessage(parseLong(entry.getKey()), null, null, null));
+			}
+		}
+		return result;
+	}
+
+	private void collectLoop() {
+		while (running || !lookups.isEmpty()) {
+			try {
+				PendingLookup first = lookups.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				complete(collectBatch(first));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	// 첫 조회부터 lookupWindow 가 지나거나 lookupMaxBatch 가 찰 때까지 모음
+	private List<PendingLookup> collectBatch(PendingLookup first) throws InterruptedException {
+		List<PendingLookup> batch = new ArrayList<>(lookupMaxBatch);
+		batch.add(first);
+		long deadline = System.nanoTime() + lookupWindow.toNanos();
+		while (batch.size() < lookupMaxBatch) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				lookups.drainTo(batch, lookupMaxBatch - batch.size());
+				break;
+			}
+			PendingLookup next = lookups.poll(remaining, TimeUnit.NANOSECONDS);
+			if (next == null) {
+				break;
+			}
+			batch.add(next);
+		}
+		return batch;
+	}
+
+	// load 는 중복 ID 를 하나로 합쳐서 처음 나온 순서대로 반환 => 같은 순서의 ID 목록으로 결과를 나눠줌
+	private void complete(List<PendingLookup> batch) {
+		try {
+			Set<String> auctionIds = new LinkedHashSet<>();
+			for (PendingLookup lookup : batch) {
+				auctionIds.add(lookup.auctionId());
+			}
+			List<AuctionEndMessage> messages = load(new ArrayList<>(auctionIds));
+			Map<String, AuctionEndMessage> byAuctionId = new LinkedHashMap<>();
+			int index = 0;
+			for (String auctionId : auctionIds) {
+				byAuctionId.put(auctionId, messages.get(index++));
+			}
+			for (PendingLookup lookup : batch) {
+				lookup.result().complete(byAuctionId.get(lookup.auctionId()));
+			}
+		} catch (RuntimeException e) {
+			log.error("낙찰 정보 묶음 조회 오류 발생", e);
+			batch.forEach(lookup -> lookup.result().completeExceptionally(e));
+		}
+	}
+
+	// 예열 본문의 금액과 지금 max_price 가 다른 경매 => 캐시에서 삭제 후 반환 (확인 실패 시 전부 다시 조회)
+	private List<String> staleHits(Map<String, AuctionEndMessage> hits) {
+		if (hits.isEmpty()) {
+			return List.of();
+		}
+		Map<String, Long> maxPrices = new LinkedHashMap<>();
+		try {
+			jdbcTemplate.query(MAX_PRICE_QUERY, new MapSqlParameterSource("auctionIds", parseIds(hits.keySet())),
+				rs -> {
+					maxPrices.put(String.valueOf(rs.getLong("id")),
+						rs.getBigDecimal("max_price") != null ? rs.getBigDecimal("max_price").longValue() : null);
+				});
+		} catch (DataAccessException e) {
+			log.warn("예열 본문 금액 확인 실패, 다시 조회: 경매 = {} 개, error = {}", hits.size(), e.getMessage());
+			maxPrices.clear();
+		}
+
+		List<String> staleIds = new ArrayList<>();
+		for (Map.Entry<String, AuctionEndMessage> hit : hits.entrySet()) {
+			if (!maxPrices.containsKey(hit.getKey())
+				|| !Objects.equals(maxPrices.get(hit.getKey()), hit.getValue().getAmount())) {
+				messageCache.invalidate(hit.getKey());
+				stale.increment();
+				staleIds.add(hit.getKey());
+				log.debug("늦은 입찰로 예열 본문 버림: auctionId = {}", hit.getKey());
+			}
+		}
+		return staleIds;
+	}
+
+	// 파이프라인 HMGET => 해시가 없는 auctionId 목록 반환
+	private List<String> loadFromRedis(List<String> auctionIds, Map<String, AuctionEndMessage> messages) {
+		List<Object> results;
+		try {
+			results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				for (String auctionId : auctionIds) {
+					connection.hashCommands().hMGet((hashPrefix + auctionId).getBytes(StandardCharsets.UTF_8),
+						HASH_FIELDS);
+				}
+				return null;
+			});
+		} catch (RuntimeException e) {
+			log.warn("낙찰 정보 해시 조회 실패, MySQL 로 조회: error = {}", e.getMessage());
+			return auctionIds;
+		}
+
+		List<String> remaining = new ArrayList<>();
+		for (int i = 0; i < auctionIds.size(); i++) {
+			String auctionId = auctionIds.get(i);
+			Object values = i < results.size() ? results.get(i) : null;
+			if (values instanceof List<?> fields && fields.size() == HASH_FIELDS.length && fields.get(0) != null) {
+				messages.put(auctionId, new AuctionEndMessage(parseLong(auctionId), parseLong(fields.get(0)),
+					parseLong(fields.get(1)), fields.get(2) != null ? String.valueOf(fields.get(2)) : null));
+				fromRedis.increment();
+			} else {
+				remaining.add(auctionId);
+			}
+		}
+		return remaining;
+	}
+
+	private void loadFromMysql(List<String> auctionIds, Map<String, AuctionEndMessage> messages) {
+		List<Long> ids = parseIds(auctionIds);
+		if (ids.isEmpty()) {
+			return;
+		}
+
+		try {
+			RowMapper<AuctionEndMessage> rowMapper = (rs, rowNum) -> new AuctionEndMessage(rs.getLong("auction_id"),
+				rs.getLong("user_id"),
+				rs.getBigDecimal("amount") != null ? rs.getBigDecimal("amount").longValue() : null,
+				rs.getString("username"));
+			List<AuctionEndMessage> rows = jdbcTemplate.query(winnerQuery, new MapSqlParameterSource("auctionIds", ids),
+				rowMapper);
+			for (AuctionEndMessage row : rows) {
+				String auctionId = String.valueOf(row.getAuctionId());
+				if (messages.containsKey(auctionId) && messages.get(auctionId) == null) { // 같은 금액 입찰이 여러 개면 첫 행
+					messages.put(auctionId, row);
+					fromMysql.increment();
+				}
+			}
+		} catch (DataAccessException e) {
+			log.warn("낙찰 정보 조회 실패, auctionId 만 전송: 경매 = {} 개, error = {}", ids.size(), e.getMessage());
+		}
+	}
+
+	private static List<Long> parseIds(Collection<String> auctionIds) {
+		List<Long> ids = new ArrayList<>(auctionIds.size());
+		for (String auctionId : auctionIds) {
+			Long id = parseLong(auctionId);
+			if (id != null) {
+				ids.add(id);
+			}
+		}
+		return ids;
+	}
+
+	private static Long parseLong(Object value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return Long.valueOf(String.valueOf(value));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private record PendingLookup(String auctionId, CompletableFuture<AuctionEndMessage> result) {
+	}
+}
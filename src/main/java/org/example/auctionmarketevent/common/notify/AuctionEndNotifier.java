@@ -0,0 +1,112 @@
+package org.example.auctionmarketevent.common.notify;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.example.auctionmarketevent.common.dispatch.StripedDispatcher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class AuctionEndNotifier {
+	// 경매 종료 => 소켓 서버 낙찰 알림 (keyspace 만료 리스너 / ZSET 스케줄러 공통)
+	// => WebSocket 채널이 연결되어 있으면 채널로 전송 (실패 / 타임아웃 시 HTTP 로 다시 보냄)
+	//    채널 주소는 하나이므로 소켓 서버 노드가 여럿이면 사용하지 않음 (경매별 노드 선택은 HTTP 경로만)
+	// => HTTP: 묶음 알림 활성화 시 BatchingWinnerNotifier, 아니면 auctionId 기준 stripe 작업자에서 단건 요청
+	// => 반환한 Future 는 알림 성공 시 완료, 실패 시 예외로 완료
+	// => 실패한 알림은 outbox (Redis Stream) 에 넘기고 정상 완료 => 재시도는 outbox 작업자가 담당 (추가도 실패하면 예외로 완료)
+
+	private final WinnerNotificationClient notificationClient; // 소켓 서버 낙찰 알림 요청
+	private final StripedDispatcher dispatcher; // auctionId 기준 stripe 작업자 풀 (동시 요청 수 제한)
+	private final BatchingWinnerNotifier batchingNotifier; // 활성화 시 짧은 시간 동안 모아서 묶음 요청
+	private final WinnerNotificationOutbox outbox; // 실패한 알림 재시도
+	private final WinnerNotificationChannel channel; // 소켓 서버 WebSocket 연결 (HTTP 는 대체 경로)
+	private final SocketServerNodes socketNodes; // 소켓 서버 노드 목록
+
+	// 생성자
+	public AuctionEndNotifier(WinnerNotificationClient notificationClient,
+		@Qualifier("expirationDispatcher") StripedDispatcher dispatcher,
+		BatchingWinnerNotifier batchingNotifier,
+		WinnerNotificationOutbox outbox,
+		WinnerNotificationChannel channel,
+		SocketServerNodes socketNodes) {
+		this.notificationClient = notificationClient;
+		this.dispatcher = dispatcher;
+		this.batchingNotifier = batchingNotifier;
+		this.outbox = outbox;
+		this.channel = channel;
+		this.socketNodes = socketNodes;
+	}
+
+	public CompletableFuture<Void> notifyEnded(String auctionId) {
+		CompletableFuture<Void> result = send(auctionId);
+		if (!outbox.isEnabled()) {
+			return result;
+		}
+		return result.exceptionally(error -> {
+			if (outbox.append(auctionId, error)) {
+				log.warn("낙찰 알림 실패, outbox 에 추가: auctionId = {}", auctionId);
+				return null;
+			}
+			throw error instanceof CompletionException completionException ? completionException
+				: new CompletionException(error);
+		});
+	}
+
+	private CompletableFuture<Void> send(String auctionId) {
+		if (channel.isConnected() && socketNodes.size() == 1) {
+			return sendOverChannel(auctionId);
+		}
+		return sendOverHttp(auctionId);
+	}
+
+	// 본문 조회 + 전송 창 대기는 작업자 스레드에서 => 작업자는 프레임을 보내고 바로 다음 작업 (ack 는 기다리지 않음)
+	private CompletableFuture<Void> sendOverChannel(String auctionId) {
+		CompletableFuture<Void> result = new CompletableFuture<>();
+		boolean accepted = dispatcher.dispatch(auctionId, () -> channel.send(auctionId).whenComplete((ignored, error) -> {
+			if (error == null) {
+				result.complete(null);
+				return;
+			}
+			log.warn("채널 전송 실패, HTTP 로 다시 전송: auctionId = {}, error = {}", auctionId, error.getMessage());
+			sendOverHttp(auctionId).whenComplete((fallbackIgnored, fallbackError) -> {
+				if (fallbackError == null) {
+					result.complete(null);
+				} else {
+					result.completeExceptionally(fallbackError);
+				}
+			});
+		}));
+		if (!accepted) {
+			result.completeExceptionally(new IllegalStateException("알림 작업을 등록하지 못함: auctionId = " + auctionId));
+		}
+		return result;
+	}
+
+	private CompletableFuture<Void> sendOverHttp(String auctionId) {
+		if (batchingNotifier.isEnabled()) {
+			// 묶음 요청 (실패한 ID 는 notifier 가 단건으로 재시도)
+			return batchingNotifier.submit(auctionId);
+		}
+
+		// 호출 스레드에서는 큐에 넣기만 함 => 요청은 작업자 스레드에서 완료까지 기다리므로 동시 요청 수 = 작업자 수
+		CompletableFuture<Void> result = new CompletableFuture<>();
+		boolean accepted = dispatcher.dispatch(auctionId, () -> {
+			try {
+				notificationClient.notifyWinner(auctionId);
+				log.info("웹소캣 서버에 낙찰가 정보 전송 요청 완료: auctionId = {}", auctionId);
+				result.complete(null);
+			} catch (RuntimeException error) {
+				log.error("웹소캣 서버 요청 실패: auctionId = {}, error = {}", auctionId, error.getMessage());
+				result.completeExceptionally(error);
+			}
+		});
+		if (!accepted) {
+			result.completeExceptionally(new IllegalStateException("알림 작업을 등록하지 못함: auctionId = " + auctionId));
+		}
+		return result;
+	}
+}
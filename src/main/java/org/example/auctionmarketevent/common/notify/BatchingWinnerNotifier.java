@@ -0,0 +1,272 @@
+package org.example.auctionmarketevent.common.notify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.example.auctionmarketevent.common.dispatch.StripedDispatcher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class BatchingWinnerNotifier {
+	// 경매가 한꺼번에 끝나면 경매마다 POST 하나 => 짧은 시간(window) 또는 N 개 단위로 모아서 묶음 요청 하나로 보냄
+	// => 묶음 응답의 실패 ID 만 단건 요청으로 재시도 (expirationDispatcher 작업자에서, 재시도 대기는 retryScheduler 에서 => 작업자를 잡고 기다리지 않음)
+	// => 묶음 요청 자체 실패 (타임아웃 포함, 서버가 이미 처리했을 수 있음) => ID 마다 단건으로 다시 보내지 않고 묶음째 큐에 다시 넣음 (다음 묶음 요청 하나로 전송)
+	// => 묶음 전송은 전용 스레드 하나에서 순서대로 => 전송 중에 들어온 ID 는 다음 묶음에 합쳐짐
+
+	private static final long IDLE_POLL_MILLIS = 200; // 큐가 비어 있을 때 종료 요청을 확인하는 간격
+	private static final long RETRY_BACKOFF_MILLIS = 100; // 재시도 간격 (시도 횟수만큼 늘어남)
+
+	private final WinnerNotificationClient client;
+	private final StripedDispatcher dispatcher; // 단건 재시도 실행 (auctionId 기준 순서 유지)
+	private final boolean enabled;
+	private final Duration window; // 첫 ID 이후 묶음을 모으는 최대 시간
+	private final int maxBatchSize; // 묶음 최대 크기 (차면 window 전에 전송)
+	private final int maxAttempts; // 단건 재시도 / 묶음 재전송 최대 횟수
+	private final BlockingQueue<PendingNotification> queue;
+	private final ScheduledExecutorService retryScheduler; // 재시도 대기 후 작업자에 다시 등록 / 큐에 다시 넣음
+
+	private final Counter batchRequests;
+	private final DistributionSummary batchSizes;
+	private final Counter individualRetries;
+	private final Counter failures;
+
+	private volatile boolean running;
+	private Thread flusher;
+
+	// 생성자
+	@Autowired
+	public BatchingWinnerNotifier(WinnerNotificationClient client,
+		@Qualifier("expirationDispatcher") StripedDispatcher dispatcher,
+		MeterRegistry meterRegistry,
+		@Value("${app.notify.batch.enabled:false}") boolean enabled,
+		@Value("${app.notify.batch.window:PT0.02S}") Duration window,
+		@Value("${app.notify.batch.max-size:100}") int maxBatchSize,
+		@Value("${app.notify.batch.queue-capacity:10000}") int queueCapacity,
+		@Value("${app.notify.batch.max-attempts:3}") int maxAttempts) {
+		this.client = client;
+		this.dispatcher = dispatcher;
+		this.enabled = enabled;
+		this.window = window;
+		this.maxBatchSize = maxBatchSize;
+		this.maxAttempts = maxAttempts;
+		this.queue = new LinkedBlockingQueue<>(queueCapacity);
+		this.retryScheduler = enabled ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "winner-notify-retry");
+			thread.setDaemon(true);
+			return thread;
+		}) : null;
+
+		this.batchRequests = Counter.builder("notify.winner.batch.requests")
+			.description("묶음 알림 요청 수")
+			.register(meterRegistry);
+		this.batchSizes = DistributionSummary.builder("notify.winner.batch.size")
+			.description("묶음 하나에 담긴 경매 수")
+			.register(meterRegistry);
+		this.individualRetries = Counter.builder("notify.winner.retry")
+			.description("묶음에서 실패해서 단건으로 다시 보낸 경매 수")
+			.register(meterRegistry);
+		this.failures = Counter.builder("notify.winner.failed")
+			.description("재시도까지 모두 실패한 경매 수")
+			.register(meterRegistry);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@PostConstruct
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		running = true;
+		flusher = new Thread(this::flushLoop, "winner-notify-batcher");
+		flusher.setDaemon(true);
+		flusher.start();
+	}
+
+	// 종료 시 큐에 남은 ID 까지 전송
+	@PreDestroy
+	public void shutdown() {
+		running = false;
+		if (flusher != null) {
+			try {
+				flusher.join(TimeUnit.SECONDS.toMillis(10));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		if (retryScheduler != null) {
+			retryScheduler.shutdown(); // 이미 예약된 재시도는 실행 (종료 후에는 단건 경로 => 작업자 종료 시 실패로 완료)
+		}
+	}
+
+	// 알림 등록 => 전송 성공 시 완료, 재시도까지 실패하면 예외로 완료
+	public CompletableFuture<Void> submit(String auctionId) {
+		PendingNotification notification = new PendingNotification(auctionId, new CompletableFuture<>(), 1);
+		if (!running || !queue.offer(notification)) {
+			// 묶음 큐가 가득 참 (또는 종료 중) => 단건으로 바로 보냄
+			log.warn("묶음 알림 큐에 넣지 못해 단건 전송: auctionId = {}", auctionId);
+			retryIndividually(auctionId, List.of(notification), 1);
+		}
+		return notification.result();
+	}
+
+	private void flushLoop() {
+		while (running || !queue.isEmpty()) {
+			try {
+				PendingNotification first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				send(collectBatch(first));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException e) {
+				log.error("묶음 알림 처리 중 오류 발생", e);
+			}
+		}
+	}
+
+	// 첫 ID 부터 window 가 지나거나 maxBatchSize 가 찰 때까지 모음
+	private List<PendingNotification> collectBatch(PendingNotification first) throws InterruptedException {
+		List<PendingNotification> batch = new ArrayList<>(maxBatchSize);
+		batch.add(first);
+		long deadline = System.nanoTime() + window.toNanos();
+		while (batch.size() < maxBatchSize) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				queue.drainTo(batch, maxBatchSize - batch.size()); // 이미 들어와 있는 ID 는 기다리지 않고 포함
+				break;
+			}
+			PendingNotification next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+			if (next == null) {
+				break;
+			}
+			batch.add(next);
+		}
+		return batch;
+	}
+
+	private void send(List<PendingNotification> batch) {
+		// 같은 경매가 묶음 안에 여러 번 있으면 한 번만 보냄
+		Map<String, List<PendingNotification>> byAuctionId = new LinkedHashMap<>();
+		for (PendingNotification notification : batch) {
+			byAuctionId.computeIfAbsent(notification.auctionId(), id -> new ArrayList<>()).add(notification);
+		}
+		List<String> auctionIds = new ArrayList<>(byAuctionId.keySet());
+
+		Set<String> failedIds;
+		try {
+			batchRequests.increment();
+			batchSizes.record(auctionIds.size());
+			failedIds = new HashSet<>(client.notifyWinners(auctionIds));
+		} catch (RuntimeException e) {
+			// 응답을 받지 못함 => 서버가 처리했는지 알 수 없으므로 ID 마다 단건으로 보내지 않고 묶음째 다시 보냄
+			log.warn("묶음 알림 요청 실패, 묶음째 다시 전송: 경매 수 = {}, 오류 = {}", auctionIds.size(), e.getMessage());
+			requeue(batch, e);
+			return;
+		}
+
+		for (Map.Entry<String, List<PendingNotification>> entry : byAuctionId.entrySet()) {
+			if (failedIds.contains(entry.getKey())) {
+				individualRetries.increment();
+				retryIndividually(entry.getKey(), entry.getValue(), 1);
+			} else {
+				entry.getValue().forEach(notification -> notification.result().complete(null));
+			}
+		}
+		log.debug("묶음 알림 전송: 경매 수 = {}, 실패 = {}", auctionIds.size(), failedIds.size());
+	}
+
+	// 묶음 요청 실패 => backoff 후 큐에 다시 넣음 (시도 횟수를 넘긴 ID 는 실패로 완료)
+	private void requeue(List<PendingNotification> batch, RuntimeException error) {
+		List<PendingNotification> retry = new ArrayList<>(batch.size());
+		for (PendingNotification notification : batch) {
+			if (notification.attempt() >= maxAttempts) {
+				fail(notification.auctionId(), List.of(notification), error);
+			} else {
+				retry.add(new PendingNotification(notification.auctionId(), notification.result(),
+					notification.attempt() + 1));
+			}
+		}
+		if (retry.isEmpty()) {
+			return;
+		}
+		schedule(() -> {
+			for (PendingNotification notification : retry) {
+				if (!running || !queue.offer(notification)) {
+					retryIndividually(notification.auctionId(), List.of(notification), notification.attempt());
+				}
+			}
+		}, retry.stream().mapToInt(PendingNotification::attempt).max().orElse(2) - 1, () -> retry.forEach(
+			notification -> fail(notification.auctionId(), List.of(notification), error)));
+	}
+
+	// 단건 시도 하나를 작업자에 등록 => 실패하면 backoff 후 다음 시도를 다시 등록 (작업자에서 기다리지 않음)
+	private void retryIndividually(String auctionId, List<PendingNotification> notifications, int attempt) {
+		boolean accepted = dispatcher.dispatch(auctionId, () -> {
+			try {
+				client.notifyWinner(auctionId);
+				notifications.forEach(notification -> notification.result().complete(null));
+			} catch (RuntimeException e) {
+				if (attempt >= maxAttempts) {
+					fail(auctionId, notifications, e);
+					return;
+				}
+				schedule(() -> retryIndividually(auctionId, notifications, attempt + 1), attempt,
+					() -> fail(auctionId, notifications, e));
+			}
+		});
+		if (!accepted) {
+			fail(auctionId, notifications, new IllegalStateException("단건 재시도 작업을 등록하지 못함"));
+		}
+	}
+
+	// retryScheduler 에 backoff (RETRY_BACKOFF_MILLIS * attempt) 후 실행 예약, 예약할 수 없으면 onRejected
+	private void schedule(Runnable task, int attempt, Runnable onRejected) {
+		if (retryScheduler == null) {
+			onRejected.run();
+			return;
+		}
+		try {
+			retryScheduler.schedule(task, RETRY_BACKOFF_MILLIS * attempt, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			onRejected.run();
+		}
+	}
+
+	private void fail(String auctionId, List<PendingNotification> notifications, RuntimeException error) {
+		RuntimeException cause = error != null ? error : new IllegalStateException("재시도 없이 실패");
+		failures.increment();
+		log.error("낙찰 알림 실패: auctionId = {}, error = {}", auctionId, cause.getMessage());
+		notifications.forEach(notification -> notification.result().completeExceptionally(cause));
+	}
+
+	record PendingNotification(String auctionId, CompletableFuture<Void> result, int attempt) {
+	}
+}
@@ -0,0 +1,270 @@
+package org.example.auctionmarketevent.common.notify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.example.auctionmarketevent.common.dispatch.CircuitBreaker;
+import org.example.auctionmarketevent.common.dispatch.ConsistentHashRing;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+public class SocketServerNodes {
+	// 낙찰 알림을 보낼 소켓 서버 노드 목록 (app.notify.nodes.urls 쉼표 구분, 없으면 app.notify.socket-base-url 하나)
+	// => auctionId 일관 해시로 노드 선택 => 같은 경매의 종료 알림은 항상 그 경매 구독자가 붙은 노드로
+	// => health-interval 마다 노드별 GET {node}{health-path} => 연속 failure-threshold 번 실패하면 링에서 제외, 성공하면 다시 포함
+	//    (제외된 노드에 걸린 경매만 옆 노드로 옮겨감, 전부 실패하면 전체 노드로 링 유지 => 요청 실패 후 outbox 가 재시도)
+	// => 노드마다 동시 요청 max-concurrency-per-node 개 제한 => 느린 노드 하나가 작업자 / 커넥션 풀을 모두 잡지 않음
+	// => 회로 차단기도 노드마다 하나 (app.notify.circuit-breaker.* 설정 복사) => 한 노드가 죽어도 다른 노드의 경매는 계속 보냄
+
+	private static final class Node {
+		private final String baseUrl;
+		private final Semaphore permits; // 동시 요청 제한
+		private final Counter rejected; // 동시 요청 한도 초과로 보내지 못한 요청 수
+		private final CircuitBreaker circuitBreaker;
+		private volatile boolean healthy = true;
+		private int consecutiveFailures; // 상태 확인 스레드에서만 변경
+
+		private Node(String baseUrl, int maxConcurrency, Counter rejected, CircuitBreaker circuitBreaker) {
+			this.baseUrl = baseUrl;
+			this.permits = new Semaphore(maxConcurrency);
+			this.rejected = rejected;
+			this.circuitBreaker = circuitBreaker;
+		}
+	}
+
+	private final WebClient webClient;
+	private final Map<String, Node> nodes = new LinkedHashMap<>(); // 시작할 때만 채움
+	private final int virtualNodes; // 노드 하나당 링에 배치할 가상 노드 수
+	private final String healthPath; // 상태 확인 경로 (2xx => 정상)
+	private final Duration healthInterval;
+	private final Duration healthTimeout;
+	private final int failureThreshold; // 연속 실패 몇 번이면 링에서 제외할지
+	private final Duration acquireTimeout; // 노드 동시 요청 한도가 찼을 때 기다리는 최대 시간
+
+	private volatile ConsistentHashRing ring;
+	private ScheduledExecutorService scheduler;
+
+	// 생성자
+	@Autowired
+	public SocketServerNodes(WebClient webClient,
+		MeterRegistry meterRegistry,
+		CircuitBreaker circuitBreaker,
+		@Value("${app.notify.nodes.urls:${app.notify.socket-base-url:http://localhost:8081}}") String nodeList,
+		@Value("${app.notify.nodes.virtual-nodes:160}") int virtualNodes,
+		@Value("${app.notify.nodes.health.path:/actuator/health}") String healthPath,
+		@Value("${app.notify.nodes.health.interval:PT5S}") Duration healthInterval,
+		@Value("${app.notify.nodes.health.timeout:PT1S}") Duration healthTimeout,
+		@Value("${app.notify.nodes.health.failure-threshold:2}") int failureThreshold,
+		@Value("${app.notify.nodes.max-concurrency-per-node:64}") int maxConcurrencyPerNode,
+		@Value("${app.notify.nodes.acquire-timeout:PT1S}") Duration acquireTimeout) {
+		this.webClient = webClient;
+		this.virtualNodes = virtualNodes;
+		this.healthPath = healthPath;
+		this.healthInterval = healthInterval;
+		this.healthTimeout = healthTimeout;
+		this.failureThreshold = Math.max(1, failureThreshold);
+		this.acquireTimeout = acquireTimeout;
+
+		for (String baseUrl : parse(nodeList)) {
+			Node node = new Node(baseUrl, maxConcurrencyPerNode, Counter.builder("notify.winner.node.rejected")
+				.tag("node", baseUrl)
+				.register(meterRegistry), circuitBreaker.copy("winner-notification@" + baseUrl));
+			nodes.put(baseUrl, node);
+			Gauge.builder("notify.winner.node.healthy", node, target -> target.healthy ? 1 : 0)
+				.tag("node", baseUrl)
+				.register(meterRegistry);
+			Gauge.builder("notify.winner.node.in-flight", node,
+					target -> maxConcurrencyPerNode - target.permits.availablePermits())
+				.tag("node", baseUrl)
+				.register(meterRegistry);
+			Gauge.builder("notify.winner.circuit.state", node.circuitBreaker, breaker -> breaker.getState().ordinal())
+				.description("0 = CLOSED, 1 = HALF_OPEN, 2 = OPEN")
+				.tag("node", baseUrl)
+				.register(meterRegistry);
+		}
+		if (nodes.isEmpty()) {
+			throw new IllegalArgumentException("소켓 서버 노드가 없음: app.notify.nodes.urls = " + nodeList);
+		}
+		this.ring = new ConsistentHashRing(nodes.keySet(), virtualNodes);
+	}
+
+	// 노드가 하나면 상태 확인 없음 (제외해도 보낼 곳이 없음)
+	@PostConstruct
+	public void start() {
+		if (nodes.size() < 2) {
+			return;
+		}
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "socket-node-health");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleWithFixedDelay(this::tick, healthInterval.toMillis(), healthInterval.toMillis(),
+			TimeUnit.MILLISECONDS);
+		log.info("소켓 서버 노드 {} 개, 상태 확인 주기 = {}", nodes.size(), healthInterval);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+		}
+	}
+
+	public int size() {
+		return nodes.size();
+	}
+
+	public List<String> healthyNodes() {
+		List<String> healthy = new ArrayList<>();
+		for (Node node : nodes.values()) {
+			if (node.healthy) {
+				healthy.add(node.baseUrl);
+			}
+		}
+		return healthy;
+	}
+
+	// auctionId 가 속한 노드 주소
+	public String nodeFor(String auctionId) {
+		return ring.nodeFor(auctionId);
+	}
+
+	// 노드별 auctionId 목록 (입력 순서 유지)
+	public Map<String, List<String>> groupByNode(List<String> auctionIds) {
+		ConsistentHashRing current = ring;
+		Map<String, List<String>> groups = new LinkedHashMap<>();
+		for (String auctionId : auctionIds) {
+			groups.computeIfAbsent(current.nodeFor(auctionId), node -> new ArrayList<>()).add(auctionId);
+		}
+		return groups;
+	}
+
+	// 노드의 회로 차단기
+	public CircuitBreaker circuitBreaker(String baseUrl) {
+		return node(baseUrl).circuitBreaker;
+	}
+
+	// 노드 동시 요청 한도 안에서 요청 실행 (acquire-timeout 안에 자리가 나지 않으면 예외)
+	public <T> T call(String baseUrl, Supplier<T> request) {
+		Node node = node(baseUrl);
+		try {
+			if (!node.permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+				node.rejected.increment();
+				throw new IllegalStateException("소켓 서버 노드 동시 요청 한도 초과: node = " + baseUrl);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("노드 요청 대기 중 인터럽트: node = " + baseUrl, e);
+		}
+		try {
+			return request.get();
+		} finally {
+			node.permits.release();
+		}
+	}
+
+	// 모든 노드 상태 확인 (동시에) => 정상 노드 목록이 바뀌면 링 교체
+	public void checkHealthOnce() {
+		List<Map.Entry<Node, Boolean>> results = Flux.fromIterable(nodes.values())
+			.flatMap(node -> probe(node).map(up -> Map.entry(node, up)))
+			.collectList()
+			.block(healthTimeout.plusSeconds(1));
+		if (results == null) {
+			return;
+		}
+
+		boolean changed = false;
+		for (Map.Entry<Node, Boolean> result : results) {
+			Node node = result.getKey();
+			if (result.getValue()) {
+				node.consecutiveFailures = 0;
+				if (!node.healthy) {
+					node.healthy = true;
+					changed = true;
+					log.info("소켓 서버 노드 복구, 링에 다시 포함: node = {}", node.baseUrl);
+				}
+			} else if (++node.consecutiveFailures >= failureThreshold && node.healthy) {
+				node.healthy = false;
+				changed = true;
+				log.warn("소켓 서버 노드 상태 확인 {} 번 연속 실패, 링에서 제외: node = {}", node.consecutiveFailures,
+					node.baseUrl);
+			}
+		}
+		if (changed) {
+			rebuildRing();
+		}
+	}
+
+	private Node node(String baseUrl) {
+		Node node = nodes.get(baseUrl);
+		if (node == null) {
+			throw new IllegalArgumentException("등록되지 않은 노드: " + baseUrl);
+		}
+		return node;
+	}
+
+	private Mono<Boolean> probe(Node node) {
+		return webClient.get()
+			.uri(node.baseUrl + healthPath)
+			.retrieve()
+			.toBodilessEntity()
+			.map(entity -> entity.getStatusCode().is2xxSuccessful())
+			.timeout(healthTimeout)
+			.onErrorReturn(false);
+	}
+
+	private void rebuildRing() {
+		List<String> healthy = healthyNodes();
+		if (healthy.isEmpty()) {
+			log.error("정상 소켓 서버 노드 없음 => 전체 노드로 링 유지");
+			healthy = new ArrayList<>(nodes.keySet());
+		}
+		ring = new ConsistentHashRing(healthy, virtualNodes);
+	}
+
+	private void tick() {
+		try {
+			checkHealthOnce();
+		} catch (RuntimeException e) {
+			log.error("소켓 서버 노드 상태 확인 오류 발생", e);
+		}
+	}
+
+	private static Set<String> parse(String nodeList) {
+		Set<String> parsed = new LinkedHashSet<>();
+		for (String value : nodeList.split(",")) {
+			String baseUrl = value.trim();
+			while (baseUrl.endsWith("/")) {
+				baseUrl = baseUrl.substring(0, baseUrl.length() - 1);
+			}
+			if (!baseUrl.isEmpty()) {
+				parsed.add(baseUrl);
+			}
+		}
+		return parsed;
+	}
+}
@@ -0,0 +1,112 @@
+package org.example.auctionmarketevent.common.notify;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.example.auctionmarketevent.common.message.AuctionEndMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class WinnerMessageCache {
+	// 종료 직전에 미리 만든 낙찰 알림 본문 (WinnerPrewarmer 가 채움, AuctionEndMessageLoader 가 먼저 확인)
+	// => 크기 제한 (오래 넣은 순서로 삭제) + 종료 시각 + grace 가 지나면 만료
+	// => 늦은 입찰로 금액이 바뀌면 invalidate => 다음 조회 / 예열 때 다시 만듦
+	// => 적중 시 예열 때 걸린 조회 시간을 notify.winner.prewarm.saved 에 기록 (종료 시점에 아낀 시간)
+
+	private record Entry(AuctionEndMessage message, long loadNanos, long expiresAtMillis) {
+	}
+
+	private final boolean enabled;
+	private final Map<String, Entry> entries;
+
+	private final Counter hits;
+	private final Counter misses;
+	private final Timer saved;
+
+	// 생성자
+	@Autowired
+	public WinnerMessageCache(MeterRegistry meterRegistry,
+		@Value("${app.notify.prewarm.enabled:false}") boolean enabled,
+		@Value("${app.notify.prewarm.cache-size:10000}") int maxSize) {
+		this.enabled = enabled;
+		this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > maxSize;
+			}
+		};
+		this.hits = Counter.builder("notify.winner.prewarm.hit").register(meterRegistry);
+		this.misses = Counter.builder("notify.winner.prewarm.miss").register(meterRegistry);
+		this.saved = Timer.builder("notify.winner.prewarm.saved")
+			.description("적중한 본문을 예열할 때 걸린 조회 시간 (알림 시점에 아낀 시간)")
+			.register(meterRegistry);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	// 알림 시점 조회 => 적중 / 실패 기록 (만료된 항목은 삭제 후 실패)
+	public AuctionEndMessage get(String auctionId) {
+		Entry entry;
+		synchronized (entries) {
+			entry = entries.get(auctionId);
+			if (entry != null && entry.expiresAtMillis() <= System.currentTimeMillis()) {
+				entries.remove(auctionId);
+				entry = null;
+			}
+		}
+		if (entry == null) {
+			misses.increment();
+			return null;
+		}
+		hits.increment();
+		saved.record(entry.loadNanos(), TimeUnit.NANOSECONDS);
+		return entry.message();
+	}
+
+	// 예열 확인용 조회 (적중 / 실패 기록 안함)
+	public AuctionEndMessage peek(String auctionId) {
+		synchronized (entries) {
+			Entry entry = entries.get(auctionId);
+			return entry != null ? entry.message() : null;
+		}
+	}
+
+	// loadNanos => 이 본문 하나를 만드는 데 걸린 시간 (묶음 조회면 경매 수로 나눈 값)
+	public void put(String auctionId, AuctionEndMessage message, long loadNanos, Instant expiresAt) {
+		synchronized (entries) {
+			entries.put(auctionId, new Entry(message, loadNanos, expiresAt.toEpochMilli()));
+		}
+	}
+
+	public void invalidate(String auctionId) {
+		synchronized (entries) {
+			entries.remove(auctionId);
+		}
+	}
+
+	// 만료된 항목 삭제 => 삭제한 수 반환
+	public int purgeExpired() {
+		long now = System.currentTimeMillis();
+		synchronized (entries) {
+			int before = entries.size();
+			entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+			return before - entries.size();
+		}
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+}
@@ -0,0 +1,324 @@
+package org.example.auctionmarketevent.common.notify;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.auctionmarketevent.common.message.AuctionEndMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
+import org.springframework.web.reactive.socket.client.WebSocketClient;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+@Slf4j
+@Component
+public class WinnerNotificationChannel {
+	// 소켓 서버와 WebSocket 연결 하나를 계속 유지하고 낙찰 알림을 프레임으로 보냄 (app.notify.channel.enabled=true)
+	// => 경매마다 HTTP 요청 / 헤더를 만들지 않고 연결 하나에 여러 알림을 동시에 보냄 (응답을 기다리지 않고 다음 프레임 전송)
+	// => 요청: {"type":"winner","seq":N,"message":{AuctionEndMessage}} => 응답: {"type":"ack","seq":N,"status":"ok"|"error","error":"..."}
+	// => 흐름 제어: ack 받지 않은 알림은 max-in-flight 개까지 => 가득 차면 보내는 작업자가 ack-timeout 까지 대기 후 실패
+	// => 연결이 끊기면 backoff 후 다시 연결 + ack 받지 않은 알림을 seq 순서대로 다시 보냄 (소켓 서버는 같은 경매 중복 수신 가능)
+	// => ack-timeout 안에 ack 가 없으면 (연결 끊김 포함) 실패 => AuctionEndNotifier 가 HTTP 로 다시 보냄
+
+	private final WebSocketClient webSocketClient;
+	private final ObjectMapper objectMapper;
+	private final AuctionEndMessageLoader messageLoader; // 알림 본문 조회 (null => auctionId 만 전송)
+	private final boolean enabled;
+	private final URI uri; // 소켓 서버 WebSocket 주소
+	private final Duration ackTimeout; // 알림 하나를 ack 까지 기다리는 최대 시간 (전송 창 대기도 같은 값)
+	private final Duration minReconnectBackoff; // 첫 재연결 대기 (이후 두 배씩)
+	private final Duration maxReconnectBackoff; // 재연결 대기 최대값
+
+	private final Semaphore window; // ack 받지 않은 알림 수 제한
+	private final ConcurrentSkipListMap<Long, Pending> unacked = new ConcurrentSkipListMap<>(); // seq => 알림 (재전송 순서 유지)
+	private final AtomicLong sequence = new AtomicLong();
+	private final Object emitLock = new Object(); // 프레임 전송 / 재연결 시 재전송 순서 보장
+
+	private final Counter sent;
+	private final Counter resent;
+	private final Counter rejected; // 서버가 error 로 응답
+	private final Counter timeouts;
+	private final Counter reconnects;
+	private final Timer ackLatency;
+
+	private volatile Sinks.Many<String> outbound; // 현재 연결의 송신 프레임 (null => 연결 안됨)
+	private volatile boolean running;
+	private volatile Disposable connection;
+	private ScheduledExecutorService scheduler; // 재연결 / ack 타임아웃 확인 / Future 완료
+	private int reconnectAttempts; // scheduler 스레드에서만 변경
+
+	private record Pending(long seq, String frame, CompletableFuture<Void> future, long sentAtNanos) {
+	}
+
+
+	// 생성자
+	@Autowired
+	public WinnerNotificationChannel(ObjectMapper objectMapper,
+		AuctionEndMessageLoader messageLoader,
+		MeterRegistry meterRegistry,
+		@Value("${app.notify.channel.enabled:false}") boolean enabled,
+		@Value("${app.notify.channel.url:ws://localhost:8081/internal/auction/ws}") String url,
+		@Value("${app.notify.channel.max-in-flight:256}") int maxInFlight,
+		@Value("${app.notify.channel.ack-timeout:PT5S}") Duration ackTimeout,
+		@Value("${app.notify.channel.reconnect.min-backoff:PT0.5S}") Duration minReconnectBackoff,
+		@Value("${app.notify.channel.reconnect.max-backoff:PT10S}") Duration maxReconnectBackoff) {
+		this(new ReactorNettyWebSocketClient(), objectMapper, messageLoader, meterRegistry, enabled, url, maxInFlight,
+			ackTimeout, minReconnectBackoff, maxReconnectBackoff);
+	}
+
+	public WinnerNotificationChannel(WebSocketClient webSocketClient,
+		ObjectMapper objectMapper,
+		AuctionEndMessageLoader messageLoader,
+		MeterRegistry meterRegistry,
+		boolean enabled,
+		String url,
+		int maxInFlight,
+		Duration ackTimeout,
+		Duration minReconnectBackoff,
+		Duration maxReconnectBackoff) {
+		this.webSocketClient = webSocketClient;
+		this.objectMapper = objectMapper;
+		this.messageLoader = messageLoader;
+		this.enabled = enabled;
+		this.uri = URI.create(url);
+		this.ackTimeout = ackTimeout;
+		this.minReconnectBackoff = minReconnectBackoff;
+		this.maxReconnectBackoff = maxReconnectBackoff;
+		this.window = new Semaphore(maxInFlight);
+
+		this.sent = Counter.builder("notify.winner.channel.sent").register(meterRegistry);
+		this.resent = Counter.builder("notify.winner.channel.resent")
+			.description("재연결 후 다시 보낸 알림 수")
+			.register(meterRegistry);
+		this.rejected = Counter.builder("notify.winner.channel.rejected").register(meterRegistry);
+		this.timeouts = Counter.builder("notify.winner.channel.timeout").register(meterRegistry);
+		this.reconnects = Counter.builder("notify.winner.channel.reconnects").register(meterRegistry);
+		this.ackLatency = Timer.builder("notify.winner.channel.ack")
+			.description("프레임 전송부터 ack 까지 걸린 시간")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		Gauge.builder("notify.winner.channel.in-flight", unacked, ConcurrentSkipListMap::size).register(meterRegistry);
+		Gauge.builder("notify.winner.channel.connected", this, channel -> channel.isConnected() ? 1 : 0)
+			.register(meterRegistry);
+	}
+
+	// 공용 @Scheduled 스레드는 하루 한 번 Job 이 점유하므로 전용 스레드 사용
+	@PostConstruct
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		running = true;
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "winner-channel");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long sweepMillis = Math.max(100, ackTimeout.toMillis() / 4);
+		scheduler.scheduleWithFixedDelay(this::expireUnacked, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+		scheduler.execute(this::connect);
+		log.info("낙찰 알림 WebSocket 채널 시작: uri = {}, 최대 동시 알림 = {}", uri, window.availablePermits());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		running = false;
+		Disposable current = connection;
+		if (current != null) {
+			current.dispose();
+		}
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+		}
+		for (Pending pending : unacked.values()) {
+			fail(pending, new IllegalStateException("채널 종료"));
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public boolean isConnected() {
+		return outbound != null;
+	}
+
+	// 알림 프레임 전송 => ack 받으면 완료, error 응답 / 타임아웃 / 연결 안됨이면 예외로 완료
+	// => 본문 조회 + 전송 창 대기가 있으므로 작업자 스레드에서 호출
+	public CompletableFuture<Void> send(String auctionId) {
+		if (!isConnected()) {
+			return CompletableFuture.failedFuture(new IllegalStateException("채널 연결 안됨: uri = " + uri));
+		}
+
+		AuctionEndMessage message = loadMessage(auctionId);
+		try {
+			if (!window.tryAcquire(ackTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+				return CompletableFuture.failedFuture(
+					new TimeoutException("전송 창 가득 참: in-flight = " + unacked.size()));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return CompletableFuture.failedFuture(e);
+		}
+
+		String messageJson; // 본문 직렬화는 잠금 밖에서, seq 만 잠금 안에서 붙임
+		try {
+			messageJson = objectMapper.writeValueAsString(message);
+		} catch (JsonProcessingException e) {
+			window.release();
+			return CompletableFuture.failedFuture(e);
+		}
+
+		Pending pending;
+		synchronized (emitLock) {
+			// seq 발급 + 전송을 같은 잠금 안에서 => seq 순서 = 전송 순서 (expireUnacked 가 의존)
+			long seq = sequence.incrementAndGet();
+			String frame = "{\"type\":\"winner\",\"seq\":" + seq + ",\"message\":" + messageJson + "}";
+			pending = new Pending(seq, frame, new CompletableFuture<>(), System.nanoTime());
+			unacked.put(seq, pending);
+			Sinks.Many<String> current = outbound;
+			if (current != null) {
+				current.tryEmitNext(pending.frame()); // 실패 (연결 끊기는 중) => unacked 에 남아 재연결 후 재전송
+			}
+		}
+		sent.increment();
+		return pending.future();
+	}
+
+	private AuctionEndMessage loadMessage(String auctionId) {
+		if (messageLoader != null) {
+			return messageLoader.load(List.of(auctionId)).get(0);
+		}
+		return new AuctionEndMessage(auctionId.chars().allMatch(Character::isDigit) ? Long.valueOf(auctionId) : null,
+			null, null, null);
+	}
+
+	private void connect() {
+		if (!running) {
+			return;
+		}
+		connection = webSocketClient.execute(uri, session -> {
+				Sinks.Many<String> sink = Sinks.many().unicast().onBackpressureBuffer();
+				onConnected(sink);
+				Mono<Void> in = session.receive()
+					.map(WebSocketMessage::getPayloadAsText)
+					.doOnNext(this::onFrame)
+					.then();
+				Mono<Void> out = session.send(sink.asFlux().map(session::textMessage));
+				return Mono.firstWithSignal(in, out); // 한쪽이 끝나면 (서버 종료 / 전송 실패) 연결 종료
+			})
+			.doFinally(signal -> onDisconnected())
+			.subscribe(null, error -> log.warn("낙찰 알림 채널 연결 오류: uri = {}, error = {}", uri, error.getMessage()));
+	}
+
+	// ack 받지 않은 알림을 새 연결로 먼저 보내고 이후 알림을 받음
+	private void onConnected(Sinks.Many<String> sink) {
+		synchronized (emitLock) {
+			for (Pending pending : unacked.values()) {
+				sink.tryEmitNext(pending.frame());
+				resent.increment();
+			}
+			outbound = sink;
+		}
+		submit(() -> reconnectAttempts = 0);
+		log.info("낙찰 알림 채널 연결: uri = {}, 재전송 = {} 개", uri, unacked.size());
+	}
+
+	private void onDisconnected() {
+		synchronized (emitLock) {
+			outbound = null;
+		}
+		if (!running) {
+			return;
+		}
+		submit(() -> {
+			long delay = Math.min(maxReconnectBackoff.toMillis(),
+				minReconnectBackoff.toMillis() << Math.min(reconnectAttempts, 16));
+			reconnectAttempts++;
+			reconnects.increment();
+			log.warn("낙찰 알림 채널 끊김, {} ms 후 재연결: ack 대기 = {} 개", delay, unacked.size());
+			scheduler.schedule(this::connect, delay, TimeUnit.MILLISECONDS);
+		});
+	}
+
+	private void onFrame(String text) {
+		JsonNode frame;
+		try {
+			frame = objectMapper.readTree(text);
+		} catch (JsonProcessingException e) {
+			log.warn("낙찰 알림 채널 프레임 파싱 실패: frame = {}", text);
+			return;
+		}
+		if (!"ack".equals(frame.path("type").asText())) {
+			return;
+		}
+
+		Pending pending = unacked.remove(frame.path("seq").asLong(-1));
+		if (pending == null) {
+			return; // 재전송한 알림의 두 번째 ack / 타임아웃으로 이미 실패 처리
+		}
+		window.release();
+		ackLatency.record(System.nanoTime() - pending.sentAtNanos(), TimeUnit.NANOSECONDS);
+		if ("ok".equals(frame.path("status").asText())) {
+			submit(() -> pending.future().complete(null));
+		} else {
+			rejected.increment();
+			submit(() -> pending.future().completeExceptionally(
+				new IllegalStateException("소켓 서버가 알림 거부: " + frame.path("error").asText())));
+		}
+	}
+
+	// ack-timeout 이 지난 알림 실패 처리 => 전송 창 반환
+	private void expireUnacked() {
+		long deadline = System.nanoTime() - ackTimeout.toNanos();
+		for (Pending pending : unacked.values()) {
+			if (pending.sentAtNanos() > deadline) {
+				break; // seq 순서 = 전송 순서
+			}
+			timeouts.increment();
+			fail(pending, new TimeoutException("ack 타임아웃: seq = " + pending.seq()));
+		}
+	}
+
+	private void fail(Pending pending, Throwable error) {
+		if (unacked.remove(pending.seq(), pending)) {
+			window.release();
+			pending.future().completeExceptionally(error);
+		}
+	}
+
+	// Future 완료 (후속 처리 포함) 는 Netty 이벤트 루프 밖에서
+	private void submit(Runnable task) {
+		try {
+			scheduler.execute(task);
+		} catch (RejectedExecutionException e) {
+			task.run(); // 종료 중
+		}
+	}
+}
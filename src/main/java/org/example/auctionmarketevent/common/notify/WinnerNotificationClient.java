@@ -0,0 +1,201 @@
+package org.example.auctionmarketevent.common.notify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.example.auctionmarketevent.common.dispatch.CircuitBreaker;
+import org.example.auctionmarketevent.common.message.AuctionEndMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+@Component
+public class WinnerNotificationClient {
+	// 소켓 서버에 낙찰 알림 요청 (노드는 SocketServerNodes 가 auctionId 일관 해시로 선택, 노드별 동시 요청 제한)
+	// => 단건: POST {base}/internal/auction/{auctionId}/winner, 본문 = AuctionEndMessage
+	// => 묶음: POST {base}/internal/auction/winners {"auctionIds": [...], "messages": [...]} => 200 {"failedAuctionIds": [...]} (실패한 ID 만, 없으면 생략 가능)
+	//    노드가 여럿이면 노드별로 나눠서 요청, 한 노드의 요청이 실패하면 그 노드의 ID 를 실패 목록에 추가
+	// => 본문의 낙찰자 / 금액은 AuctionEndMessageLoader 가 채움 (요청 전에 한 번, 재시도 때는 다시 조회하지 않음, 단건은 다른 단건과 모아서 조회)
+	// => 5xx / 연결 오류 (연결 실패, 응답 타임아웃) 는 지수 backoff + jitter 로 재시도, 4xx 는 재시도 안함
+	// => 요청마다 그 노드의 회로 차단기 확인 (SocketServerNodes) => 노드가 계속 실패하면 OPEN 동안 그 노드로는 요청을 보내지 않고 바로 실패
+	// => 시도마다 notify.winner.http 타이머 (type = single/bulk, status = HTTP 상태 코드 / IO_ERROR / CIRCUIT_OPEN)
+
+	private final WebClient webClient;
+	private final SocketServerNodes nodes; // 소켓 서버 노드 (auctionId => 노드 주소)
+	private final Duration requestTimeout; // 요청 완료를 기다리는 최대 시간 (재시도 포함)
+	private final MeterRegistry meterRegistry;
+	private final int maxAttempts; // 첫 시도 포함 최대 시도 횟수
+	private final Duration minBackoff; // 첫 재시도 대기 (이후 두 배씩, jitter 50%)
+	private final Duration maxBackoff; // 재시도 대기 최대값
+	private final Counter retries; // 재시도 수
+	private final AuctionEndMessageLoader messageLoader; // 알림 본문 조회 (null => auctionId 만 전송)
+
+	// 생성자
+	@Autowired
+	public WinnerNotificationClient(WebClient webClient,
+		SocketServerNodes nodes,
+		@Value("${app.redis.dispatch.request-timeout:PT10S}") Duration requestTimeout,
+		MeterRegistry meterRegistry,
+		@Value("${app.notify.retry.max-attempts:3}") int maxAttempts,
+		@Value("${app.notify.retry.min-backoff:PT0.1S}") Duration minBackoff,
+		@Value("${app.notify.retry.max-backoff:PT1S}") Duration maxBackoff,
+		AuctionEndMessageLoader messageLoader) {
+		this.webClient = webClient;
+		this.nodes = nodes;
+		this.requestTimeout = requestTimeout;
+		this.meterRegistry = meterRegistry;
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.minBackoff = minBackoff;
+		this.maxBackoff = maxBackoff;
+		this.messageLoader = messageLoader;
+		this.retries = Counter.builder("notify.winner.http.retries").register(meterRegistry);
+	}
+
+	// 단건 알림 (실패 시 예외)
+	public void notifyWinner(String auctionId) {
+		AuctionEndMessage message = messageLoader != null ? messageLoader.loadOne(auctionId)
+			: loadMessages(List.of(auctionId)).get(0);
+		String baseUrl = nodes.nodeFor(auctionId);
+		nodes.call(baseUrl, () -> call("single", baseUrl, () -> webClient.post()
+			.uri(baseUrl + "/internal/auction/{auctionId}/winner", auctionId)
+			.bodyValue(message)
+			.retrieve()
+			.toBodilessEntity())
+			.block(requestTimeout));
+	}
+
+	// 묶음 알림 => 실패한 ID 목록 반환 (요청 자체가 실패하면 예외)
+	public List<String> notifyWinners(List<String> auctionIds) {
+		Map<String, List<String>> groups = nodes.groupByNode(auctionIds);
+		if (groups.size() == 1) {
+			Map.Entry<String, List<String>> group = groups.entrySet().iterator().next();
+			return notifyNode(group.getKey(), group.getValue());
+		}
+
+		// 노드별 요청 => 모든 노드가 실패한 경우에만 예외
+		List<String> failed = new ArrayList<>();
+		RuntimeException lastError = null;
+		int failedNodes = 0;
+		for (Map.Entry<String, List<String>> group : groups.entrySet()) {
+			try {
+				failed.addAll(notifyNode(group.getKey(), group.getValue()));
+			} catch (RuntimeException e) {
+				failed.addAll(group.getValue());
+				lastError = e;
+				failedNodes++;
+			}
+		}
+		if (lastError != null && failedNodes == groups.size()) {
+			throw lastError;
+		}
+		return failed;
+	}
+
+	private List<String> notifyNode(String baseUrl, List<String> auctionIds) {
+		BulkWinnerRequest request = new BulkWinnerRequest(auctionIds, loadMessages(auctionIds));
+		ResponseEntity<BulkWinnerResponse> entity = nodes.call(baseUrl, () -> call("bulk", baseUrl, () -> webClient.post()
+			.uri(baseUrl + "/internal/auction/winners")
+			.bodyValue(request)
+			.retrieve()
+			.toEntity(BulkWinnerResponse.class))
+			.block(requestTimeout));
+		BulkWinnerResponse response = entity != null ? entity.getBody() : null;
+		if (response == null || response.failedAuctionIds() == null) {
+			return List.of();
+		}
+		return response.failedAuctionIds();
+	}
+
+	private List<AuctionEndMessage> loadMessages(List<String> auctionIds) {
+		if (messageLoader != null) {
+			return messageLoader.load(auctionIds);
+		}
+		List<AuctionEndMessage> messages = new ArrayList<>(auctionIds.size());
+		for (String auctionId : auctionIds) {
+			messages.add(new AuctionEndMessage(auctionId.chars().allMatch(Character::isDigit) ? Long.valueOf(auctionId)
+				: null, null, null, null));
+		}
+		return messages;
+	}
+
+	// 시도마다 회로 차단기 확인 + 측정, 재시도 소진 시 마지막 오류를 그대로 전달
+	private <T> Mono<ResponseEntity<T>> call(String type, String baseUrl, Supplier<Mono<ResponseEntity<T>>> request) {
+		CircuitBreaker circuitBreaker = nodes.circuitBreaker(baseUrl);
+		return Mono.defer(() -> attempt(type, circuitBreaker, request))
+			.retryWhen(Retry.backoff(maxAttempts - 1, minBackoff)
+				.maxBackoff(maxBackoff)
+				.jitter(0.5)
+				.filter(WinnerNotificationClient::isRetryable)
+				.doBeforeRetry(signal -> retries.increment())
+				.onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+	}
+
+	private <T> Mono<ResponseEntity<T>> attempt(String type, CircuitBreaker circuitBreaker,
+		Supplier<Mono<ResponseEntity<T>>> request) {
+		if (!circuitBreaker.tryAcquire()) {
+			record(type, "CIRCUIT_OPEN", 0L);
+			return Mono.error(new IllegalStateException("소켓 서버 회로 차단기 OPEN => 요청 보내지 않음"));
+		}
+
+		long start = System.nanoTime();
+		return request.get()
+			.doOnSuccess(entity -> {
+				circuitBreaker.onSuccess();
+				record(type, entity != null ? String.valueOf(entity.getStatusCode().value()) : "EMPTY",
+					System.nanoTime() - start);
+			})
+			.doOnError(error -> {
+				if (isRetryable(error)) {
+					circuitBreaker.onFailure();
+				} else {
+					circuitBreaker.onSuccess(); // 4xx => 서버는 정상 응답
+				}
+				record(type, status(error), System.nanoTime() - start);
+			})
+			.doOnCancel(circuitBreaker::onFailure); // requestTimeout 초과로 취소 => 응답 없음과 같음
+	}
+
+	private void record(String type, String status, long elapsedNanos) {
+		Timer.builder("notify.winner.http")
+			.tag("type", type)
+			.tag("status", status)
+			.publishPercentileHistogram()
+			.register(meterRegistry)
+			.record(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	// 5xx / 연결 오류 (연결 실패, 응답 타임아웃, 연결 끊김) => 재시도 + 회로 차단기 실패로 기록
+	static boolean isRetryable(Throwable error) {
+		if (error instanceof WebClientResponseException responseException) {
+			return responseException.getStatusCode().is5xxServerError();
+		}
+		return error instanceof WebClientRequestException;
+	}
+
+	private static String status(Throwable error) {
+		if (error instanceof WebClientResponseException responseException) {
+			return String.valueOf(responseException.getStatusCode().value());
+		}
+		return error instanceof WebClientRequestException ? "IO_ERROR" : "ERROR";
+	}
+
+	public record BulkWinnerRequest(List<String> auctionIds, List<AuctionEndMessage> messages) {
+	}
+
+	public record BulkWinnerResponse(List<String> failedAuctionIds) {
+	}
+}
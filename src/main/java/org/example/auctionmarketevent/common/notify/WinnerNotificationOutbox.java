@@ -0,0 +1,341 @@
+package org.example.auctionmarketevent.common.notify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class WinnerNotificationOutbox {
+	// 낙찰 알림 재시도 outbox (Redis Stream)
+	// => 알림이 최종 실패하면 (재시도 소진 / 회로 차단기 OPEN / 작업 등록 실패) 스트림에 추가 => 로그만 남기고 유실되지 않음
+	// => 소비자 그룹으로 읽어서 묶음 요청 (notifyWinners) => 성공한 항목은 XACK + XDEL
+	//    묶음 엔드포인트는 app.notify.batch.enabled 로 켠 경우에만 사용 => 꺼져 있으면 ID 마다 단건 요청 (notifyWinner)
+	//    실패한 항목은 attempt + 1 로 다시 추가 (maxAttempts 초과 시 dead 스트림으로 이동), 실패가 이어지면 다음 묶음까지 대기를 두 배씩
+	// => 인스턴스가 처리 도중 죽으면 항목이 pending 으로 남음 => claimIdle 이상 지난 pending 항목은 다른 인스턴스가 가져감 (XPENDING + XCLAIM)
+	//    XPENDING 은 ID 순서로 페이지를 넘기며 훑고 다음 확인 때 이어서 시작 (XAUTOCLAIM 커서와 같은 방식)
+	//    => 앞쪽에 살아 있는 소비자의 pending 항목이 batchSize 개 이상 있어도 그 뒤의 오래된 항목을 가져감
+	// => 재시도는 전용 스레드에서 처리하므로 만료 이벤트 처리 경로는 스트림에 추가만 함
+
+	static final String FIELD_AUCTION_ID = "auctionId";
+	static final String FIELD_ATTEMPT = "attempt";
+	static final String FIELD_ERROR = "error";
+	private static final int MAX_PENDING_PAGES = 10; // 한 번 확인에서 훑는 XPENDING 최대 페이지 수
+
+	private final StringRedisTemplate redisTemplate;
+	private final WinnerNotificationClient notificationClient;
+	private final boolean enabled;
+	private final boolean bulkEnabled; // 묶음 엔드포인트 사용 여부 (소켓 서버가 지원할 때만)
+	private final String streamKey; // outbox 스트림
+	private final String deadStreamKey; // 재시도 소진 항목 스트림 (수동 확인용)
+	private final String group; // 소비자 그룹
+	private final String consumer = UUID.randomUUID().toString(); // 인스턴스마다 다른 소비자 이름
+	private final int batchSize; // 한 번에 읽을 / 보낼 최대 개수
+	private final int maxAttempts; // outbox 재시도 최대 횟수
+	private final Duration pollInterval; // 읽을 항목이 없을 때 대기
+	private final Duration minBackoff; // 묶음 실패 후 첫 대기 (이후 두 배씩)
+	private final Duration maxBackoff; // 묶음 실패 후 최대 대기
+	private final Duration claimIdle; // 이 시간 이상 확인되지 않은 pending 항목은 다른 소비자가 가져감
+
+	private final AtomicLong depth = new AtomicLong(); // 스트림 길이 (대기 + 처리 중)
+	private final AtomicLong oldestAgeMillis = new AtomicLong(); // 가장 오래된 항목이 추가된 뒤 지난 시간
+	private final Counter appended;
+	private final Counter delivered;
+	private final Counter dead;
+
+	private volatile boolean groupReady; // 소비자 그룹 생성 확인 여부
+	private RecordId pendingCursor; // 다음 XPENDING 시작 ID (null => 처음부터, replay 스레드에서만 변경)
+	private ScheduledExecutorService worker;
+	private Duration backoff = Duration.ZERO; // 현재 묶음 실패 대기 (worker 스레드에서만 사용)
+
+	// 생성자
+	@Autowired
+	public WinnerNotificationOutbox(StringRedisTemplate redisTemplate,
+		WinnerNotificationClient notificationClient,
+		MeterRegistry meterRegistry,
+		@Value("${app.notify.outbox.enabled:true}") boolean enabled,
+		@Value("${app.notify.batch.enabled:false}") boolean bulkEnabled,
+		@Value("${app.notify.outbox.stream-key:auction-end:outbox}") String streamKey,
+		@Value("${app.notify.outbox.dead-stream-key:auction-end:outbox:dead}") String deadStreamKey,
+		@Value("${app.notify.outbox.group:winner-notification}") String group,
+		@Value("${app.notify.outbox.batch-size:100}") int batchSize,
+		@Value("${app.notify.outbox.max-attempts:20}") int maxAttempts,
+		@Value("${app.notify.outbox.poll-interval:PT1S}") Duration pollInterval,
+		@Value("${app.notify.outbox.min-backoff:PT1S}") Duration minBackoff,
+		@Value("${app.notify.outbox.max-backoff:PT1M}") Duration maxBackoff,
+		@Value("${app.notify.outbox.claim-idle:PT1M}") Duration claimIdle) {
+		this.redisTemplate = redisTemplate;
+		this.notificationClient = notificationClient;
+		this.enabled = enabled;
+		this.bulkEnabled = bulkEnabled;
+		this.streamKey = streamKey;
+		this.deadStreamKey = deadStreamKey;
+		this.group = group;
+		this.batchSize = Math.max(1, batchSize);
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.pollInterval = pollInterval;
+		this.minBackoff = minBackoff;
+		this.maxBackoff = maxBackoff;
+		this.claimIdle = claimIdle;
+		Gauge.builder("notify.outbox.depth", depth, AtomicLong::get).register(meterRegistry);
+		Gauge.builder("notify.outbox.oldest.age", oldestAgeMillis, AtomicLong::get)
+			.baseUnit("milliseconds")
+			.register(meterRegistry);
+		this.appended = Counter.builder("notify.outbox.appended").register(meterRegistry);
+		this.delivered = Counter.builder("notify.outbox.delivered").register(meterRegistry);
+		this.dead = Counter.builder("notify.outbox.dead").register(meterRegistry);
+	}
+
+	// 공용 @Scheduled 스레드는 하루 한 번 Job 이 점유하므로 전용 스레드 사용
+	@PostConstruct
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "winner-outbox");
+			thread.setDaemon(true);
+			return thread;
+		});
+		worker.schedule(this::tick, 0, TimeUnit.MILLISECONDS);
+		log.info("낙찰 알림 outbox 시작: 스트림 = {}, 그룹 = {}, 묶음 = {}", streamKey, group, batchSize);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (worker != null) {
+			worker.shutdownNow();
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	// 실패한 알림을 outbox 에 추가 => 추가했으면 true (비활성화 / Redis 오류 시 false => 호출한 쪽에서 실패 처리)
+	public boolean append(String auctionId, Throwable error) {
+		if (!enabled) {
+			return false;
+		}
+		try {
+			add(streamKey, auctionId, 1, error != null ? String.valueOf(error.getMessage()) : "");
+			appended.increment();
+			return true;
+		} catch (RuntimeException e) {
+			log.error("outbox 추가 실패, 낙찰 알림 유실: auctionId = {}, error = {}", auctionId, e.getMessage());
+			return false;
+		}
+	}
+
+	// 한 번 처리: 오래된 pending 항목 가져오기 + 새 항목 읽기 => 묶음 요청 => 처리한 항목 수 반환
+	public int replayOnce() {
+		ensureGroup();
+		List<MapRecord<String, Object, Object>> records = new ArrayList<>(claimStale());
+		if (records.size() < batchSize) {
+			List<MapRecord<String, Object, Object>> fresh = streamOps().read(
+				Consumer.from(group, consumer),
+				StreamReadOptions.empty().count(batchSize - records.size()),
+				StreamOffset.create(streamKey, ReadOffset.lastConsumed()));
+			if (fresh != null) {
+				records.addAll(fresh);
+			}
+		}
+		if (!records.isEmpty()) {
+			process(records);
+		}
+		refreshMetrics();
+		return records.size();
+	}
+
+	private void process(List<MapRecord<String, Object, Object>> records) {
+		List<String> auctionIds = new ArrayList<>(records.size());
+		for (MapRecord<String, Object, Object> record : records) {
+			Object auctionId = record.getValue().get(FIELD_AUCTION_ID);
+			if (auctionId != null) {
+				auctionIds.add(String.valueOf(auctionId));
+			}
+		}
+
+		Set<String> failed = new HashSet<>();
+		String error = "";
+		if (bulkEnabled && !auctionIds.isEmpty()) {
+			try {
+				failed.addAll(notificationClient.notifyWinners(auctionIds));
+			} catch (RuntimeException e) {
+				failed.addAll(auctionIds);
+				error = String.valueOf(e.getMessage());
+			}
+		} else if (!bulkEnabled) {
+			for (String auctionId : new LinkedHashSet<>(auctionIds)) {
+				try {
+					notificationClient.notifyWinner(auctionId);
+				} catch (RuntimeException e) {
+					failed.add(auctionId);
+					error = String.valueOf(e.getMessage());
+				}
+			}
+		}
+
+		for (MapRecord<String, Object, Object> record : records) {
+			Object value = record.getValue().get(FIELD_AUCTION_ID);
+			String auctionId = value != null ? String.valueOf(value) : null;
+			if (auctionId == null) {
+				log.warn("auctionId 없는 outbox 항목 삭제: id = {}", record.getId()); // pending 중 삭제된 항목
+			} else if (!failed.contains(auctionId)) {
+				delivered.increment();
+			} else {
+				int attempt = Integer.parseInt(String.valueOf(record.getValue().getOrDefault(FIELD_ATTEMPT, "1")));
+				if (attempt >= maxAttempts) {
+					add(deadStreamKey, auctionId, attempt, error);
+					dead.increment();
+					log.error("outbox 재시도 소진, dead 스트림으로 이동: auctionId = {}, 시도 = {}", auctionId, attempt);
+				} else {
+					add(streamKey, auctionId, attempt + 1, error);
+				}
+			}
+			// 결과를 기록한 뒤에 확인 => 그 사이에 죽으면 pending 으로 남아서 다시 처리 (최소 한 번 전달)
+			streamOps().acknowledge(streamKey, group, record.getId());
+			streamOps().delete(streamKey, record.getId());
+		}
+
+		if (failed.isEmpty()) {
+			backoff = Duration.ZERO;
+		} else {
+			backoff = backoff.isZero() ? minBackoff : backoff.multipliedBy(2);
+			if (backoff.compareTo(maxBackoff) > 0) {
+				backoff = maxBackoff;
+			}
+			log.warn("outbox 재시도 실패: 실패 = {}/{}, 다음 묶음까지 대기 = {}", failed.size(), records.size(), backoff);
+		}
+	}
+
+	// claimIdle 이상 확인되지 않은 다른 소비자 (죽은 인스턴스) 의 pending 항목 가져오기
+	// => pendingCursor 부터 batchSize 개씩 최대 MAX_PENDING_PAGES 페이지, 끝까지 훑으면 처음부터 다시
+	private List<MapRecord<String, Object, Object>> claimStale() {
+		List<RecordId> staleIds = new ArrayList<>();
+		for (int page = 0; page < MAX_PENDING_PAGES && staleIds.size() < batchSize; page++) {
+			Range<String> range = pendingCursor == null ? Range.unbounded()
+				: Range.rightUnbounded(Range.Bound.inclusive(pendingCursor.getValue()));
+			PendingMessages pending = streamOps().pending(streamKey, group, range, batchSize);
+			if (pending == null || pending.isEmpty()) {
+				pendingCursor = null;
+				break;
+			}
+			for (PendingMessage message : pending) {
+				RecordId id = message.getId();
+				pendingCursor = RecordId.of(id.getTimestamp(), id.getSequence() + 1); // 다음 페이지는 이 항목 다음부터
+				if (message.getElapsedTimeSinceLastDelivery().compareTo(claimIdle) >= 0) {
+					staleIds.add(id);
+					if (staleIds.size() >= batchSize) {
+						break;
+					}
+				}
+			}
+			if (pending.size() < batchSize) {
+				pendingCursor = null; // 마지막 페이지 => 다음 확인은 처음부터
+				break;
+			}
+		}
+		if (staleIds.isEmpty()) {
+			return List.of();
+		}
+		List<MapRecord<String, Object, Object>> claimed = streamOps().claim(streamKey, group, consumer, claimIdle,
+			staleIds.toArray(RecordId[]::new));
+		if (claimed != null && !claimed.isEmpty()) {
+			log.info("오래된 outbox 항목 가져옴: {} 개", claimed.size());
+		}
+		return claimed != null ? claimed : List.of();
+	}
+
+	private void add(String key, String auctionId, int attempt, String error) {
+		streamOps().add(key, Map.of(FIELD_AUCTION_ID, auctionId, FIELD_ATTEMPT, String.valueOf(attempt),
+			FIELD_ERROR, error));
+	}
+
+	// 소비자 그룹 생성 (스트림이 없으면 함께 생성, 이미 있으면 무시)
+	private void ensureGroup() {
+		if (groupReady) {
+			return;
+		}
+		try {
+			redisTemplate.execute((RedisCallback<String>)connection -> createGroup(connection));
+		} catch (RedisSystemException e) {
+			if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP")) {
+				throw e;
+			}
+		}
+		groupReady = true;
+	}
+
+	private String createGroup(RedisConnection connection) {
+		return connection.streamCommands().xGroupCreate(streamKey.getBytes(StandardCharsets.UTF_8), group,
+			ReadOffset.from("0"), true);
+	}
+
+	private void refreshMetrics() {
+		Long length = streamOps().size(streamKey);
+		depth.set(length != null ? length : 0);
+		List<MapRecord<String, Object, Object>> oldest = streamOps().range(streamKey, Range.unbounded(),
+			Limit.limit().count(1));
+		oldestAgeMillis.set(oldest == null || oldest.isEmpty() ? 0
+			: Math.max(0, System.currentTimeMillis() - oldest.get(0).getId().getTimestamp()));
+	}
+
+	private StreamOperations<String, Object, Object> streamOps() {
+		return redisTemplate.opsForStream();
+	}
+
+	// 묶음이 꽉 찼으면 바로 다음 묶음, 실패가 이어지면 backoff 대기, 읽을 항목이 없으면 pollInterval 대기
+	private void tick() {
+		long delay = pollInterval.toMillis();
+		try {
+			int processed = replayOnce();
+			if (!backoff.isZero()) {
+				delay = backoff.toMillis();
+			} else if (processed >= batchSize) {
+				delay = 0;
+			}
+		} catch (RuntimeException e) {
+			log.error("outbox 처리 오류 발생: error = {}", e.getMessage());
+		}
+		if (!worker.isShutdown()) {
+			worker.schedule(this::tick, delay, TimeUnit.MILLISECONDS);
+		}
+	}
+}
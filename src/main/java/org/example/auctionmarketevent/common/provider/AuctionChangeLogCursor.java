@@ -0,0 +1,75 @@
+package org.example.auctionmarketevent.common.provider;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class AuctionChangeLogCursor {
+	// changelog Reader (app.batch.reader.mode=changelog) 의 진행 위치 = 마지막으로 적재된 auction_change_log.id
+	// => batch_job_metadata 의 타임스탬프 워터마크와 같이 BigQuery 적재 성공 후에만 올림 (IncrementalTimestampStepListener)
+	// => 처음 사용할 때는 타임스탬프 워터마크 이전에 기록된 변경까지 처리된 것으로 보고 시작
+
+	private final JdbcTemplate jdbcTemplate;
+	private final String jobName;
+	private final boolean enabled;
+
+	// 생성자
+	@Autowired
+	public AuctionChangeLogCursor(JdbcTemplate jdbcTemplate,
+		@Value("${app.batch.job-name}") String jobName,
+		@Value("${app.batch.reader.mode:paging}") String readerMode) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.jobName = jobName;
+		this.enabled = "changelog".equals(readerMode);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@PostConstruct
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS batch_change_log_cursor ("
+			+ "job_name VARCHAR(100) PRIMARY KEY, "
+			+ "last_change_id BIGINT NOT NULL)");
+	}
+
+	// 현재 위치 조회 (없으면 워터마크 기준으로 시작 위치를 정해서 저장)
+	public long read(Timestamp watermark) {
+		List<Long> cursor = jdbcTemplate.queryForList(
+			"SELECT last_change_id FROM batch_change_log_cursor WHERE job_name = ?", Long.class, jobName);
+		if (!cursor.isEmpty()) {
+			return cursor.get(0);
+		}
+
+		Long start = jdbcTemplate.queryForObject(
+			"SELECT COALESCE(MAX(id), 0) FROM auction_change_log WHERE changed_at <= ?", Long.class, watermark);
+		long startId = start != null ? start : 0L;
+		jdbcTemplate.update("INSERT INTO batch_change_log_cursor (job_name, last_change_id) VALUES (?, ?)",
+			jobName, startId);
+		log.info("변경 로그 위치 생성: 작업 = {}, 워터마크 = {}, 시작 위치 = {}", jobName, watermark, startId);
+		return startId;
+	}
+
+	// 적재 성공 후 위치 반영 (뒤로 가지 않음)
+	public void commit(long lastChangeId) {
+		int updatedRows = jdbcTemplate.update(
+			"UPDATE batch_change_log_cursor SET last_change_id = ? WHERE job_name = ? AND last_change_id < ?",
+			lastChangeId, jobName, lastChangeId);
+		if (updatedRows > 0) {
+			log.info("변경 로그 위치 업데이트: 작업 = {}, 위치 = {}", jobName, lastChangeId);
+		}
+	}
+}
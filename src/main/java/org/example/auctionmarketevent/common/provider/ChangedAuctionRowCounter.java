@@ -0,0 +1,85 @@
+package org.example.auctionmarketevent.common.provider;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class ChangedAuctionRowCounter {
+	// 워터마크 이후 변경된 (경매, 상품) 행 수 조회
+	// => MySqlCustomPagingQueryProvider 와 같은 방식으로 변경 컬럼별 브랜치를 나눠서 각 컬럼 인덱스 범위 스캔으로 셈
+	// => 브랜치 간 중복 없음 (같은 값이면 auctions 브랜치가 담당)
+
+	private static final String FROM = "FROM auctions a JOIN product p ON a.product_id = p.id";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// 생성자
+	public ChangedAuctionRowCounter(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	// (watermark, upperBound] 구간에서 변경된 행 수 (upperBound / auction_id 구간은 null 이면 제한 없음)
+	// 조회 실패 시 -1
+	public long count(Timestamp watermark, Timestamp upperBound, Long minAuctionId, Long maxAuctionId) {
+		List<Object> args = new ArrayList<>();
+		String sql = "SELECT ("
+			+ branch("a.modified_at", "a.modified_at >= p.modified_at", watermark, upperBound, minAuctionId, maxAuctionId, args)
+			+ ") + ("
+			+ branch("p.modified_at", "p.modified_at > a.modified_at", watermark, upperBound, minAuctionId, maxAuctionId, args)
+			+ ")";
+
+		try {
+			Long count = jdbcTemplate.queryForObject(sql, Long.class, args.toArray());
+			return count != null ? count : 0L;
+		} catch (Exception e) {
+			log.warn("변경 행 수 조회 실패: 워터마크 = {}", watermark, e);
+			return -1L;
+		}
+	}
+
+	// 워터마크 이후 가장 이른 변경 시각 (변경 컬럼별 인덱스의 첫 값 중 최소), 변경이 없으면 null
+	// 조회 실패 시 워터마크 그대로 반환 (건너뛰지 않음)
+	public Timestamp earliestChange(Timestamp watermark) {
+		try {
+			Timestamp earliest = null;
+			for (String changeColumn : List.of("a.modified_at", "p.modified_at")) {
+				Timestamp first = jdbcTemplate.queryForObject(
+					"SELECT MIN(" + changeColumn + ") " + FROM + " WHERE " + changeColumn + " > ?",
+					Timestamp.class, watermark);
+				if (first != null && (earliest == null || first.before(earliest))) {
+					earliest = first;
+				}
+			}
+			return earliest;
+		} catch (Exception e) {
+			log.warn("첫 변경 시각 조회 실패: 워터마크 = {}", watermark, e);
+			return watermark;
+		}
+	}
+
+	private String branch(String changeColumn, String ownership, Timestamp watermark, Timestamp upperBound,
+		Long minAuctionId, Long maxAuctionId, List<Object> args) {
+		StringBuilder sql = new StringBuilder("SELECT COUNT(*) ").append(FROM)
+			.append(" WHERE ").append(changeColumn).append(" > ?");
+		args.add(watermark);
+
+		if (upperBound != null) {
+			sql.append(" AND ").append(changeColumn).append(" <= ?");
+			args.add(upperBound);
+		}
+		sql.append(" AND ").append(ownership);
+		if (minAuctionId != null && maxAuctionId != null) {
+			sql.append(" AND a.id BETWEEN ? AND ?");
+			args.add(minAuctionId);
+			args.add(maxAuctionId);
+		}
+		return sql.toString();
+	}
+}
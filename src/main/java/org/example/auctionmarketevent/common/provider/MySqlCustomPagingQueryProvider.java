@@ -1,6 +1,8 @@
 package org.example.auctionmarketevent.common.provider;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.sql.DataSource;
@@ -9,33 +11,78 @@ import org.springframework.batch.item.database.Order;
 import org.springframework.batch.item.database.PagingQueryProvider;
 import org.springframework.batch.item.database.support.AbstractSqlPagingQueryProvider;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 public class MySqlCustomPagingQueryProvider extends AbstractSqlPagingQueryProvider implements PagingQueryProvider {
+	// GREATEST(a.modified_at, p.modified_at) 로 필터/정렬하면 인덱스를 못 타서 페이지마다 전체 변경분을 다시 만들고 filesort 함
+	// => 변경 컬럼마다 하나의 브랜치(UNION ALL)로 나누고, 각 브랜치는 해당 컬럼 인덱스 범위 스캔 + keyset 조건 + LIMIT 으로 조회
+	// => 브랜치 i 는 "변경 컬럼 i 가 가장 큰 행" 만 담당하므로 브랜치 안에서 last_modified == 변경 컬럼 i (인덱스 순서 그대로 정렬)
+	// 필요 인덱스: auctions(modified_at), product(modified_at)
+
+	public static final String LAST_MODIFIED_KEY = "last_modified"; // GREATEST(변경 컬럼들) 결과 컬럼 별칭
+	public static final String AUCTION_ID_KEY = "auction_id";
 
 	private final String baseSelectClause;
 	private final String fromClause;
-	private final String originalWhereClause;
-
-	public MySqlCustomPagingQueryProvider(String baseSelectClause, String fromClause, String originalWhereClause) {
+	private final List<String> changeColumns; // 변경 시각 컬럼들 (예: a.modified_at, p.modified_at)
+	private final String watermarkParameter; // 마지막 처리 시각 파라미터 이름 (예: lastProcessedTimestamp)
+	private final String extraWhereClause; // 모든 브랜치에 공통으로 붙는 추가 조건 (없으면 null)
+	private final Map<String, String> sortKeyColumns = new LinkedHashMap<>(); // 정렬 키 별칭 => 브랜치 안에서 사용할 실제 컬럼
+	private String upperBoundParameter; // 구간 상한 파라미터 이름 (예: sliceEnd), null 이면 상한 없음
+
+	public MySqlCustomPagingQueryProvider(String baseSelectClause, String fromClause, List<String> changeColumns,
+		String idColumn, String watermarkParameter, String extraWhereClause) {
 		Assert.hasText(baseSelectClause, "baseSelectClause 필수");
 		Assert.hasText(fromClause, "fromClause 필수");
-		Assert.hasText(originalWhereClause, "originalWhereClause 필수");
+		Assert.notEmpty(changeColumns, "changeColumns 필수");
+		Assert.hasText(idColumn, "idColumn 필수");
+		Assert.hasText(watermarkParameter, "watermarkParameter 필수");
 
 		this.baseSelectClause = baseSelectClause;
 		this.fromClause = fromClause;
-		this.originalWhereClause = originalWhereClause;
+		this.changeColumns = List.copyOf(changeColumns);
+		this.watermarkParameter = watermarkParameter;
+		this.extraWhereClause = StringUtils.hasText(extraWhereClause) ? extraWhereClause : null;
+		this.sortKeyColumns.put(AUCTION_ID_KEY, idColumn);
 
 		super.setSelectClause(baseSelectClause);
 		super.setFromClause(fromClause);
-		super.setWhereClause(originalWhereClause);
+		// 부모 클래스는 WHERE 절의 named parameter 로 usingNamedParameters 여부를 판단하므로 첫 번째 브랜치 조건을 넘김
+		super.setWhereClause(buildBranchWhereClause(0));
 
 		// Sort Keys 설정
 		Map<String, Order> sortKeys = new LinkedHashMap<>();
-		sortKeys.put("last_modified", Order.ASCENDING);
-		sortKeys.put("auction_id", Order.ASCENDING);
+		sortKeys.put(LAST_MODIFIED_KEY, Order.ASCENDING);
+		sortKeys.put(AUCTION_ID_KEY, Order.ASCENDING);
 		super.setSortKeys(sortKeys);
 	}
 
+	// 결과 컬럼 별칭(정렬 키)을 브랜치 안에서 사용할 실제 컬럼으로 매핑 (예: product_id => p.id)
+	// => 별칭은 브랜치 WHERE / ORDER BY 에서 사용할 수 없으므로 auction_id, last_modified 외의 정렬 키는 먼저 매핑해야 함
+	public void addSortKeyColumn(String sortKey, String column) {
+		Assert.hasText(sortKey, "sortKey 필수");
+		Assert.hasText(column, "column 필수");
+		sortKeyColumns.put(sortKey, column);
+	}
+
+	// 매핑이 없는 정렬 키는 바로 실패 => 실행 중 SQL 오류 대신 설정 시점에 발견
+	@Override
+	public void setSortKeys(Map<String, Order> sortKeys) {
+		for (String sortKey : sortKeys.keySet()) {
+			if (!LAST_MODIFIED_KEY.equals(sortKey) && !sortKeyColumns.containsKey(sortKey)) {
+				throw new IllegalArgumentException("브랜치 컬럼 매핑이 없는 정렬 키: " + sortKey
+					+ " (addSortKeyColumn 으로 먼저 매핑 필요)");
+			}
+		}
+		super.setSortKeys(sortKeys);
+	}
+
+	// 시간 구간(slice) 단위로 읽을 때 상한 설정 => 브랜치마다 "변경 컬럼 <= :상한" 조건 추가 (인덱스 range 의 끝점)
+	public void setUpperBoundParameter(String upperBoundParameter) {
+		this.upperBoundParameter = StringUtils.hasText(upperBoundParameter) ? upperBoundParameter : null;
+		super.setWhereClause(buildBranchWhereClause(0));
+	}
+
 	@Override
 	public void init(DataSource dataSource) throws Exception {
 		super.init(dataSource);
@@ -43,73 +90,146 @@ public class MySqlCustomPagingQueryProvider extends AbstractSqlPagingQueryProvid
 
 	@Override
 	public String generateFirstPageQuery(int pageSize) {
-		String subQuery = String.format("SELECT %s FROM %s WHERE %s",
-			this.baseSelectClause, this.fromClause, this.originalWhereClause);
-
-		// 외부 쿼리 수정: "ORDER BY " 제거
-		return String.format("SELECT * FROM (%s) AS derived_table %s LIMIT %d",
-			subQuery, SqlPagingQueryUtils.buildOrderByClause(this), pageSize);
+		return buildQuery(pageSize, false);
 	}
 
 	@Override
 	public String generateRemainingPagesQuery(int pageSize) {
-		String subQuery = String.format("SELECT %s FROM %s WHERE %s",
-			this.baseSelectClause, this.fromClause, this.originalWhereClause);
+		return buildQuery(pageSize, true);
+	}
+
+	// 커서(스트리밍) 모드용 쿼리: LIMIT 없이 한 번의 정렬된 스캔으로 전체 변경분을 읽음
+	// afterStart: 재시작 시 마지막으로 커밋된 (last_modified, auction_id) 이후부터 읽기 위한 keyset 조건 포함 여부
+	public String generateCursorQuery(boolean afterStart) {
+		List<String> branches = new ArrayList<>();
+		for (int i = 0; i < changeColumns.size(); i++) {
+			branches.add("(" + buildBranchQuery(i, 0, afterStart) + ")");
+		}
 
-		// 외부 쿼리 수정: "ORDER BY " 제거
-		return String.format("SELECT * FROM (%s) AS derived_table WHERE %s %s LIMIT %d",
-			subQuery, getOverClause(), SqlPagingQueryUtils.buildOrderByClause(this), pageSize);
+		return String.format("SELECT * FROM (%s) AS derived_table %s",
+			String.join(" UNION ALL ", branches), SqlPagingQueryUtils.buildOrderByClause(this));
 	}
 
+	// 전체 쿼리: 브랜치들을 UNION ALL 로 합친 뒤 결과 컬럼 기준으로 정렬 + LIMIT
+	// => 브랜치마다 최대 pageSize 행만 가져오므로 바깥 정렬은 (브랜치 수 * pageSize) 행만 대상으로 함
+	private String buildQuery(int pageSize, boolean afterStart) {
+		List<String> branches = new ArrayList<>();
+		for (int i = 0; i < changeColumns.size(); i++) {
+			branches.add("(" + buildBranchQuery(i, pageSize, afterStart) + ")");
+		}
 
-	private String getOverClause() {
-		StringBuilder overClause = new StringBuilder();
-		String HsqlOverClause = "(";
-		String and = "";
+		return String.format("SELECT * FROM (%s) AS derived_table %s LIMIT %d",
+			String.join(" UNION ALL ", branches), SqlPagingQueryUtils.buildOrderByClause(this), pageSize);
+	}
 
-		Map<String, Order> sortKeys = getSortKeys();
-		Map<String, Boolean> isDate = new LinkedHashMap<>();
+	// 브랜치 i: 변경 컬럼 i 의 인덱스 범위 스캔
+	// pageSize 가 0 이하이면 브랜치 정렬/LIMIT 없이 생성 (커서 모드 => 바깥 쿼리에서 한 번만 정렬)
+	private String buildBranchQuery(int index, int pageSize, boolean afterStart) {
+		String changeColumn = changeColumns.get(index);
+		StringBuilder where = new StringBuilder(buildBranchWhereClause(index));
+
+		if (afterStart) {
+			Map<String, Order> sortKeys = getSortKeys();
+			Map.Entry<String, Order> firstKey = sortKeys.entrySet().iterator().next();
+
+			// 선두 정렬 키의 범위 조건 => 인덱스 range 의 시작점이 페이지마다 앞으로 이동
+			where.append(" AND ")
+				.append(branchColumn(firstKey.getKey(), changeColumn))
+				.append(firstKey.getValue() == Order.ASCENDING ? " >= " : " <= ")
+				.append(":_")
+				.append(firstKey.getKey());
+
+			// 정확한 keyset 조건 (마지막으로 읽은 행 이후)
+			where.append(" AND ").append(buildSeekClause(sortKeys, changeColumn));
+		}
 
-		int i = 0;
-		for (Map.Entry<String, Order> sortKey : sortKeys.entrySet()) {
-			String keyName = sortKey.getKey();
-			if (i == 0) {
-				HsqlOverClause += keyName + (sortKey.getValue() == Order.ASCENDING ? " > " : " < ") + ":_" + keyName;
-			} else {
-				StringBuilder equiClause = new StringBuilder();
-				String and2 = "";
-				int j = 0;
-				for (Map.Entry<String, Order> prevSortKey : sortKeys.entrySet()) {
-					if (j < i) {
-						String prevKeyName = prevSortKey.getKey();
-						equiClause.append(and2)
-							.append(prevKeyName)
-							.append(" = ")
-							.append(":_")
-							.append(prevKeyName);
-						and2 = " AND ";
-					} else {
-						break;
-					}
-					j++;
-				}
-				overClause.append(" OR (")
-					.append(equiClause)
-					.append(" AND ")
-					.append(keyName)
-					.append(sortKey.getValue() == Order.ASCENDING ? " > " : " < ")
-					.append(":_")
-					.append(keyName)
-					.append(")");
-			}
-			i++;
+		if (pageSize <= 0) {
+			return String.format("SELECT %s FROM %s WHERE %s", this.baseSelectClause, this.fromClause, where);
 		}
+		return String.format("SELECT %s FROM %s WHERE %s %s LIMIT %d",
+			this.baseSelectClause, this.fromClause, where,
+			SqlPagingQueryUtils.buildOrderByClause(getSortKeys(), key -> branchColumn(key, changeColumn)), pageSize);
+	}
+
+	// 브랜치 i 의 기본 조건
+	// => 변경 컬럼 i > 워터마크 (sargable)
+	// => 변경 컬럼 i 가 GREATEST 값인 행만 담당 (같은 값이면 앞쪽 브랜치가 담당 => 브랜치 간 중복 없음)
+	private String buildBranchWhereClause(int index) {
+		String changeColumn = changeColumns.get(index);
+		StringBuilder where = new StringBuilder()
+			.append(changeColumn).append(" > :").append(watermarkParameter);
 
-		overClause.insert(0, HsqlOverClause);
-		overClause.append(")");
+		if (upperBoundParameter != null) {
+			where.append(" AND ").append(changeColumn).append(" <= :").append(upperBoundParameter);
+		}
 
-		return overClause.toString();
+		for (int j = 0; j < changeColumns.size(); j++) {
+			if (j != index) {
+				where.append(" AND ")
+					.append(changeColumn)
+					.append(j < index ? " > " : " >= ")
+					.append(changeColumns.get(j));
+			}
+		}
+
+		if (extraWhereClause != null) {
+			where.append(" AND (").append(extraWhereClause).append(")");
+		}
+		return where.toString();
 	}
-}
 
+	// keyset 조건 생성
+	// => 모든 정렬 방향이 같으면 row constructor: (k1, k2) > (:_k1, :_k2)
+	// => 방향이 섞여 있으면 row constructor 를 쓸 수 없으므로 OR 로 풀어서 생성
+	private String buildSeekClause(Map<String, Order> sortKeys, String changeColumn) {
+		boolean sameDirection = sortKeys.values().stream().distinct().count() == 1;
+
+		if (sameDirection) {
+			List<String> columns = new ArrayList<>();
+			List<String> placeholders = new ArrayList<>();
+			for (String key : sortKeys.keySet()) {
+				columns.add(branchColumn(key, changeColumn));
+				placeholders.add(":_" + key);
+			}
+			String operator = sortKeys.values().iterator().next() == Order.ASCENDING ? " > " : " < ";
+			if (columns.size() == 1) {
+				return columns.get(0) + operator + placeholders.get(0);
+			}
+			return "(" + String.join(", ", columns) + ")" + operator + "(" + String.join(", ", placeholders) + ")";
+		}
+
+		StringBuilder overClause = new StringBuilder("(");
+		String or = "";
+		List<String> previousKeys = new ArrayList<>();
+		for (Map.Entry<String, Order> sortKey : sortKeys.entrySet()) {
+			overClause.append(or).append("(");
+			for (String previousKey : previousKeys) {
+				overClause.append(branchColumn(previousKey, changeColumn))
+					.append(" = :_")
+					.append(previousKey)
+					.append(" AND ");
+			}
+			overClause.append(branchColumn(sortKey.getKey(), changeColumn))
+				.append(sortKey.getValue() == Order.ASCENDING ? " > " : " < ")
+				.append(":_")
+				.append(sortKey.getKey())
+				.append(")");
+			previousKeys.add(sortKey.getKey());
+			or = " OR ";
+		}
+		return overClause.append(")").toString();
+	}
 
+	// 정렬 키 별칭을 브랜치 안에서 사용할 실제 컬럼으로 변환
+	// => last_modified 는 브랜치의 변경 컬럼, 나머지는 sortKeyColumns 매핑 (setSortKeys 에서 검증)
+	private String branchColumn(String sortKey, String changeColumn) {
+		if (LAST_MODIFIED_KEY.equals(sortKey)) {
+			return changeColumn;
+		}
+		String column = sortKeyColumns.get(sortKey);
+		if (column == null) {
+			throw new IllegalStateException("브랜치 컬럼 매핑이 없는 정렬 키: " + sortKey);
+		}
+		return column;
+	}
+}
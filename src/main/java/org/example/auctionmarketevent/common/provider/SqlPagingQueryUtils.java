@@ -1,6 +1,7 @@
 package org.example.auctionmarketevent.common.provider;
 
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 import org.springframework.batch.item.database.Order;
 import org.springframework.batch.item.database.PagingQueryProvider;
@@ -14,6 +15,11 @@ public final class SqlPagingQueryUtils {
 	}
 
 	public static String buildOrderByClause(Map<String, Order> sortKeys) {
+		return buildOrderByClause(sortKeys, UnaryOperator.identity());
+	}
+
+	// sortKeyColumn: 정렬 키 이름(결과 컬럼 별칭) => 실제 정렬에 사용할 컬럼/표현식
+	public static String buildOrderByClause(Map<String, Order> sortKeys, UnaryOperator<String> sortKeyColumn) {
 		if (sortKeys == null || sortKeys.isEmpty()) {
 			return "";
 		}
@@ -21,7 +27,7 @@ public final class SqlPagingQueryUtils {
 		String sep = "";
 		for (Map.Entry<String, Order> sortKey : sortKeys.entrySet()) {
 			orderBy.append(sep)
-				.append(sortKey.getKey())
+				.append(sortKeyColumn.apply(sortKey.getKey()))
 				.append(" ")
 				.append(sortKey.getValue() == Order.ASCENDING ? "ASC" : "DESC");
 			sep = ", ";
@@ -29,4 +35,3 @@ public final class SqlPagingQueryUtils {
 		return orderBy.toString();
 	}
 }
-
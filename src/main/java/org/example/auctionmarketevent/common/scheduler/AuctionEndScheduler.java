@@ -0,0 +1,284 @@
+package org.example.auctionmarketevent.common.scheduler;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.example.auctionmarketevent.common.notify.AuctionEndIdempotencyGuard;
+import org.example.auctionmarketevent.common.notify.AuctionEndNotifier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class AuctionEndScheduler {
+	// 경매 종료 스케줄러 (app.auction-end.mode=zset)
+	// => keyspace 만료 이벤트는 Redis 가 만료 키를 발견할 때 발행 (지연 수 초 이상 가능) + 구독 중이 아니면 유실 + 모든 인스턴스가 같은 이벤트를 받음
+	// => 종료 시각을 점수로 한 ZSET 에 경매를 넣어두고 (schedule), 각 인스턴스가 주기적으로 종료 시각이 된 경매를 Lua 스크립트로 가져감
+	// => 가져간 경매는 처리 중 ZSET 으로 옮기고 임대 만료 시각을 점수로 둠 => 알림 성공 시 삭제 (ack)
+	//    인스턴스가 처리 도중 죽거나 알림이 실패하면 임대가 끝난 뒤 다른 인스턴스가 다시 가져감 (최소 한 번 전달)
+	// => 스크립트 안에서 Redis TIME 을 기준으로 비교하므로 인스턴스 사이 시계 차이와 무관
+	// => 예약: syncInterval 마다 auctions.end_time 이 syncHorizon 안에 드는 경매를 ZSET 에 넣음 (ZADD => 이미 있으면 종료 시각만 갱신)
+	//    예약 구간도 Redis TIME 기준 => 가져갈 때와 같은 시계 (애플리케이션 시계가 어긋나도 종료 직전 경매를 빠뜨리지 않음)
+	//    외부에서 경매 생성 / 연장 시 schedule 을 바로 호출해도 됨
+	// => keyspace 만료 이벤트도 대비용으로 계속 구독 (예약 전에 끝난 경매 등) => 두 경로 모두 AuctionEndIdempotencyGuard 를 거쳐 한 번만 알림
+	// => keyspace 모드 (기본값) 에서는 이 스케줄러는 돌지 않고 RedisExpirationListener 가 처리
+
+	public static final String MODE_ZSET = "zset";
+
+	private static final String DUE_SOON_QUERY =
+		"SELECT id, end_time FROM auctions WHERE end_time > ? AND end_time <= ? ORDER BY end_time LIMIT ?";
+
+	// KEYS[1] = 예약 ZSET (점수 = 종료 시각), KEYS[2] = 처리 중 ZSET (점수 = 임대 만료 시각)
+	// ARGV[1] = 임대 시간 (밀리초), ARGV[2] = 한 번에 가져갈 최대 개수
+	// 반환: [auctionId, 지연 밀리초, ...] (임대가 만료되어 다시 가져간 경매는 지연 -1)
+	static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+		local time = redis.call('TIME')
+		local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+		local leaseUntil = now + tonumber(ARGV[1])
+		local limit = tonumber(ARGV[2])
+		local result = {}
+		local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now, 'WITHSCORES', 'LIMIT', 0, limit)
+		for i = 1, #due, 2 do
+			redis.call('ZREM', KEYS[1], due[i])
+			redis.call('ZADD', KEYS[2], leaseUntil, due[i])
+			table.insert(result, due[i])
+			table.insert(result, tostring(now - tonumber(due[i + 1])))
+		end
+		local remaining = limit - #due / 2
+		if remaining > 0 then
+			local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', now, 'LIMIT', 0, remaining)
+			for _, auctionId in ipairs(expired) do
+				redis.call('ZADD', KEYS[2], leaseUntil, auctionId)
+				table.insert(result, auctionId)
+				table.insert(result, '-1')
+			end
+		end
+		return result
+		""", List.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final JdbcTemplate jdbcTemplate;
+	private final AuctionEndNotifier auctionEndNotifier;
+	private final AuctionEndIdempotencyGuard idempotencyGuard; // keyspace 대비 경로와 중복 알림 방지
+	private final boolean enabled;
+	private final String scheduleKey; // 예약 ZSET
+	private final String processingKey; // 처리 중 ZSET
+	private final Duration pollInterval; // 가져갈 경매가 없을 때 다음 확인까지 대기
+	private final Duration lease; // 알림 완료까지 허용 시간 (지나면 다른 인스턴스가 다시 가져감)
+	private final int batchSize; // 한 번에 가져갈 최대 개수
+	private final Duration syncInterval; // DB 에서 종료 예정 경매를 예약하는 주기
+	private final Duration syncHorizon; // 몇 초 뒤에 끝나는 경매까지 미리 예약할지 (syncInterval 보다 길게)
+	private final int syncLimit; // 한 번에 예약할 최대 경매 수
+
+	private final Timer closeLatency; // 종료 시각 ~ 가져간 시각
+	private final Counter reclaimed; // 임대 만료로 다시 가져간 수
+	private final Counter acknowledged; // 알림 성공 후 삭제한 수
+	private final Counter scheduled; // DB 에서 읽어 예약한 수
+
+	private ScheduledExecutorService poller;
+
+	// 생성자
+	@Autowired
+	public AuctionEndScheduler(StringRedisTemplate redisTemplate,
+		JdbcTemplate jdbcTemplate,
+		AuctionEndNotifier auctionEndNotifier,
+		AuctionEndIdempotencyGuard idempotencyGuard,
+		MeterRegistry meterRegistry,
+		@Value("${app.auction-end.mode:keyspace}") String mode,
+		@Value("${app.auction-end.zset.schedule-key:auction-end:schedule}") String scheduleKey,
+		@Value("${app.auction-end.zset.processing-key:auction-end:processing}") String processingKey,
+		@Value("${app.auction-end.zset.poll-interval:PT0.05S}") Duration pollInterval,
+		@Value("${app.auction-end.zset.lease:PT30S}") Duration lease,
+		@Value("${app.auction-end.zset.batch-size:100}") int batchSize,
+		@Value("${app.auction-end.zset.sync-interval:PT10S}") Duration syncInterval,
+		@Value("${app.auction-end.zset.sync-horizon:PT1M}") Duration syncHorizon,
+		@Value("${app.auction-end.zset.sync-limit:10000}") int syncLimit) {
+		this.redisTemplate = redisTemplate;
+		this.jdbcTemplate = jdbcTemplate;
+		this.auctionEndNotifier = auctionEndNotifier;
+		this.idempotencyGuard = idempotencyGuard;
+		this.enabled = MODE_ZSET.equalsIgnoreCase(mode.trim());
+		this.scheduleKey = scheduleKey;
+		this.processingKey = processingKey;
+		this.pollInterval = pollInterval;
+		this.lease = lease;
+		this.batchSize = Math.max(1, batchSize);
+		this.syncInterval = syncInterval;
+		this.syncHorizon = syncHorizon;
+		this.syncLimit = syncLimit;
+		this.closeLatency = Timer.builder("auction.end.close.latency").register(meterRegistry);
+		this.reclaimed = Counter.builder("auction.end.reclaimed").register(meterRegistry);
+		this.acknowledged = Counter.builder("auction.end.acknowledged").register(meterRegistry);
+		this.scheduled = Counter.builder("auction.end.scheduled").register(meterRegistry);
+	}
+
+	// 공용 @Scheduled 스레드는 하루 한 번 Job 이 점유하므로 전용 스레드 사용
+	@PostConstruct
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "auction-end-scheduler");
+			thread.setDaemon(true);
+			return thread;
+		});
+		poller.schedule(this::tick, 0, TimeUnit.MILLISECONDS);
+		poller.scheduleWithFixedDelay(this::syncTick, 0, syncInterval.toMillis(), TimeUnit.MILLISECONDS);
+		log.info("경매 종료 스케줄러 시작: 예약 = {}, 처리 중 = {}, 확인 간격 = {}, 임대 = {}, 예약 주기 = {} (앞으로 {})",
+			scheduleKey, processingKey, pollInterval, lease, syncInterval, syncHorizon);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (poller != null) {
+			poller.shutdownNow();
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	// 경매 종료 예약 (같은 경매를 다시 예약하면 종료 시각만 바뀜)
+	public void schedule(String auctionId, Instant endTime) {
+		redisTemplate.opsForZSet().add(scheduleKey, auctionId, endTime.toEpochMilli());
+	}
+
+	// DB 에서 syncHorizon 안에 끝나는 경매를 읽어 예약 => 예약한 수 반환
+	public int syncOnce() {
+		Instant now = redisNow();
+		Set<TypedTuple<String>> due = new HashSet<>();
+		jdbcTemplate.query(DUE_SOON_QUERY, rs -> {
+			due.add(new DefaultTypedTuple<>(String.valueOf(rs.getLong("id")),
+				(double)rs.getTimestamp("end_time").getTime()));
+		}, Timestamp.from(now), Timestamp.from(now.plus(syncHorizon)), syncLimit);
+		if (due.isEmpty()) {
+			return 0;
+		}
+		redisTemplate.opsForZSet().add(scheduleKey, due);
+		scheduled.increment(due.size());
+		return due.size();
+	}
+
+	// Redis 서버 시각 (CLAIM_SCRIPT 의 TIME 과 같은 시계), 조회 실패 시 애플리케이션 시각
+	private Instant redisNow() {
+		try {
+			Long millis = redisTemplate.execute(
+				(RedisCallback<Long>)connection -> connection.serverCommands().time(TimeUnit.MILLISECONDS));
+			if (millis != null) {
+				return Instant.ofEpochMilli(millis);
+			}
+		} catch (RuntimeException e) {
+			log.warn("Redis 시각 조회 실패, 애플리케이션 시각 사용: error = {}", e.getMessage());
+		}
+		return Instant.now();
+	}
+
+	// 예약 취소 (처리 중인 경매도 다시 가져가지 않도록 삭제)
+	public void cancel(String auctionId) {
+		redisTemplate.opsForZSet().remove(scheduleKey, auctionId);
+		redisTemplate.opsForZSet().remove(processingKey, auctionId);
+	}
+
+	// 종료 시각이 된 경매를 가져가서 알림 요청 => 가져간 수 반환
+	public int pollOnce() {
+		List<String> claimed = claimDue();
+		for (String auctionId : claimed) {
+			// keyspace 대비 경로가 이미 알렸으면 알림 없이 정상 완료 => ack
+			idempotencyGuard.execute(auctionId, () -> auctionEndNotifier.notifyEnded(auctionId))
+				.whenComplete((ignored, error) -> {
+					if (error != null) {
+						// 처리 중 ZSET 에 그대로 둠 => 임대가 끝나면 다시 가져감
+						log.warn("경매 종료 알림 실패, 임대 만료 후 재시도: auctionId = {}, error = {}", auctionId,
+							error.getMessage());
+						return;
+					}
+					acknowledge(auctionId);
+				});
+		}
+		return claimed.size();
+	}
+
+	private List<String> claimDue() {
+		List<?> result = redisTemplate.execute(CLAIM_SCRIPT, List.of(scheduleKey, processingKey),
+			String.valueOf(lease.toMillis()), String.valueOf(batchSize));
+		if (result == null || result.isEmpty()) {
+			return List.of();
+		}
+
+		List<String> auctionIds = new ArrayList<>(result.size() / 2);
+		for (int i = 0; i + 1 < result.size(); i += 2) {
+			auctionIds.add(String.valueOf(result.get(i)));
+			long lateMillis = (long)Double.parseDouble(String.valueOf(result.get(i + 1)));
+			if (lateMillis < 0) {
+				reclaimed.increment();
+			} else {
+				closeLatency.record(lateMillis, TimeUnit.MILLISECONDS);
+			}
+		}
+		return auctionIds;
+	}
+
+	private void acknowledge(String auctionId) {
+		try {
+			redisTemplate.opsForZSet().remove(processingKey, auctionId);
+			acknowledged.increment();
+		} catch (RuntimeException e) {
+			// 삭제 실패 => 임대 만료 후 한 번 더 알림 (최소 한 번 전달)
+			log.warn("처리 중 ZSET 삭제 실패: auctionId = {}, error = {}", auctionId, e.getMessage());
+		}
+	}
+
+	// 한 번에 가져갈 수만큼 가져갔으면 (밀린 경매가 더 있을 수 있음) 바로 다음 확인, 아니면 pollInterval 대기
+	private void tick() {
+		long delay = pollInterval.toMillis();
+		try {
+			if (pollOnce() >= batchSize) {
+				delay = 0;
+			}
+		} catch (RuntimeException e) {
+			log.error("경매 종료 스케줄러 오류 발생: error = {}", e.getMessage());
+		}
+		if (!poller.isShutdown()) {
+			poller.schedule(this::tick, delay, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void syncTick() {
+		try {
+			int count = syncOnce();
+			if (count > 0) {
+				log.debug("경매 종료 예약: {} 개", count);
+			}
+		} catch (DataAccessException e) {
+			log.warn("경매 종료 예약 실패: error = {}", e.getMessage());
+		} catch (RuntimeException e) {
+			log.error("경매 종료 예약 오류 발생", e);
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package org.example.auctionmarketevent.common.scheduler;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+public class BacklogDrainReport { // drain 실행 한 번의 결과
+
+	public enum StopReason {
+		CAUGHT_UP, // 워터마크가 허용 지연 이내로 따라잡음
+		TIME_BUDGET_EXCEEDED, // 시간 예산 소진
+		ROW_BUDGET_EXCEEDED, // 행 예산 소진
+		SLICE_FAILED, // 구간 실행 실패
+		NO_PROGRESS // 구간은 성공했지만 워터마크가 올라가지 않음
+	}
+
+	private final StopReason stopReason;
+	private final int slices; // 실행한 구간 수
+	private final long rows; // 적재한 전체 행 수
+	private final Duration elapsed; // 전체 실행 시간
+	private final Timestamp watermark; // 종료 시점 워터마크
+	private final Duration remainingLag; // 종료 시점 워터마크와 현재 시각의 차이
+	private final long remainingRows; // 종료 시점 남은 변경 행 수
+}
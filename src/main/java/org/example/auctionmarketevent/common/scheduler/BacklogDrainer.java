@@ -0,0 +1,218 @@
+package org.example.auctionmarketevent.common.scheduler;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.example.auctionmarketevent.common.listener.BigQueryLoadTracker;
+import org.example.auctionmarketevent.common.provider.ChangedAuctionRowCounter;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class BacklogDrainer {
+	// 하루 한 번 maxItemCount 만큼만 읽으면 변경량이 많은 날마다 워터마크가 계속 뒤처짐
+	// => 워터마크가 허용 지연(maxLag) 이내로 따라잡을 때까지 시간 구간(slice) 단위로 Job 을 반복 실행
+	// => 구간마다 BigQuery 로드 + 워터마크 업데이트가 따로 커밋되므로 중간에 멈춰도 진행분은 유지됨
+	// => 구간 크기는 직전 구간의 처리 속도(rows/s)를 보고 목표 실행 시간에 맞게 조정
+	// => 구간은 워터마크 이후 첫 변경 시각부터 시작 (변경이 없는 기간은 건너뜀), 끝은 현재 - safetyLag 를 넘지 않음
+	//    (아직 커밋되지 않은 트랜잭션의 modified_at 이 구간 끝 이전일 수 있으므로 최근 safetyLag 는 읽지 않음)
+
+	private static final String SLICE_END_PARAMETER = "sliceEnd";
+	private static final double MAX_SLICE_GROWTH = 4.0; // 한 번에 늘릴 수 있는 구간 배수
+	private static final double MIN_SLICE_SHRINK = 0.25; // 한 번에 줄일 수 있는 구간 배수
+
+	private final JobLauncher jobLauncher;
+	private final Job mysqlToBigQueryJob;
+	private final JdbcTemplate jdbcTemplate;
+	private final ChangedAuctionRowCounter changedAuctionRowCounter; // 남은 변경 행 수 조회
+	private final BigQueryLoadTracker loadTracker; // 비동기 로드 중이면 아직 반영 안 된 워터마크까지 진행분으로 봄
+	private final String jobName;
+	private final Duration maxLag; // 이 지연 이내로 따라잡으면 종료
+	private final Duration safetyLag; // 구간 끝 = 최대 현재 - safetyLag
+	private final Duration initialSlice; // 첫 구간 크기
+	private final Duration minSlice; // 구간 최소 크기
+	private final Duration maxSlice; // 구간 최대 크기
+	private final Duration targetSliceDuration; // 구간 하나의 목표 실행 시간
+	private final Duration timeBudget; // 전체 실행 시간 예산
+	private final long rowBudget; // 전체 적재 행 수 예산
+
+	// 생성자
+	@Autowired
+	public BacklogDrainer(JobLauncher jobLauncher,
+		@Qualifier("mysqlToBigQueryJob") Job mysqlToBigQueryJob,
+		JdbcTemplate jdbcTemplate,
+		ChangedAuctionRowCounter changedAuctionRowCounter,
+		BigQueryLoadTracker loadTracker,
+		@Value("${app.batch.job-name}") String jobName,
+		@Value("${app.batch.drain.max-lag:PT5M}") Duration maxLag,
+		@Value("${app.batch.drain.safety-lag:PT30S}") Duration safetyLag,
+		@Value("${app.batch.drain.initial-slice:PT1H}") Duration initialSlice,
+		@Value("${app.batch.drain.min-slice:PT1M}") Duration minSlice,
+		@Value("${app.batch.drain.max-slice:P1D}") Duration maxSlice,
+		@Value("${app.batch.drain.target-slice-duration:PT2M}") Duration targetSliceDuration,
+		@Value("${app.batch.drain.time-budget:PT1H}") Duration timeBudget,
+		@Value("${app.batch.drain.row-budget:5000000}") long rowBudget) {
+		this.jobLauncher = jobLauncher;
+		this.mysqlToBigQueryJob = mysqlToBigQueryJob;
+		this.jdbcTemplate = jdbcTemplate;
+		this.changedAuctionRowCounter = changedAuctionRowCounter;
+		this.loadTracker = loadTracker;
+		this.jobName = jobName;
+		this.maxLag = maxLag;
+		this.safetyLag = safetyLag;
+		this.initialSlice = initialSlice;
+		this.minSlice = minSlice;
+		this.maxSlice = maxSlice;
+		this.targetSliceDuration = targetSliceDuration;
+		this.timeBudget = timeBudget;
+		this.rowBudget = rowBudget;
+	}
+
+	public BacklogDrainReport drain() throws Exception {
+		long drainStart = System.currentTimeMillis();
+		Duration slice = initialSlice;
+		int slices = 0;
+		long rows = 0;
+		BacklogDrainReport.StopReason stopReason;
+
+		LocalDateTime watermark = readWatermark().toLocalDateTime();
+		while (true) {
+			LocalDateTime now = LocalDateTime.now();
+
+			if (!watermark.isBefore(now.minus(maxLag))) {
+				stopReason = BacklogDrainReport.StopReason.CAUGHT_UP;
+				break;
+			}
+			if (System.currentTimeMillis() - drainStart >= timeBudget.toMillis()) {
+				stopReason = BacklogDrainReport.StopReason.TIME_BUDGET_EXCEEDED;
+				break;
+			}
+			if (rows >= rowBudget) {
+				stopReason = BacklogDrainReport.StopReason.ROW_BUDGET_EXCEEDED;
+				break;
+			}
+
+			// 워터마크 이후 변경이 없으면 종료 (워터마크는 다음 일반 실행이 올림)
+			Timestamp earliestChange = changedAuctionRowCounter.earliestChange(Timestamp.valueOf(watermark));
+			if (earliestChange == null) {
+				stopReason = BacklogDrainReport.StopReason.CAUGHT_UP;
+				break;
+			}
+
+			// 구간 끝은 현재 - safetyLag 를 넘지 않음
+			LocalDateTime sliceEnd = earliestChange.toLocalDateTime().plus(slice);
+			LocalDateTime latestEnd = now.minus(safetyLag);
+			if (sliceEnd.isAfter(latestEnd)) {
+				sliceEnd = latestEnd;
+			}
+			if (!sliceEnd.isAfter(watermark)) {
+				stopReason = BacklogDrainReport.StopReason.CAUGHT_UP;
+				break;
+			}
+
+			log.info("drain 구간 시작: 구간 = {} ~ {}, 첫 변경 = {}, 구간 크기 = {}", watermark, sliceEnd, earliestChange,
+				slice);
+			long sliceStart = System.currentTimeMillis();
+
+			JobParameters jobParameters = new JobParametersBuilder()
+				.addLocalDateTime(SLICE_END_PARAMETER, sliceEnd)
+				.addLocalDateTime("drainTime", LocalDateTime.now()) // 구간마다 새로운 JobInstance
+				.toJobParameters();
+			JobExecution execution = jobLauncher.run(mysqlToBigQueryJob, jobParameters);
+
+			long sliceMillis = Math.max(1, System.currentTimeMillis() - sliceStart);
+			slices++;
+
+			if (execution.getStatus() != BatchStatus.COMPLETED) {
+				log.error("drain 구간 실패: 구간 끝 = {}, 상태 = {}", sliceEnd, execution.getStatus());
+				stopReason = BacklogDrainReport.StopReason.SLICE_FAILED;
+				break;
+			}
+
+			long sliceRows = countWrittenRows(execution);
+			rows += sliceRows;
+
+			// 구간이 성공했는데 워터마크가 그대로면 같은 구간을 계속 반복하게 되므로 종료
+			LocalDateTime nextWatermark = readWatermark().toLocalDateTime();
+			if (!nextWatermark.isAfter(watermark)) {
+				log.error("drain 구간 완료 후 워터마크 진행 없음: 워터마크 = {}, 구간 끝 = {}", watermark, sliceEnd);
+				stopReason = BacklogDrainReport.StopReason.NO_PROGRESS;
+				break;
+			}
+			watermark = nextWatermark;
+
+			Duration nextSlice = adjustSlice(slice, sliceRows, sliceMillis);
+			log.info("drain 구간 완료: 행 = {}, 실행 시간 = {} 밀리초, 다음 구간 크기 = {}", sliceRows, sliceMillis, nextSlice);
+			slice = nextSlice;
+		}
+
+		Timestamp finalWatermark = readWatermark();
+		BacklogDrainReport report = BacklogDrainReport.builder()
+			.stopReason(stopReason)
+			.slices(slices)
+			.rows(rows)
+			.elapsed(Duration.ofMillis(System.currentTimeMillis() - drainStart))
+			.watermark(finalWatermark)
+			.remainingLag(Duration.between(finalWatermark.toLocalDateTime(), LocalDateTime.now()))
+			.remainingRows(changedAuctionRowCounter.count(finalWatermark, null, null, null))
+			.build();
+
+		log.info("drain 종료: {}", report);
+		return report;
+	}
+
+	// 직전 구간의 처리 속도(rows/s)로 목표 실행 시간 동안 처리할 수 있는 행 수를 구하고, 그 행 수에 맞게 구간 크기 조정
+	public Duration adjustSlice(Duration slice, long sliceRows, long sliceMillis) {
+		double factor;
+		if (sliceRows == 0) {
+			factor = MAX_SLICE_GROWTH; // 빈 구간 => 크게 늘림
+		} else {
+			double rowsPerSecond = sliceRows * 1000.0 / sliceMillis;
+			double targetRows = rowsPerSecond * targetSliceDuration.toMillis() / 1000.0;
+			factor = Math.min(MAX_SLICE_GROWTH, Math.max(MIN_SLICE_SHRINK, targetRows / sliceRows));
+		}
+
+		long nextMillis = (long)(slice.toMillis() * factor);
+		nextMillis = Math.max(minSlice.toMillis(), Math.min(maxSlice.toMillis(), nextMillis));
+		return Duration.ofMillis(nextMillis);
+	}
+
+	// Manager/단일 Step 의 write count 합계 (파티션 Worker Step 은 Manager 에 이미 합산되어 있으므로 제외)
+	private long countWrittenRows(JobExecution execution) {
+		return execution.getStepExecutions().stream()
+			.filter(stepExecution -> !stepExecution.getStepName().contains(":"))
+			.mapToLong(StepExecution::getWriteCount)
+			.sum();
+	}
+
+	private Timestamp readWatermark() {
+		try {
+			Timestamp watermark = jdbcTemplate.queryForObject(
+				"SELECT last_processed_timestamp FROM batch_job_metadata WHERE job_name = ?",
+				Timestamp.class,
+				jobName
+			);
+			if (watermark != null) {
+				return loadTracker.isEnabled() ? loadTracker.extractionWatermark(watermark) : watermark;
+			}
+		} catch (Exception e) {
+			log.warn("drain: 마지막 처리 타임스탬프를 찾을 수 없음: 작업 = {}", jobName, e);
+		}
+		// IncrementalTimestampStepListener 와 같은 기본값 => 처음부터 추출 (첫 구간은 첫 변경 시각부터 시작)
+		return Timestamp.valueOf(LocalDateTime.MIN);
+	}
+}
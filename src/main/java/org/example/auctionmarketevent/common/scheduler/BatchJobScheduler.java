@@ -11,6 +11,7 @@ import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteExcep
 import org.springframework.batch.core.repository.JobRestartException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -22,22 +23,45 @@ public class BatchJobScheduler {
 
 	private final JobLauncher jobLauncher; // 스프링 배치의 Job 을 실행시키는 도구
 	private final Job mysqlToBigQueryJob; // 실행할 Job 빈 주입
+	private final BacklogDrainer backlogDrainer; // 밀린 변경분을 구간 단위로 반복 적재
+	private final boolean drainEnabled;
+	private final MicroBatchScheduler microBatchScheduler; // 연속 모드 (사용 시 하루 한 번 실행은 건너뜀)
 
 	// 생성자
 	@Autowired
 	public BatchJobScheduler(JobLauncher jobLauncher,
-		@Qualifier("mysqlToBigQueryJob") Job mysqlToBigQueryJob) {
+		@Qualifier("mysqlToBigQueryJob") Job mysqlToBigQueryJob,
+		BacklogDrainer backlogDrainer,
+		@Value("${app.batch.drain.enabled:false}") boolean drainEnabled,
+		MicroBatchScheduler microBatchScheduler) {
 		this.jobLauncher = jobLauncher;
 		this.mysqlToBigQueryJob = mysqlToBigQueryJob;
+		this.backlogDrainer = backlogDrainer;
+		this.drainEnabled = drainEnabled;
+		this.microBatchScheduler = microBatchScheduler;
 	}
 
 	// 스케줄링 설정
 	@Scheduled(cron = "0 0 0 * * ?") // 매일 00시
 	public void runMysqlToBigQueryJob() {
 
+		// 연속 모드가 같은 워터마크로 계속 적재 중 => 하루 한 번 실행이 겹치지 않도록 건너뜀
+		if (microBatchScheduler != null && microBatchScheduler.isEnabled()) {
+			log.info("스케줄러 건너뜀: micro-batch 연속 모드 사용 중");
+			return;
+		}
+
 		log.info("스케줄러 시작");
 
 		try {
+			if (drainEnabled) {
+				// 워터마크가 허용 지연 이내로 따라잡을 때까지 구간 단위로 반복 실행
+				BacklogDrainReport report = backlogDrainer.drain();
+				log.info("스케줄러 성공: drain 종료 사유 = {}, 구간 = {}, 행 = {}, 남은 지연 = {}",
+					report.getStopReason(), report.getSlices(), report.getRows(), report.getRemainingLag());
+				return;
+			}
+
 			// JobParameters: 각 job 실행을 고유하게 식별
 			// => COMPLETED 상태의 동일한 JobParameters 가진 JobInstance 은 재실행 X
 			JobParameters jobParameters = new JobParametersBuilder()
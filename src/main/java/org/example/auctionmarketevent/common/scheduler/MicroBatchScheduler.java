@@ -0,0 +1,212 @@
+package org.example.auctionmarketevent.common.scheduler;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.example.auctionmarketevent.common.listener.BigQueryLoadTracker;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class MicroBatchScheduler {
+	// 연속 모드 (app.batch.micro.enabled=true): 하루 한 번 대신 수 초 ~ 수 분 간격으로 작은 Job 을 반복 실행
+	// => 실행이 끝난 뒤에 다음 실행을 예약하므로 실행 중에는 다음 tick 이 겹치지 않음
+	// => 간격은 적재 행 수에 따라 조정: 많으면 줄이고, 변경이 없으면 늘림 (min ~ max)
+	// => 구간 끝 = 현재 시각 - safetyLag: 늦게 커밋되어 modified_at 이 과거인 행이 워터마크 뒤로 밀려 누락되지 않도록
+	//    워터마크는 구간 끝까지만 올라감 (IncrementalTimestampStepListener 의 sliceEnd 처리 그대로 사용)
+	// => Job / Step / BigQuery, GCS 클라이언트 / 커넥션 풀 / 업로드 스레드는 싱글톤이라 실행마다 다시 만들지 않음
+
+	private static final String SLICE_END_PARAMETER = "sliceEnd";
+
+	private final JobLauncher jobLauncher;
+	private final Job mysqlToBigQueryJob;
+	private final JdbcTemplate jdbcTemplate;
+	private final BigQueryLoadTracker loadTracker; // 비동기 로드 중이면 아직 반영 안 된 워터마크까지 진행분으로 봄
+	private final String jobName;
+	private final boolean enabled;
+	private final Duration safetyLag; // 구간 끝을 현재 시각보다 이만큼 늦춤
+	private final Duration minInterval; // 부하가 많을 때 최소 간격
+	private final Duration maxInterval; // 변경이 없을 때 최대 간격
+	private final long busyRows; // 한 번에 이 행 수 이상 적재하면 간격을 줄임
+
+	private final AtomicBoolean running = new AtomicBoolean(false);
+	private volatile Duration interval; // 다음 실행까지 간격
+	private ScheduledExecutorService scheduler;
+
+	// 생성자
+	@Autowired
+	public MicroBatchScheduler(JobLauncher jobLauncher,
+		@Qualifier("mysqlToBigQueryJob") Job mysqlToBigQueryJob,
+		JdbcTemplate jdbcTemplate,
+		BigQueryLoadTracker loadTracker,
+		@Value("${app.batch.job-name}") String jobName,
+		@Value("${app.batch.micro.enabled:false}") boolean enabled,
+		@Value("${app.batch.micro.safety-lag:PT30S}") Duration safetyLag,
+		@Value("${app.batch.micro.initial-interval:PT30S}") Duration initialInterval,
+		@Value("${app.batch.micro.min-interval:PT5S}") Duration minInterval,
+		@Value("${app.batch.micro.max-interval:PT5M}") Duration maxInterval,
+		@Value("${app.batch.micro.busy-rows:5000}") long busyRows) {
+		this.jobLauncher = jobLauncher;
+		this.mysqlToBigQueryJob = mysqlToBigQueryJob;
+		this.jdbcTemplate = jdbcTemplate;
+		this.loadTracker = loadTracker;
+		this.jobName = jobName;
+		this.enabled = enabled;
+		this.safetyLag = safetyLag;
+		this.minInterval = minInterval;
+		this.maxInterval = maxInterval;
+		this.busyRows = busyRows;
+		this.interval = clamp(initialInterval);
+	}
+
+	// 공용 @Scheduled 스레드는 하루 한 번 Job 이 점유하므로 전용 스레드 사용
+	@PostConstruct
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "micro-batch");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduleNext(interval);
+		log.info("micro-batch 시작: 간격 = {} ~ {}, safetyLag = {}", minInterval, maxInterval, safetyLag);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public boolean isRunning() {
+		return running.get();
+	}
+
+	// micro-batch 한 번 실행 => 다음 실행까지 간격 반환 (실행 중이면 건너뜀)
+	public Duration runOnce() {
+		if (!running.compareAndSet(false, true)) {
+			log.info("micro-batch 건너뜀: 이전 실행이 아직 진행 중");
+			return interval;
+		}
+
+		try {
+			LocalDateTime sliceEnd = LocalDateTime.now().minus(safetyLag);
+			Timestamp watermark = readWatermark();
+			if (watermark != null && !watermark.toLocalDateTime().isBefore(sliceEnd)) {
+				// 워터마크가 이미 구간 끝 이후 => 읽을 구간 없음
+				interval = clamp(interval.multipliedBy(2));
+				log.debug("micro-batch 건너뜀: 워터마크 = {}, 구간 끝 = {}, 다음 간격 = {}", watermark, sliceEnd, interval);
+				return interval;
+			}
+
+			long runStart = System.currentTimeMillis();
+			JobParameters jobParameters = new JobParametersBuilder()
+				.addLocalDateTime(SLICE_END_PARAMETER, sliceEnd)
+				.addLocalDateTime("microBatchTime", LocalDateTime.now()) // 실행마다 새로운 JobInstance
+				.toJobParameters();
+			JobExecution execution = jobLauncher.run(mysqlToBigQueryJob, jobParameters);
+			long runMillis = System.currentTimeMillis() - runStart;
+
+			if (execution.getStatus() != BatchStatus.COMPLETED) {
+				interval = clamp(interval.multipliedBy(2)); // 실패 => 간격을 늘려서 재시도
+				log.error("micro-batch 실패: 구간 끝 = {}, 상태 = {}, 다음 간격 = {}", sliceEnd, execution.getStatus(),
+					interval);
+				return interval;
+			}
+
+			long rows = countWrittenRows(execution);
+			interval = adjustInterval(interval, rows);
+			log.info("micro-batch 완료: 구간 끝 = {}, 행 = {}, 실행 시간 = {} 밀리초, 다음 간격 = {}", sliceEnd, rows, runMillis,
+				interval);
+			return interval;
+
+		} catch (Exception e) {
+			interval = clamp(interval.multipliedBy(2));
+			log.error("micro-batch 오류 발생: 다음 간격 = {}", interval, e);
+			return interval;
+		} finally {
+			running.set(false);
+		}
+	}
+
+	// 적재 행이 많으면 절반, 없으면 두 배, 그 사이면 유지
+	private Duration adjustInterval(Duration current, long rows) {
+		if (rows >= busyRows) {
+			return clamp(current.dividedBy(2));
+		}
+		if (rows == 0) {
+			return clamp(current.multipliedBy(2));
+		}
+		return current;
+	}
+
+	private Duration clamp(Duration value) {
+		if (value.compareTo(minInterval) < 0) {
+			return minInterval;
+		}
+		return value.compareTo(maxInterval) > 0 ? maxInterval : value;
+	}
+
+	private void scheduleNext(Duration delay) {
+		scheduler.schedule(this::tick, delay.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	private void tick() {
+		Duration next = runOnce();
+		if (!scheduler.isShutdown()) {
+			scheduleNext(next);
+		}
+	}
+
+	// Manager/단일 Step 의 write count 합계 (파티션 Worker Step 은 Manager 에 이미 합산되어 있으므로 제외)
+	private long countWrittenRows(JobExecution execution) {
+		return execution.getStepExecutions().stream()
+			.filter(stepExecution -> !stepExecution.getStepName().contains(":"))
+			.mapToLong(StepExecution::getWriteCount)
+			.sum();
+	}
+
+	private Timestamp readWatermark() {
+		try {
+			Timestamp watermark = jdbcTemplate.queryForObject(
+				"SELECT last_processed_timestamp FROM batch_job_metadata WHERE job_name = ?",
+				Timestamp.class,
+				jobName
+			);
+			if (watermark != null && loadTracker != null && loadTracker.isEnabled()) {
+				return loadTracker.extractionWatermark(watermark);
+			}
+			return watermark;
+		} catch (Exception e) {
+			log.warn("micro-batch: 마지막 처리 타임스탬프를 찾을 수 없음: 작업 = {}", jobName, e);
+			return null;
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package org.example.auctionmarketevent.common.scheduler;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.example.auctionmarketevent.common.message.AuctionEndMessage;
+import org.example.auctionmarketevent.common.notify.AuctionEndMessageLoader;
+import org.example.auctionmarketevent.common.notify.WinnerMessageCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class WinnerPrewarmer {
+	// 낙찰 알림 본문 예열 (app.notify.prewarm.enabled=true)
+	// => interval 마다 auctions.end_time 이 lead 안에 드는 경매를 조회 => 캐시에 없는 경매만 묶음으로 본문 생성 (AuctionEndMessageLoader.fetch)
+	// => 만료 이벤트가 오면 AuctionEndMessageLoader 가 캐시에서 바로 꺼내서 전송 (해시 / MySQL 조회 없음)
+	// => 늦은 입찰: 매번 같은 쿼리로 읽은 max_price 가 캐시한 금액과 다르면 무효화 후 다시 생성
+	//    (마지막 확인 이후 ~ 종료 사이의 입찰은 AuctionEndMessageLoader 가 보내기 직전에 max_price 를 다시 확인해서 걸러냄)
+	// => 낙찰자가 없는 경매 (본문에 userId 없음) 는 캐시하지 않음 => 종료 시점에 기존처럼 조회
+
+	private static final String DUE_SOON_QUERY =
+		"SELECT id, max_price, end_time FROM auctions WHERE end_time > ? AND end_time <= ? ORDER BY end_time LIMIT ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final AuctionEndMessageLoader messageLoader;
+	private final WinnerMessageCache messageCache;
+	private final Duration lead; // 종료 몇 초 전부터 예열할지
+	private final Duration interval; // 예열 주기
+	private final Duration grace; // 종료 시각 이후 캐시 유지 시간 (만료 이벤트 지연 대비)
+	private final int maxAuctions; // 한 번에 조회할 최대 경매 수
+
+	private ScheduledExecutorService scheduler;
+
+	// 생성자
+	@Autowired
+	public WinnerPrewarmer(JdbcTemplate jdbcTemplate,
+		AuctionEndMessageLoader messageLoader,
+		WinnerMessageCache messageCache,
+		@Value("${app.notify.prewarm.lead:PT5S}") Duration lead,
+		@Value("${app.notify.prewarm.interval:PT1S}") Duration interval,
+		@Value("${app.notify.prewarm.grace:PT1M}") Duration grace,
+		@Value("${app.notify.prewarm.max-auctions:1000}") int maxAuctions) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.messageLoader = messageLoader;
+		this.messageCache = messageCache;
+		this.lead = lead;
+		this.interval = interval;
+		this.grace = grace;
+		this.maxAuctions = maxAuctions;
+	}
+
+	// 공용 @Scheduled 스레드는 하루 한 번 Job 이 점유하므로 전용 스레드 사용
+	@PostConstruct
+	public void start() {
+		if (!messageCache.isEnabled()) {
+			return;
+		}
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "winner-prewarm");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleWithFixedDelay(this::tick, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+		log.info("낙찰 알림 예열 시작: 종료 {} 전부터, 주기 = {}", lead, interval);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+		}
+	}
+
+	// 한 번 예열 => 새로 캐시한 경매 수 반환
+	public int warmOnce() {
+		messageCache.purgeExpired();
+
+		Instant now = Instant.now();
+		Map<String, DueAuction> dueSoon = new LinkedHashMap<>();
+		jdbcTemplate.query(DUE_SOON_QUERY, rs -> {
+			dueSoon.put(String.valueOf(rs.getLong("id")),
+				new DueAuction(rs.getBigDecimal("max_price"), rs.getTimestamp("end_time").toInstant()));
+		}, Timestamp.from(now), Timestamp.from(now.plus(lead)), maxAuctions);
+
+		List<String> toLoad = new ArrayList<>();
+		for (Map.Entry<String, DueAuction> entry : dueSoon.entrySet()) {
+			AuctionEndMessage cached = messageCache.peek(entry.getKey());
+			if (cached == null) {
+				toLoad.add(entry.getKey());
+			} else if (!Objects.equals(cached.getAmount(), amount(entry.getValue().maxPrice()))) {
+				// 캐시한 뒤에 입찰이 들어옴 => 다시 생성
+				messageCache.invalidate(entry.getKey());
+				toLoad.add(entry.getKey());
+				log.debug("늦은 입찰로 예열 본문 무효화: auctionId = {}", entry.getKey());
+			}
+		}
+		if (toLoad.isEmpty()) {
+			return 0;
+		}
+
+		long start = System.nanoTime();
+		List<AuctionEndMessage> messages = messageLoader.fetch(toLoad);
+		long perAuctionNanos = (System.nanoTime() - start) / toLoad.size();
+
+		int cached = 0;
+		for (AuctionEndMessage message : messages) {
+			if (message.getAuctionId() == null || message.getUserId() == null) {
+				continue;
+			}
+			String auctionId = String.valueOf(message.getAuctionId());
+			DueAuction due = dueSoon.get(auctionId);
+			if (due != null) {
+				messageCache.put(auctionId, message, perAuctionNanos, due.endTime().plus(grace));
+				cached++;
+			}
+		}
+		return cached;
+	}
+
+	private void tick() {
+		try {
+			int cached = warmOnce();
+			if (cached > 0) {
+				log.debug("낙찰 알림 예열: {} 개", cached);
+			}
+		} catch (DataAccessException e) {
+			log.warn("낙찰 알림 예열 실패: error = {}", e.getMessage());
+		} catch (RuntimeException e) {
+			log.error("낙찰 알림 예열 오류 발생", e);
+		}
+	}
+
+	private static Long amount(BigDecimal maxPrice) {
+		return maxPrice != null ? maxPrice.longValue() : null;
+	}
+
+	private record DueAuction(BigDecimal maxPrice, Instant endTime) {
+	}
+}
@@ -2,7 +2,6 @@ package org.example.auctionmarketevent.springbatch.job.dto;
 
 import java.time.Instant;
 
-import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
@@ -18,7 +17,8 @@ import lombok.Getter;
 	"productCategory",
 	"maxPrice",
 	"auctionStartTime",
-	"auctionEndTime"
+	"auctionEndTime",
+	"lastModified"
 })
 public class AuctionsWinningBidDto { // BigQuery 의 auctions_winning_bid 테이블 스키마에 맞춰 데이터를 담을 클래스
 
@@ -47,7 +47,7 @@ public class AuctionsWinningBidDto { // BigQuery 의 auctions_winning_bid 테이
 	@JsonProperty("auction_end_time")
 	private Instant auctionEndTime;
 
-	@JsonIgnore  // JsonIgnore: JSON 직렬화에서 제외됨
-	private Instant lastModified; // 타임스탬프 리스너 로직을 위해 존재
+	@JsonProperty("last_modified")
+	private Instant lastModified; // 원본 변경 시각 (타임스탬프 리스너 워터마크 + MERGE 에서 같은 auction_id 중 최신 행 선택)
 }
 
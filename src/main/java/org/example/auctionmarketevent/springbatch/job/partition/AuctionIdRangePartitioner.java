@@ -0,0 +1,130 @@
+package org.example.auctionmarketevent.springbatch.job.partition;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class AuctionIdRangePartitioner implements Partitioner {
+	// 변경된 행 범위(lastProcessedTimestamp 이후)를 auction_id 구간으로 나눔
+	// => 각 구간은 Worker Step 하나가 자신의 Reader/Writer 로 처리
+	// => 모든 구간에 같은 시각 상한(partitionUpperBound)을 넣어 한 번의 실행 크기를 제한
+	//    Worker 는 개수 상한 없이 상한까지 전부 읽음 => 어떤 파티션도 중간에 멈추지 않으므로 워터마크 = 모든 파티션의 최신 시각
+	//    (파티션마다 개수 상한으로 멈추면 파티션마다 멈춘 시각이 달라서 하나의 워터마크로 표현할 수 없음)
+	// => 변경분이 개수 상한보다 적어도 상한은 항상 넣음 (변경 시각 최대값, 변경분이 없으면 현재 시각)
+	//    상한이 없으면 파티션마다 자기가 읽는 시점까지 읽음 => 빨리 끝난 파티션 구간에서 그 뒤에 바뀐 행은 워터마크 (가장 늦은 파티션 기준) 아래로 밀려 누락
+
+	public static final String MIN_AUCTION_ID_KEY = "minAuctionId";
+	public static final String MAX_AUCTION_ID_KEY = "maxAuctionId";
+	public static final String UPPER_BOUND_KEY = "partitionUpperBound";
+	private static final String LAST_PROCESSED_TIMESTAMP_KEY = "lastProcessedTimestamp";
+	private static final List<String> CHANGE_COLUMNS = List.of("a.modified_at", "p.modified_at");
+
+	private final JdbcTemplate jdbcTemplate;
+	private final Timestamp lastProcessedTimestamp;
+	private final LocalDateTime sliceEnd; // drain 모드의 시간 구간 상한 (있으면 구간이 실행 크기를 제한하므로 상한 계산 안함)
+	private final int maxItemCount; // 파티션 하나가 읽을 평균 행 수 (한 번의 실행 => 최대 maxItemCount * gridSize 행)
+
+	public AuctionIdRangePartitioner(JdbcTemplate jdbcTemplate, Timestamp lastProcessedTimestamp,
+		LocalDateTime sliceEnd, int maxItemCount) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.lastProcessedTimestamp = lastProcessedTimestamp;
+		this.sliceEnd = sliceEnd;
+		this.maxItemCount = maxItemCount;
+	}
+
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		// 변경된 행들의 auction_id 최소/최대값 조회
+		// => GREATEST(...) > ? 대신 변경 컬럼별 인덱스 범위 스캔을 합침 (MySqlCustomPagingQueryProvider 와 같은 방식)
+		Map<String, Object> bounds = jdbcTemplate.queryForMap(
+			"SELECT MIN(t.id) AS min_id, MAX(t.id) AS max_id FROM ("
+				+ "SELECT a.id FROM auctions a JOIN product p ON a.product_id = p.id WHERE a.modified_at > ? "
+				+ "UNION ALL "
+				+ "SELECT a.id FROM auctions a JOIN product p ON a.product_id = p.id WHERE p.modified_at > ?"
+				+ ") AS t",
+			lastProcessedTimestamp, lastProcessedTimestamp
+		);
+
+		Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+		Number minId = (Number)bounds.get("min_id");
+		Number maxId = (Number)bounds.get("max_id");
+
+		int grid = Math.max(1, gridSize);
+		Timestamp upperBound = sliceEnd == null ? findUpperBound((long)maxItemCount * grid) : null;
+
+		// 변경된 행이 없으면 전체 구간 파티션 하나만 생성 => Worker 는 읽을 데이터 없이 종료
+		if (minId == null || maxId == null) {
+			log.info("파티션 생성: 변경된 행 없음, lastProcessedTimestamp = {}", lastProcessedTimestamp);
+			partitions.put("partition0", createContext(0L, Long.MAX_VALUE, upperBound));
+			return partitions;
+		}
+
+		long min = minId.longValue();
+		long max = maxId.longValue();
+		long rangeSize = Math.max(1L, (max - min) / grid + 1);
+
+		long start = min;
+		for (int i = 0; i < grid && start <= max; i++) {
+			long end = start + rangeSize - 1;
+			// 마지막 구간은 상한을 열어둠 => 조회 이후 새로 생성된 경매도 누락되지 않음
+			boolean last = (i == grid - 1) || end >= max;
+			partitions.put("partition" + i, createContext(start, last ? Long.MAX_VALUE : end, upperBound));
+			if (last) {
+				break;
+			}
+			start = end + 1;
+		}
+
+		log.info("파티션 생성 완료: 파티션 수 = {}, auction_id 범위 = {} ~ {}, 시각 상한 = {}", partitions.size(), min, max,
+			upperBound);
+		return partitions;
+	}
+
+	// 이번 실행에서 읽을 변경 시각 상한 (maxRows 행 이하가 되도록)
+	// => 변경 컬럼마다 워터마크 이후 (maxRows / 컬럼 수) 번째 값을 인덱스 순서로 찾아서 그중 가장 이른 값 사용
+	// => 상한 이하인 행은 어떤 변경 컬럼이 상한 이하 => 컬럼마다 (maxRows / 컬럼 수) 행 이하이므로 합계 maxRows 행 이하
+	// => 변경분이 그보다 적으면 지금까지의 변경 시각 최대값 (없으면 현재 시각) => 파티션을 만들기 전에 한 번만 정함
+	private Timestamp findUpperBound(long maxRows) {
+		long perColumn = Math.max(1L, maxRows / CHANGE_COLUMNS.size());
+		Timestamp upperBound = null;
+		for (String changeColumn : CHANGE_COLUMNS) {
+			List<Timestamp> values = jdbcTemplate.queryForList(
+				"SELECT " + changeColumn + " FROM auctions a JOIN product p ON a.product_id = p.id WHERE "
+					+ changeColumn + " > ? ORDER BY " + changeColumn + " LIMIT 1 OFFSET ?",
+				Timestamp.class, lastProcessedTimestamp, perColumn - 1);
+			if (!values.isEmpty() && (upperBound == null || values.get(0).before(upperBound))) {
+				upperBound = values.get(0);
+			}
+		}
+		return upperBound != null ? upperBound : latestChange();
+	}
+
+	// 변경 컬럼별 최대값 중 가장 늦은 값 (인덱스 끝만 읽음), 행이 없으면 현재 시각
+	private Timestamp latestChange() {
+		Timestamp latest = jdbcTemplate.queryForObject(
+			"SELECT GREATEST(COALESCE((SELECT MAX(modified_at) FROM auctions), ?), "
+				+ "COALESCE((SELECT MAX(modified_at) FROM product), ?))",
+			Timestamp.class, lastProcessedTimestamp, lastProcessedTimestamp);
+		return latest != null && latest.after(lastProcessedTimestamp) ? latest : Timestamp.valueOf(LocalDateTime.now());
+	}
+
+	private ExecutionContext createContext(long minAuctionId, long maxAuctionId, Timestamp upperBound) {
+		ExecutionContext context = new ExecutionContext();
+		context.putLong(MIN_AUCTION_ID_KEY, minAuctionId);
+		context.putLong(MAX_AUCTION_ID_KEY, maxAuctionId);
+		context.put(LAST_PROCESSED_TIMESTAMP_KEY, lastProcessedTimestamp);
+		if (upperBound != null) {
+			context.put(UPPER_BOUND_KEY, upperBound);
+		}
+		return context;
+	}
+}
@@ -0,0 +1,63 @@
+package org.example.auctionmarketevent.springbatch.job.partition;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.partition.support.DefaultStepExecutionAggregator;
+import org.springframework.batch.core.partition.support.StepExecutionAggregator;
+import org.springframework.batch.item.ExecutionContext;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class StagingFileStepExecutionAggregator implements StepExecutionAggregator {
+	// Worker Step 들이 각자 ExecutionContext 에 남긴 GCS 파일 목록 / 최신 타임스탬프를 Manager Step 으로 합침
+	// => IncrementalTimestampStepListener 가 BigQuery 로드 한 번, 메타데이터 업데이트 한 번만 수행하도록 함
+	// => Worker 는 개수 상한 없이 공통 시각 상한(AuctionIdRangePartitioner)까지 모두 읽음 => 워터마크 = 파티션 최신 시각 중 최대값
+
+	private static final String GCS_FILE_URIS_KEY = "gcsFileUris"; // ExecutionContext 에 GCS 파일 경로 리스트를 저장할 때 사용할 키
+	private static final String MAX_TIMESTAMP_KEY = "maxProcessedTimestampInChunk"; // ExecutionContext 에 처리된 데이터 중 최신 타임스탬프 값을 저장할 때 사용할 키
+	private static final String DIRECT_WRITTEN_ROWS_KEY = "directWrittenRows"; // BigQuery 에 바로 쓴 행 수
+
+	private final StepExecutionAggregator delegate = new DefaultStepExecutionAggregator(); // read/write count 등 기본 집계
+
+	@Override
+	public void aggregate(StepExecution result, Collection<StepExecution> executions) {
+		delegate.aggregate(result, executions);
+		if (executions == null) {
+			return;
+		}
+
+		List<String> gcsFileUris = new ArrayList<>();
+		long directWrittenRows = 0;
+		Timestamp watermark = null; // 파티션들의 최신 타임스탬프 중 가장 늦은 값
+
+		for (StepExecution execution : executions) {
+			ExecutionContext context = execution.getExecutionContext();
+
+			List<String> uris = (List<String>)context.get(GCS_FILE_URIS_KEY);
+			if (uris != null) {
+				gcsFileUris.addAll(uris);
+			}
+			directWrittenRows += context.getLong(DIRECT_WRITTEN_ROWS_KEY, 0L);
+
+			Timestamp partitionMax = (Timestamp)context.get(MAX_TIMESTAMP_KEY);
+			if (partitionMax != null && (watermark == null || partitionMax.after(watermark))) {
+				watermark = partitionMax;
+			}
+		}
+
+		ExecutionContext resultContext = result.getExecutionContext();
+		resultContext.put(GCS_FILE_URIS_KEY, gcsFileUris);
+		resultContext.putLong(DIRECT_WRITTEN_ROWS_KEY, directWrittenRows);
+		if (watermark != null) {
+			resultContext.put(MAX_TIMESTAMP_KEY, watermark);
+		}
+
+		log.info("파티션 결과 집계: 파티션 수 = {}, GCS 파일 수 = {}, 직접 쓰기 행 수 = {}, 워터마크 = {}",
+			executions.size(), gcsFileUris.size(), directWrittenRows, watermark);
+	}
+}
@@ -0,0 +1,153 @@
+package org.example.auctionmarketevent.springbatch.job.reader;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.example.auctionmarketevent.springbatch.job.dto.AuctionProductDto;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class AuctionChangeLogReader extends ItemStreamSupport implements ItemStreamReader<AuctionProductDto> {
+	// GREATEST(a.modified_at, p.modified_at) > 워터마크 조건은 조인 결과 전체를 봐야 하고, modified_at 을 바꾸지 않는 변경은 놓침
+	// => 트리거 / 쓰기 서비스가 채우는 추가 전용 auction_change_log 를 id 순서로 따라가며 변경된 경매만 IN (...) 으로 조회
+	// => 실행 비용이 테이블 크기가 아니라 변경 수에 비례, 진행 위치는 long 하나
+	//
+	// auction_change_log (id BIGINT AUTO_INCREMENT PK, auction_id BIGINT NULL, product_id BIGINT NULL, changed_at DATETIME(6))
+	// => 경매 변경은 auction_id, 상품 변경은 product_id (그 상품의 경매를 모두 다시 조회)
+	//
+	// AUTO_INCREMENT id 는 커밋 순서가 아니라 INSERT 순서 => 늦게 커밋된 작은 id 가 큰 id 보다 나중에 보일 수 있음
+	// => changed_at 이 safetyLag 안쪽인 첫 행 앞에서 멈춤 (위치가 그 행을 넘어가지 않음)
+	// => safetyLag 는 변경 로그를 쓰는 트랜잭션의 최대 실행 시간보다 길어야 함
+
+	public static final String CHANGE_LOG_CURSOR_KEY = "changeLogCursor"; // Step ExecutionContext 에 저장하는 진행 위치 (리스너가 적재 성공 후 반영)
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final String selectClause; // 기존 Reader 와 같은 컬럼
+	private final String fromClause;
+	private final int batchSize; // 한 번에 가져올 변경 로그 행 수 (= IN 목록 최대 크기)
+	private final int maxItemCount; // 이 개수 이상 읽으면 다음 묶음을 가져오지 않음 (묶음 단위로 끊어서 위치가 정확히 유지됨)
+	private final long safetyLagSeconds; // 이 시간 안쪽의 변경 로그는 아직 읽지 않음 (늦게 커밋되는 작은 id 대기)
+	private final AuctionProductRowMapper rowMapper = new AuctionProductRowMapper();
+	private boolean saveState = true; // false: 재시작 시 저장된 위치를 무시하고 시작 위치부터 다시 읽음
+
+	private final Deque<AuctionProductDto> buffer = new ArrayDeque<>();
+	private long cursor; // 끝까지 내보낸 마지막 묶음의 마지막 변경 로그 id
+	private long pendingCursor; // 지금 버퍼에 있는 묶음의 마지막 변경 로그 id
+	private int readCount;
+	private boolean exhausted;
+
+	public AuctionChangeLogReader(String name, DataSource dataSource, String selectClause, String fromClause,
+		long startChangeId, int batchSize, int maxItemCount, Duration safetyLag) {
+		setName(name);
+		this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+		this.selectClause = selectClause;
+		this.fromClause = fromClause;
+		this.cursor = startChangeId;
+		this.pendingCursor = startChangeId;
+		this.batchSize = batchSize;
+		this.maxItemCount = maxItemCount;
+		this.safetyLagSeconds = safetyLag.toSeconds();
+	}
+
+	public void setSaveState(boolean saveState) {
+		this.saveState = saveState;
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		if (saveState && executionContext.containsKey(CHANGE_LOG_CURSOR_KEY)) {
+			// 재시작: 마지막 커밋 위치 이후부터 (버퍼 중간에서 멈췄으면 그 묶음을 다시 읽음 => 중복은 있어도 누락 없음)
+			cursor = executionContext.getLong(CHANGE_LOG_CURSOR_KEY);
+			pendingCursor = cursor;
+			log.info("변경 로그 Reader 재시작: 위치 = {}", cursor);
+		}
+		executionContext.putLong(CHANGE_LOG_CURSOR_KEY, cursor);
+	}
+
+	@Override
+	public AuctionProductDto read() {
+		while (buffer.isEmpty()) {
+			cursor = pendingCursor; // 이전 묶음은 모두 내보냄
+			if (exhausted || readCount >= maxItemCount || !fetchNextBatch()) {
+				exhausted = true;
+				return null;
+			}
+		}
+		readCount++;
+		AuctionProductDto item = buffer.poll();
+		if (buffer.isEmpty()) {
+			cursor = pendingCursor;
+		}
+		return item;
+	}
+
+	// chunk 커밋 시점마다 호출 => 끝까지 내보낸 묶음 위치 저장
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		executionContext.putLong(CHANGE_LOG_CURSOR_KEY, cursor);
+	}
+
+	// 다음 변경 로그 묶음 => 변경된 경매 조회, 로그가 없으면 false
+	// => safetyLag 안쪽의 첫 행보다 작은 id 만 (시각은 DB 기준 => 애플리케이션 서버와의 시계 차이 영향 없음)
+	private boolean fetchNextBatch() {
+		List<Map<String, Object>> changes = jdbcTemplate.queryForList(
+			"SELECT id, auction_id, product_id FROM auction_change_log WHERE id > :cursor AND id < COALESCE("
+				+ "(SELECT MIN(id) FROM auction_change_log WHERE id > :cursor "
+				+ "AND changed_at > TIMESTAMPADD(SECOND, :lag, LOCALTIMESTAMP(6))), :maxId) ORDER BY id LIMIT :limit",
+			new MapSqlParameterSource("cursor", cursor)
+				.addValue("lag", -safetyLagSeconds)
+				.addValue("maxId", Long.MAX_VALUE)
+				.addValue("limit", batchSize));
+		if (changes.isEmpty()) {
+			return false;
+		}
+
+		Set<Long> auctionIds = new LinkedHashSet<>();
+		Set<Long> productIds = new LinkedHashSet<>();
+		for (Map<String, Object> change : changes) {
+			addId(auctionIds, change.get("auction_id"));
+			addId(productIds, change.get("product_id"));
+		}
+		pendingCursor = ((Number)changes.get(changes.size() - 1).get("id")).longValue();
+
+		// 같은 경매는 한 번만 (경매 변경 + 상품 변경이 같은 묶음에 있는 경우 포함), 삭제된 경매는 조회되지 않음
+		Map<Long, AuctionProductDto> rows = new LinkedHashMap<>();
+		lookup("a.id", auctionIds, rows);
+		lookup("p.id", productIds, rows);
+		buffer.addAll(rows.values());
+
+		log.debug("변경 로그 묶음: 위치 = {} ~ {}, 변경 = {}, 경매 = {}", cursor, pendingCursor, changes.size(), rows.size());
+		return true;
+	}
+
+	private void lookup(String idColumn, Set<Long> ids, Map<Long, AuctionProductDto> rows) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		String sql = "SELECT " + selectClause + " FROM " + fromClause + " WHERE " + idColumn + " IN (:ids)";
+		for (AuctionProductDto row : jdbcTemplate.query(sql, new MapSqlParameterSource("ids", ids), rowMapper)) {
+			rows.putIfAbsent(row.getAuctionId(), row);
+		}
+	}
+
+	private static void addId(Set<Long> ids, Object value) {
+		if (value != null) {
+			ids.add(((Number)value).longValue());
+		}
+	}
+}
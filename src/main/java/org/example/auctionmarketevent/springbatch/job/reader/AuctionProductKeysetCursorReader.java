@@ -0,0 +1,134 @@
+package org.example.auctionmarketevent.springbatch.job.reader;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.example.auctionmarketevent.common.provider.MySqlCustomPagingQueryProvider;
+import org.example.auctionmarketevent.springbatch.job.dto.AuctionProductDto;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class AuctionProductKeysetCursorReader extends ItemStreamSupport implements ItemStreamReader<AuctionProductDto> {
+	// JdbcPagingItemReader 는 chunkSize 마다 새 쿼리를 실행 => 대량 백필 시 페이지마다 실행 계획/정렬 반복
+	// => 하나의 스트리밍 커서(JdbcCursorItemReader)로 정렬된 결과를 한 번에 읽음
+	// 재시작 시에는 읽은 행 수만큼 건너뛰지 않고, 마지막으로 커밋된 (last_modified, auction_id) 이후부터 keyset 조건으로 다시 조회
+
+	private static final String LAST_MODIFIED_KEY = "last.modified";
+	private static final String LAST_AUCTION_ID_KEY = "last.auction.id";
+	private static final String READ_COUNT_KEY = "read.count";
+
+	private final String name;
+	private final DataSource dataSource;
+	private final MySqlCustomPagingQueryProvider queryProvider;
+	private final Map<String, Object> parameterValues;
+	private final int fetchSize; // Integer.MIN_VALUE: MySQL 행 단위 스트리밍, 양수: useCursorFetch=true 와 함께 서버 커서 사용
+	private final int maxItemCount;
+	private boolean saveState = true; // false: 재시작 위치를 저장하지 않음 (재시작 시 처음부터 다시 읽음)
+
+	private JdbcCursorItemReader<AuctionProductDto> delegate;
+	private Timestamp lastModified; // 마지막으로 읽은 행의 last_modified
+	private Long lastAuctionId; // 마지막으로 읽은 행의 auction_id
+	private int readCount;
+
+	public AuctionProductKeysetCursorReader(String name, DataSource dataSource,
+		MySqlCustomPagingQueryProvider queryProvider, Map<String, Object> parameterValues,
+		int fetchSize, int maxItemCount) {
+		setName(name);
+		this.name = name;
+		this.dataSource = dataSource;
+		this.queryProvider = queryProvider;
+		this.parameterValues = parameterValues;
+		this.fetchSize = fetchSize;
+		this.maxItemCount = maxItemCount;
+	}
+
+	public void setSaveState(boolean saveState) {
+		this.saveState = saveState;
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		Map<String, Object> parameters = new HashMap<>(parameterValues);
+		boolean restart = saveState && executionContext.containsKey(getExecutionContextKey(LAST_MODIFIED_KEY));
+
+		if (restart) {
+			// 재시작: 마지막 커밋 위치 이후부터 조회
+			lastModified = (Timestamp)executionContext.get(getExecutionContextKey(LAST_MODIFIED_KEY));
+			lastAuctionId = executionContext.getLong(getExecutionContextKey(LAST_AUCTION_ID_KEY));
+			readCount = executionContext.getInt(getExecutionContextKey(READ_COUNT_KEY), 0);
+			parameters.put("_" + MySqlCustomPagingQueryProvider.LAST_MODIFIED_KEY, lastModified);
+			parameters.put("_" + MySqlCustomPagingQueryProvider.AUCTION_ID_KEY, lastAuctionId);
+			log.info("커서 Reader 재시작: last_modified = {}, auction_id = {}, 읽은 개수 = {}",
+				lastModified, lastAuctionId, readCount);
+		}
+
+		// named parameter SQL => JdbcCursorItemReader 가 사용하는 ? placeholder SQL + 값 배열로 변환
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(queryProvider.generateCursorQuery(restart));
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource(parameters);
+		String sql = NamedParameterUtils.substituteNamedParameters(parsedSql, parameterSource);
+		Object[] arguments = NamedParameterUtils.buildValueArray(parsedSql, parameterSource, null);
+
+		delegate = new JdbcCursorItemReaderBuilder<AuctionProductDto>()
+			.name(name)
+			.dataSource(dataSource)
+			.sql(sql)
+			.preparedStatementSetter(new ArgumentPreparedStatementSetter(arguments))
+			.rowMapper(new AuctionProductRowMapper())
+			.fetchSize(fetchSize)
+			// 스트리밍 결과셋은 커서 위치 확인(getRow) 을 지원하지 않으므로 비활성화
+			.verifyCursorPosition(false)
+			// 재시작 위치는 이 클래스가 keyset 으로 관리
+			.saveState(false)
+			.maxItemCount(Math.max(0, maxItemCount - readCount))
+			.build();
+
+		try {
+			delegate.afterPropertiesSet();
+		} catch (Exception e) {
+			throw new ItemStreamException("커서 Reader 초기화 실패", e);
+		}
+		delegate.open(new ExecutionContext());
+	}
+
+	@Override
+	public AuctionProductDto read() throws Exception {
+		AuctionProductDto item = delegate.read();
+		if (item != null) {
+			lastModified = item.getLastModified();
+			lastAuctionId = item.getAuctionId();
+			readCount++;
+		}
+		return item;
+	}
+
+	// chunk 커밋 시점마다 호출 => 마지막으로 읽은(= 커밋된 chunk 의 마지막) 행 위치 저장
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		if (saveState && lastModified != null && lastAuctionId != null) {
+			executionContext.put(getExecutionContextKey(LAST_MODIFIED_KEY), lastModified);
+			executionContext.putLong(getExecutionContextKey(LAST_AUCTION_ID_KEY), lastAuctionId);
+			executionContext.putInt(getExecutionContextKey(READ_COUNT_KEY), readCount);
+		}
+	}
+
+	@Override
+	public void close() throws ItemStreamException {
+		if (delegate != null) {
+			delegate.close();
+		}
+	}
+}
@@ -0,0 +1,175 @@
+package org.example.auctionmarketevent.springbatch.job.schema;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.example.auctionmarketevent.springbatch.job.dto.AuctionsWinningBidDto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.google.cloud.bigquery.StandardSQLTypeName;
+
+public final class BigQueryRowSchema {
+	// BigQuery 테이블 스키마를 DTO 에서 한 번만 만들어서 Writer(Avro 스키마)와 로드 설정(BigQuery 스키마)이 같이 사용
+	// => 컬럼 순서: @JsonPropertyOrder, 컬럼 이름: @JsonProperty, 제외: @JsonIgnore (CSV 직렬화와 같은 규칙)
+
+	private static final DateTimeFormatter INSERT_TIMESTAMP_FORMAT =
+		DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS 'UTC'").withZone(ZoneOffset.UTC);
+
+	public static final BigQueryRowSchema AUCTIONS_WINNING_BID = BigQueryRowSchema.of(AuctionsWinningBidDto.class);
+
+	private final List<Column> columns;
+	private final com.google.cloud.bigquery.Schema bigQuerySchema;
+	private final Schema avroSchema;
+
+	private BigQueryRowSchema(List<Column> columns, com.google.cloud.bigquery.Schema bigQuerySchema,
+		Schema avroSchema) {
+		this.columns = columns;
+		this.bigQuerySchema = bigQuerySchema;
+		this.avroSchema = avroSchema;
+	}
+
+	public static BigQueryRowSchema of(Class<?> dtoClass) {
+		List<Column> columns = new ArrayList<>();
+		for (Field field : orderedFields(dtoClass)) {
+			JsonProperty jsonProperty = field.getAnnotation(JsonProperty.class);
+			String name = jsonProperty != null && !jsonProperty.value().isEmpty() ? jsonProperty.value() : field.getName();
+			field.setAccessible(true);
+			columns.add(new Column(name, field, toSqlType(field)));
+		}
+
+		List<com.google.cloud.bigquery.Field> bigQueryFields = new ArrayList<>();
+		SchemaBuilder.FieldAssembler<Schema> avroFields = SchemaBuilder.record(dtoClass.getSimpleName())
+			.namespace(dtoClass.getPackageName())
+			.fields();
+		for (Column column : columns) {
+			bigQueryFields.add(com.google.cloud.bigquery.Field.of(column.name, column.type));
+			// 모든 컬럼 NULLABLE => ["null", 타입]
+			avroFields.name(column.name).type(Schema.createUnion(Schema.create(Schema.Type.NULL), toAvroType(column.type)))
+				.withDefault(null);
+		}
+
+		return new BigQueryRowSchema(List.copyOf(columns),
+			com.google.cloud.bigquery.Schema.of(bigQueryFields), avroFields.endRecord());
+	}
+
+	public com.google.cloud.bigquery.Schema getBigQuerySchema() {
+		return bigQuerySchema;
+	}
+
+	public Schema getAvroSchema() {
+		return avroSchema;
+	}
+
+	// DTO => Avro 레코드 (TIMESTAMP 는 epoch 마이크로초 long => 문자열 포맷팅 없음)
+	public GenericRecord toAvroRecord(Object item) {
+		GenericData.Record record = new GenericData.Record(avroSchema);
+		for (int i = 0; i < columns.size(); i++) {
+			record.put(i, toAvroValue(readValue(columns.get(i), item)));
+		}
+		return record;
+	}
+
+	// DTO => insertAll 요청 행 (TIMESTAMP 는 BigQuery 표준 형식 UTC 문자열, null 컬럼은 생략)
+	public Map<String, Object> toInsertRow(Object item) {
+		Map<String, Object> row = new LinkedHashMap<>();
+		for (Column column : columns) {
+			Object value = readValue(column, item);
+			if (value != null) {
+				row.put(column.name, value instanceof Instant instant ? INSERT_TIMESTAMP_FORMAT.format(instant) : value);
+			}
+		}
+		return row;
+	}
+
+	private static Object readValue(Column column, Object item) {
+		try {
+			return column.field.get(item);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("DTO 필드 읽기 실패: " + column.field.getName(), e);
+		}
+	}
+
+	private static Object toAvroValue(Object value) {
+		if (value instanceof Instant instant) {
+			return toEpochMicros(instant);
+		}
+		if (value instanceof Integer integer) {
+			return integer.longValue(); // INT64 => Avro long
+		}
+		return value;
+	}
+
+	private static long toEpochMicros(Instant instant) {
+		return TimeUnit.SECONDS.toMicros(instant.getEpochSecond()) + TimeUnit.NANOSECONDS.toMicros(instant.getNano());
+	}
+
+	// @JsonPropertyOrder 순서대로, 나머지는 선언 순서대로 (static / @JsonIgnore 필드 제외)
+	private static List<Field> orderedFields(Class<?> dtoClass) {
+		Map<String, Field> fields = new LinkedHashMap<>();
+		for (Field field : dtoClass.getDeclaredFields()) {
+			if (!Modifier.isStatic(field.getModifiers()) && !field.isAnnotationPresent(JsonIgnore.class)) {
+				fields.put(field.getName(), field);
+			}
+		}
+
+		List<Field> ordered = new ArrayList<>();
+		JsonPropertyOrder propertyOrder = dtoClass.getAnnotation(JsonPropertyOrder.class);
+		if (propertyOrder != null) {
+			Arrays.stream(propertyOrder.value())
+				.map(fields::remove)
+				.filter(field -> field != null)
+				.forEach(ordered::add);
+		}
+		ordered.addAll(fields.values());
+		return ordered;
+	}
+
+	private static StandardSQLTypeName toSqlType(Field field) {
+		Class<?> type = field.getType();
+		if (type == Long.class || type == long.class || type == Integer.class || type == int.class) {
+			return StandardSQLTypeName.INT64;
+		}
+		if (type == Double.class || type == double.class) {
+			return StandardSQLTypeName.FLOAT64;
+		}
+		if (type == Boolean.class || type == boolean.class) {
+			return StandardSQLTypeName.BOOL;
+		}
+		if (type == String.class) {
+			return StandardSQLTypeName.STRING;
+		}
+		if (type == Instant.class) {
+			return StandardSQLTypeName.TIMESTAMP;
+		}
+		throw new IllegalArgumentException("지원하지 않는 필드 타입: " + field.getName() + " (" + type.getName() + ")");
+	}
+
+	private static Schema toAvroType(StandardSQLTypeName type) {
+		return switch (type) {
+			case INT64 -> Schema.create(Schema.Type.LONG);
+			case FLOAT64 -> Schema.create(Schema.Type.DOUBLE);
+			case BOOL -> Schema.create(Schema.Type.BOOLEAN);
+			case TIMESTAMP -> LogicalTypes.timestampMicros().addToSchema(Schema.create(Schema.Type.LONG));
+			default -> Schema.create(Schema.Type.STRING);
+		};
+	}
+
+	private record Column(String name, Field field, StandardSQLTypeName type) {
+	}
+}
@@ -0,0 +1,121 @@
+package org.example.auctionmarketevent.springbatch.job.writer;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.example.auctionmarketevent.common.provider.ChangedAuctionRowCounter;
+import org.example.auctionmarketevent.springbatch.job.dto.AuctionsWinningBidDto;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterStep;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@StepScope
+public class AdaptiveBigQueryItemWriter implements ItemWriter<AuctionsWinningBidDto> {
+	// Step 시작 시 이번 실행에서 쓸 행 수를 추정해서 Writer 선택
+	// => 적은 변경분(자주 도는 실행, drain 의 작은 구간): DirectBigQueryItemWriter (GCS / 로드 작업 생략)
+	// => 큰 변경분(백필): GCS 스테이징 + 로드 작업 (staged-mode: chunk / streaming)
+	// 선택된 Writer 는 Step 에 Listener 로 등록되지 않으므로 @BeforeStep / @AfterStep 을 직접 전달
+
+	private final DirectBigQueryItemWriter directWriter;
+	private final BigQueryItemWriter chunkWriter;
+	private final StreamingGcsItemWriter streamingWriter;
+	private final ChangedAuctionRowCounter changedAuctionRowCounter;
+	private final long directMaxRows; // 추정 행 수가 이 값 이하이면 직접 쓰기
+	private final String stagedMode; // 스테이징 방식: chunk / streaming
+	private final int maxItemCount; // 한 번의 Step(파티션)에서 읽을 최대 데이터 개수
+
+	private ItemWriter<AuctionsWinningBidDto> delegate;
+
+	// 생성자
+	@Autowired
+	public AdaptiveBigQueryItemWriter(DirectBigQueryItemWriter directWriter,
+		BigQueryItemWriter chunkWriter,
+		StreamingGcsItemWriter streamingWriter,
+		ChangedAuctionRowCounter changedAuctionRowCounter,
+		@Value("${app.batch.writer.adaptive.direct-max-rows:10000}") long directMaxRows,
+		@Value("${app.batch.writer.adaptive.staged-mode:chunk}") String stagedMode,
+		@Value("${app.batch.max-item-count:5000}") int maxItemCount) {
+		this.directWriter = directWriter;
+		this.chunkWriter = chunkWriter;
+		this.streamingWriter = streamingWriter;
+		this.changedAuctionRowCounter = changedAuctionRowCounter;
+		this.directMaxRows = directMaxRows;
+		this.stagedMode = stagedMode;
+		this.maxItemCount = maxItemCount;
+	}
+
+	// IncrementalTimestampStepListener / Partitioner 가 넣어준 워터마크, auction_id 구간 기준으로 추정
+	@BeforeStep
+	public void saveStepExecution(StepExecution stepExecution) {
+		long expectedRows = estimateRows(stepExecution);
+		boolean direct = expectedRows >= 0 && expectedRows <= directMaxRows;
+
+		if (direct) {
+			directWriter.saveStepExecution(stepExecution);
+			delegate = directWriter;
+		} else if ("streaming".equals(stagedMode)) {
+			streamingWriter.saveStepExecution(stepExecution);
+			delegate = streamingWriter;
+		} else {
+			chunkWriter.saveStepExecution(stepExecution);
+			delegate = chunkWriter;
+		}
+
+		log.info("Writer 선택: Step = {}, 추정 행 수 = {}, 직접 쓰기 기준 = {}, 선택 = {}",
+			stepExecution.getStepName(), expectedRows, directMaxRows, direct ? "direct" : stagedMode);
+	}
+
+	@Override
+	public void write(Chunk<? extends AuctionsWinningBidDto> chunk) throws Exception {
+		delegate.write(chunk);
+	}
+
+	@AfterStep
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		if (delegate == streamingWriter) {
+			return streamingWriter.afterStep(stepExecution);
+		}
+		if (delegate == chunkWriter) {
+			return chunkWriter.afterStep(stepExecution);
+		}
+		return stepExecution.getExitStatus();
+	}
+
+	// 추정 행 수 = min(변경 행 수, maxItemCount) (drain 구간 / 파티션 Worker 는 개수 상한 없음), 조회 실패 시 -1
+	private long estimateRows(StepExecution stepExecution) {
+		ExecutionContext context = stepExecution.getExecutionContext();
+		Timestamp watermark = (Timestamp)context.get("lastProcessedTimestamp");
+		if (watermark == null) {
+			return -1L;
+		}
+
+		LocalDateTime sliceEnd = stepExecution.getJobParameters() != null
+			? stepExecution.getJobParameters().getLocalDateTime("sliceEnd")
+			: null;
+		Long minAuctionId = context.containsKey("minAuctionId") ? context.getLong("minAuctionId") : null;
+		Long maxAuctionId = context.containsKey("maxAuctionId") ? context.getLong("maxAuctionId") : null;
+
+		// 파티션 Worker 는 Partitioner 가 넣어준 공통 시각 상한까지 개수 상한 없이 읽음
+		Timestamp upperBound = sliceEnd != null
+			? Timestamp.valueOf(sliceEnd)
+			: (Timestamp)context.get("partitionUpperBound");
+
+		long changedRows = changedAuctionRowCounter.count(watermark, upperBound, minAuctionId, maxAuctionId);
+		if (changedRows < 0 || sliceEnd != null || minAuctionId != null) {
+			return changedRows;
+		}
+		return Math.min(changedRows, maxItemCount);
+	}
+}
@@ -0,0 +1,287 @@
+package org.example.auctionmarketevent.springbatch.job.writer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.example.auctionmarketevent.springbatch.job.dto.AuctionsWinningBidDto;
+
+public class AuctionsWinningBidCsvEncoder implements StagingFileEncoder {
+	// AuctionsWinningBidDto 전용 CSV 인코더 (Jackson CsvMapper 경로와 바이트 단위로 같은 출력)
+	// => 컬럼 순서 고정 (@JsonPropertyOrder), 리플렉션 / ObjectWriter / 중간 String 없이 스레드별 버퍼에 UTF-8 로 바로 씀
+	// => 규칙: 헤더 없음, 구분자 ',', 줄바꿈 '\n', null => 빈 칸,
+	//    문자열에 '-' (0x2D) 보다 작은 문자(공백, ',', '"', 제어 문자 등)가 있거나 24자를 넘으면 '"' 로 감싸고 '"' 는 두 번 씀,
+	//    Instant => ISO-8601 (DateTimeFormatter.ISO_INSTANT, 소수점 이하는 3자리 단위, 마이크로 / 나노 단위는 24자를 넘어서 '"')
+
+	private static final byte SEPARATOR = ',';
+	private static final byte QUOTE = '"';
+	private static final byte LINE_SEPARATOR = '\n';
+	private static final char MIN_SAFE_CHAR = '-'; // Jackson CsvEncoder 의 기본 quoting 기준 (구분자 / 따옴표 / 줄바꿈 문자보다 큰 첫 문자)
+	private static final int MAX_QUOTE_CHECK = 24; // Jackson CsvEncoder.MAX_QUOTE_CHECK => 이보다 긴 문자열은 검사 없이 항상 따옴표
+
+	private static final int FLUSH_THRESHOLD = 64 * 1024; // 버퍼가 이 크기를 넘으면 출력 스트림으로 내보냄
+
+	// yyyy-MM-ddTHH:mm:ss 를 직접 쓰는 구간 (0000-01-01T00:00:00Z ~ 9999-12-31T23:59:59Z), 벗어나면 ISO_INSTANT 사용
+	private static final long MIN_FAST_EPOCH_SECOND = -62167219200L;
+	private static final long MAX_FAST_EPOCH_SECOND = 253402300799L;
+	private static final int SECONDS_PER_DAY = 86400;
+
+	// 스레드별 버퍼 => 인코더(파일) 마다 새로 만들지 않고 재사용, write() 가 끝날 때마다 비우므로 다른 스레드가 이어서 써도 안전
+	private static final ThreadLocal<RowBuffer> BUFFERS = ThreadLocal.withInitial(RowBuffer::new);
+
+	private final OutputStream outputStream;
+
+	public AuctionsWinningBidCsvEncoder(OutputStream outputStream) {
+		this.outputStream = outputStream;
+	}
+
+	@Override
+	public void write(List<? extends AuctionsWinningBidDto> items) throws IOException {
+		RowBuffer buffer = BUFFERS.get();
+		try {
+			for (AuctionsWinningBidDto item : items) {
+				buffer.writeLong(item.getAuctionId());
+				buffer.put(SEPARATOR);
+				buffer.writeLong(item.getProductId());
+				buffer.put(SEPARATOR);
+				buffer.writeString(item.getProductName());
+				buffer.put(SEPARATOR);
+				buffer.writeString(item.getProductCategory());
+				buffer.put(SEPARATOR);
+				buffer.writeLong(item.getMaxPrice());
+				buffer.put(SEPARATOR);
+				buffer.writeInstant(item.getAuctionStartTime());
+				buffer.put(SEPARATOR);
+				buffer.writeInstant(item.getAuctionEndTime());
+				buffer.put(SEPARATOR);
+				buffer.writeInstant(item.getLastModified());
+				buffer.put(LINE_SEPARATOR);
+
+				if (buffer.size() >= FLUSH_THRESHOLD) {
+					buffer.drainTo(outputStream);
+				}
+			}
+			buffer.drainTo(outputStream);
+		} finally {
+			buffer.reset(); // 예외가 나도 다음 write() 에 이전 데이터가 섞이지 않도록
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		outputStream.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		outputStream.close();
+	}
+
+	// 스레드별 출력 버퍼 + 마지막으로 쓴 날짜 캐시
+	private static final class RowBuffer {
+		private byte[] bytes = new byte[FLUSH_THRESHOLD + 1024];
+		private int size;
+
+		private long cachedEpochDay = Long.MIN_VALUE;
+		private final byte[] cachedDate = new byte[10]; // yyyy-MM-dd
+
+		int size() {
+			return size;
+		}
+
+		void reset() {
+			size = 0;
+		}
+
+		void drainTo(OutputStream outputStream) throws IOException {
+			if (size > 0) {
+				outputStream.write(bytes, 0, size);
+				size = 0;
+			}
+		}
+
+		void put(byte b) {
+			ensureCapacity(1);
+			bytes[size++] = b;
+		}
+
+		void writeLong(Long value) {
+			if (value == null) {
+				return;
+			}
+			long v = value;
+			if (v == Long.MIN_VALUE) {
+				writeAscii(Long.toString(v));
+				return;
+			}
+			ensureCapacity(20);
+			if (v < 0) {
+				bytes[size++] = '-';
+				v = -v;
+			}
+			int digits = digitCount(v);
+			int pos = size + digits;
+			do {
+				bytes[--pos] = (byte)('0' + (int)(v % 10));
+				v /= 10;
+			} while (v != 0);
+			size += digits;
+		}
+
+		void writeString(String value) throws IOException {
+			if (value == null) {
+				return;
+			}
+			if (!needsQuoting(value)) {
+				writeUtf8(value, false);
+				return;
+			}
+			put(QUOTE);
+			writeUtf8(value, true);
+			put(QUOTE);
+		}
+
+		void writeInstant(Instant value) throws IOException {
+			if (value == null) {
+				return;
+			}
+			long epochSecond = value.getEpochSecond();
+			if (epochSecond < MIN_FAST_EPOCH_SECOND || epochSecond > MAX_FAST_EPOCH_SECOND) {
+				writeString(DateTimeFormatter.ISO_INSTANT.format(value)); // 10000년 이후는 '+' 로 시작 => 따옴표로 감쌈 (Jackson 과 동일)
+				return;
+			}
+
+			long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+			int secondOfDay = (int)Math.floorMod(epochSecond, SECONDS_PER_DAY);
+			if (epochDay != cachedEpochDay) {
+				cacheDate(epochDay);
+			}
+
+			// ISO_INSTANT: 필요한 만큼 3자리 단위 (밀리 / 마이크로 / 나노)
+			int nano = value.getNano();
+			int digits = nano == 0 ? 0 : nano % 1_000_000 == 0 ? 3 : nano % 1_000 == 0 ? 6 : 9;
+			// 길이 = 20 + (소수점 + digits) => 마이크로 / 나노 단위는 MAX_QUOTE_CHECK 를 넘어서 Jackson 이 따옴표로 감쌈
+			boolean quoted = 20 + (digits == 0 ? 0 : digits + 1) > MAX_QUOTE_CHECK;
+
+			ensureCapacity(32); // "yyyy-MM-ddTHH:mm:ss.nnnnnnnnnZ"
+			if (quoted) {
+				bytes[size++] = QUOTE;
+			}
+			System.arraycopy(cachedDate, 0, bytes, size, cachedDate.length);
+			size += cachedDate.length;
+			bytes[size++] = 'T';
+			putTwoDigits(secondOfDay / 3600);
+			bytes[size++] = ':';
+			putTwoDigits(secondOfDay / 60 % 60);
+			bytes[size++] = ':';
+			putTwoDigits(secondOfDay % 60);
+
+			if (digits > 0) {
+				int fraction = digits == 3 ? nano / 1_000_000 : digits == 6 ? nano / 1_000 : nano;
+				bytes[size++] = '.';
+				for (int pos = size + digits - 1; pos >= size; pos--) {
+					bytes[pos] = (byte)('0' + fraction % 10);
+					fraction /= 10;
+				}
+				size += digits;
+			}
+			bytes[size++] = 'Z';
+			if (quoted) {
+				bytes[size++] = QUOTE;
+			}
+		}
+
+		// 날짜가 바뀔 때만 계산 (같은 날의 행이 연속되는 경우가 대부분)
+		private void cacheDate(long epochDay) {
+			LocalDate date = LocalDate.ofEpochDay(epochDay);
+			int year = date.getYear();
+			cachedDate[0] = (byte)('0' + year / 1000);
+			cachedDate[1] = (byte)('0' + year / 100 % 10);
+			cachedDate[2] = (byte)('0' + year / 10 % 10);
+			cachedDate[3] = (byte)('0' + year % 10);
+			cachedDate[4] = '-';
+			cachedDate[5] = (byte)('0' + date.getMonthValue() / 10);
+			cachedDate[6] = (byte)('0' + date.getMonthValue() % 10);
+			cachedDate[7] = '-';
+			cachedDate[8] = (byte)('0' + date.getDayOfMonth() / 10);
+			cachedDate[9] = (byte)('0' + date.getDayOfMonth() % 10);
+			cachedEpochDay = epochDay;
+		}
+
+		private void putTwoDigits(int value) {
+			bytes[size++] = (byte)('0' + value / 10);
+			bytes[size++] = (byte)('0' + value % 10);
+		}
+
+		private void writeAscii(String value) {
+			byte[] ascii = value.getBytes(StandardCharsets.US_ASCII);
+			ensureCapacity(ascii.length);
+			System.arraycopy(ascii, 0, bytes, size, ascii.length);
+			size += ascii.length;
+		}
+
+		// String => UTF-8 (escapeQuotes 이면 '"' 를 '""' 로)
+		private void writeUtf8(String value, boolean escapeQuotes) throws IOException {
+			int length = value.length();
+			ensureCapacity(length * 3 + length); // 문자당 최대 3바이트 (서로게이트 쌍은 2문자 => 4바이트) + '"' 중복
+			for (int i = 0; i < length; i++) {
+				char c = value.charAt(i);
+				if (c < 0x80) {
+					if (escapeQuotes && c == QUOTE) {
+						bytes[size++] = QUOTE;
+					}
+					bytes[size++] = (byte)c;
+				} else if (c < 0x800) {
+					bytes[size++] = (byte)(0xC0 | (c >> 6));
+					bytes[size++] = (byte)(0x80 | (c & 0x3F));
+				} else if (Character.isSurrogate(c)) {
+					if (!Character.isHighSurrogate(c) || i + 1 >= length || !Character.isLowSurrogate(value.charAt(i + 1))) {
+						throw new IOException("잘못된 서로게이트 문자: index = " + i);
+					}
+					int codePoint = Character.toCodePoint(c, value.charAt(++i));
+					bytes[size++] = (byte)(0xF0 | (codePoint >> 18));
+					bytes[size++] = (byte)(0x80 | ((codePoint >> 12) & 0x3F));
+					bytes[size++] = (byte)(0x80 | ((codePoint >> 6) & 0x3F));
+					bytes[size++] = (byte)(0x80 | (codePoint & 0x3F));
+				} else {
+					bytes[size++] = (byte)(0xE0 | (c >> 12));
+					bytes[size++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+					bytes[size++] = (byte)(0x80 | (c & 0x3F));
+				}
+			}
+		}
+
+		private void ensureCapacity(int extra) {
+			if (size + extra > bytes.length) {
+				byte[] grown = new byte[Math.max(bytes.length * 2, size + extra)];
+				System.arraycopy(bytes, 0, grown, 0, size);
+				bytes = grown;
+			}
+		}
+
+		private static boolean needsQuoting(String value) {
+			if (value.length() > MAX_QUOTE_CHECK) {
+				return true;
+			}
+			for (int i = 0; i < value.length(); i++) {
+				if (value.charAt(i) < MIN_SAFE_CHAR) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private static int digitCount(long value) {
+			int digits = 1;
+			while (value >= 10) {
+				value /= 10;
+				digits++;
+			}
+			return digits;
+		}
+	}
+}
@@ -1,21 +1,25 @@
 package org.example.auctionmarketevent.springbatch.job.writer;
 
 import java.io.ByteArrayOutputStream;
-import java.io.OutputStreamWriter;
-import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
-import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.example.auctionmarketevent.springbatch.job.dto.AuctionsWinningBidDto;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterStep;
 import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemWriter;
@@ -23,10 +27,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.dataformat.csv.CsvMapper;
-import com.fasterxml.jackson.dataformat.csv.CsvSchema;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
@@ -35,45 +35,51 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
+@StepScope // Step(파티션 Worker) 마다 별도 인스턴스 => stepExecution 필드를 Worker 끼리 공유하지 않음
 public class BigQueryItemWriter implements ItemWriter<AuctionsWinningBidDto> {
 	// Spring Batch 로부터 처리된 데이터 묶음 받음
-	// => 데이터를 CSV 형식으로 변환 => GCS 버킷에 파일로 업로드
+	// => 데이터를 CSV(또는 Avro) 형식으로 변환 => GCS 버킷에 파일로 업로드
 
 	private final Storage storage; // GCS 클라이언트 주입
 	private final String gcsBucketName; // application.yml 값 주입
-	private final CsvMapper csvMapper; // CSV 변환기 (Jackson 사용)
+	private final StagingFileFormat format; // 스테이징 파일 형식 (csv / avro)
+	private final GcsUploadPipeline uploadPipeline; // 비동기 업로드 (null 이거나 비활성화면 chunk 스레드에서 바로 업로드)
+	private final boolean partitionRouting; // auction_end_time 일자(파티션)별로 스테이징 파일 분리
 
 	private StepExecution stepExecution;
+	private final List<PendingUpload> pendingUploads = new ArrayList<>(); // 아직 완료 확인이 안 된 비동기 업로드
 	private static final String GCS_FILE_URIS_KEY = "gcsFileUris"; // ExecutionContext 에 GCS 파일 경로 리스트를 저장할 때 사용할 키
 	private static final String MAX_TIMESTAMP_KEY = "maxProcessedTimestampInChunk"; // ExecutionContext 에 처리된 데이터 중 최신 타임스탬프 값을 저장할 때 사용할 키
 
-	// BigQuery 에서 사용하는 타임스탬프 형식 정의 => SimpleDateFormat 사용
-	// SimpleDateFormat:  Java 에서 날짜/시간을 특정 형식의 문자열로 변환하거나, 반대로 특정 형식의 문자열을 날짜/시간으로 변환/파싱할 때 사용하는 도구
-	private static final String BQ_TIMESTAMP_PATTERN = "yyyy-MM-dd HH:mm:ss.SSSSSS";
 
 
 	// 생성자
 	@Autowired
 	public BigQueryItemWriter(Storage storage,
-		@Value("${spring.cloud.gcp.storage.bucket-name}") String gcsBucketName) {
+		@Value("${spring.cloud.gcp.storage.bucket-name}") String gcsBucketName,
+		@Value("${app.batch.writer.format:csv}") String format,
+		GcsUploadPipeline uploadPipeline,
+		@Value("${app.batch.load.partitioning.enabled:true}") boolean partitionRouting) {
 		this.storage = storage;
 		this.gcsBucketName = gcsBucketName;
+		this.format = StagingFileFormat.from(format);
+		this.uploadPipeline = uploadPipeline;
+		this.partitionRouting = partitionRouting;
+	}
 
-		this.csvMapper = new CsvMapper();
-		this.csvMapper.registerModule(new JavaTimeModule());
-		this.csvMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-		SimpleDateFormat sdf = new SimpleDateFormat(BQ_TIMESTAMP_PATTERN);
-		sdf.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
-		this.csvMapper.setDateFormat(sdf);
 
+	// chunk 커밋 시점에 그 chunk 의 파일이 GCS 에 올라가 있는지
+	// => 비동기 업로드는 커밋 후에 업로드가 실패할 수 있음 => Reader 위치를 저장하면 재시작 시 그 chunk 의 행을 건너뜀
+	public boolean isUploadedOnCommit() {
+		return uploadPipeline == null || !uploadPipeline.isEnabled();
 	}
 
-
 	@BeforeStep // Step 시작 전에 StepExecution 객체를 받아오기
 	public void saveStepExecution(StepExecution stepExecution) {
 		this.stepExecution = stepExecution;
 		// ExecutionContext 에 파일 URI 리스트 초기화
 		this.stepExecution.getExecutionContext().put(GCS_FILE_URIS_KEY, new ArrayList<String>());
+		this.pendingUploads.clear();
 	}
 
 
@@ -86,47 +92,60 @@ public class BigQueryItemWriter implements ItemWriter<AuctionsWinningBidDto> {
 			return;
 		}
 
-		// 데이터를 CSV 으로 변환
-		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-		OutputStreamWriter writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+		// 앞선 chunk 의 업로드 중 끝난 것 반영 (실패한 업로드가 있으면 여기서 Step 실패)
+		harvestCompletedUploads();
+
+		if (!partitionRouting) {
+			uploadFile(items, null);
+			return;
+		}
 
-		// AuctionsWinningBidDto 구조를 바탕으로 CSV 스키마 생성
-		CsvSchema schema = csvMapper.schemaFor(AuctionsWinningBidDto.class).withoutHeader();
+		// 파티션(auction_end_time 일자)별로 나눠서 파일 하나씩 => 로드할 때 파티션 데코레이터(table$yyyyMMdd) 사용 가능
+		Map<String, List<AuctionsWinningBidDto>> itemsByPartition = new LinkedHashMap<>();
+		for (AuctionsWinningBidDto item : items) {
+			itemsByPartition.computeIfAbsent(StagingPartition.of(item.getAuctionEndTime()), key -> new ArrayList<>())
+				.add(item);
+		}
+		for (Map.Entry<String, List<AuctionsWinningBidDto>> partition : itemsByPartition.entrySet()) {
+			uploadFile(partition.getValue(), partition.getKey());
+		}
+	}
 
-		try {
-			// 준비된 스키마와 writer 를 사용하여 items 리스트의 데이터를 CSV 형식으로 변환하여 outputStream 에 작성
-			csvMapper.writer(schema).writeValue(writer, items);
-		} finally {
-			try { writer.close(); // 쓰기 작업이 끝나면 writer 닫음
-			} catch (Exception ignore) {}
+	// 스테이징 파일 하나 인코딩 + 업로드 (partitionId 가 있으면 객체 이름에 표시)
+	private void uploadFile(List<? extends AuctionsWinningBidDto> items, String partitionId) throws Exception {
+		// 데이터를 스테이징 파일 형식(CSV / Avro)으로 변환
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		try (StagingFileEncoder encoder = format.open(outputStream)) {
+			// AuctionsWinningBidDto 구조를 바탕으로 만든 스키마로 items 리스트의 데이터를 변환하여 outputStream 에 작성
+			encoder.write(items);
 		}
 
-		// CSV 데이터를 바이트 배열 형태로 가져옴
-		byte[] csvData = outputStream.toByteArray();
+		// 변환된 데이터를 바이트 배열 형태로 가져옴
+		byte[] fileData = outputStream.toByteArray();
 
-		// GCS 에 CSV 업로드
-		String gcsObjectName = generateGcsObjectName(); //  GCS 에 저장될 고유 이름 생성
+		// GCS 에 업로드
+		String gcsObjectName = generateGcsObjectName(partitionId); //  GCS 에 저장될 고유 이름 생성
 		BlobId blobId = BlobId.of(gcsBucketName, gcsObjectName);
-		BlobInfo blobInfo = BlobInfo.newBuilder(blobId).setContentType("text/csv").build();
+		BlobInfo blobInfo = BlobInfo.newBuilder(blobId).setContentType(format.getContentType()).build();
+		String gcsUri = "gs://" + gcsBucketName + "/" + gcsObjectName; // 업로드될 파일의 GCS 경로(URI)
+		Timestamp maxTimestampInChunk = findMaxTimestamp(items);
+
+		if (uploadPipeline != null && uploadPipeline.isEnabled()) {
+			// 비동기 업로드: 업로드 자리가 날 때까지 대기 후 넘기고 바로 다음 chunk 진행
+			// => URI / 타임스탬프는 업로드가 끝난 것이 확인된 뒤에만 ExecutionContext 에 반영
+			CompletableFuture<Void> upload = uploadPipeline.submit(() -> storage.create(blobInfo, fileData));
+			pendingUploads.add(new PendingUpload(gcsUri, maxTimestampInChunk, upload));
+			return;
+		}
 
 		try {
-			storage.create(blobInfo, csvData); // GCS 클라이언트(storage)를 사용하여 실제 파일 데이터(csvData)를 GCS 에 업로드
-			String gcsUri = "gs://" + gcsBucketName + "/" + gcsObjectName; // 업로드된 파일의 GCS 경로(URI) 생성
-
+			storage.create(blobInfo, fileData); // GCS 클라이언트(storage)를 사용하여 실제 파일 데이터(fileData)를 GCS 에 업로드
 			log.info("GCS 업로드 성공: URI = {}", gcsUri);
 
-			// 현재 단계의 ExecutionContext 에서 GCS 파일 URI 리스트를 가져와 방금 업로드한 파일의 URI 를 추가한 뒤 다시 ExecutionContext 에 저장
+			// 방금 업로드한 파일의 URI, 이번 chunk 의 최신 타임스탬프를 ExecutionContext 에 반영
 			// => BigQuery 업로드 하기 위해 GCS에 업로드된 파일 알 수 있음
-			ExecutionContext executionContext = stepExecution.getExecutionContext();
-			List<String> gcsFileUris = (List<String>) executionContext.get(GCS_FILE_URIS_KEY);
-			if (gcsFileUris == null) {
-				gcsFileUris = new ArrayList<>();
-			}
-			gcsFileUris.add(gcsUri);
-			executionContext.put(GCS_FILE_URIS_KEY, gcsFileUris);
-
-			// 이번 chunk 에서 처리된 데이터 중 최신 타임스탬프를 찾아 ExecutionContext 에 업데이트
-			updateMaxTimestampInContext(items);
+			recordUploadedFile(gcsUri, maxTimestampInChunk);
 
 		} catch (Exception e) {
 			log.error("GCS 버킷에 데이터를 업로드하는 중 오류 발생: GCS 버킷 = {}", gcsBucketName);
@@ -134,32 +153,100 @@ public class BigQueryItemWriter implements ItemWriter<AuctionsWinningBidDto> {
 		}
 	}
 
+	// Step 종료 전 barrier: 진행 중인 비동기 업로드가 모두 끝날 때까지 대기
+	// (IncrementalTimestampStepListener 의 afterStep 보다 먼저 호출됨 => 확인된 파일만 로드 대상이 됨)
+	@AfterStep
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		boolean uploadFailed = false;
+		for (PendingUpload pending : pendingUploads) {
+			try {
+				pending.upload().join();
+				if (stepExecution.getStatus() == BatchStatus.COMPLETED) {
+					recordUploadedFile(pending.gcsUri(), pending.maxTimestamp());
+				}
+			} catch (Exception e) {
+				log.error("GCS 버킷에 데이터를 업로드하는 중 오류 발생: URI = {}", pending.gcsUri(), e);
+				uploadFailed = true;
+			}
+		}
+		pendingUploads.clear();
+
+		if (uploadFailed) {
+			// 뒤이어 실행되는 Listener 가 불완전한 파일 목록을 로드하지 않도록 Step 을 실패로 표시
+			stepExecution.setExitStatus(ExitStatus.FAILED);
+			return ExitStatus.FAILED;
+		}
+		return stepExecution.getExitStatus();
+	}
+
+	// 끝난 비동기 업로드를 ExecutionContext 에 반영 (chunk 스레드에서만 호출)
+	private void harvestCompletedUploads() {
+		Iterator<PendingUpload> iterator = pendingUploads.iterator();
+		while (iterator.hasNext()) {
+			PendingUpload pending = iterator.next();
+			if (!pending.upload().isDone()) {
+				continue;
+			}
+			try {
+				pending.upload().join();
+			} catch (Exception e) {
+				log.error("GCS 버킷에 데이터를 업로드하는 중 오류 발생: URI = {}", pending.gcsUri());
+				throw new RuntimeException("데이터를 GCS 에 업로드하는 데 실패했습니다.", e);
+			}
+			recordUploadedFile(pending.gcsUri(), pending.maxTimestamp());
+			iterator.remove();
+		}
+	}
+
+	// 업로드가 확인된 파일의 URI 추가 + 최신 타임스탬프 갱신
+	private void recordUploadedFile(String gcsUri, Timestamp maxTimestamp) {
+		// 현재 단계의 ExecutionContext 에서 GCS 파일 URI 리스트를 가져와 업로드한 파일의 URI 를 추가한 뒤 다시 ExecutionContext 에 저장
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		List<String> gcsFileUris = (List<String>) executionContext.get(GCS_FILE_URIS_KEY);
+		if (gcsFileUris == null) {
+			gcsFileUris = new ArrayList<>();
+		}
+		gcsFileUris.add(gcsUri);
+		executionContext.put(GCS_FILE_URIS_KEY, gcsFileUris);
+
+		updateMaxTimestampInContext(maxTimestamp);
+	}
+
 	// GCS 객체 이름 생성 (고유값) 메서드
-	private String generateGcsObjectName() {
+	private String generateGcsObjectName(String partitionId) {
 		long jobExecutionId = stepExecution.getJobExecutionId();
 		long stepExecutionId = stepExecution.getId();
-		return String.format("batch_load_%d_%d_%s.csv",
-			jobExecutionId, stepExecutionId, UUID.randomUUID());
+		return String.format("batch_load_%d_%d_%s%s.%s",
+			jobExecutionId, stepExecutionId, StagingPartition.nameToken(partitionId), UUID.randomUUID(),
+			format.getExtension());
 	}
 
-	// ExecutionContext 에 최신 타임스탬프 저장 메서드
-	private void updateMaxTimestampInContext(List<? extends AuctionsWinningBidDto> items) {
+	// chunk 에서 처리된 데이터 중 최신 타임스탬프 (없으면 null)
+	private Timestamp findMaxTimestamp(List<? extends AuctionsWinningBidDto> items) {
 		Optional<Instant> maxInstantOpt = items.stream()
 			.map(AuctionsWinningBidDto::getLastModified)
 			.filter(java.util.Objects::nonNull)
 			.max(Comparator.naturalOrder());
+		return maxInstantOpt.map(Timestamp::from).orElse(null);
+	}
 
-		if (maxInstantOpt.isPresent()) {
-			Timestamp maxTimestampInChunk = Timestamp.from(maxInstantOpt.get());
-			ExecutionContext executionContext = this.stepExecution.getExecutionContext();
-			Timestamp currentMaxTimestamp = (Timestamp) executionContext.get(MAX_TIMESTAMP_KEY);
+	// ExecutionContext 에 최신 타임스탬프 저장 메서드
+	private void updateMaxTimestampInContext(Timestamp maxTimestampInChunk) {
+		if (maxTimestampInChunk == null) {
+			return;
+		}
+		ExecutionContext executionContext = this.stepExecution.getExecutionContext();
+		Timestamp currentMaxTimestamp = (Timestamp) executionContext.get(MAX_TIMESTAMP_KEY);
 
-			if (currentMaxTimestamp == null || maxTimestampInChunk.after(currentMaxTimestamp)) {
-				executionContext.put(MAX_TIMESTAMP_KEY, maxTimestampInChunk);
+		if (currentMaxTimestamp == null || maxTimestampInChunk.after(currentMaxTimestamp)) {
+			executionContext.put(MAX_TIMESTAMP_KEY, maxTimestampInChunk);
 
-				log.debug("ExecutionContext 값 업데이트: 기존 = {}, 업데이트 = {}", MAX_TIMESTAMP_KEY, maxTimestampInChunk);
-			}
+			log.debug("ExecutionContext 값 업데이트: 기존 = {}, 업데이트 = {}", MAX_TIMESTAMP_KEY, maxTimestampInChunk);
 		}
 	}
 
+	// 비동기 업로드 하나 (업로드 완료 전까지 URI / 타임스탬프 보관)
+	private record PendingUpload(String gcsUri, Timestamp maxTimestamp, CompletableFuture<Void> upload) {
+	}
+
 }
@@ -0,0 +1,16 @@
+package org.example.auctionmarketevent.springbatch.job.writer;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.cloud.bigquery.BigQueryError;
+import com.google.cloud.bigquery.InsertAllRequest;
+import com.google.cloud.bigquery.TableId;
+
+public interface BigQueryTableClient {
+	// Writer 가 BigQuery 테이블에 직접 쓸 때 사용하는 클라이언트
+	// => 실제 구현(GoogleBigQueryTableClient)과 테스트용 메모리 구현을 바꿔 끼울 수 있도록 인터페이스로 분리
+
+	// 행 묶음을 테이블에 추가 => 실패한 행의 (요청 내 인덱스, 오류 목록) 반환, 모두 성공하면 빈 Map
+	Map<Long, List<BigQueryError>> insertAll(TableId tableId, List<InsertAllRequest.RowToInsert> rows);
+}
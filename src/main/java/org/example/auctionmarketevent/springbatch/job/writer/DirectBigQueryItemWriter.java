@@ -0,0 +1,136 @@
+package org.example.auctionmarketevent.springbatch.job.writer;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.example.auctionmarketevent.common.listener.BigQueryDestinationTable;
+import org.example.auctionmarketevent.springbatch.job.dto.AuctionsWinningBidDto;
+import org.example.auctionmarketevent.springbatch.job.schema.BigQueryRowSchema;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.cloud.bigquery.BigQueryError;
+import com.google.cloud.bigquery.InsertAllRequest;
+import com.google.cloud.bigquery.TableId;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@StepScope
+public class DirectBigQueryItemWriter implements ItemWriter<AuctionsWinningBidDto> {
+	// 변경분이 적을 때는 GCS 업로드 => 로드 작업 => waitFor() => GCS 삭제 과정이 실제 데이터보다 훨씬 오래 걸림
+	// => chunk 를 GCS 를 거치지 않고 BigQuery 테이블에 바로 추가 (insertAll)
+	// => chunk 커밋 시점에 이미 BigQuery 에 들어가 있으므로 Reader 재시작 위치와 적재 상태가 일치
+	// => insertId(auction_id + last_modified) 로 재시도 시 중복 insert 를 BigQuery 가 걸러냄 (best-effort)
+	// => insertAll 은 컬럼을 추가하지 않음 => 스텝의 첫 insertAll 전에 대상 테이블 생성 / 새 컬럼(last_modified 등) 추가
+
+	private static final String MAX_TIMESTAMP_KEY = "maxProcessedTimestampInChunk"; // ExecutionContext 에 처리된 데이터 중 최신 타임스탬프 값을 저장할 때 사용할 키
+	private static final String DIRECT_WRITTEN_ROWS_KEY = "directWrittenRows"; // BigQuery 에 바로 쓴 행 수 (Listener 가 워터마크 업데이트 여부 판단)
+
+	private final BigQueryTableClient tableClient;
+	private final BigQueryDestinationTable destinationTable; // 대상 테이블 생성 / 컬럼 추가
+	private final TableId tableId;
+	private final int batchSize; // insertAll 요청 하나에 담을 최대 행 수
+
+	private StepExecution stepExecution;
+	private boolean tableReady; // 이번 스텝에서 대상 테이블 확인 여부
+
+	// 생성자
+	@Autowired
+	public DirectBigQueryItemWriter(BigQueryTableClient tableClient,
+		BigQueryDestinationTable destinationTable,
+		@Value("${spring.cloud.gcp.bigquery.dataset-name}") String datasetName,
+		@Value("${spring.cloud.gcp.bigquery.table-name}") String tableName,
+		@Value("${app.batch.writer.direct.batch-size:500}") int batchSize) {
+		this.tableClient = tableClient;
+		this.destinationTable = destinationTable;
+		this.tableId = TableId.of(datasetName, tableName);
+		this.batchSize = batchSize;
+	}
+
+	@BeforeStep
+	public void saveStepExecution(StepExecution stepExecution) {
+		this.stepExecution = stepExecution;
+		this.tableReady = false;
+	}
+
+	@Override
+	public void write(Chunk<? extends AuctionsWinningBidDto> chunk) throws Exception {
+		List<? extends AuctionsWinningBidDto> items = chunk.getItems();
+
+		if (items.isEmpty()) {
+			log.debug("chunk 에서 기록할 항목이 없습니다.");
+			return;
+		}
+
+		if (!tableReady) {
+			destinationTable.ensureReady();
+			tableReady = true;
+		}
+
+		BigQueryRowSchema schema = BigQueryRowSchema.AUCTIONS_WINNING_BID;
+		for (int from = 0; from < items.size(); from += batchSize) {
+			List<? extends AuctionsWinningBidDto> batch = items.subList(from, Math.min(from + batchSize, items.size()));
+
+			List<InsertAllRequest.RowToInsert> rows = new ArrayList<>(batch.size());
+			for (AuctionsWinningBidDto item : batch) {
+				rows.add(InsertAllRequest.RowToInsert.of(insertId(item), schema.toInsertRow(item)));
+			}
+
+			Map<Long, List<BigQueryError>> insertErrors = tableClient.insertAll(tableId, rows);
+			if (!insertErrors.isEmpty()) {
+				log.error("BigQuery 직접 쓰기 실패: 테이블 = {}, 실패 행 수 = {}, 오류 = {}",
+					tableId, insertErrors.size(), insertErrors.values().iterator().next());
+				// chunk 실패 => Step 실패, 재시작 시 마지막 커밋 위치부터 다시 씀 (insertId 로 중복 제거)
+				throw new IllegalStateException("BigQuery 에 데이터를 쓰는 데 실패했습니다: 실패 행 수 = " + insertErrors.size());
+			}
+		}
+
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		executionContext.putLong(DIRECT_WRITTEN_ROWS_KEY,
+			executionContext.getLong(DIRECT_WRITTEN_ROWS_KEY, 0L) + items.size());
+
+		log.info("BigQuery 직접 쓰기 성공: 테이블 = {}, 행 수 = {}", tableId, items.size());
+
+		// 이번 chunk 에서 처리된 데이터 중 최신 타임스탬프를 찾아 ExecutionContext 에 업데이트
+		updateMaxTimestampInContext(items);
+	}
+
+	// 같은 행(같은 변경 시점)을 다시 쓰면 같은 insertId => BigQuery 가 중복 제거
+	private String insertId(AuctionsWinningBidDto item) {
+		Instant lastModified = item.getLastModified();
+		return item.getAuctionId() + "_" + (lastModified != null ? lastModified.toEpochMilli() : 0L);
+	}
+
+	// ExecutionContext 에 최신 타임스탬프 저장 메서드
+	private void updateMaxTimestampInContext(List<? extends AuctionsWinningBidDto> items) {
+		Optional<Instant> maxInstantOpt = items.stream()
+			.map(AuctionsWinningBidDto::getLastModified)
+			.filter(Objects::nonNull)
+			.max(Comparator.naturalOrder());
+
+		if (maxInstantOpt.isPresent()) {
+			Timestamp maxTimestampInChunk = Timestamp.from(maxInstantOpt.get());
+			ExecutionContext executionContext = this.stepExecution.getExecutionContext();
+			Timestamp currentMaxTimestamp = (Timestamp)executionContext.get(MAX_TIMESTAMP_KEY);
+
+			if (currentMaxTimestamp == null || maxTimestampInChunk.after(currentMaxTimestamp)) {
+				executionContext.put(MAX_TIMESTAMP_KEY, maxTimestampInChunk);
+			}
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package org.example.auctionmarketevent.springbatch.job.writer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class GcsUploadPipeline {
+	// BigQueryItemWriter 의 GCS 업로드를 별도 스레드에서 실행 => 다음 chunk 의 읽기/가공/인코딩과 업로드가 겹쳐서 진행
+	// => 동시에 진행 중인 업로드 수를 maxInFlight 로 제한 (모든 Step / 파티션 Worker 공유)
+	// => 한도에 걸리면 chunk 스레드가 대기 (backpressure) => 메모리에 쌓이는 chunk 데이터 양도 제한됨
+
+	private final boolean enabled; // false 면 Writer 가 chunk 스레드에서 바로 업로드 (기존 방식)
+	private final Semaphore permits;
+	private final ExecutorService executor;
+	private final AtomicInteger inFlight = new AtomicInteger(); // 진행 중인 업로드 수
+	private final Timer backpressureTimer; // 업로드 자리가 날 때까지 chunk 스레드가 기다린 시간
+	private final Timer uploadTimer; // 업로드 하나에 걸린 시간
+
+	// 생성자
+	@Autowired
+	public GcsUploadPipeline(MeterRegistry meterRegistry,
+		@Value("${app.batch.writer.async-upload.enabled:false}") boolean enabled,
+		@Value("${app.batch.writer.async-upload.max-in-flight:4}") int maxInFlight) {
+		this.enabled = enabled;
+		this.permits = new Semaphore(maxInFlight);
+		this.executor = Executors.newFixedThreadPool(maxInFlight, uploadThreadFactory());
+
+		Gauge.builder("batch.gcs.upload.in_flight", inFlight, AtomicInteger::get)
+			.description("진행 중인 GCS 업로드 수")
+			.register(meterRegistry);
+		this.backpressureTimer = Timer.builder("batch.gcs.upload.backpressure")
+			.description("업로드 한도 때문에 chunk 스레드가 기다린 시간")
+			.register(meterRegistry);
+		this.uploadTimer = Timer.builder("batch.gcs.upload.duration")
+			.description("GCS 업로드 하나에 걸린 시간")
+			.register(meterRegistry);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	// 업로드 자리가 날 때까지 기다린 뒤 업로드 시작 => 업로드가 끝나면 완료되는 Future 반환
+	public CompletableFuture<Void> submit(Runnable upload) throws InterruptedException {
+		long waitStart = System.nanoTime();
+		permits.acquire();
+		backpressureTimer.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+
+		inFlight.incrementAndGet();
+		try {
+			return CompletableFuture.runAsync(() -> uploadTimer.record(upload), executor)
+				.whenComplete((result, e) -> release());
+		} catch (RuntimeException e) {
+			// 작업 등록 자체가 실패 (executor 종료 등)
+			release();
+			throw e;
+		}
+	}
+
+	private void release() {
+		inFlight.decrementAndGet();
+		permits.release();
+	}
+
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		executor.shutdown();
+		if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+			log.warn("GCS 업로드 스레드 종료 대기 시간 초과: 진행 중인 업로드 = {}", inFlight.get());
+			executor.shutdownNow();
+		}
+	}
+
+	private static ThreadFactory uploadThreadFactory() {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "gcs-upload-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
@@ -0,0 +1,32 @@
+package org.example.auctionmarketevent.springbatch.job.writer;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.BigQueryError;
+import com.google.cloud.bigquery.InsertAllRequest;
+import com.google.cloud.bigquery.InsertAllResponse;
+import com.google.cloud.bigquery.TableId;
+
+@Component
+public class GoogleBigQueryTableClient implements BigQueryTableClient {
+	// BigQuery 클라이언트의 insertAll(스트리밍 insert) 사용
+
+	private final BigQuery bigquery; // BigQuery 클라이언트 주입
+
+	// 생성자
+	public GoogleBigQueryTableClient(BigQuery bigquery) {
+		this.bigquery = bigquery;
+	}
+
+	@Override
+	public Map<Long, List<BigQueryError>> insertAll(TableId tableId, List<InsertAllRequest.RowToInsert> rows) {
+		InsertAllResponse response = bigquery.insertAll(InsertAllRequest.newBuilder(tableId)
+			.setRows(rows)
+			.build());
+		return response.getInsertErrors();
+	}
+}
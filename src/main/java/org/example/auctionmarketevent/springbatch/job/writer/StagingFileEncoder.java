@@ -0,0 +1,20 @@
+package org.example.auctionmarketevent.springbatch.job.writer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+import org.example.auctionmarketevent.springbatch.job.dto.AuctionsWinningBidDto;
+
+public interface StagingFileEncoder extends Closeable {
+	// GCS 에 올릴 스테이징 파일 하나에 행을 기록 (형식: StagingFileFormat)
+
+	void write(List<? extends AuctionsWinningBidDto> items) throws IOException;
+
+	// 버퍼에 있는 데이터를 출력 스트림으로 내보냄 (Avro 는 블록 단위로 압축해서 내보냄)
+	void flush() throws IOException;
+
+	// 남은 데이터를 내보내고 출력 스트림까지 닫음
+	@Override
+	void close() throws IOException;
+}
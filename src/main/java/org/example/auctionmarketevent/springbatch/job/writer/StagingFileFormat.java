@@ -0,0 +1,107 @@
+package org.example.auctionmarketevent.springbatch.job.writer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.example.auctionmarketevent.springbatch.job.dto.AuctionsWinningBidDto;
+import org.example.auctionmarketevent.springbatch.job.schema.BigQueryRowSchema;
+
+import com.google.cloud.bigquery.CsvOptions;
+import com.google.cloud.bigquery.FormatOptions;
+import com.google.cloud.bigquery.LoadJobConfiguration;
+
+public enum StagingFileFormat {
+	// GCS 스테이징 파일 형식 (app.batch.writer.format)
+	// => Writer 의 파일 인코딩과 BigQuery 로드 설정을 같은 곳에서 정의
+
+	// 헤더 없는 CSV (기본값)
+	CSV("csv", "text/csv") {
+		@Override
+		public StagingFileEncoder open(OutputStream outputStream) {
+			// Jackson CsvMapper 와 같은 출력, 행마다 ObjectWriter / 문자열을 만들지 않는 전용 인코더
+			return new AuctionsWinningBidCsvEncoder(outputStream);
+		}
+
+		@Override
+		public void configureLoad(LoadJobConfiguration.Builder loadConfig) {
+			// 헤더 행 없음 => CSV 첫 번째 줄부터 인식
+			loadConfig.setFormatOptions(CsvOptions.newBuilder().setSkipLeadingRows(0).build())
+				.setSchema(BigQueryRowSchema.AUCTIONS_WINNING_BID.getBigQuerySchema());
+		}
+	},
+
+	// Avro (deflate 압축) => 타입이 있는 바이너리 형식이라 파일이 작고, 타임스탬프 문자열 변환/파싱 없음
+	AVRO("avro", "application/avro") {
+		@Override
+		public StagingFileEncoder open(OutputStream outputStream) throws IOException {
+			BigQueryRowSchema schema = BigQueryRowSchema.AUCTIONS_WINNING_BID;
+			DataFileWriter<GenericRecord> writer = new DataFileWriter<>(
+				new GenericDatumWriter<GenericRecord>(schema.getAvroSchema()));
+			writer.setCodec(CodecFactory.deflateCodec(AVRO_DEFLATE_LEVEL));
+			writer.create(schema.getAvroSchema(), outputStream);
+
+			return new StagingFileEncoder() {
+				@Override
+				public void write(List<? extends AuctionsWinningBidDto> items) throws IOException {
+					for (AuctionsWinningBidDto item : items) {
+						writer.append(schema.toAvroRecord(item));
+					}
+				}
+
+				@Override
+				public void flush() throws IOException {
+					writer.flush();
+				}
+
+				@Override
+				public void close() throws IOException {
+					writer.close();
+				}
+			};
+		}
+
+		@Override
+		public void configureLoad(LoadJobConfiguration.Builder loadConfig) {
+			// 스키마는 Avro 파일에 포함 => timestamp-micros 를 TIMESTAMP 컬럼으로 읽도록 logical type 사용
+			loadConfig.setFormatOptions(FormatOptions.avro())
+				.setUseAvroLogicalTypes(true);
+		}
+	};
+
+	private static final int AVRO_DEFLATE_LEVEL = 6;
+
+	private final String extension;
+	private final String contentType;
+
+	StagingFileFormat(String extension, String contentType) {
+		this.extension = extension;
+		this.contentType = contentType;
+	}
+
+	// 출력 스트림 위에 이 형식의 인코더 생성
+	public abstract StagingFileEncoder open(OutputStream outputStream) throws IOException;
+
+	// BigQuery 로드 설정에 형식 옵션 / 스키마 적용
+	public abstract void configureLoad(LoadJobConfiguration.Builder loadConfig);
+
+	public String getExtension() {
+		return extension;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	// 프로퍼티 값 => 형식 (값이 없으면 CSV)
+	public static StagingFileFormat from(String value) {
+		if (value == null || value.isBlank()) {
+			return CSV;
+		}
+		return valueOf(value.trim().toUpperCase());
+	}
+}
@@ -0,0 +1,38 @@
+package org.example.auctionmarketevent.springbatch.job.writer;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class StagingPartition {
+	// 스테이징 파일 <=> BigQuery 파티션 (auction_end_time 기준 일 단위, UTC) 매핑
+	// => 파티션 ID 를 GCS 객체 이름에 넣어서 ExecutionContext / 파티션 집계 / 로드 추적기가 URI 목록만으로 파티션을 알 수 있음
+
+	public static final String PARTITION_FIELD = "auction_end_time"; // 파티션 컬럼
+	public static final String CLUSTERING_FIELD = "product_category"; // 클러스터링 컬럼
+
+	private static final DateTimeFormatter PARTITION_ID_FORMAT =
+		DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC); // BigQuery 파티션 데코레이터 형식 (table$yyyyMMdd)
+	private static final Pattern PARTITION_IN_NAME = Pattern.compile("_p(\\d{8})_");
+
+	private StagingPartition() {
+	}
+
+	// 행의 파티션 ID (auction_end_time 이 없으면 null => 파티션 지정 없이 로드)
+	public static String of(Instant auctionEndTime) {
+		return auctionEndTime != null ? PARTITION_ID_FORMAT.format(auctionEndTime) : null;
+	}
+
+	// GCS 객체 이름에 넣을 파티션 표시 (파티션 없으면 빈 문자열)
+	public static String nameToken(String partitionId) {
+		return partitionId != null ? "p" + partitionId + "_" : "";
+	}
+
+	// GCS URI / 객체 이름에서 파티션 ID 추출 (없으면 null)
+	public static String fromUri(String gcsUri) {
+		Matcher matcher = PARTITION_IN_NAME.matcher(gcsUri.substring(gcsUri.lastIndexOf('/') + 1));
+		return matcher.find() ? matcher.group(1) : null;
+	}
+}
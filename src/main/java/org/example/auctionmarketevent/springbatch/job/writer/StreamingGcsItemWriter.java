@@ -0,0 +1,261 @@
+package org.example.auctionmarketevent.springbatch.job.writer;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.example.auctionmarketevent.springbatch.job.dto.AuctionsWinningBidDto;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterStep;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@StepScope
+public class StreamingGcsItemWriter implements ItemWriter<AuctionsWinningBidDto> {
+	// BigQueryItemWriter 는 chunk 마다 CSV 를 메모리(ByteArrayOutputStream + toByteArray)에 두 번 만들고, chunk 마다 GCS 파일 하나를 올림
+	// => 이 Writer 는 CSV(또는 Avro) 를 GCS WriteChannel(resumable upload)로 바로 흘려보내고, 파일 크기가 rollSize 를 넘으면 다음 파일로 넘어감
+	// => 메모리 사용량은 chunk 크기와 무관하게 업로드 버퍼(uploadChunkSize) 정도로 일정
+	// 재시작 안전성
+	// => GCS 파일은 close(업로드 완료) 된 뒤에만 gcsFileUris(BigQuery 로드 대상)에 추가
+	// => Step 실패 시 열려 있는 업로드는 완료하지 않고 버림 (GCS 에 파일이 생기지 않음), 이미 완료된 파일은 삭제
+	// => 이미 흘려보낸 행은 롤백할 수 없으므로 Reader 는 상태를 저장하지 않고(BatchJobConfig), 재시작 시 워터마크부터 다시 읽음
+
+	private static final String GCS_FILE_URIS_KEY = "gcsFileUris"; // ExecutionContext 에 GCS 파일 경로 리스트를 저장할 때 사용할 키
+	private static final String MAX_TIMESTAMP_KEY = "maxProcessedTimestampInChunk"; // ExecutionContext 에 처리된 데이터 중 최신 타임스탬프 값을 저장할 때 사용할 키
+
+	private final Storage storage; // GCS 클라이언트 주입
+	private final String gcsBucketName;
+	private final long rollSize; // 이 크기(byte)를 넘으면 다음 chunk 부터 새 GCS 파일에 씀
+	private final int uploadChunkSize; // WriteChannel 업로드 버퍼 크기 (256KB 의 배수)
+	private final StagingFileFormat format; // 스테이징 파일 형식 (csv / avro)
+
+	private StepExecution stepExecution;
+	private int partNumber; // 이번 Step 에서 만든 GCS 파일 순번
+
+	// 현재 쓰고 있는 GCS 파일 (없으면 null)
+	private String currentUri;
+	private CountingOutputStream currentOutput;
+	private StagingFileEncoder currentWriter;
+
+	// 생성자
+	@Autowired
+	public StreamingGcsItemWriter(Storage storage,
+		@Value("${spring.cloud.gcp.storage.bucket-name}") String gcsBucketName,
+		@Value("${app.batch.writer.roll-size:268435456}") long rollSize,
+		@Value("${app.batch.writer.upload-chunk-size:8388608}") int uploadChunkSize,
+		@Value("${app.batch.writer.format:csv}") String format) {
+		this.storage = storage;
+		this.gcsBucketName = gcsBucketName;
+		this.rollSize = rollSize;
+		this.uploadChunkSize = uploadChunkSize;
+		this.format = StagingFileFormat.from(format);
+	}
+
+	@BeforeStep
+	public void saveStepExecution(StepExecution stepExecution) {
+		this.stepExecution = stepExecution;
+		this.partNumber = 0;
+		// 재시작이면 이전 실행의 파일 목록/최신 타임스탬프는 버리고 워터마크부터 다시 만듦
+		this.stepExecution.getExecutionContext().put(GCS_FILE_URIS_KEY, new ArrayList<String>());
+		this.stepExecution.getExecutionContext().remove(MAX_TIMESTAMP_KEY);
+	}
+
+	@Override
+	public void write(Chunk<? extends AuctionsWinningBidDto> chunk) throws Exception {
+		List<? extends AuctionsWinningBidDto> items = chunk.getItems();
+
+		if (items.isEmpty()) {
+			log.debug("chunk 에서 기록할 항목이 없습니다.");
+			return;
+		}
+
+		if (currentWriter == null) {
+			openNextFile();
+		}
+
+		try {
+			currentWriter.write(items);
+			currentWriter.flush(); // 인코더 버퍼 => WriteChannel 버퍼 (uploadChunkSize 가 차면 GCS 로 전송)
+		} catch (Exception e) {
+			log.error("GCS 스트리밍 업로드 중 오류 발생: URI = {}", currentUri);
+			throw new RuntimeException("데이터를 GCS 에 업로드하는 데 실패했습니다.", e);
+		}
+
+		updateMaxTimestampInContext(items);
+
+		// chunk 경계에서 파일 크기 확인 => rollSize 를 넘었으면 업로드 완료 후 다음 chunk 는 새 파일에 씀
+		if (currentOutput.getCount() >= rollSize) {
+			finishCurrentFile();
+		}
+	}
+
+	// Step 종료 시 열려 있는 파일 처리 (IncrementalTimestampStepListener 의 afterStep 보다 먼저 호출됨)
+	@AfterStep
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		if (stepExecution.getStatus() != BatchStatus.COMPLETED) {
+			// 실패: 열린 업로드는 완료하지 않고 버림 + 완료된 파일 삭제 => 재시작 시 워터마크부터 다시 만듦
+			abandonCurrentFile();
+			deleteFinishedFiles();
+			return stepExecution.getExitStatus();
+		}
+
+		try {
+			if (currentWriter != null) {
+				finishCurrentFile();
+			}
+		} catch (Exception e) {
+			log.error("GCS 파일 업로드 완료 실패: URI = {}", currentUri, e);
+			abandonCurrentFile();
+			deleteFinishedFiles();
+			// 뒤이어 실행되는 Listener 가 불완전한 파일 목록을 로드하지 않도록 Step 을 실패로 표시
+			stepExecution.setExitStatus(ExitStatus.FAILED);
+			return ExitStatus.FAILED;
+		}
+		return stepExecution.getExitStatus();
+	}
+
+	private void openNextFile() throws IOException {
+		String gcsObjectName = generateGcsObjectName();
+		BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(gcsBucketName, gcsObjectName))
+			.setContentType(format.getContentType())
+			.build();
+
+		WriteChannel channel = storage.writer(blobInfo);
+		channel.setChunkSize(uploadChunkSize);
+
+		currentUri = "gs://" + gcsBucketName + "/" + gcsObjectName;
+		currentOutput = new CountingOutputStream(Channels.newOutputStream(channel));
+		currentWriter = format.open(currentOutput);
+		log.info("GCS 스트리밍 업로드 시작: URI = {}", currentUri);
+	}
+
+	// 업로드 완료(WriteChannel close) 후에만 BigQuery 로드 대상에 추가
+	private void finishCurrentFile() throws IOException {
+		String uri = currentUri;
+		long size = currentOutput.getCount();
+		try {
+			currentWriter.close(); // 인코더 => OutputStream => WriteChannel 순서로 close
+		} finally {
+			currentWriter = null;
+			currentOutput = null;
+			currentUri = null;
+		}
+
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		List<String> gcsFileUris = (List<String>)executionContext.get(GCS_FILE_URIS_KEY);
+		if (gcsFileUris == null) {
+			gcsFileUris = new ArrayList<>();
+		}
+		gcsFileUris.add(uri);
+		executionContext.put(GCS_FILE_URIS_KEY, gcsFileUris);
+
+		log.info("GCS 업로드 성공: URI = {}, 크기 = {} bytes", uri, size);
+	}
+
+	// 열린 업로드는 close 하지 않으면 GCS 에 파일이 생기지 않음 => 참조만 버림
+	private void abandonCurrentFile() {
+		if (currentUri != null) {
+			log.warn("GCS 스트리밍 업로드 취소: URI = {}", currentUri);
+		}
+		currentWriter = null;
+		currentOutput = null;
+		currentUri = null;
+	}
+
+	private void deleteFinishedFiles() {
+		List<String> gcsFileUris = (List<String>)stepExecution.getExecutionContext().get(GCS_FILE_URIS_KEY);
+		if (gcsFileUris == null || gcsFileUris.isEmpty()) {
+			return;
+		}
+
+		String prefix = "gs://" + gcsBucketName + "/";
+		List<BlobId> blobIds = new ArrayList<>();
+		for (String uri : gcsFileUris) {
+			blobIds.add(BlobId.of(gcsBucketName, uri.substring(prefix.length())));
+		}
+		try {
+			storage.delete(blobIds);
+		} catch (Exception e) {
+			log.warn("실패한 Step 의 GCS 파일 삭제 실패: 파일 = {}", gcsFileUris, e);
+		}
+		stepExecution.getExecutionContext().put(GCS_FILE_URIS_KEY, new ArrayList<String>());
+	}
+
+	// GCS 객체 이름 생성 (고유값) 메서드
+	private String generateGcsObjectName() {
+		long jobExecutionId = stepExecution.getJobExecutionId();
+		long stepExecutionId = stepExecution.getId();
+		return String.format("batch_load_%d_%d_%05d_%s.%s",
+			jobExecutionId, stepExecutionId, partNumber++, UUID.randomUUID(), format.getExtension());
+	}
+
+	// ExecutionContext 에 최신 타임스탬프 저장 메서드
+	private void updateMaxTimestampInContext(List<? extends AuctionsWinningBidDto> items) {
+		Optional<Instant> maxInstantOpt = items.stream()
+			.map(AuctionsWinningBidDto::getLastModified)
+			.filter(Objects::nonNull)
+			.max(Comparator.naturalOrder());
+
+		if (maxInstantOpt.isPresent()) {
+			Timestamp maxTimestampInChunk = Timestamp.from(maxInstantOpt.get());
+			ExecutionContext executionContext = this.stepExecution.getExecutionContext();
+			Timestamp currentMaxTimestamp = (Timestamp)executionContext.get(MAX_TIMESTAMP_KEY);
+
+			if (currentMaxTimestamp == null || maxTimestampInChunk.after(currentMaxTimestamp)) {
+				executionContext.put(MAX_TIMESTAMP_KEY, maxTimestampInChunk);
+			}
+		}
+	}
+
+	// 현재 파일에 쓴 byte 수 계산
+	private static class CountingOutputStream extends FilterOutputStream {
+
+		private long count;
+
+		CountingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			count += len;
+		}
+
+		long getCount() {
+			return count;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.example.auctionmarketevent.common.provider.ChangedAuctionRowCounter;
+import org.example.auctionmarketevent.springbatch.job.dto.AuctionsWinningBidDto;
+import org.example.auctionmarketevent.springbatch.job.writer.AdaptiveBigQueryItemWriter;
+import org.example.auctionmarketevent.springbatch.job.writer.BigQueryItemWriter;
+import org.example.auctionmarketevent.springbatch.job.writer.DirectBigQueryItemWriter;
+import org.example.auctionmarketevent.springbatch.job.writer.StreamingGcsItemWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+@ExtendWith(MockitoExtension.class)
+class AdaptiveBigQueryItemWriterTest {
+
+	@Mock private DirectBigQueryItemWriter mockDirectWriter;
+	@Mock private BigQueryItemWriter mockChunkWriter;
+	@Mock private StreamingGcsItemWriter mockStreamingWriter;
+	@Mock private ChangedAuctionRowCounter mockCounter;
+
+	private static final long DIRECT_MAX_ROWS = 1000L;
+	private static final int MAX_ITEM_COUNT = 5000;
+
+	private final Timestamp watermark = Timestamp.valueOf("2025-01-01 00:00:00");
+	private StepExecution stepExecution;
+
+	@BeforeEach
+	void setUp() {
+		stepExecution = MetaDataInstanceFactory.createStepExecution();
+		stepExecution.getExecutionContext().put("lastProcessedTimestamp", watermark);
+	}
+
+	@Test
+	@DisplayName("추정 행 수가 기준 이하이면 직접 쓰기 선택")
+	void beforeStep_SmallDelta_ShouldSelectDirectWriter() throws Exception {
+		// given
+		when(mockCounter.count(watermark, null, null, null)).thenReturn(300L);
+		AdaptiveBigQueryItemWriter writer = createWriter("chunk");
+		Chunk<AuctionsWinningBidDto> chunk = new Chunk<>(List.of());
+
+		// when
+		writer.saveStepExecution(stepExecution);
+		writer.write(chunk);
+
+		// then
+		verify(mockDirectWriter).saveStepExecution(stepExecution);
+		verify(mockDirectWriter).write(chunk);
+		verifyNoInteractions(mockChunkWriter, mockStreamingWriter);
+	}
+
+	@Test
+	@DisplayName("추정 행 수가 기준보다 크면 GCS 스테이징 선택")
+	void beforeStep_LargeDelta_ShouldSelectStagedWriter() throws Exception {
+		// given
+		when(mockCounter.count(watermark, null, null, null)).thenReturn(1_000_000L);
+		AdaptiveBigQueryItemWriter writer = createWriter("chunk");
+		Chunk<AuctionsWinningBidDto> chunk = new Chunk<>(List.of());
+
+		// when
+		writer.saveStepExecution(stepExecution);
+		writer.write(chunk);
+
+		// then
+		verify(mockChunkWriter).saveStepExecution(stepExecution);
+		verify(mockChunkWriter).write(chunk);
+		verifyNoInteractions(mockDirectWriter, mockStreamingWriter);
+	}
+
+	@Test
+	@DisplayName("변경 행 수 조회 실패 시 GCS 스테이징 선택")
+	void beforeStep_CountFailed_ShouldSelectStagedWriter() {
+		// given
+		when(mockCounter.count(watermark, null, null, null)).thenReturn(-1L);
+		AdaptiveBigQueryItemWriter writer = createWriter("chunk");
+
+		// when
+		writer.saveStepExecution(stepExecution);
+
+		// then
+		verify(mockChunkWriter).saveStepExecution(stepExecution);
+		verifyNoInteractions(mockDirectWriter);
+	}
+
+	@Test
+	@DisplayName("파티션 구간 / drain 구간 상한을 반영해서 추정, streaming 스테이징은 afterStep 전달")
+	void beforeStep_PartitionAndSlice_ShouldUseBoundsAndForwardAfterStep() {
+		// given
+		LocalDateTime sliceEnd = LocalDateTime.of(2025, 1, 2, 0, 0);
+		stepExecution = MetaDataInstanceFactory.createStepExecution(new JobParametersBuilder()
+			.addLocalDateTime("sliceEnd", sliceEnd)
+			.toJobParameters());
+		stepExecution.getExecutionContext().put("lastProcessedTimestamp", watermark);
+		stepExecution.getExecutionContext().putLong("minAuctionId", 1L);
+		stepExecution.getExecutionContext().putLong("maxAuctionId", 100L);
+		when(mockCounter.count(watermark, Timestamp.valueOf(sliceEnd), 1L, 100L)).thenReturn(5000L);
+		when(mockStreamingWriter.afterStep(any())).thenReturn(ExitStatus.COMPLETED);
+		AdaptiveBigQueryItemWriter writer = createWriter("streaming");
+
+		// when
+		writer.saveStepExecution(stepExecution);
+		ExitStatus exitStatus = writer.afterStep(stepExecution);
+
+		// then
+		verify(mockStreamingWriter).saveStepExecution(stepExecution);
+		verify(mockStreamingWriter).afterStep(stepExecution);
+		assertEquals(ExitStatus.COMPLETED, exitStatus);
+	}
+
+
+	// 헬퍼 메서드
+	private AdaptiveBigQueryItemWriter createWriter(String stagedMode) {
+		return new AdaptiveBigQueryItemWriter(mockDirectWriter, mockChunkWriter, mockStreamingWriter, mockCounter,
+			DIRECT_MAX_ROWS, stagedMode, MAX_ITEM_COUNT);
+	}
+}
@@ -0,0 +1,190 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.example.auctionmarketevent.common.provider.MySqlCustomPagingQueryProvider;
+import org.example.auctionmarketevent.springbatch.job.dto.AuctionProductDto;
+import org.example.auctionmarketevent.springbatch.job.dto.AuctionsWinningBidDto;
+import org.example.auctionmarketevent.springbatch.job.processor.DataTransformerProcessor;
+import org.example.auctionmarketevent.springbatch.job.reader.AuctionProductKeysetCursorReader;
+import org.example.auctionmarketevent.springbatch.job.writer.BigQueryItemWriter;
+import org.example.auctionmarketevent.springbatch.job.writer.GcsUploadPipeline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AsyncUploadRestartTest {
+	// 비동기 업로드 중 chunk 커밋 이후에 업로드가 실패한 Step 을 재시작
+	// => Reader 위치가 저장되어 있으면 실패한 chunk 의 행을 건너뛰므로, 업로드가 확인되지 않은 행까지 다시 읽어야 함
+
+	private static final String SELECT = "a.id AS auction_id, p.id AS product_id, p.product_name, "
+		+ "p.category AS product_category, a.max_price, a.start_time AS auction_start_time, "
+		+ "a.end_time AS auction_end_time, GREATEST(a.modified_at, p.modified_at) AS last_modified";
+	private static final String FROM = "auctions a JOIN product p ON a.product_id = p.id";
+	private static final Timestamp T0 = Timestamp.valueOf("2025-04-01 00:00:00");
+	private static final Timestamp T1 = Timestamp.valueOf("2025-04-01 01:00:00");
+	private static final Pattern AUCTION_ID = Pattern.compile("(?m)^(\\d+),");
+
+	private DriverManagerDataSource sourceDataSource; // 추출 대상 (auctions, product)
+	private EmbeddedDatabase batchDataSource; // Spring Batch 메타데이터
+	private DataSourceTransactionManager transactionManager;
+	private JobRepository jobRepository;
+	private GcsUploadPipeline pipeline;
+	private Storage storage;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		sourceDataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(sourceDataSource);
+		jdbcTemplate.execute("CREATE TABLE product (id BIGINT PRIMARY KEY, product_name VARCHAR(100), "
+			+ "category VARCHAR(50), modified_at DATETIME(6))");
+		jdbcTemplate.execute("CREATE TABLE auctions (id BIGINT PRIMARY KEY, product_id BIGINT, max_price DECIMAL(19, 2), "
+			+ "start_time DATETIME(6), end_time DATETIME(6), modified_at DATETIME(6))");
+		jdbcTemplate.update("INSERT INTO product VALUES (1, '상품1', '카테고리', ?)", T0);
+		for (long auctionId = 1; auctionId <= 6; auctionId++) {
+			jdbcTemplate.update("INSERT INTO auctions VALUES (?, 1, 1000, ?, ?, ?)", auctionId, T0, T1, T1);
+		}
+
+		batchDataSource = new EmbeddedDatabaseBuilder()
+			.generateUniqueName(true)
+			.setType(EmbeddedDatabaseType.H2)
+			.addScript("/org/springframework/batch/core/schema-h2.sql")
+			.build();
+		transactionManager = new DataSourceTransactionManager(batchDataSource);
+		JobRepositoryFactoryBean factory = new JobRepositoryFactoryBean();
+		factory.setDataSource(batchDataSource);
+		factory.setTransactionManager(transactionManager);
+		factory.afterPropertiesSet();
+		jobRepository = factory.getObject();
+
+		pipeline = new GcsUploadPipeline(new SimpleMeterRegistry(), true, 1);
+		storage = mock(Storage.class);
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		pipeline.shutdown();
+		batchDataSource.shutdown();
+	}
+
+	@Test
+	@DisplayName("비동기 업로드가 chunk 커밋 후 실패 => 재시작 시 처음부터 다시 읽어 실패한 chunk 의 행도 업로드")
+	void restart_AfterAsyncUploadFailure_RereadsUnconfirmedRows() throws Exception {
+		// given
+		// 첫 실행: chunk 1 업로드 실패, chunk 2 업로드가 시작되면 (= chunk 1 업로드가 끝난 뒤) chunk 3 처리 진행
+		CountDownLatch firstUploadFinished = new CountDownLatch(1);
+		AtomicInteger uploads = new AtomicInteger();
+		when(storage.create(any(BlobInfo.class), any(byte[].class))).thenAnswer(invocation -> {
+			if (uploads.incrementAndGet() == 1) {
+				throw new StorageException(503, "업로드 실패");
+			}
+			firstUploadFinished.countDown();
+			return null;
+		});
+		JobParameters jobParameters = new JobParametersBuilder().addLong("run", 1L).toJobParameters();
+
+		// when
+		JobExecution failed = run(jobParameters, item -> {
+			if (item.getAuctionId() == 5L) {
+				assertTrue(firstUploadFinished.await(5, TimeUnit.SECONDS));
+			}
+			return item;
+		});
+
+		// 재시작: 업로드 모두 성공
+		reset(storage);
+		List<byte[]> uploadedFiles = new CopyOnWriteArrayList<>();
+		when(storage.create(any(BlobInfo.class), any(byte[].class))).thenAnswer(invocation -> {
+			uploadedFiles.add(invocation.getArgument(1));
+			return null;
+		});
+		JobExecution restarted = run(jobParameters, item -> item);
+
+		// then
+		assertEquals(BatchStatus.FAILED, failed.getStatus());
+		assertEquals(BatchStatus.COMPLETED, restarted.getStatus());
+		assertEquals(Set.of(1L, 2L, 3L, 4L, 5L, 6L), auctionIds(uploadedFiles));
+	}
+
+	// 헬퍼 메서드
+	private JobExecution run(JobParameters jobParameters, ItemProcessor<AuctionProductDto, AuctionProductDto> beforeTransform)
+		throws Exception {
+		// 운영과 같이 Step 마다 새 Reader / Writer (StepScope)
+		BigQueryItemWriter writer = new BigQueryItemWriter(storage, "test-bucket", "csv", pipeline, false);
+		MySqlCustomPagingQueryProvider queryProvider = new MySqlCustomPagingQueryProvider(SELECT, FROM,
+			List.of("a.modified_at", "p.modified_at"), "a.id", "lastProcessedTimestamp", null);
+		AuctionProductKeysetCursorReader reader = new AuctionProductKeysetCursorReader("restartReader",
+			sourceDataSource, queryProvider, Map.of("lastProcessedTimestamp", T0), 10, 100);
+		// BatchJobConfig 와 같은 기준: 커밋 시점에 업로드가 확인되지 않으면 Reader 위치를 저장하지 않음
+		reader.setSaveState(writer.isUploadedOnCommit());
+
+		DataTransformerProcessor transformer = new DataTransformerProcessor();
+		ItemProcessor<AuctionProductDto, AuctionsWinningBidDto> processor =
+			item -> transformer.process(beforeTransform.process(item));
+
+		Job job = new JobBuilder("asyncUploadRestartJob", jobRepository)
+			.start(new StepBuilder("asyncUploadRestartStep", jobRepository)
+				.<AuctionProductDto, AuctionsWinningBidDto>chunk(2, transactionManager)
+				.reader(reader)
+				.processor(processor)
+				.writer(writer)
+				.build())
+			.build();
+
+		TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher();
+		jobLauncher.setJobRepository(jobRepository);
+		jobLauncher.afterPropertiesSet();
+		return jobLauncher.run(job, jobParameters);
+	}
+
+	private Set<Long> auctionIds(List<byte[]> files) {
+		Set<Long> auctionIds = new TreeSet<>();
+		for (byte[] file : files) {
+			Matcher matcher = AUCTION_ID.matcher(new String(file, StandardCharsets.UTF_8));
+			while (matcher.find()) {
+				auctionIds.add(Long.parseLong(matcher.group(1)));
+			}
+		}
+		return auctionIds;
+	}
+}
@@ -0,0 +1,251 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.auctionmarketevent.common.provider.AuctionChangeLogCursor;
+import org.example.auctionmarketevent.springbatch.job.dto.AuctionProductDto;
+import org.example.auctionmarketevent.springbatch.job.reader.AuctionChangeLogReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class AuctionChangeLogReaderTest {
+
+	private static final String JOB_NAME = "testJob";
+	private static final String SELECT = "a.id AS auction_id, p.id AS product_id, p.product_name, "
+		+ "p.category AS product_category, a.max_price, a.start_time AS auction_start_time, "
+		+ "a.end_time AS auction_end_time, GREATEST(a.modified_at, p.modified_at) AS last_modified";
+	private static final String FROM = "auctions a JOIN product p ON a.product_id = p.id";
+	private static final Timestamp T0 = Timestamp.valueOf("2025-04-01 00:00:00");
+	private static final Timestamp T1 = Timestamp.valueOf("2025-04-01 01:00:00");
+	private static final Duration SAFETY_LAG = Duration.ofMinutes(1);
+
+	private DriverManagerDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE product (id BIGINT PRIMARY KEY, product_name VARCHAR(100), "
+			+ "category VARCHAR(50), modified_at DATETIME(6))");
+		jdbcTemplate.execute("CREATE TABLE auctions (id BIGINT PRIMARY KEY, product_id BIGINT, max_price DECIMAL(19, 2), "
+			+ "start_time DATETIME(6), end_time DATETIME(6), modified_at DATETIME(6))");
+		jdbcTemplate.execute("CREATE TABLE auction_change_log (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+			+ "auction_id BIGINT, product_id BIGINT, changed_at DATETIME(6))");
+
+		for (long productId = 1; productId <= 2; productId++) {
+			jdbcTemplate.update("INSERT INTO product VALUES (?, ?, ?, ?)", productId, "상품" + productId, "카테고리", T0);
+		}
+		// 경매 1, 2 => 상품 1 / 경매 3 => 상품 2
+		insertAuction(1L, 1L);
+		insertAuction(2L, 1L);
+		insertAuction(3L, 2L);
+	}
+
+	@Test
+	@DisplayName("read: 변경 로그 순서대로 변경된 경매만 조회, 같은 경매는 묶음 안에서 한 번만")
+	void read_ReturnsChangedAuctionsOnce() {
+		// given
+		logAuctionChange(3L);
+		logAuctionChange(1L);
+		logAuctionChange(3L);
+
+		// when
+		AuctionChangeLogReader reader = createReader(0L, 10, 100);
+		ExecutionContext executionContext = new ExecutionContext();
+		reader.open(executionContext);
+		List<Long> auctionIds = readAll(reader);
+		reader.update(executionContext);
+
+		// then
+		assertEquals(List.of(3L, 1L), auctionIds);
+		assertEquals(3L, executionContext.getLong(AuctionChangeLogReader.CHANGE_LOG_CURSOR_KEY));
+	}
+
+	@Test
+	@DisplayName("read: 상품 변경은 그 상품의 경매 전부, 삭제된 경매는 건너뛰고 위치는 올라감")
+	void read_ProductChangeFansOutAndDeletedAuctionSkipped() {
+		// given
+		logProductChange(1L);
+		logAuctionChange(99L); // 삭제된 경매
+
+		// when
+		AuctionChangeLogReader reader = createReader(0L, 10, 100);
+		ExecutionContext executionContext = new ExecutionContext();
+		reader.open(executionContext);
+		List<Long> auctionIds = readAll(reader);
+		reader.update(executionContext);
+
+		// then
+		assertEquals(List.of(1L, 2L), auctionIds);
+		assertEquals(2L, executionContext.getLong(AuctionChangeLogReader.CHANGE_LOG_CURSOR_KEY));
+	}
+
+	@Test
+	@DisplayName("update: 묶음 중간이면 이전 묶음 끝 위치 저장 => 재시작 시 그 묶음부터 다시 읽음")
+	void update_MidBatch_KeepsPreviousBatchEnd() {
+		// given: 묶음 크기 2 => [1, 2], [3]
+		logAuctionChange(1L);
+		logAuctionChange(2L);
+		logAuctionChange(3L);
+		AuctionChangeLogReader reader = createReader(0L, 2, 100);
+		ExecutionContext executionContext = new ExecutionContext();
+		reader.open(executionContext);
+
+		// when
+		reader.read(); // 경매 1 (첫 묶음 중간)
+		reader.update(executionContext);
+
+		// then
+		assertEquals(0L, executionContext.getLong(AuctionChangeLogReader.CHANGE_LOG_CURSOR_KEY));
+
+		// when: 첫 묶음 끝까지
+		reader.read();
+		reader.update(executionContext);
+
+		// then
+		assertEquals(2L, executionContext.getLong(AuctionChangeLogReader.CHANGE_LOG_CURSOR_KEY));
+
+		// when: 재시작
+		AuctionChangeLogReader restarted = createReader(0L, 2, 100);
+		restarted.open(executionContext);
+
+		// then
+		assertEquals(List.of(3L), readAll(restarted));
+	}
+
+	@Test
+	@DisplayName("read: maxItemCount 에 도달하면 다음 묶음을 가져오지 않음 (묶음 단위로 멈춤)")
+	void read_StopsAtBatchBoundaryAfterMaxItemCount() {
+		// given: 묶음 크기 2 => [1, 2], [3]
+		logAuctionChange(1L);
+		logAuctionChange(2L);
+		logAuctionChange(3L);
+
+		// when
+		AuctionChangeLogReader reader = createReader(0L, 2, 1);
+		ExecutionContext executionContext = new ExecutionContext();
+		reader.open(executionContext);
+		List<Long> auctionIds = readAll(reader);
+		reader.update(executionContext);
+
+		// then
+		assertEquals(List.of(1L, 2L), auctionIds);
+		assertEquals(2L, executionContext.getLong(AuctionChangeLogReader.CHANGE_LOG_CURSOR_KEY));
+	}
+
+	@Test
+	@DisplayName("read: 큰 id 가 먼저 보여도 safetyLag 안쪽이면 읽지 않음 => 늦게 커밋된 작은 id 를 건너뛰지 않음")
+	void read_HigherIdVisibleFirst_WaitsForLowerId() {
+		// given: id 2 만 커밋됨 (id 1 은 아직 커밋 전)
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		logChangeWithId(2L, 2L, now);
+		AuctionChangeLogReader reader = createReader(0L, 10, 100);
+		ExecutionContext executionContext = new ExecutionContext();
+		reader.open(executionContext);
+
+		// when
+		List<Long> firstRun = readAll(reader);
+		reader.update(executionContext);
+
+		// then: 위치가 id 2 를 넘어가지 않음
+		assertEquals(List.of(), firstRun);
+		assertEquals(0L, executionContext.getLong(AuctionChangeLogReader.CHANGE_LOG_CURSOR_KEY));
+
+		// when: id 1 이 늦게 커밋되고 safetyLag 가 지남
+		logChangeWithId(1L, 1L, now);
+		jdbcTemplate.update("UPDATE auction_change_log SET changed_at = ?", T1);
+		AuctionChangeLogReader nextRun = createReader(0L, 10, 100);
+		nextRun.open(executionContext);
+
+		// then
+		assertEquals(List.of(1L, 2L), readAll(nextRun));
+	}
+
+	@Test
+	@DisplayName("read: safetyLag 안쪽의 첫 행 앞에서 멈춤 (뒤의 행이 오래된 changed_at 이어도 넘어가지 않음)")
+	void read_StopsBeforeFirstRowInsideSafetyLag() {
+		// given
+		logChangeWithId(1L, 1L, T1);
+		logChangeWithId(2L, 2L, Timestamp.valueOf(LocalDateTime.now()));
+		logChangeWithId(3L, 3L, T1);
+
+		// when
+		AuctionChangeLogReader reader = createReader(0L, 10, 100);
+		ExecutionContext executionContext = new ExecutionContext();
+		reader.open(executionContext);
+		List<Long> auctionIds = readAll(reader);
+		reader.update(executionContext);
+
+		// then
+		assertEquals(List.of(1L), auctionIds);
+		assertEquals(1L, executionContext.getLong(AuctionChangeLogReader.CHANGE_LOG_CURSOR_KEY));
+	}
+
+	@Test
+	@DisplayName("AuctionChangeLogCursor: 처음에는 워터마크 이전 변경까지 처리된 것으로 시작, 위치는 뒤로 가지 않음")
+	void cursor_StartsFromWatermarkAndNeverMovesBack() {
+		// given
+		logChange(1L, null, T0);
+		logChange(2L, null, T0);
+		logChange(3L, null, T1);
+		AuctionChangeLogCursor cursor = new AuctionChangeLogCursor(jdbcTemplate, JOB_NAME, "changelog");
+		cursor.start();
+
+		// when & then
+		assertEquals(2L, cursor.read(T0));
+
+		cursor.commit(3L);
+		assertEquals(3L, cursor.read(T0));
+
+		cursor.commit(1L);
+		assertEquals(3L, cursor.read(T0));
+	}
+
+	// 헬퍼 메서드
+	private AuctionChangeLogReader createReader(long startChangeId, int batchSize, int maxItemCount) {
+		return new AuctionChangeLogReader("testReader", dataSource, SELECT, FROM, startChangeId, batchSize,
+			maxItemCount, SAFETY_LAG);
+	}
+
+	private List<Long> readAll(AuctionChangeLogReader reader) {
+		List<Long> auctionIds = new ArrayList<>();
+		AuctionProductDto item;
+		while ((item = reader.read()) != null) {
+			auctionIds.add(item.getAuctionId());
+		}
+		return auctionIds;
+	}
+
+	private void insertAuction(Long auctionId, Long productId) {
+		jdbcTemplate.update("INSERT INTO auctions VALUES (?, ?, ?, ?, ?, ?)", auctionId, productId, 1000, T0, T1, T0);
+	}
+
+	private void logAuctionChange(Long auctionId) {
+		logChange(auctionId, null, T1);
+	}
+
+	private void logProductChange(Long productId) {
+		logChange(null, productId, T1);
+	}
+
+	private void logChange(Long auctionId, Long productId, Timestamp changedAt) {
+		jdbcTemplate.update("INSERT INTO auction_change_log (auction_id, product_id, changed_at) VALUES (?, ?, ?)",
+			auctionId, productId, changedAt);
+	}
+
+	private void logChangeWithId(Long changeId, Long auctionId, Timestamp changedAt) {
+		jdbcTemplate.update("INSERT INTO auction_change_log (id, auction_id, product_id, changed_at) VALUES (?, ?, ?, ?)",
+			changeId, auctionId, null, changedAt);
+	}
+}
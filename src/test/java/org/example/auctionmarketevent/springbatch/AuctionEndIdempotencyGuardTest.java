@@ -0,0 +1,211 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.auctionmarketevent.common.notify.AuctionEndIdempotencyGuard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionEndIdempotencyGuardTest {
+
+	private static final String KEY_PREFIX = "test:claim:";
+	private static final String KEY = KEY_PREFIX + "1";
+
+	@Mock private StringRedisTemplate mockRedisTemplate;
+	@Mock private ValueOperations<String, String> mockValueOperations;
+
+	private SimpleMeterRegistry meterRegistry;
+	private AuctionEndIdempotencyGuard guard;
+	private final AtomicInteger notified = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		guard = createGuard(true);
+		lenient().when(mockRedisTemplate.opsForValue()).thenReturn(mockValueOperations);
+	}
+
+	@AfterEach
+	void tearDown() {
+		guard.shutdown();
+	}
+
+	@Test
+	@DisplayName("선점 성공 시 알림 + 완료 표시, 같은 경매가 다시 오면 Redis 확인 없이 무시")
+	void execute_Claimed_NotifiesOnceAndCachesLocally() {
+		// given
+		when(mockValueOperations.setIfAbsent(eq(KEY), anyString(), eq(Duration.ofSeconds(30)))).thenReturn(true);
+
+		// when
+		guard.execute("1", this::notifySucceeded);
+		guard.execute("1", this::notifySucceeded);
+
+		// then
+		assertEquals(1, notified.get());
+		verify(mockValueOperations, times(1)).setIfAbsent(anyString(), anyString(), any(Duration.class));
+		verify(mockValueOperations).set(KEY, "DONE", Duration.ofHours(24));
+		assertEquals(1.0, suppressed("local"));
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 이미 처리 완료했으면 알림 없이 무시 + 다시 확인 안함")
+	void execute_AlreadyDone_Suppressed() {
+		// given
+		when(mockValueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).thenReturn(false);
+		when(mockValueOperations.get(KEY)).thenReturn("DONE");
+
+		// when
+		guard.execute("1", this::notifySucceeded);
+
+		// then
+		assertEquals(0, notified.get());
+		assertEquals(1.0, suppressed("redis"));
+		verify(mockValueOperations, times(1)).setIfAbsent(anyString(), anyString(), any(Duration.class));
+	}
+
+	@Test
+	@DisplayName("선점한 인스턴스가 확인 전에 사라지면 선점 만료 후 대신 처리")
+	void execute_OwnerDied_TakesOver() {
+		// given: 처음에는 다른 인스턴스가 선점 중, 다시 확인할 때는 선점 키 만료
+		guard.shutdown();
+		guard = new AuctionEndIdempotencyGuard(mockRedisTemplate, meterRegistry, true, KEY_PREFIX,
+			Duration.ofMillis(10), Duration.ofHours(24), 100, 3);
+		when(mockValueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).thenReturn(false, true);
+		when(mockValueOperations.get(KEY)).thenReturn("other-instance");
+
+		// when
+		guard.execute("1", this::notifySucceeded);
+
+		// then
+		verify(mockValueOperations, timeout(1000)).set(KEY, "DONE", Duration.ofHours(24));
+		assertEquals(1, notified.get());
+		assertEquals(1.0, meterRegistry.get("auction.end.claim.takeover").counter().count());
+	}
+
+	@Test
+	@DisplayName("알림이 claimTtl 보다 오래 걸리면 끝날 때까지 선점 연장, 끝나면 연장 중단")
+	void execute_SlowNotify_RenewsClaimUntilDone() throws Exception {
+		// given
+		guard.shutdown();
+		guard = new AuctionEndIdempotencyGuard(mockRedisTemplate, meterRegistry, true, KEY_PREFIX,
+			Duration.ofMillis(30), Duration.ofHours(24), 100, 3);
+		when(mockValueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).thenReturn(true);
+		CompletableFuture<Void> notification = new CompletableFuture<>();
+
+		// when
+		guard.execute("1", () -> notification);
+
+		// then
+		verify(mockRedisTemplate, timeout(1000).atLeast(2))
+			.execute(any(RedisScript.class), eq(List.of(KEY)), anyString(), eq("30"));
+
+		// when
+		notification.complete(null);
+		Thread.sleep(50);
+		clearInvocations(mockRedisTemplate);
+		Thread.sleep(100);
+
+		// then
+		verify(mockRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any());
+		verify(mockValueOperations).set(KEY, "DONE", Duration.ofHours(24));
+	}
+
+	@Test
+	@DisplayName("알림 실패 시 선점 해제 + 로컬 캐시에서 삭제 => 다시 온 이벤트는 처리")
+	void execute_NotifyFailed_ReleasesClaim() {
+		// given
+		when(mockValueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).thenReturn(true);
+
+		// when
+		guard.execute("1", () -> CompletableFuture.failedFuture(new IllegalStateException("소켓 서버 오류")));
+		guard.execute("1", this::notifySucceeded);
+
+		// then
+		verify(mockRedisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), anyString());
+		assertEquals(1, notified.get());
+		assertEquals(0.0, suppressed("local"));
+	}
+
+	@Test
+	@DisplayName("execute 결과: 진행 중인 처리에 다시 온 이벤트는 같은 결과를 받음, 실패하면 예외로 완료")
+	void execute_LocalDuplicate_SharesInFlightResult() {
+		// given
+		when(mockValueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).thenReturn(true);
+		CompletableFuture<Void> notification = new CompletableFuture<>();
+
+		// when
+		CompletableFuture<Void> first = guard.execute("1", () -> notification);
+		CompletableFuture<Void> duplicate = guard.execute("1", this::notifySucceeded);
+		notification.completeExceptionally(new IllegalStateException("소켓 서버 오류"));
+
+		// then
+		assertEquals(0, notified.get());
+		assertTrue(first.isCompletedExceptionally());
+		assertTrue(duplicate.isCompletedExceptionally());
+	}
+
+	@Test
+	@DisplayName("execute 결과: 다른 경로가 이미 처리 완료했으면 알림 없이 정상 완료")
+	void execute_AlreadyDone_CompletesNormally() {
+		// given
+		when(mockValueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).thenReturn(false);
+		when(mockValueOperations.get(KEY)).thenReturn("DONE");
+
+		// when
+		CompletableFuture<Void> result = guard.execute("1", this::notifySucceeded);
+
+		// then
+		assertTrue(result.isDone());
+		assertFalse(result.isCompletedExceptionally());
+		assertEquals(0, notified.get());
+	}
+
+	@Test
+	@DisplayName("비활성화 시 선점 없이 바로 알림")
+	void execute_Disabled_NotifiesDirectly() {
+		// given
+		guard.shutdown();
+		guard = createGuard(false);
+
+		// when
+		guard.execute("1", this::notifySucceeded);
+		guard.execute("1", this::notifySucceeded);
+
+		// then
+		assertEquals(2, notified.get());
+		verifyNoInteractions(mockValueOperations);
+	}
+
+	// 헬퍼 메서드
+	private AuctionEndIdempotencyGuard createGuard(boolean enabled) {
+		return new AuctionEndIdempotencyGuard(mockRedisTemplate, meterRegistry, enabled, KEY_PREFIX,
+			Duration.ofSeconds(30), Duration.ofHours(24), 100, 3);
+	}
+
+	private CompletableFuture<Void> notifySucceeded() {
+		notified.incrementAndGet();
+		return CompletableFuture.completedFuture(null);
+	}
+
+	private double suppressed(String source) {
+		return meterRegistry.get("auction.end.duplicate.suppressed").tag("source", source).counter().count();
+	}
+}
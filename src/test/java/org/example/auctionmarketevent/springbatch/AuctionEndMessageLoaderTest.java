@@ -0,0 +1,221 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.example.auctionmarketevent.common.message.AuctionEndMessage;
+import org.example.auctionmarketevent.common.notify.AuctionEndMessageLoader;
+import org.example.auctionmarketevent.common.notify.WinnerMessageCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionEndMessageLoaderTest {
+
+	private static final String WINNER_QUERY = "SELECT a.id AS auction_id, b.user_id, a.max_price AS amount, u.username "
+		+ "FROM auctions a JOIN bid b ON b.auction_id = a.id AND b.price = a.max_price "
+		+ "JOIN users u ON u.id = b.user_id "
+		+ "WHERE a.id IN (:auctionIds)";
+
+	@Mock private StringRedisTemplate mockRedisTemplate;
+
+	private JdbcTemplate jdbcTemplate;
+	private SimpleMeterRegistry meterRegistry;
+	private AuctionEndMessageLoader loader;
+
+	@BeforeEach
+	void setUp() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE auctions (id BIGINT PRIMARY KEY, max_price DECIMAL(19, 2))");
+		jdbcTemplate.execute("CREATE TABLE bid (id BIGINT PRIMARY KEY, auction_id BIGINT, user_id BIGINT, "
+			+ "price DECIMAL(19, 2))");
+		jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, username VARCHAR(50))");
+		jdbcTemplate.update("INSERT INTO auctions VALUES (2, 20000), (3, 30000)");
+		jdbcTemplate.update("INSERT INTO bid VALUES (1, 2, 10, 15000), (2, 2, 11, 20000), (3, 3, 10, 30000)");
+		jdbcTemplate.update("INSERT INTO users VALUES (10, '사용자10'), (11, '사용자11')");
+
+		meterRegistry = new SimpleMeterRegistry();
+		loader = createLoader(true);
+	}
+
+	@Test
+	@DisplayName("해시가 있으면 파이프라인 HMGET 결과로, 없는 경매만 MySQL 쿼리 한 번으로 채움")
+	void load_HashThenMysql() {
+		// given: 1 => 해시 있음, 2 / 3 => 해시 없음
+		givenHashes(List.of("99", "50000", "해시사용자"), Arrays.asList(null, null, null),
+			Arrays.asList(null, null, null));
+
+		// when
+		List<AuctionEndMessage> messages = loader.load(List.of("1", "2", "3"));
+
+		// then
+		assertEquals(List.of(
+			new AuctionEndMessage(1L, 99L, 50000L, "해시사용자"),
+			new AuctionEndMessage(2L, 11L, 20000L, "사용자11"),
+			new AuctionEndMessage(3L, 10L, 30000L, "사용자10")), messages);
+		assertEquals(1.0, prefetched("redis"));
+		assertEquals(2.0, prefetched("mysql"));
+	}
+
+	@Test
+	@DisplayName("해시도 낙찰 입찰도 없으면 auctionId 만 채움")
+	void load_NoWinner_IdOnly() {
+		// given
+		givenHashes(Arrays.asList(null, null, null));
+
+		// when
+		List<AuctionEndMessage> messages = loader.load(List.of("4"));
+
+		// then
+		assertEquals(List.of(new AuctionEndMessage(4L, null, null, null)), messages);
+		assertEquals(1.0, prefetched("missing"));
+	}
+
+	@Test
+	@DisplayName("Redis 조회 실패 시 전부 MySQL 로 조회")
+	void load_RedisFailure_FallsBackToMysql() {
+		// given
+		when(mockRedisTemplate.executePipelined(any(RedisCallback.class)))
+			.thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+		// when
+		List<AuctionEndMessage> messages = loader.load(List.of("2"));
+
+		// then
+		assertEquals(List.of(new AuctionEndMessage(2L, 11L, 20000L, "사용자11")), messages);
+	}
+
+	@Test
+	@DisplayName("비활성화 시 조회 없이 auctionId 만 채움")
+	void load_Disabled_IdOnly() {
+		// given
+		loader = createLoader(false);
+
+		// when
+		List<AuctionEndMessage> messages = loader.load(List.of("2"));
+
+		// then
+		assertEquals(List.of(new AuctionEndMessage(2L, null, null, null)), messages);
+		verifyNoInteractions(mockRedisTemplate);
+	}
+
+	@Test
+	@DisplayName("예열 캐시에 있는 경매는 조회 없이 사용, 나머지만 조회")
+	void load_PrewarmedHit_SkipsLookup() {
+		// given
+		WinnerMessageCache cache = new WinnerMessageCache(meterRegistry, true, 100);
+		cache.put("2", new AuctionEndMessage(2L, 11L, 20000L, "예열사용자"), 1_000_000L, Instant.now().plusSeconds(60));
+		loader = createLoader(true, cache);
+		givenHashes(Arrays.asList(null, null, null));
+
+		// when
+		List<AuctionEndMessage> messages = loader.load(List.of("2", "3"));
+
+		// then
+		assertEquals(List.of(
+			new AuctionEndMessage(2L, 11L, 20000L, "예열사용자"),
+			new AuctionEndMessage(3L, 10L, 30000L, "사용자10")), messages);
+		assertEquals(1.0, meterRegistry.get("notify.winner.prewarm.hit").counter().count());
+		assertEquals(1.0, prefetched("mysql"));
+	}
+
+	@Test
+	@DisplayName("예열 이후 입찰로 max_price 가 바뀌었으면 예열 본문을 버리고 다시 조회")
+	void load_PrewarmedStale_Reloads() {
+		// given: 예열 당시 15000 (사용자10) => 이후 20000 (사용자11) 입찰
+		WinnerMessageCache cache = new WinnerMessageCache(meterRegistry, true, 100);
+		cache.put("2", new AuctionEndMessage(2L, 10L, 15000L, "사용자10"), 1_000_000L, Instant.now().plusSeconds(60));
+		loader = createLoader(true, cache);
+		givenHashes(Arrays.asList(null, null, null));
+
+		// when
+		List<AuctionEndMessage> messages = loader.load(List.of("2"));
+
+		// then
+		assertEquals(List.of(new AuctionEndMessage(2L, 11L, 20000L, "사용자11")), messages);
+		assertNull(cache.peek("2"));
+		assertEquals(1.0, meterRegistry.get("notify.winner.prewarm.stale").counter().count());
+		assertEquals(1.0, prefetched("mysql"));
+	}
+
+	@Test
+	@DisplayName("app.notify.winner.query 가 없으면 MySQL 조회 없이 auctionId 만 채움")
+	void load_NoWinnerQuery_SkipsMysql() {
+		// given
+		loader = new AuctionEndMessageLoader(mockRedisTemplate, new NamedParameterJdbcTemplate(jdbcTemplate),
+			meterRegistry, true, "test:winner:", "", null, Duration.ZERO, 100);
+		givenHashes(Arrays.asList(null, null, null));
+
+		// when
+		List<AuctionEndMessage> messages = loader.load(List.of("2"));
+
+		// then
+		assertEquals(List.of(new AuctionEndMessage(2L, null, null, null)), messages);
+		assertEquals(0.0, prefetched("mysql"));
+	}
+
+	@Test
+	@DisplayName("loadOne: 동시에 들어온 단건 조회는 모아서 HMGET 파이프라인 / MySQL 쿼리 한 번으로 조회")
+	void loadOne_ConcurrentLookups_Coalesced() throws Exception {
+		// given
+		loader = new AuctionEndMessageLoader(mockRedisTemplate, new NamedParameterJdbcTemplate(jdbcTemplate),
+			meterRegistry, true, "test:winner:", WINNER_QUERY, null, Duration.ofMillis(200), 100);
+		loader.start();
+		givenHashes(Arrays.asList(null, null, null), Arrays.asList(null, null, null));
+
+		// when
+		List<CompletableFuture<AuctionEndMessage>> results = new ArrayList<>();
+		for (String auctionId : List.of("2", "3")) {
+			results.add(CompletableFuture.supplyAsync(() -> loader.loadOne(auctionId)));
+		}
+
+		// then
+		assertEquals(new AuctionEndMessage(2L, 11L, 20000L, "사용자11"), results.get(0).get(5, TimeUnit.SECONDS));
+		assertEquals(new AuctionEndMessage(3L, 10L, 30000L, "사용자10"), results.get(1).get(5, TimeUnit.SECONDS));
+		verify(mockRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+		assertEquals(2.0, prefetched("mysql"));
+		loader.shutdown();
+	}
+
+	// 헬퍼 메서드
+	private AuctionEndMessageLoader createLoader(boolean enabled) {
+		return createLoader(enabled, null);
+	}
+
+	private AuctionEndMessageLoader createLoader(boolean enabled, WinnerMessageCache cache) {
+		return new AuctionEndMessageLoader(mockRedisTemplate, new NamedParameterJdbcTemplate(jdbcTemplate),
+			meterRegistry, enabled, "test:winner:", WINNER_QUERY, cache, Duration.ZERO, 100);
+	}
+
+	@SafeVarargs
+	private void givenHashes(List<String>... hashes) {
+		when(mockRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.<Object>of(hashes));
+	}
+
+	private double prefetched(String source) {
+		return meterRegistry.get("notify.winner.prefetch").tag("source", source).counter().count();
+	}
+}
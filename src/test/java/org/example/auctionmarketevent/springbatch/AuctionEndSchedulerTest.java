@@ -0,0 +1,237 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.example.auctionmarketevent.common.notify.AuctionEndIdempotencyGuard;
+import org.example.auctionmarketevent.common.notify.AuctionEndNotifier;
+import org.example.auctionmarketevent.common.scheduler.AuctionEndScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionEndSchedulerTest {
+
+	private static final String SCHEDULE_KEY = "test:schedule";
+	private static final String PROCESSING_KEY = "test:processing";
+
+	@Mock private StringRedisTemplate mockRedisTemplate;
+	@Mock private ZSetOperations<String, String> mockZSetOperations;
+	@Mock private AuctionEndNotifier mockNotifier;
+	@Mock private AuctionEndIdempotencyGuard mockGuard;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		jdbcTemplate = new JdbcTemplate(
+			new DriverManagerDataSource("jdbc:h2:mem:" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1"));
+		jdbcTemplate.execute("CREATE TABLE auctions (id BIGINT PRIMARY KEY, end_time DATETIME(6))");
+	}
+
+	@Test
+	@DisplayName("pollOnce: 가져간 경매마다 알림 요청, 성공하면 처리 중 ZSET 에서 삭제")
+	void pollOnce_NotifySucceeded_Acknowledges() {
+		// given: 1 => 종료 후 12ms 에 가져감, 2 => 임대 만료로 다시 가져감
+		AuctionEndScheduler scheduler = createScheduler("zset");
+		givenClaimed(List.of("1", "12", "2", "-1"));
+		givenGuardRunsAction();
+		when(mockRedisTemplate.opsForZSet()).thenReturn(mockZSetOperations);
+		when(mockNotifier.notifyEnded(anyString())).thenReturn(CompletableFuture.completedFuture(null));
+
+		// when
+		int claimed = scheduler.pollOnce();
+
+		// then
+		assertEquals(2, claimed);
+		verify(mockNotifier).notifyEnded("1");
+		verify(mockNotifier).notifyEnded("2");
+		verify(mockZSetOperations).remove(PROCESSING_KEY, "1");
+		verify(mockZSetOperations).remove(PROCESSING_KEY, "2");
+		assertEquals(1, meterRegistry.get("auction.end.close.latency").timer().count());
+		assertEquals(1.0, meterRegistry.get("auction.end.reclaimed").counter().count());
+		assertEquals(2.0, meterRegistry.get("auction.end.acknowledged").counter().count());
+	}
+
+	@Test
+	@DisplayName("pollOnce: 알림 실패 시 처리 중 ZSET 에 남겨둠 (임대 만료 후 다시 가져감)")
+	void pollOnce_NotifyFailed_KeepsLease() {
+		// given
+		AuctionEndScheduler scheduler = createScheduler("zset");
+		givenClaimed(List.of("1", "0"));
+		givenGuardRunsAction();
+		when(mockNotifier.notifyEnded("1"))
+			.thenReturn(CompletableFuture.failedFuture(new IllegalStateException("소켓 서버 오류")));
+
+		// when
+		scheduler.pollOnce();
+
+		// then
+		verify(mockRedisTemplate, never()).opsForZSet();
+		assertEquals(0.0, meterRegistry.get("auction.end.acknowledged").counter().count());
+	}
+
+	@Test
+	@DisplayName("pollOnce: keyspace 대비 경로가 이미 알렸으면 (가드가 정상 완료) 알림 없이 ack")
+	void pollOnce_AlreadyNotifiedByKeyspace_AcknowledgesWithoutNotify() {
+		// given
+		AuctionEndScheduler scheduler = createScheduler("zset");
+		givenClaimed(List.of("1", "5"));
+		when(mockGuard.execute(eq("1"), any())).thenReturn(CompletableFuture.completedFuture(null));
+		when(mockRedisTemplate.opsForZSet()).thenReturn(mockZSetOperations);
+
+		// when
+		scheduler.pollOnce();
+
+		// then
+		verifyNoInteractions(mockNotifier);
+		verify(mockZSetOperations).remove(PROCESSING_KEY, "1");
+	}
+
+	@Test
+	@DisplayName("syncOnce: syncHorizon 안에 끝나는 경매만 종료 시각을 점수로 예약")
+	@SuppressWarnings("unchecked")
+	void syncOnce_SchedulesAuctionsEndingWithinHorizon() {
+		// given: 1 => 30초 뒤 종료, 2 => 이미 종료, 3 => 10분 뒤 종료
+		Instant endTime = Instant.now().plusSeconds(30);
+		insertAuction(1L, endTime);
+		insertAuction(2L, Instant.now().minusSeconds(30));
+		insertAuction(3L, Instant.now().plusSeconds(600));
+		AuctionEndScheduler scheduler = createScheduler("zset");
+		givenRedisTime(Instant.now());
+		when(mockRedisTemplate.opsForZSet()).thenReturn(mockZSetOperations);
+
+		// when
+		int count = scheduler.syncOnce();
+
+		// then
+		assertEquals(1, count);
+		ArgumentCaptor<Set<TypedTuple<String>>> captor = ArgumentCaptor.forClass(Set.class);
+		verify(mockZSetOperations).add(eq(SCHEDULE_KEY), captor.capture());
+		TypedTuple<String> tuple = captor.getValue().iterator().next();
+		assertEquals("1", tuple.getValue());
+		assertEquals((double)Timestamp.from(endTime).getTime(), tuple.getScore());
+		assertEquals(1.0, meterRegistry.get("auction.end.scheduled").counter().count());
+	}
+
+	@Test
+	@DisplayName("syncOnce: 예약 구간은 Redis 시각 기준 => 애플리케이션 시계가 앞서도 Redis 기준으로 아직 안 끝난 경매 예약")
+	@SuppressWarnings("unchecked")
+	void syncOnce_UsesRedisClock() {
+		// given: Redis 시각이 애플리케이션보다 10분 늦음, 1 => Redis 기준 30초 뒤 종료 (애플리케이션 기준은 이미 종료)
+		Instant redisNow = Instant.now().minusSeconds(600);
+		insertAuction(1L, redisNow.plusSeconds(30));
+		insertAuction(2L, redisNow.minusSeconds(30));
+		AuctionEndScheduler scheduler = createScheduler("zset");
+		givenRedisTime(redisNow);
+		when(mockRedisTemplate.opsForZSet()).thenReturn(mockZSetOperations);
+
+		// when
+		int count = scheduler.syncOnce();
+
+		// then
+		assertEquals(1, count);
+		ArgumentCaptor<Set<TypedTuple<String>>> captor = ArgumentCaptor.forClass(Set.class);
+		verify(mockZSetOperations).add(eq(SCHEDULE_KEY), captor.capture());
+		assertEquals("1", captor.getValue().iterator().next().getValue());
+	}
+
+	@Test
+	@DisplayName("pollOnce: 종료 시각이 된 경매가 없으면 알림 요청 안함")
+	void pollOnce_NothingDue_NoNotify() {
+		// given
+		AuctionEndScheduler scheduler = createScheduler("zset");
+		givenClaimed(List.of());
+
+		// when
+		int claimed = scheduler.pollOnce();
+
+		// then
+		assertEquals(0, claimed);
+		verifyNoInteractions(mockNotifier);
+	}
+
+	@Test
+	@DisplayName("schedule: 종료 시각 (epoch 밀리초) 을 점수로 예약 ZSET 에 추가")
+	void schedule_AddsWithEndTimeScore() {
+		// given
+		AuctionEndScheduler scheduler = createScheduler("zset");
+		when(mockRedisTemplate.opsForZSet()).thenReturn(mockZSetOperations);
+		Instant endTime = Instant.parse("2025-04-18T12:00:00Z");
+
+		// when
+		scheduler.schedule("7", endTime);
+
+		// then
+		verify(mockZSetOperations).add(SCHEDULE_KEY, "7", endTime.toEpochMilli());
+	}
+
+	@Test
+	@DisplayName("keyspace 모드 (기본값) 에서는 스케줄러를 시작하지 않음")
+	void start_KeyspaceMode_DoesNothing() {
+		// given
+		AuctionEndScheduler scheduler = createScheduler("keyspace");
+
+		// when
+		scheduler.start();
+		scheduler.shutdown();
+
+		// then
+		assertFalse(scheduler.isEnabled());
+		verifyNoInteractions(mockRedisTemplate, mockNotifier, mockGuard);
+	}
+
+	// 헬퍼 메서드
+	@SuppressWarnings("unchecked")
+	private void givenRedisTime(Instant now) {
+		when(mockRedisTemplate.execute(any(RedisCallback.class))).thenReturn(now.toEpochMilli());
+	}
+
+	private AuctionEndScheduler createScheduler(String mode) {
+		return new AuctionEndScheduler(mockRedisTemplate, jdbcTemplate, mockNotifier, mockGuard, meterRegistry, mode,
+			SCHEDULE_KEY, PROCESSING_KEY, Duration.ofMillis(50), Duration.ofSeconds(30), 100, Duration.ofSeconds(10),
+			Duration.ofMinutes(1), 1000);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void givenGuardRunsAction() {
+		when(mockGuard.execute(anyString(), any())).thenAnswer(
+			invocation -> ((Supplier<CompletableFuture<Void>>)invocation.getArgument(1)).get());
+	}
+
+	private void insertAuction(Long auctionId, Instant endTime) {
+		jdbcTemplate.update("INSERT INTO auctions VALUES (?, ?)", auctionId, Timestamp.from(endTime));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void givenClaimed(List<String> result) {
+		when(mockRedisTemplate.execute(any(RedisScript.class), eq(List.of(SCHEDULE_KEY, PROCESSING_KEY)), eq("30000"),
+			eq("100"))).thenReturn(result);
+	}
+}
@@ -0,0 +1,178 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.example.auctionmarketevent.springbatch.job.partition.AuctionIdRangePartitioner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionIdRangePartitionerTest {
+
+	@Mock
+	private JdbcTemplate mockJdbcTemplate;
+
+	private AuctionIdRangePartitioner partitioner;
+
+	private final Timestamp lastProcessedTimestamp = Timestamp.valueOf(LocalDateTime.of(2025, 4, 28, 0, 0, 0));
+
+	@BeforeEach
+	void setUp() {
+		partitioner = new AuctionIdRangePartitioner(mockJdbcTemplate, lastProcessedTimestamp, null, 100);
+	}
+
+	@Test
+	@DisplayName("변경된 auction_id 범위를 gridSize 개의 연속 구간으로 분할")
+	void partition_SplitsRangeIntoGrid() {
+		// given
+		when(mockJdbcTemplate.queryForMap(anyString(), eq(lastProcessedTimestamp), eq(lastProcessedTimestamp))).thenReturn(bounds(1L, 100L));
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		// then
+		assertEquals(4, partitions.size());
+		assertRange(partitions.get("partition0"), 1L, 25L);
+		assertRange(partitions.get("partition1"), 26L, 50L);
+		assertRange(partitions.get("partition2"), 51L, 75L);
+		// 마지막 구간은 상한이 열려 있어야 함
+		assertRange(partitions.get("partition3"), 76L, Long.MAX_VALUE);
+
+		// 모든 파티션에 워터마크 전달 확인
+		partitions.values().forEach(context ->
+			assertEquals(lastProcessedTimestamp, context.get("lastProcessedTimestamp")));
+	}
+
+	@Test
+	@DisplayName("범위가 gridSize 보다 작으면 구간 수가 줄어듦")
+	void partition_SmallRange_ShouldCreateFewerPartitions() {
+		// given
+		when(mockJdbcTemplate.queryForMap(anyString(), eq(lastProcessedTimestamp), eq(lastProcessedTimestamp))).thenReturn(bounds(10L, 11L));
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		// then
+		assertEquals(2, partitions.size());
+		assertRange(partitions.get("partition0"), 10L, 10L);
+		assertRange(partitions.get("partition1"), 11L, Long.MAX_VALUE);
+	}
+
+	@Test
+	@DisplayName("변경된 행이 없으면 전체 구간 파티션 하나 생성")
+	void partition_NoChangedRows_ShouldCreateSinglePartition() {
+		// given
+		when(mockJdbcTemplate.queryForMap(anyString(), eq(lastProcessedTimestamp), eq(lastProcessedTimestamp))).thenReturn(bounds(null, null));
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		// then
+		assertEquals(1, partitions.size());
+		assertRange(partitions.get("partition0"), 0L, Long.MAX_VALUE);
+	}
+
+	@Test
+	@DisplayName("변경 컬럼별 (maxItemCount * gridSize / 컬럼 수) 번째 시각 중 가장 이른 값을 모든 파티션의 공통 상한으로 사용")
+	void partition_ManyChangedRows_ShouldShareUpperBound() {
+		// given
+		Timestamp auctionBound = Timestamp.valueOf(LocalDateTime.of(2025, 4, 28, 6, 0, 0));
+		Timestamp productBound = Timestamp.valueOf(LocalDateTime.of(2025, 4, 28, 3, 0, 0));
+		when(mockJdbcTemplate.queryForMap(anyString(), eq(lastProcessedTimestamp), eq(lastProcessedTimestamp))).thenReturn(bounds(1L, 100L));
+		// 100 * 4 / 2 = 200 번째 값 => OFFSET 199
+		when(mockJdbcTemplate.queryForList(contains("a.modified_at > ?"), eq(Timestamp.class), eq(lastProcessedTimestamp), eq(199L)))
+			.thenReturn(List.of(auctionBound));
+		when(mockJdbcTemplate.queryForList(contains("p.modified_at > ?"), eq(Timestamp.class), eq(lastProcessedTimestamp), eq(199L)))
+			.thenReturn(List.of(productBound));
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		// then
+		assertEquals(4, partitions.size());
+		partitions.values().forEach(context ->
+			assertEquals(productBound, context.get(AuctionIdRangePartitioner.UPPER_BOUND_KEY)));
+	}
+
+	@Test
+	@DisplayName("변경 행이 상한 계산 기준보다 적으면 변경 시각 최대값을 모든 파티션의 공통 상한으로 사용")
+	void partition_FewChangedRows_ShouldShareLatestChangeAsUpperBound() {
+		// given: 컬럼별 200 번째 값 없음
+		Timestamp latestChange = Timestamp.valueOf(LocalDateTime.of(2025, 4, 28, 2, 0, 0));
+		when(mockJdbcTemplate.queryForMap(anyString(), eq(lastProcessedTimestamp), eq(lastProcessedTimestamp))).thenReturn(bounds(1L, 100L));
+		when(mockJdbcTemplate.queryForObject(contains("MAX(modified_at)"), eq(Timestamp.class), eq(lastProcessedTimestamp), eq(lastProcessedTimestamp)))
+			.thenReturn(latestChange);
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		// then
+		assertEquals(4, partitions.size());
+		partitions.values().forEach(context ->
+			assertEquals(latestChange, context.get(AuctionIdRangePartitioner.UPPER_BOUND_KEY)));
+		verify(mockJdbcTemplate, times(2)).queryForList(anyString(), eq(Timestamp.class), any(), any());
+	}
+
+	@Test
+	@DisplayName("변경 시각 최대값이 워터마크 이후가 아니면 현재 시각을 공통 상한으로 사용")
+	void partition_NoLatestChange_ShouldUseNowAsUpperBound() {
+		// given
+		when(mockJdbcTemplate.queryForMap(anyString(), eq(lastProcessedTimestamp), eq(lastProcessedTimestamp))).thenReturn(bounds(null, null));
+		when(mockJdbcTemplate.queryForObject(contains("MAX(modified_at)"), eq(Timestamp.class), eq(lastProcessedTimestamp), eq(lastProcessedTimestamp)))
+			.thenReturn(lastProcessedTimestamp);
+		Timestamp before = Timestamp.valueOf(LocalDateTime.now());
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		// then
+		Timestamp upperBound = (Timestamp)partitions.get("partition0").get(AuctionIdRangePartitioner.UPPER_BOUND_KEY);
+		assertNotNull(upperBound);
+		assertFalse(upperBound.before(before));
+	}
+
+	@Test
+	@DisplayName("drain 구간이면 구간이 실행 크기를 제한하므로 공통 상한 없음")
+	void partition_Slice_ShouldNotSetUpperBound() {
+		// given
+		when(mockJdbcTemplate.queryForMap(anyString(), eq(lastProcessedTimestamp), eq(lastProcessedTimestamp))).thenReturn(bounds(1L, 100L));
+		AuctionIdRangePartitioner slicePartitioner = new AuctionIdRangePartitioner(mockJdbcTemplate,
+			lastProcessedTimestamp, LocalDateTime.of(2025, 4, 28, 1, 0, 0), 100);
+
+		// when
+		Map<String, ExecutionContext> slicePartitions = slicePartitioner.partition(4);
+
+		// then
+		slicePartitions.values().forEach(context ->
+			assertFalse(context.containsKey(AuctionIdRangePartitioner.UPPER_BOUND_KEY)));
+		verify(mockJdbcTemplate, never()).queryForList(anyString(), eq(Timestamp.class), any(), any());
+	}
+
+	// 헬퍼 메서드
+	private Map<String, Object> bounds(Long minId, Long maxId) {
+		Map<String, Object> bounds = new HashMap<>();
+		bounds.put("min_id", minId);
+		bounds.put("max_id", maxId);
+		return bounds;
+	}
+
+	private void assertRange(ExecutionContext context, long expectedMin, long expectedMax) {
+		assertNotNull(context);
+		assertEquals(expectedMin, context.getLong("minAuctionId"));
+		assertEquals(expectedMax, context.getLong("maxAuctionId"));
+	}
+}
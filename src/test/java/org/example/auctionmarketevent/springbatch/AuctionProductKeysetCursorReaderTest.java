@@ -0,0 +1,140 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.example.auctionmarketevent.common.provider.MySqlCustomPagingQueryProvider;
+import org.example.auctionmarketevent.springbatch.job.dto.AuctionProductDto;
+import org.example.auctionmarketevent.springbatch.job.reader.AuctionProductKeysetCursorReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class AuctionProductKeysetCursorReaderTest {
+
+	private static final String SELECT = "a.id AS auction_id, p.id AS product_id, p.product_name, "
+		+ "p.category AS product_category, a.max_price, a.start_time AS auction_start_time, "
+		+ "a.end_time AS auction_end_time, GREATEST(a.modified_at, p.modified_at) AS last_modified";
+	private static final String FROM = "auctions a JOIN product p ON a.product_id = p.id";
+	private static final Timestamp T0 = Timestamp.valueOf("2025-04-01 00:00:00");
+	private static final Timestamp T1 = Timestamp.valueOf("2025-04-01 01:00:00");
+	private static final Timestamp T2 = Timestamp.valueOf("2025-04-01 02:00:00");
+
+	private DriverManagerDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE product (id BIGINT PRIMARY KEY, product_name VARCHAR(100), "
+			+ "category VARCHAR(50), modified_at DATETIME(6))");
+		jdbcTemplate.execute("CREATE TABLE auctions (id BIGINT PRIMARY KEY, product_id BIGINT, max_price DECIMAL(19, 2), "
+			+ "start_time DATETIME(6), end_time DATETIME(6), modified_at DATETIME(6))");
+
+		// 상품 1 은 T0, 상품 2 는 T1 에 변경 => 경매 3, 4 는 p.modified_at 브랜치
+		jdbcTemplate.update("INSERT INTO product VALUES (1, '상품1', '카테고리', ?), (2, '상품2', '카테고리', ?)", T0, T1);
+		// 정렬 순서: (T1, 1) (T1, 2) (T1, 3) (T1, 4) (T2, 5) => 같은 시각 T1 이 재시작 지점을 사이에 두고 걸침
+		insertAuction(1L, 1L, T1);
+		insertAuction(2L, 1L, T1);
+		insertAuction(3L, 2L, T0);
+		insertAuction(4L, 2L, T0);
+		insertAuction(5L, 1L, T2);
+	}
+
+	@Test
+	@DisplayName("재시작: 저장한 (last_modified, auction_id) 바로 다음 행부터 읽음 => 같은 시각 행도 중복/누락 없음")
+	void open_Restart_ResumesAfterLastKey() throws Exception {
+		// given
+		ExecutionContext executionContext = new ExecutionContext();
+		AuctionProductKeysetCursorReader firstRun = createReader(100);
+		firstRun.open(executionContext);
+		List<Long> firstIds = read(firstRun, 2);
+		firstRun.update(executionContext);
+		firstRun.close();
+
+		// when
+		AuctionProductKeysetCursorReader restarted = createReader(100);
+		restarted.open(executionContext);
+		List<Long> restartedIds = read(restarted, Integer.MAX_VALUE);
+		restarted.close();
+
+		// then
+		assertEquals(List.of(1L, 2L), firstIds);
+		assertEquals(List.of(3L, 4L, 5L), restartedIds);
+	}
+
+	@Test
+	@DisplayName("재시작: maxItemCount 는 이전 실행에서 읽은 개수를 포함해서 계산")
+	void open_Restart_KeepsMaxItemCountAcrossRuns() throws Exception {
+		// given
+		ExecutionContext executionContext = new ExecutionContext();
+		AuctionProductKeysetCursorReader firstRun = createReader(4);
+		firstRun.open(executionContext);
+		read(firstRun, 3);
+		firstRun.update(executionContext);
+		firstRun.close();
+
+		// when
+		AuctionProductKeysetCursorReader restarted = createReader(4);
+		restarted.open(executionContext);
+		List<Long> restartedIds = read(restarted, Integer.MAX_VALUE);
+		restarted.close();
+
+		// then
+		assertEquals(List.of(4L), restartedIds);
+	}
+
+	@Test
+	@DisplayName("saveState=false 이면 위치를 저장하지 않음 => 재시작 시 처음부터 다시 읽음")
+	void open_SaveStateDisabled_RestartsFromBeginning() throws Exception {
+		// given
+		ExecutionContext executionContext = new ExecutionContext();
+		AuctionProductKeysetCursorReader firstRun = createReader(100);
+		firstRun.setSaveState(false);
+		firstRun.open(executionContext);
+		read(firstRun, 2);
+		firstRun.update(executionContext);
+		firstRun.close();
+
+		// when
+		AuctionProductKeysetCursorReader restarted = createReader(100);
+		restarted.setSaveState(false);
+		restarted.open(executionContext);
+		List<Long> restartedIds = read(restarted, Integer.MAX_VALUE);
+		restarted.close();
+
+		// then
+		assertTrue(executionContext.isEmpty());
+		assertEquals(List.of(1L, 2L, 3L, 4L, 5L), restartedIds);
+	}
+
+	// 헬퍼 메서드
+	private AuctionProductKeysetCursorReader createReader(int maxItemCount) {
+		MySqlCustomPagingQueryProvider queryProvider = new MySqlCustomPagingQueryProvider(SELECT, FROM,
+			List.of("a.modified_at", "p.modified_at"), "a.id", "lastProcessedTimestamp", null);
+		return new AuctionProductKeysetCursorReader("testCursorReader", dataSource, queryProvider,
+			Map.of("lastProcessedTimestamp", T0), 10, maxItemCount);
+	}
+
+	private List<Long> read(AuctionProductKeysetCursorReader reader, int count) throws Exception {
+		List<Long> auctionIds = new ArrayList<>();
+		AuctionProductDto item;
+		while (auctionIds.size() < count && (item = reader.read()) != null) {
+			auctionIds.add(item.getAuctionId());
+		}
+		return auctionIds;
+	}
+
+	private void insertAuction(Long auctionId, Long productId, Timestamp modifiedAt) {
+		jdbcTemplate.update("INSERT INTO auctions VALUES (?, ?, ?, ?, ?, ?)", auctionId, productId, 1000, T0, T2,
+			modifiedAt);
+	}
+}
@@ -0,0 +1,188 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.example.auctionmarketevent.springbatch.job.dto.AuctionsWinningBidDto;
+import org.example.auctionmarketevent.springbatch.job.writer.AuctionsWinningBidCsvEncoder;
+import org.example.auctionmarketevent.springbatch.job.writer.StagingFileEncoder;
+import org.example.auctionmarketevent.springbatch.job.writer.StagingFileFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class AuctionsWinningBidCsvEncoderTest {
+
+	// 기존 Writer 와 같은 설정의 Jackson 경로 (비교 기준)
+	private static final CsvMapper CSV_MAPPER = new CsvMapper()
+		.registerModule(new JavaTimeModule())
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+	private static final CsvSchema CSV_SCHEMA = CSV_MAPPER.schemaFor(AuctionsWinningBidDto.class).withoutHeader();
+
+	@Test
+	@DisplayName("일반적인 행은 Jackson 경로와 바이트 단위로 같음")
+	void encode_SameAsJackson() throws Exception {
+		// given
+		Instant now = Instant.parse("2025-04-18T09:30:15.123456Z");
+		List<AuctionsWinningBidDto> items = List.of(
+			createItem(1L, "테스트 상품 1", "전자제품", now),
+			createItem(2L, "NoSpace", "테스트 카테고리", now.plusSeconds(86_400)),
+			createItem(3L, "", null, null)
+		);
+
+		// when & then
+		assertArrayEquals(encodeWithJackson(items), encode(items));
+	}
+
+	@Test
+	@DisplayName("따옴표 / 구분자 / 줄바꿈 / 제어 문자 / 이모지 / 경계 값도 Jackson 경로와 같음")
+	void encode_EdgeCases_SameAsJackson() throws Exception {
+		// given
+		List<AuctionsWinningBidDto> items = List.of(
+			createItem(Long.MAX_VALUE, "say \"hi\"", "a,b", Instant.EPOCH),
+			createItem(Long.MIN_VALUE, "줄\n바꿈\r", "tab\there", Instant.parse("1969-12-31T23:59:59.999999999Z")),
+			createItem(0L, "#comment", "-dash", Instant.parse("2025-01-01T00:00:00.100Z")),
+			createItem(-42L, "이모지 😀", "ÄÖÜ~", Instant.parse("0000-01-01T00:00:00Z")),
+			createItem(7L, "'single'", "slash/\\", Instant.parse("9999-12-31T23:59:59.000001Z")),
+			createItem(8L, "far future", "far past", Instant.ofEpochSecond(253_402_300_800L)),
+			createItem(9L, "ancient", "x", Instant.ofEpochSecond(-62_167_219_201L, 5))
+		);
+
+		// when & then
+		assertArrayEquals(encodeWithJackson(items), encode(items));
+	}
+
+	@Test
+	@DisplayName("24자를 넘는 문자열은 안전한 문자만 있어도 따옴표 => Jackson 경로와 같음")
+	void encode_LongStrings_SameAsJackson() throws Exception {
+		// given
+		Instant now = Instant.parse("2025-04-18T09:30:15.123456Z");
+		List<AuctionsWinningBidDto> items = List.of(
+			createItem(1L, "ABCDEFGHIJKLMNOPQRSTUVWX", "abcdefghijklmnopqrstuvwxy", now), // 24자 / 25자
+			createItem(2L, "아주긴상품이름은따옴표로감싸야바이트가같아지는지확인", "가전", now),
+			createItem(3L, "😀😀😀😀😀😀😀😀😀😀😀😀", "😀😀😀😀😀😀😀😀😀😀😀😀😀", now), // 서로게이트 쌍 => 24 / 26 char
+			createItem(4L, "millis", "x", Instant.parse("2025-04-18T09:30:15.123Z")) // 시각 24자 / 마이크로 27자
+		);
+
+		// when
+		byte[] encoded = encode(items);
+
+		// then
+		assertArrayEquals(encodeWithJackson(items), encoded);
+		String csv = new String(encoded, StandardCharsets.UTF_8);
+		assertTrue(csv.contains(",ABCDEFGHIJKLMNOPQRSTUVWX,\"abcdefghijklmnopqrstuvwxy\","));
+		assertTrue(csv.contains(",\"2025-04-18T09:30:15.123456Z\""));
+		assertTrue(csv.contains(",2025-04-18T09:30:15.123Z"));
+	}
+
+	@Test
+	@DisplayName("임의의 행 여러 개를 나눠서 써도 Jackson 경로와 같음")
+	void encode_RandomRows_SameAsJackson() throws Exception {
+		// given
+		List<AuctionsWinningBidDto> items = randomItems(new Random(42), 5_000);
+
+		// when
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (StagingFileEncoder encoder = StagingFileFormat.CSV.open(outputStream)) {
+			for (int from = 0; from < items.size(); from += 1_000) {
+				encoder.write(items.subList(from, from + 1_000));
+			}
+		}
+
+		// then
+		assertArrayEquals(encodeWithJackson(items), outputStream.toByteArray());
+	}
+
+	@Test
+	@DisplayName("여러 스레드가 동시에 인코딩해도 결과가 섞이지 않음")
+	void encode_MultiThreaded() throws Exception {
+		// given
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<Boolean>> results = new ArrayList<>();
+
+		// when
+		for (int i = 0; i < 16; i++) {
+			long seed = i;
+			results.add(executor.submit(() -> {
+				List<AuctionsWinningBidDto> items = randomItems(new Random(seed), 500);
+				return Arrays.equals(encodeWithJackson(items), encode(items));
+			}));
+		}
+
+		// then
+		for (Future<Boolean> result : results) {
+			assertTrue(result.get());
+		}
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("짝이 없는 서로게이트 문자는 예외")
+	void encode_BrokenSurrogate() {
+		// given
+		List<AuctionsWinningBidDto> items = List.of(createItem(1L, "broken \uD83D", "x", Instant.EPOCH));
+
+		// when & then
+		assertThrows(IOException.class, () -> encode(items));
+	}
+
+	// 헬퍼 메서드
+	private static byte[] encode(List<AuctionsWinningBidDto> items) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (StagingFileEncoder encoder = new AuctionsWinningBidCsvEncoder(outputStream)) {
+			encoder.write(items);
+		}
+		return outputStream.toByteArray();
+	}
+
+	private static byte[] encodeWithJackson(List<AuctionsWinningBidDto> items) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (SequenceWriter writer = CSV_MAPPER.writer(CSV_SCHEMA).writeValues(outputStream)) {
+			writer.writeAll(items);
+		}
+		return outputStream.toByteArray();
+	}
+
+	private static AuctionsWinningBidDto createItem(Long id, String name, String category, Instant time) {
+		return AuctionsWinningBidDto.builder()
+			.auctionId(id).productId(id == null ? null : id / 2).productName(name)
+			.productCategory(category).maxPrice(id == null ? null : id % 1_000_000)
+			.auctionStartTime(time).auctionEndTime(time == null ? null : time.plusNanos(1_000))
+			.lastModified(time)
+			.build();
+	}
+
+	private static List<AuctionsWinningBidDto> randomItems(Random random, int count) {
+		String[] names = {"테스트 상품", "노트북", "a\"b", "x,y", "", "line\nbreak", "😀 emoji", "plain-text",
+			"a-very-long-product-name-without-spaces"};
+		List<AuctionsWinningBidDto> items = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Instant time = Instant.ofEpochSecond(1_600_000_000L + random.nextInt(200_000_000),
+				switch (random.nextInt(4)) {
+					case 0 -> 0;
+					case 1 -> random.nextInt(1_000) * 1_000_000;
+					case 2 -> random.nextInt(1_000_000) * 1_000;
+					default -> random.nextInt(1_000_000_000);
+				});
+			items.add(createItem(random.nextLong(), names[random.nextInt(names.length)] + i,
+				random.nextBoolean() ? null : names[random.nextInt(names.length)], random.nextInt(10) == 0 ? null : time));
+		}
+		return items;
+	}
+}
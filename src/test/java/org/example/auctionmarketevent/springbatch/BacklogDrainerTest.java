@@ -0,0 +1,157 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.example.auctionmarketevent.common.listener.BigQueryLoadTracker;
+import org.example.auctionmarketevent.common.provider.ChangedAuctionRowCounter;
+import org.example.auctionmarketevent.common.scheduler.BacklogDrainReport;
+import org.example.auctionmarketevent.common.scheduler.BacklogDrainer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class BacklogDrainerTest {
+
+	private static final String JOB_NAME = "testJob";
+	private static final Duration SAFETY_LAG = Duration.ofSeconds(30);
+	private static final Duration INITIAL_SLICE = Duration.ofHours(1);
+
+	@Mock private JobLauncher mockJobLauncher;
+	@Mock private Job mockJob;
+	@Mock private JdbcTemplate mockJdbcTemplate;
+	@Mock private ChangedAuctionRowCounter mockCounter;
+	@Mock private BigQueryLoadTracker mockLoadTracker;
+
+	private BacklogDrainer drainer;
+
+	@BeforeEach
+	void setUp() {
+		// 허용 지연 5분, 구간 1시간 (1분 ~ 1일), 목표 실행 시간 2분
+		drainer = new BacklogDrainer(mockJobLauncher, mockJob, mockJdbcTemplate, mockCounter, mockLoadTracker, JOB_NAME,
+			Duration.ofMinutes(5), SAFETY_LAG, INITIAL_SLICE, Duration.ofMinutes(1), Duration.ofDays(1),
+			Duration.ofMinutes(2), Duration.ofHours(1), 5_000_000L);
+	}
+
+	@Test
+	@DisplayName("drain: 메타데이터가 없으면 Listener 와 같은 기본값(처음부터), 첫 구간은 첫 변경 시각부터 시작")
+	void drain_NoMetadata_StartsFromEarliestChange() throws Exception {
+		// given
+		LocalDateTime earliest = LocalDateTime.now().minusDays(3);
+		when(mockJdbcTemplate.queryForObject(anyString(), eq(Timestamp.class), eq(JOB_NAME)))
+			.thenThrow(new EmptyResultDataAccessException(1))
+			.thenReturn(Timestamp.valueOf(LocalDateTime.now()));
+		when(mockCounter.earliestChange(any(Timestamp.class))).thenReturn(Timestamp.valueOf(earliest));
+		when(mockJobLauncher.run(eq(mockJob), any(JobParameters.class))).thenReturn(completedExecution(100));
+
+		// when
+		BacklogDrainReport report = drainer.drain();
+
+		// then
+		assertEquals(BacklogDrainReport.StopReason.CAUGHT_UP, report.getStopReason());
+		assertEquals(1, report.getSlices());
+		assertEquals(earliest.plus(INITIAL_SLICE), capturedSliceEnd());
+	}
+
+	@Test
+	@DisplayName("drain: 구간 끝은 현재 - safetyLag 를 넘지 않음")
+	void drain_SliceEndCappedBySafetyLag() throws Exception {
+		// given
+		LocalDateTime watermark = LocalDateTime.now().minusMinutes(30);
+		when(mockJdbcTemplate.queryForObject(anyString(), eq(Timestamp.class), eq(JOB_NAME)))
+			.thenReturn(Timestamp.valueOf(watermark))
+			.thenReturn(Timestamp.valueOf(LocalDateTime.now()));
+		when(mockCounter.earliestChange(Timestamp.valueOf(watermark))).thenReturn(Timestamp.valueOf(watermark.plusMinutes(1)));
+		when(mockJobLauncher.run(eq(mockJob), any(JobParameters.class))).thenReturn(completedExecution(100));
+
+		// when
+		LocalDateTime before = LocalDateTime.now();
+		drainer.drain();
+		LocalDateTime after = LocalDateTime.now();
+
+		// then
+		LocalDateTime sliceEnd = capturedSliceEnd();
+		assertFalse(sliceEnd.isBefore(before.minus(SAFETY_LAG)));
+		assertFalse(sliceEnd.isAfter(after.minus(SAFETY_LAG)));
+	}
+
+	@Test
+	@DisplayName("drain: 구간이 성공했는데 워터마크가 그대로면 반복하지 않고 종료")
+	void drain_WatermarkNotAdvanced_Stops() throws Exception {
+		// given
+		LocalDateTime watermark = LocalDateTime.now().minusDays(1);
+		when(mockJdbcTemplate.queryForObject(anyString(), eq(Timestamp.class), eq(JOB_NAME)))
+			.thenReturn(Timestamp.valueOf(watermark));
+		when(mockCounter.earliestChange(Timestamp.valueOf(watermark))).thenReturn(Timestamp.valueOf(watermark.plusMinutes(1)));
+		when(mockJobLauncher.run(eq(mockJob), any(JobParameters.class))).thenReturn(completedExecution(100));
+
+		// when
+		BacklogDrainReport report = drainer.drain();
+
+		// then
+		assertEquals(BacklogDrainReport.StopReason.NO_PROGRESS, report.getStopReason());
+		verify(mockJobLauncher, times(1)).run(eq(mockJob), any(JobParameters.class));
+	}
+
+	@Test
+	@DisplayName("drain: 워터마크 이후 변경이 없으면 Job 실행 없이 종료")
+	void drain_NoChanges_StopsWithoutRunning() throws Exception {
+		// given
+		LocalDateTime watermark = LocalDateTime.now().minusDays(1);
+		when(mockJdbcTemplate.queryForObject(anyString(), eq(Timestamp.class), eq(JOB_NAME)))
+			.thenReturn(Timestamp.valueOf(watermark));
+
+		// when
+		BacklogDrainReport report = drainer.drain();
+
+		// then
+		assertEquals(BacklogDrainReport.StopReason.CAUGHT_UP, report.getStopReason());
+		verify(mockJobLauncher, never()).run(any(), any());
+	}
+
+	@Test
+	@DisplayName("adjustSlice: 처리 속도에 맞춰 목표 실행 시간만큼 조정, 한 번에 4배 / 1/4 배까지, 최소 / 최대 구간 안으로")
+	void adjustSlice_ScalesTowardsTargetDuration() {
+		// 1시간 구간 1000 행을 60초에 처리 => 목표 120초 => 2배
+		assertEquals(Duration.ofHours(2), drainer.adjustSlice(Duration.ofHours(1), 1000, 60_000));
+		// 480초 걸림 => 1/4 배
+		assertEquals(Duration.ofMinutes(15), drainer.adjustSlice(Duration.ofHours(1), 1000, 480_000));
+		// 아주 빠름 => 최대 4배
+		assertEquals(Duration.ofHours(4), drainer.adjustSlice(Duration.ofHours(1), 1000, 1_000));
+		// 빈 구간 => 4배, 최대 구간(1일)에서 멈춤
+		assertEquals(Duration.ofDays(1), drainer.adjustSlice(Duration.ofHours(12), 0, 1_000));
+		// 아주 느림 => 최소 구간(1분)
+		assertEquals(Duration.ofMinutes(1), drainer.adjustSlice(Duration.ofMinutes(2), 1000, 3_600_000));
+	}
+
+	// 헬퍼 메서드
+	private JobExecution completedExecution(long writeCount) {
+		JobExecution execution = new JobExecution(1L);
+		execution.setStatus(BatchStatus.COMPLETED);
+		execution.createStepExecution("mysqlToBigQueryStep").setWriteCount(writeCount);
+		return execution;
+	}
+
+	private LocalDateTime capturedSliceEnd() throws Exception {
+		ArgumentCaptor<JobParameters> parametersCaptor = ArgumentCaptor.forClass(JobParameters.class);
+		verify(mockJobLauncher).run(eq(mockJob), parametersCaptor.capture());
+		return parametersCaptor.getValue().getLocalDateTime("sliceEnd");
+	}
+}
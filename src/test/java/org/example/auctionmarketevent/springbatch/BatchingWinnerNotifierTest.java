@@ -0,0 +1,183 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.example.auctionmarketevent.common.dispatch.OverflowPolicy;
+import org.example.auctionmarketevent.common.dispatch.StripedDispatcher;
+import org.example.auctionmarketevent.common.notify.BatchingWinnerNotifier;
+import org.example.auctionmarketevent.common.notify.WinnerNotificationClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BatchingWinnerNotifierTest {
+
+	@Mock private WinnerNotificationClient mockClient;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private StripedDispatcher dispatcher;
+	private BatchingWinnerNotifier notifier;
+
+	@BeforeEach
+	void setUp() {
+		dispatcher = new StripedDispatcher("test", 2, 100, OverflowPolicy.BLOCK, Duration.ofSeconds(1), meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		notifier.shutdown();
+		dispatcher.shutdown(Duration.ofSeconds(5));
+	}
+
+	@Test
+	@DisplayName("submit: window 안에 들어온 경매는 묶음 요청 하나로 전송 (중복 ID 는 한 번만)")
+	void submit_WithinWindow_SendsOneBulkRequest() throws Exception {
+		// given
+		when(mockClient.notifyWinners(anyList())).thenReturn(List.of());
+		notifier = createNotifier(Duration.ofMillis(300), 100, 3);
+
+		// when
+		List<CompletableFuture<Void>> results = submitAll("1", "2", "3", "2");
+		awaitAll(results);
+
+		// then
+		verify(mockClient, times(1)).notifyWinners(List.of("1", "2", "3"));
+		verify(mockClient, never()).notifyWinner(anyString());
+		assertEquals(1.0, meterRegistry.get("notify.winner.batch.requests").counter().count());
+	}
+
+	@Test
+	@DisplayName("submit: maxBatchSize 가 차면 window 를 기다리지 않고 나눠서 전송")
+	void submit_ExceedsMaxBatchSize_SplitsBatches() throws Exception {
+		// given
+		when(mockClient.notifyWinners(anyList())).thenReturn(List.of());
+		notifier = createNotifier(Duration.ofSeconds(5), 2, 3);
+
+		// when
+		long start = System.nanoTime();
+		awaitAll(submitAll("1", "2", "3", "4"));
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		// then
+		ArgumentCaptor<List<String>> batchCaptor = ArgumentCaptor.forClass(List.class);
+		verify(mockClient, times(2)).notifyWinners(batchCaptor.capture());
+		assertEquals(List.of(List.of("1", "2"), List.of("3", "4")), batchCaptor.getAllValues());
+		assertTrue(elapsedMillis < 5000, "실행 시간 = " + elapsedMillis);
+	}
+
+	@Test
+	@DisplayName("submit: 묶음 응답에서 실패한 ID 만 단건으로 재시도")
+	void submit_PartialFailure_RetriesFailedIdsIndividually() throws Exception {
+		// given
+		when(mockClient.notifyWinners(anyList())).thenReturn(List.of("2"));
+		notifier = createNotifier(Duration.ofMillis(300), 100, 3);
+
+		// when
+		awaitAll(submitAll("1", "2", "3"));
+
+		// then
+		verify(mockClient).notifyWinner("2");
+		verify(mockClient, never()).notifyWinner("1");
+		verify(mockClient, never()).notifyWinner("3");
+		assertEquals(1.0, meterRegistry.get("notify.winner.retry").counter().count());
+	}
+
+	@Test
+	@DisplayName("submit: 묶음 요청 자체가 실패하면 단건으로 나누지 않고 묶음째 다시 전송")
+	void submit_BulkRequestFails_ResendsAsBulk() throws Exception {
+		// given: 첫 묶음 요청은 타임아웃 (서버 처리 여부 모름), 두 번째는 성공
+		when(mockClient.notifyWinners(anyList()))
+			.thenThrow(new IllegalStateException("응답 타임아웃"))
+			.thenReturn(List.of());
+		notifier = createNotifier(Duration.ofMillis(100), 100, 3);
+
+		// when
+		awaitAll(submitAll("1", "2"));
+
+		// then
+		verify(mockClient, times(2)).notifyWinners(List.of("1", "2"));
+		verify(mockClient, never()).notifyWinner(anyString());
+	}
+
+	@Test
+	@DisplayName("submit: 묶음 재전송이 maxAttempts 까지 실패하면 예외로 완료")
+	void submit_BulkRequestKeepsFailing_FailsAfterMaxAttempts() throws Exception {
+		// given
+		when(mockClient.notifyWinners(anyList())).thenThrow(new IllegalStateException("연결 실패"));
+		notifier = createNotifier(Duration.ofMillis(100), 100, 2);
+
+		// when
+		List<CompletableFuture<Void>> results = submitAll("1", "2");
+
+		// then
+		for (CompletableFuture<Void> result : results) {
+			ExecutionException failure = assertThrows(ExecutionException.class,
+				() -> result.get(5, TimeUnit.SECONDS));
+			assertEquals("연결 실패", failure.getCause().getMessage());
+		}
+		verify(mockClient, times(2)).notifyWinners(List.of("1", "2"));
+		verify(mockClient, never()).notifyWinner(anyString());
+		assertEquals(2.0, meterRegistry.get("notify.winner.failed").counter().count());
+	}
+
+	@Test
+	@DisplayName("submit: 단건 재시도 대기 중에도 같은 작업자의 다른 경매는 기다리지 않음")
+	void submit_IndividualRetryBackoff_DoesNotBlockWorker() throws Exception {
+		// given: 작업자 하나 => 경매 "2" 재시도 대기 동안 같은 작업자에 등록된 경매 "3" 도 실행되어야 함
+		dispatcher.shutdown(Duration.ofSeconds(5));
+		dispatcher = new StripedDispatcher("test", 1, 100, OverflowPolicy.BLOCK, Duration.ofSeconds(1), meterRegistry);
+		when(mockClient.notifyWinners(anyList())).thenReturn(List.of("2"), List.of("3"));
+		doThrow(new IllegalStateException("일시 실패")).doNothing().when(mockClient).notifyWinner("2");
+		notifier = createNotifier(Duration.ofMillis(10), 100, 3);
+
+		// when
+		CompletableFuture<Void> slow = notifier.submit("2");
+		verify(mockClient, timeout(5000)).notifyWinner("2");
+		CompletableFuture<Void> fast = notifier.submit("3");
+		awaitAll(List.of(slow, fast));
+
+		// then: "3" 이 "2" 의 두 번째 시도 (100ms 대기 후) 보다 먼저 실행됨
+		InOrder inOrder = inOrder(mockClient);
+		inOrder.verify(mockClient).notifyWinner("2");
+		inOrder.verify(mockClient).notifyWinner("3");
+		inOrder.verify(mockClient).notifyWinner("2");
+	}
+
+	// 헬퍼 메서드
+	private BatchingWinnerNotifier createNotifier(Duration window, int maxBatchSize, int maxAttempts) {
+		BatchingWinnerNotifier batchingNotifier = new BatchingWinnerNotifier(mockClient, dispatcher, meterRegistry,
+			true, window, maxBatchSize, 1000, maxAttempts);
+		batchingNotifier.start();
+		return batchingNotifier;
+	}
+
+	private List<CompletableFuture<Void>> submitAll(String... auctionIds) {
+		List<CompletableFuture<Void>> results = new ArrayList<>();
+		for (String auctionId : auctionIds) {
+			results.add(notifier.submit(auctionId));
+		}
+		return results;
+	}
+
+	private void awaitAll(List<CompletableFuture<Void>> results) throws Exception {
+		CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+	}
+}
@@ -0,0 +1,199 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.example.auctionmarketevent.common.listener.BigQueryDestinationTable;
+import org.example.auctionmarketevent.springbatch.job.schema.BigQueryRowSchema;
+import org.example.auctionmarketevent.springbatch.job.writer.StagingFileFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.Clustering;
+import com.google.cloud.bigquery.JobInfo;
+import com.google.cloud.bigquery.LoadJobConfiguration;
+import com.google.cloud.bigquery.Schema;
+import com.google.cloud.bigquery.StandardTableDefinition;
+import com.google.cloud.bigquery.Table;
+import com.google.cloud.bigquery.TableId;
+import com.google.cloud.bigquery.TableInfo;
+import com.google.cloud.bigquery.TimePartitioning;
+
+@ExtendWith(MockitoExtension.class)
+class BigQueryDestinationTableTest {
+
+	private static final String DATASET_NAME = "test_dataset";
+	private static final String TABLE_NAME = "test_table";
+	private static final List<String> GCS_URIS = List.of(
+		"gs://test-bucket/batch_load_1_2_p20250418_a.csv",
+		"gs://test-bucket/batch_load_1_2_p20250419_b.csv",
+		"gs://test-bucket/batch_load_1_3_p20250418_c.csv",
+		"gs://test-bucket/batch_load_1_3_d.csv" // auction_end_time 없는 행
+	);
+
+	@Mock private BigQuery mockBigQuery;
+	@Mock private Table mockTable;
+
+	@Test
+	@DisplayName("테이블이 없으면 auction_end_time 일 파티션 + product_category 클러스터링으로 생성")
+	void ensureReady_TableMissing_CreatesPartitionedTable() {
+		// given
+		when(mockBigQuery.getTable(TableId.of(DATASET_NAME, TABLE_NAME))).thenReturn(null);
+		BigQueryDestinationTable destinationTable = createDestinationTable(true);
+
+		// when
+		boolean partitioned = destinationTable.ensureReady();
+		destinationTable.ensureReady(); // 두 번째 호출은 확인 결과 재사용
+
+		// then
+		assertTrue(partitioned);
+		ArgumentCaptor<TableInfo> tableInfoCaptor = ArgumentCaptor.forClass(TableInfo.class);
+		verify(mockBigQuery, times(1)).create(tableInfoCaptor.capture());
+		StandardTableDefinition definition = tableInfoCaptor.getValue().getDefinition();
+		assertEquals("auction_end_time", definition.getTimePartitioning().getField());
+		assertEquals(TimePartitioning.Type.DAY, definition.getTimePartitioning().getType());
+		assertEquals(List.of("product_category"), definition.getClustering().getFields());
+		assertNotNull(definition.getSchema().getFields().get("auction_end_time"));
+	}
+
+	@Test
+	@DisplayName("파티션 테이블이면 파티션별 로드 설정 (데코레이터 + 추가, 파티션 교체 안함), 파티션 없는 파일은 테이블 전체에 추가")
+	void loadConfiguration_PartitionedTable_RoutesToDecorators() {
+		// given
+		givenExistingTable(StandardTableDefinition.newBuilder()
+			.setTimePartitioning(TimePartitioning.newBuilder(TimePartitioning.Type.DAY).setField("auction_end_time").build())
+			.setClustering(Clustering.newBuilder().setFields(List.of("product_category")).build())
+			.build());
+		BigQueryDestinationTable destinationTable = createDestinationTable(true);
+
+		// when
+		List<LoadJobConfiguration> loadConfigs = loadByPartition(destinationTable);
+
+		// then
+		assertEquals(3, loadConfigs.size());
+
+		assertEquals(TABLE_NAME + "$20250418", loadConfigs.get(0).getDestinationTable().getTable());
+		assertEquals(List.of(GCS_URIS.get(0), GCS_URIS.get(2)), loadConfigs.get(0).getSourceUris());
+		assertEquals(JobInfo.WriteDisposition.WRITE_APPEND, loadConfigs.get(0).getWriteDisposition());
+		assertEquals(List.of(JobInfo.SchemaUpdateOption.ALLOW_FIELD_ADDITION), loadConfigs.get(0).getSchemaUpdateOptions());
+
+		assertEquals(TABLE_NAME + "$20250419", loadConfigs.get(1).getDestinationTable().getTable());
+		assertEquals(List.of(GCS_URIS.get(1)), loadConfigs.get(1).getSourceUris());
+		assertEquals(JobInfo.WriteDisposition.WRITE_APPEND, loadConfigs.get(1).getWriteDisposition());
+
+		assertEquals(TABLE_NAME, loadConfigs.get(2).getDestinationTable().getTable());
+		assertEquals(List.of(GCS_URIS.get(3)), loadConfigs.get(2).getSourceUris());
+		assertEquals(JobInfo.WriteDisposition.WRITE_APPEND, loadConfigs.get(2).getWriteDisposition());
+		verify(mockBigQuery, never()).create(any(TableInfo.class));
+	}
+
+	@Test
+	@DisplayName("기존 테이블이 파티션 테이블이 아니면 파티션 표시가 있어도 테이블 전체에 추가")
+	void loadConfiguration_UnpartitionedTable_Appends() {
+		// given
+		givenExistingTable(StandardTableDefinition.newBuilder().build());
+		BigQueryDestinationTable destinationTable = createDestinationTable(true);
+
+		// when
+		List<LoadJobConfiguration> loadConfigs = loadByPartition(destinationTable);
+
+		// then
+		assertEquals(3, loadConfigs.size());
+		for (LoadJobConfiguration loadConfig : loadConfigs) {
+			assertEquals(TABLE_NAME, loadConfig.getDestinationTable().getTable());
+			assertEquals(JobInfo.WriteDisposition.WRITE_APPEND, loadConfig.getWriteDisposition());
+		}
+	}
+
+	@Test
+	@DisplayName("tableLoadConfiguration: 테이블이 없으면 파티션 테이블로 만들고 파일 전체를 작업 하나로 테이블에 추가")
+	void tableLoadConfiguration_SingleAppendToBaseTable() {
+		// given
+		when(mockBigQuery.getTable(TableId.of(DATASET_NAME, TABLE_NAME))).thenReturn(null);
+		BigQueryDestinationTable destinationTable = createDestinationTable(true);
+
+		// when
+		LoadJobConfiguration loadConfig = destinationTable.tableLoadConfiguration(GCS_URIS, StagingFileFormat.CSV);
+
+		// then
+		verify(mockBigQuery).create(any(TableInfo.class));
+		assertEquals(TABLE_NAME, loadConfig.getDestinationTable().getTable());
+		assertEquals(GCS_URIS, loadConfig.getSourceUris());
+		assertEquals(JobInfo.WriteDisposition.WRITE_APPEND, loadConfig.getWriteDisposition());
+		assertEquals(List.of(JobInfo.SchemaUpdateOption.ALLOW_FIELD_ADDITION), loadConfig.getSchemaUpdateOptions());
+	}
+
+	@Test
+	@DisplayName("파티셔닝 비활성화 시에도 테이블이 없으면 생성 (파티션 없이), 로드는 테이블 전체에 추가")
+	void tableLoadConfiguration_Disabled_CreatesUnpartitionedTable() {
+		// given
+		when(mockBigQuery.getTable(TableId.of(DATASET_NAME, TABLE_NAME))).thenReturn(null);
+		BigQueryDestinationTable destinationTable = createDestinationTable(false);
+
+		// when
+		LoadJobConfiguration loadConfig = destinationTable.tableLoadConfiguration(GCS_URIS, StagingFileFormat.CSV);
+
+		// then
+		ArgumentCaptor<TableInfo> tableInfoCaptor = ArgumentCaptor.forClass(TableInfo.class);
+		verify(mockBigQuery).create(tableInfoCaptor.capture());
+		StandardTableDefinition definition = tableInfoCaptor.getValue().getDefinition();
+		assertNull(definition.getTimePartitioning());
+		assertNull(definition.getClustering());
+		assertEquals(TABLE_NAME, loadConfig.getDestinationTable().getTable());
+		assertEquals(GCS_URIS, loadConfig.getSourceUris());
+	}
+
+	@Test
+	@DisplayName("파티셔닝 비활성화 시에도 기존 테이블에 없는 컬럼 추가 (MERGE / insertAll 대비), 데코레이터는 사용 안함")
+	void ensureReady_Disabled_AddsMissingColumns() {
+		// given: last_modified 없는 기존 테이블
+		Schema schema = BigQueryRowSchema.AUCTIONS_WINNING_BID.getBigQuerySchema();
+		givenExistingTable(StandardTableDefinition.newBuilder()
+			.setSchema(Schema.of(schema.getFields().stream()
+				.filter(field -> !"last_modified".equals(field.getName()))
+				.toList()))
+			.build());
+		BigQueryDestinationTable destinationTable = createDestinationTable(false);
+
+		// when
+		boolean partitioned = destinationTable.ensureReady();
+
+		// then
+		assertFalse(partitioned);
+		ArgumentCaptor<TableInfo> tableInfoCaptor = ArgumentCaptor.forClass(TableInfo.class);
+		verify(mockBigQuery).update(tableInfoCaptor.capture());
+		StandardTableDefinition definition = tableInfoCaptor.getValue().getDefinition();
+		assertNotNull(definition.getSchema().getFields().get("last_modified"));
+		verify(mockBigQuery, never()).create(any(TableInfo.class));
+	}
+
+	// 헬퍼 메서드
+	private BigQueryDestinationTable createDestinationTable(boolean partitioningEnabled) {
+		return new BigQueryDestinationTable(mockBigQuery, DATASET_NAME, TABLE_NAME, partitioningEnabled);
+	}
+
+	// 비동기 로드 추적기와 같은 방식 (파티션마다 로드 설정 하나)
+	private List<LoadJobConfiguration> loadByPartition(BigQueryDestinationTable destinationTable) {
+		List<LoadJobConfiguration> loadConfigs = new ArrayList<>();
+		for (Map.Entry<String, List<String>> partition : BigQueryDestinationTable.groupByPartition(GCS_URIS).entrySet()) {
+			loadConfigs.add(destinationTable.loadConfiguration(partition.getKey(), partition.getValue(),
+				StagingFileFormat.CSV));
+		}
+		return loadConfigs;
+	}
+
+	private void givenExistingTable(StandardTableDefinition definition) {
+		when(mockBigQuery.getTable(TableId.of(DATASET_NAME, TABLE_NAME))).thenReturn(mockTable);
+		when(mockTable.<StandardTableDefinition>getDefinition()).thenReturn(definition);
+	}
+}
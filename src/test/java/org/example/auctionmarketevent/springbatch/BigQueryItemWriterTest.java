@@ -9,9 +9,11 @@ import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import org.example.auctionmarketevent.springbatch.job.dto.AuctionsWinningBidDto;
 import org.example.auctionmarketevent.springbatch.job.writer.BigQueryItemWriter;
+import org.example.auctionmarketevent.springbatch.job.writer.GcsUploadPipeline;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,6 +25,8 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ExecutionContext;
@@ -31,6 +35,9 @@ import org.springframework.batch.test.MetaDataInstanceFactory;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class BigQueryItemWriterTest {
@@ -55,7 +62,7 @@ class BigQueryItemWriterTest {
 
 	@BeforeEach
 	void setUp() {
-		writer = new BigQueryItemWriter(mockStorage, testBucketName);
+		writer = new BigQueryItemWriter(mockStorage, testBucketName, "csv", null, false);
 
 		// StepExecution 설정 => 테스트용 메타데이터 사용
 		stepExecution = MetaDataInstanceFactory.createStepExecution();
@@ -107,7 +114,7 @@ class BigQueryItemWriterTest {
 		log.info(csvContent);
 		assertTrue(csvContent.contains("1,101,\"테스트 상품 1\",\"테스트 카테고리 1\",100,"));
 		assertTrue(csvContent.contains("2,102,\"테스트 상품 2\",\"테스트 카테고리 2\",200,"));
-		assertFalse(csvContent.contains("lastModified")); // @JsonIgnore 확인
+		assertTrue(csvContent.contains(now.minusSeconds(60).toString())); // 마지막 컬럼 last_modified
 
 		// ExecutionContext 에 GCS URI 추가되었는지 검증
 		ExecutionContext executionContext = stepExecution.getExecutionContext();
@@ -141,5 +148,87 @@ class BigQueryItemWriterTest {
 		assertTrue(gcsUris == null || gcsUris.isEmpty()); // 초기화된 상태 그대로여야 함
 		assertNull(executionContext.get(MAX_TIMESTAMP_KEY)); // 타임스탬프 갱신 X
 	}
-}
 
+	@Test
+	@DisplayName("비동기 업로드: 업로드가 끝나기 전에는 URI 를 기록하지 않고, afterStep 에서 모두 반영")
+	void write_AsyncUpload_RecordsOnlyConfirmedFiles() throws Exception {
+		// given
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		GcsUploadPipeline pipeline = new GcsUploadPipeline(meterRegistry, true, 2);
+		BigQueryItemWriter asyncWriter = createAsyncWriter(pipeline);
+
+		CountDownLatch release = new CountDownLatch(1);
+		when(mockStorage.create(any(BlobInfo.class), any(byte[].class))).thenAnswer(invocation -> {
+			release.await();
+			return null;
+		});
+
+		Instant now = Instant.now();
+
+		// when
+		asyncWriter.write(new Chunk<>(List.of(createItem(1L, now))));
+
+		// then
+		// 업로드가 끝나지 않았으므로 ExecutionContext 에 반영되지 않음 + 진행 중 업로드 수 1
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		assertTrue(((List<String>) executionContext.get(GCS_FILE_URIS_KEY)).isEmpty());
+		assertNull(executionContext.get(MAX_TIMESTAMP_KEY));
+		assertEquals(1, pipeline.getInFlight());
+		assertEquals(1.0, meterRegistry.get("batch.gcs.upload.in_flight").gauge().value());
+
+		// 업로드 완료 후 Step 종료
+		release.countDown();
+		stepExecution.setStatus(BatchStatus.COMPLETED);
+		ExitStatus exitStatus = asyncWriter.afterStep(stepExecution);
+
+		assertEquals(ExitStatus.EXECUTING.getExitCode(), exitStatus.getExitCode());
+		List<String> gcsUris = (List<String>) executionContext.get(GCS_FILE_URIS_KEY);
+		assertEquals(1, gcsUris.size());
+		assertTrue(gcsUris.get(0).startsWith("gs://" + testBucketName + "/batch_load_"));
+		assertEquals(Timestamp.from(now).toInstant(), ((Timestamp) executionContext.get(MAX_TIMESTAMP_KEY)).toInstant());
+		assertEquals(0, pipeline.getInFlight());
+
+		pipeline.shutdown();
+	}
+
+	@Test
+	@DisplayName("비동기 업로드 실패 시 afterStep 이 FAILED 반환 + 실패한 파일은 기록하지 않음")
+	void afterStep_AsyncUploadFailed() throws Exception {
+		// given
+		GcsUploadPipeline pipeline = new GcsUploadPipeline(new SimpleMeterRegistry(), true, 1);
+		BigQueryItemWriter asyncWriter = createAsyncWriter(pipeline);
+
+		when(mockStorage.create(any(BlobInfo.class), any(byte[].class)))
+			.thenThrow(new StorageException(503, "업로드 실패"));
+
+		// when
+		asyncWriter.write(new Chunk<>(List.of(createItem(1L, Instant.now()))));
+		stepExecution.setStatus(BatchStatus.COMPLETED);
+		ExitStatus exitStatus = asyncWriter.afterStep(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.FAILED.getExitCode(), exitStatus.getExitCode());
+		assertEquals(ExitStatus.FAILED.getExitCode(), stepExecution.getExitStatus().getExitCode());
+
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		assertTrue(((List<String>) executionContext.get(GCS_FILE_URIS_KEY)).isEmpty());
+		assertNull(executionContext.get(MAX_TIMESTAMP_KEY));
+
+		pipeline.shutdown();
+	}
+
+	// 헬퍼 메서드
+	private BigQueryItemWriter createAsyncWriter(GcsUploadPipeline pipeline) {
+		BigQueryItemWriter asyncWriter = new BigQueryItemWriter(mockStorage, testBucketName, "csv", pipeline, false);
+		asyncWriter.saveStepExecution(stepExecution);
+		return asyncWriter;
+	}
+
+	private AuctionsWinningBidDto createItem(Long auctionId, Instant lastModified) {
+		return AuctionsWinningBidDto.builder()
+			.auctionId(auctionId).productId(100L + auctionId).productName("테스트 상품 " + auctionId)
+			.productCategory("테스트 카테고리").maxPrice(1000L)
+			.auctionStartTime(lastModified).auctionEndTime(lastModified).lastModified(lastModified)
+			.build();
+	}
+}
@@ -0,0 +1,317 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.example.auctionmarketevent.common.listener.BigQueryDestinationTable;
+import org.example.auctionmarketevent.common.listener.BigQueryLoadTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.BigQueryError;
+import com.google.cloud.bigquery.Job;
+import com.google.cloud.bigquery.JobId;
+import com.google.cloud.bigquery.JobInfo;
+import com.google.cloud.bigquery.JobStatus;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.Storage;
+
+@ExtendWith(MockitoExtension.class)
+class BigQueryLoadTrackerTest {
+
+	private static final String JOB_NAME = "testJob";
+	private static final String BUCKET_NAME = "test-bucket";
+	private static final Timestamp COMMITTED = Timestamp.valueOf("2025-04-01 00:00:00");
+	private static final Timestamp FIRST = Timestamp.valueOf("2025-04-01 01:00:00");
+	private static final Timestamp SECOND = Timestamp.valueOf("2025-04-01 02:00:00");
+
+	@Mock private BigQuery mockBigQuery;
+	@Mock private Storage mockStorage;
+
+	private JdbcTemplate jdbcTemplate;
+	private BigQueryLoadTracker tracker;
+
+	@BeforeEach
+	void setUp() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE batch_job_metadata (job_name VARCHAR(100) PRIMARY KEY, "
+			+ "last_processed_timestamp DATETIME(6))");
+		jdbcTemplate.update("INSERT INTO batch_job_metadata VALUES (?, ?)", JOB_NAME, COMMITTED);
+
+		// 재조회 대기 없음 (poll() 을 직접 호출), 백그라운드 확인은 테스트 중 돌지 않도록 길게
+		BigQueryDestinationTable destinationTable = new BigQueryDestinationTable(mockBigQuery, "test_dataset",
+			"test_table", false);
+		tracker = new BigQueryLoadTracker(jdbcTemplate, mockBigQuery, mockStorage, destinationTable, JOB_NAME,
+			BUCKET_NAME, "csv", true, Duration.ofHours(1), Duration.ZERO, Duration.ZERO, 2, Duration.ZERO);
+		tracker.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		tracker.shutdown();
+	}
+
+	@Test
+	@DisplayName("submit: 작업 기록 + 제출, 워터마크는 그대로 + 다음 추출은 제출한 워터마크부터")
+	void submit_RecordsPendingLoad() {
+		// when
+		tracker.submit(List.of("gs://test-bucket/file1.csv"), FIRST);
+
+		// then
+		ArgumentCaptor<JobInfo> jobInfoCaptor = ArgumentCaptor.forClass(JobInfo.class);
+		verify(mockBigQuery).create(jobInfoCaptor.capture());
+		String bqJobId = jobInfoCaptor.getValue().getJobId().getJob();
+		assertTrue(bqJobId.startsWith("batch_load_testJob_"));
+
+		Map<String, Object> row = jdbcTemplate.queryForMap("SELECT bq_job_id, status FROM batch_pending_load");
+		assertEquals(bqJobId, row.get("bq_job_id"));
+		assertEquals("PENDING", row.get("status"));
+
+		assertEquals(COMMITTED, committedWatermark());
+		assertEquals(FIRST, tracker.extractionWatermark(COMMITTED));
+	}
+
+	@Test
+	@DisplayName("poll: 작업 성공 시 워터마크 반영 + 파일 삭제 + 기록 삭제")
+	void poll_JobSucceeded_CommitsWatermark() {
+		// given
+		tracker.submit(List.of("gs://test-bucket/file1.csv", "gs://test-bucket/file2.csv"), FIRST);
+		Job doneJob = job(JobStatus.State.DONE, null);
+		when(mockBigQuery.getJob(any(JobId.class))).thenReturn(doneJob);
+
+		// when
+		tracker.poll();
+
+		// then
+		assertEquals(FIRST, committedWatermark());
+		ArgumentCaptor<List<BlobId>> blobIdsCaptor = ArgumentCaptor.forClass(List.class);
+		verify(mockStorage).delete(blobIdsCaptor.capture());
+		assertEquals(List.of(BlobId.of(BUCKET_NAME, "file1.csv"), BlobId.of(BUCKET_NAME, "file2.csv")),
+			blobIdsCaptor.getValue());
+		assertEquals(0, pendingCount());
+		assertEquals(FIRST, tracker.extractionWatermark(FIRST));
+	}
+
+	@Test
+	@DisplayName("poll: 뒤 작업이 먼저 끝나도 앞 작업이 끝날 때까지 워터마크를 올리지 않음")
+	void poll_CommitsInSubmissionOrder() {
+		// given
+		tracker.submit(List.of("gs://test-bucket/file1.csv"), FIRST);
+		tracker.submit(List.of("gs://test-bucket/file2.csv"), SECOND);
+		List<String> jobIds = jdbcTemplate.queryForList("SELECT bq_job_id FROM batch_pending_load ORDER BY id",
+			String.class);
+
+		Job runningJob = job(JobStatus.State.RUNNING, null);
+		Job doneJob = job(JobStatus.State.DONE, null);
+		when(mockBigQuery.getJob(JobId.of(jobIds.get(0)))).thenReturn(runningJob);
+		when(mockBigQuery.getJob(JobId.of(jobIds.get(1)))).thenReturn(doneJob);
+
+		// when
+		tracker.poll();
+
+		// then
+		assertEquals(COMMITTED, committedWatermark());
+		verify(mockStorage, never()).delete(anyList());
+
+		// when: 앞 작업도 완료
+		when(mockBigQuery.getJob(JobId.of(jobIds.get(0)))).thenReturn(doneJob);
+		tracker.poll();
+
+		// then
+		assertEquals(SECOND, committedWatermark());
+		assertEquals(0, pendingCount());
+	}
+
+	@Test
+	@DisplayName("poll: 파티션 여러 개로 나눈 제출은 모든 파티션 작업이 성공해야 워터마크 반영")
+	void poll_MultiPartitionSubmission_CommitsWhenAllSucceeded() {
+		// given
+		tracker.submit(List.of("gs://test-bucket/batch_load_1_2_p20250418_a.csv",
+			"gs://test-bucket/batch_load_1_2_p20250419_b.csv"), FIRST);
+		List<String> jobIds = jdbcTemplate.queryForList("SELECT bq_job_id FROM batch_pending_load ORDER BY id",
+			String.class);
+		assertEquals(2, jobIds.size());
+
+		Job runningJob = job(JobStatus.State.RUNNING, null);
+		Job doneJob = job(JobStatus.State.DONE, null);
+		when(mockBigQuery.getJob(JobId.of(jobIds.get(0)))).thenReturn(doneJob);
+		when(mockBigQuery.getJob(JobId.of(jobIds.get(1)))).thenReturn(runningJob);
+
+		// when: 첫 파티션만 완료
+		tracker.poll();
+
+		// then
+		assertEquals(COMMITTED, committedWatermark());
+		assertEquals(2, pendingCount());
+		verify(mockStorage, never()).delete(anyList());
+
+		// when: 나머지 파티션도 완료
+		when(mockBigQuery.getJob(JobId.of(jobIds.get(1)))).thenReturn(doneJob);
+		tracker.poll();
+
+		// then
+		assertEquals(FIRST, committedWatermark());
+		assertEquals(0, pendingCount());
+		verify(mockStorage, times(2)).delete(anyList());
+	}
+
+	@Test
+	@DisplayName("poll: 작업 실패 시 새 작업 ID 로 재제출, 재시도 소진 시 FAILED + 워터마크 유지")
+	void poll_JobFailed_RetriesThenStops() {
+		// given
+		tracker.submit(List.of("gs://test-bucket/file1.csv"), FIRST);
+		Job failedJob = job(JobStatus.State.DONE, new BigQueryError("invalid", "location", "잘못된 행"));
+		when(mockBigQuery.getJob(any(JobId.class))).thenReturn(failedJob);
+
+		// when: 첫 번째 실패 => 재제출
+		tracker.poll();
+
+		// then
+		verify(mockBigQuery, times(2)).create(any(JobInfo.class));
+		Map<String, Object> row = jdbcTemplate.queryForMap("SELECT attempt, status FROM batch_pending_load");
+		assertEquals(2, ((Number)row.get("attempt")).intValue());
+		assertEquals("PENDING", row.get("status"));
+
+		// when: 두 번째 실패 => 재시도 소진
+		tracker.poll();
+
+		// then
+		verify(mockBigQuery, times(2)).create(any(JobInfo.class));
+		assertEquals("FAILED", jdbcTemplate.queryForObject("SELECT status FROM batch_pending_load", String.class));
+		assertEquals(COMMITTED, committedWatermark());
+		verify(mockStorage, never()).delete(anyList());
+	}
+
+	@Test
+	@DisplayName("poll: 재시도 소진 항목은 대기 후 같은 파일로 다시 제출, 성공하면 뒤 항목까지 워터마크 반영")
+	void poll_FailedLoad_ResubmittedAndCommitted() {
+		// given: 첫 로드 재시도 소진 (FAILED), 뒤 로드는 성공
+		tracker.submit(List.of("gs://test-bucket/file1.csv"), FIRST);
+		tracker.submit(List.of("gs://test-bucket/file2.csv"), SECOND);
+		String secondJobId = jdbcTemplate.queryForObject("SELECT bq_job_id FROM batch_pending_load ORDER BY id DESC LIMIT 1",
+			String.class);
+		Job failedJob = job(JobStatus.State.DONE, new BigQueryError("backendError", "location", "일시적 오류"));
+		Job doneJob = job(JobStatus.State.DONE, null);
+		when(mockBigQuery.getJob(any(JobId.class))).thenAnswer(invocation ->
+			secondJobId.equals(invocation.<JobId>getArgument(0).getJob()) ? doneJob : failedJob);
+		tracker.poll();
+		tracker.poll();
+		assertEquals("FAILED", jdbcTemplate.queryForObject(
+			"SELECT status FROM batch_pending_load ORDER BY id LIMIT 1", String.class));
+		assertEquals(COMMITTED, committedWatermark());
+		assertEquals(SECOND, tracker.extractionWatermark(COMMITTED)); // 실패 구간은 파일로 다시 제출 => 다시 추출하지 않음
+
+		// when: 대기 시간이 지나서 다시 제출
+		tracker.poll();
+
+		// then
+		ArgumentCaptor<JobInfo> jobInfoCaptor = ArgumentCaptor.forClass(JobInfo.class);
+		verify(mockBigQuery, times(4)).create(jobInfoCaptor.capture());
+		String resubmittedJobId = jobInfoCaptor.getValue().getJobId().getJob();
+		Map<String, Object> row = jdbcTemplate.queryForMap(
+			"SELECT bq_job_id, attempt, status FROM batch_pending_load ORDER BY id LIMIT 1");
+		assertEquals(resubmittedJobId, row.get("bq_job_id"));
+		assertEquals(1, ((Number)row.get("attempt")).intValue());
+		assertEquals("PENDING", row.get("status"));
+
+		// when: 다시 제출한 작업 성공
+		doReturn(doneJob).when(mockBigQuery).getJob(any(JobId.class));
+		tracker.poll();
+
+		// then
+		assertEquals(SECOND, committedWatermark());
+		assertEquals(0, pendingCount());
+	}
+
+	@Test
+	@DisplayName("poll: 재시작 후 작업이 없으면 (제출 전 종료) 같은 작업 ID 로 제출")
+	void poll_JobMissing_ResubmitsSameJobId() {
+		// given: 기록만 남고 제출되지 않은 상태
+		jdbcTemplate.update("INSERT INTO batch_pending_load "
+				+ "(job_name, bq_job_id, watermark, gcs_file_uris, attempt, poll_count, status, next_poll_at) "
+				+ "VALUES (?, ?, ?, ?, 1, 0, 'PENDING', ?)",
+			JOB_NAME, "batch_load_testJob_lost", FIRST, "gs://test-bucket/file1.csv", COMMITTED);
+		when(mockBigQuery.getJob(any(JobId.class))).thenReturn(null);
+
+		// when
+		tracker.poll();
+
+		// then
+		ArgumentCaptor<JobInfo> jobInfoCaptor = ArgumentCaptor.forClass(JobInfo.class);
+		verify(mockBigQuery).create(jobInfoCaptor.capture());
+		assertEquals("batch_load_testJob_lost", jobInfoCaptor.getValue().getJobId().getJob());
+		assertEquals(1, pendingCount());
+		assertEquals(COMMITTED, committedWatermark());
+	}
+
+	@Test
+	@DisplayName("advanceWatermark: 대기 중인 로드가 있으면 그 뒤에 반영")
+	void advanceWatermark_WaitsForPendingLoads() {
+		// given
+		tracker.submit(List.of("gs://test-bucket/file1.csv"), FIRST);
+
+		// when
+		tracker.advanceWatermark(SECOND);
+
+		// then
+		assertEquals(COMMITTED, committedWatermark());
+		assertEquals(SECOND, tracker.extractionWatermark(COMMITTED));
+
+		// when: 앞선 로드 완료
+		Job doneJob = job(JobStatus.State.DONE, null);
+		when(mockBigQuery.getJob(any(JobId.class))).thenReturn(doneJob);
+		tracker.poll();
+
+		// then
+		assertEquals(SECOND, committedWatermark());
+		assertEquals(0, pendingCount());
+	}
+
+	@Test
+	@DisplayName("advanceWatermark: 대기 중인 로드가 없으면 바로 반영")
+	void advanceWatermark_NoPendingLoads_CommitsImmediately() {
+		// when
+		tracker.advanceWatermark(FIRST);
+
+		// then
+		assertEquals(FIRST, committedWatermark());
+		assertEquals(0, pendingCount());
+		verifyNoInteractions(mockBigQuery);
+	}
+
+	// 헬퍼 메서드
+	private Job job(JobStatus.State state, BigQueryError error) {
+		Job job = mock(Job.class);
+		JobStatus status = mock(JobStatus.class);
+		when(job.getStatus()).thenReturn(status);
+		when(status.getState()).thenReturn(state);
+		lenient().when(status.getError()).thenReturn(error);
+		return job;
+	}
+
+	private Timestamp committedWatermark() {
+		return jdbcTemplate.queryForObject("SELECT last_processed_timestamp FROM batch_job_metadata WHERE job_name = ?",
+			Timestamp.class, JOB_NAME);
+	}
+
+	private int pendingCount() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM batch_pending_load", Integer.class);
+	}
+}
@@ -0,0 +1,147 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.example.auctionmarketevent.common.listener.BigQueryMergeClient;
+import org.example.auctionmarketevent.common.listener.BigQueryMergeLoader;
+import org.example.auctionmarketevent.common.listener.GoogleBigQueryMergeClient;
+import org.example.auctionmarketevent.springbatch.job.writer.StagingFileFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.google.cloud.bigquery.TableId;
+
+class BigQueryMergeLoaderTest {
+
+	private static final String DATASET_NAME = "test_dataset";
+	private static final String TABLE_NAME = "test_table";
+	private static final TableId TARGET_TABLE = TableId.of(DATASET_NAME, TABLE_NAME);
+
+	private InMemoryBigQueryMergeClient mergeClient;
+	private BigQueryMergeLoader mergeLoader;
+
+	@BeforeEach
+	void setUp() {
+		mergeClient = new InMemoryBigQueryMergeClient();
+		mergeClient.createTable(TARGET_TABLE);
+		mergeLoader = new BigQueryMergeLoader(mergeClient, null, DATASET_NAME, TABLE_NAME, "merge");
+	}
+
+	@Test
+	@DisplayName("load: 새 경매는 추가, 바뀐 경매는 갱신 (같은 auction_id 행이 다시 쌓이지 않음) + 통계 반환")
+	void load_UpsertsByAuctionId() throws InterruptedException {
+		// given
+		mergeClient.stageFile("gs://test-bucket/run1.csv", List.of(row(1L, 1000L), row(2L, 2000L)));
+		mergeClient.stageFile("gs://test-bucket/run2.csv", List.of(row(2L, 2500L), row(3L, 3000L)));
+
+		// when
+		BigQueryMergeClient.MergeStatistics first = mergeLoader.load(List.of("gs://test-bucket/run1.csv"),
+			StagingFileFormat.CSV);
+		BigQueryMergeClient.MergeStatistics second = mergeLoader.load(List.of("gs://test-bucket/run2.csv"),
+			StagingFileFormat.CSV);
+
+		// then
+		assertEquals(new BigQueryMergeClient.MergeStatistics(2, 0), first);
+		assertEquals(new BigQueryMergeClient.MergeStatistics(1, 1), second);
+
+		List<Map<String, Object>> rows = mergeClient.rows(TARGET_TABLE);
+		assertEquals(3, rows.size());
+		assertEquals(2500L, rows.stream().filter(row -> row.get("auction_id").equals(2L)).findFirst()
+			.orElseThrow().get("max_price"));
+	}
+
+	@Test
+	@DisplayName("load: 스테이징에 같은 auction_id 가 여러 번 있으면 last_modified 가 가장 최근인 행으로 갱신")
+	void load_DuplicateKeysInStaging_UsesLatestLastModified() throws InterruptedException {
+		// given: 재시작으로 같은 경매를 두 번 읽음 => 최신 행이 파일 앞쪽에 있어도 최신 행 사용
+		mergeClient.stageFile("gs://test-bucket/run1.csv", List.of(
+			row(1L, 1500L, Instant.parse("2025-04-18T10:00:00Z")),
+			row(1L, 1000L, Instant.parse("2025-04-18T09:00:00Z"))));
+		mergeClient.stageFile("gs://test-bucket/run2.csv", List.of(
+			row(1L, 1200L, Instant.parse("2025-04-18T09:30:00Z"))));
+
+		// when
+		BigQueryMergeClient.MergeStatistics stats = mergeLoader.load(
+			List.of("gs://test-bucket/run1.csv", "gs://test-bucket/run2.csv"), StagingFileFormat.CSV);
+
+		// then
+		assertEquals(new BigQueryMergeClient.MergeStatistics(1, 0), stats);
+		List<Map<String, Object>> rows = mergeClient.rows(TARGET_TABLE);
+		assertEquals(1, rows.size());
+		assertEquals(1500L, rows.get(0).get("max_price"));
+		assertEquals(Instant.parse("2025-04-18T10:00:00Z"), rows.get(0).get("last_modified"));
+	}
+
+	@Test
+	@DisplayName("mergeQuery: 같은 키 중 정렬 컬럼이 가장 큰 행 하나만 사용 (ORDER BY ... DESC)")
+	void mergeQuery_QualifiesLatestRow() {
+		// when
+		String query = GoogleBigQueryMergeClient.mergeQuery(TableId.of(DATASET_NAME, "staging"), TARGET_TABLE,
+			BigQueryMergeLoader.KEY_COLUMN, BigQueryMergeLoader.ORDER_COLUMN, List.of("auction_id", "max_price"));
+
+		// then
+		assertTrue(query.contains("QUALIFY ROW_NUMBER() OVER (PARTITION BY `auction_id` ORDER BY `last_modified` DESC) = 1"),
+			query);
+	}
+
+	@Test
+	@DisplayName("load: 실행마다 새 스테이징 테이블 사용 + 끝나면 삭제")
+	void load_DropsStagingTable() throws InterruptedException {
+		// given
+		mergeClient.stageFile("gs://test-bucket/run1.csv", List.of(row(1L, 1000L)));
+
+		// when
+		mergeLoader.load(List.of("gs://test-bucket/run1.csv"), StagingFileFormat.CSV);
+		mergeLoader.load(List.of("gs://test-bucket/run1.csv"), StagingFileFormat.CSV);
+
+		// then
+		assertEquals(2, mergeClient.createdStagingTables().size());
+		assertEquals(List.copyOf(mergeClient.createdStagingTables()), mergeClient.droppedTables());
+		mergeClient.createdStagingTables().forEach(stagingTable -> {
+			assertTrue(stagingTable.getTable().startsWith(TABLE_NAME + "_staging_"));
+			assertFalse(mergeClient.tableExists(stagingTable));
+		});
+	}
+
+	@Test
+	@DisplayName("load: 스테이징 로드 실패 시 예외 + 대상 테이블 변경 없음 + 스테이징 테이블 삭제")
+	void load_LoadFails_DropsStagingTableAndRethrows() {
+		// given
+		mergeClient.stageFile("gs://test-bucket/run1.csv", List.of(row(1L, 1000L)));
+		mergeClient.failLoad(true);
+
+		// when & then
+		assertThrows(IllegalStateException.class,
+			() -> mergeLoader.load(List.of("gs://test-bucket/run1.csv"), StagingFileFormat.CSV));
+		assertTrue(mergeClient.rows(TARGET_TABLE).isEmpty());
+		assertEquals(1, mergeClient.droppedTables().size());
+		assertFalse(mergeClient.tableExists(mergeClient.droppedTables().get(0)));
+	}
+
+	@Test
+	@DisplayName("load 모드 설정: merge 일 때만 활성화")
+	void isEnabled_DependsOnLoadMode() {
+		assertTrue(mergeLoader.isEnabled());
+		assertFalse(new BigQueryMergeLoader(mergeClient, null, DATASET_NAME, TABLE_NAME, "append").isEnabled());
+	}
+
+	// 헬퍼 메서드
+	private Map<String, Object> row(Long auctionId, Long maxPrice) {
+		return row(auctionId, maxPrice, null);
+	}
+
+	private Map<String, Object> row(Long auctionId, Long maxPrice, Instant lastModified) {
+		Map<String, Object> row = new LinkedHashMap<>();
+		row.put("auction_id", auctionId);
+		row.put("product_id", auctionId * 10);
+		row.put("max_price", maxPrice);
+		row.put("last_modified", lastModified);
+		return row;
+	}
+}
@@ -0,0 +1,83 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.example.auctionmarketevent.springbatch.job.dto.AuctionsWinningBidDto;
+import org.example.auctionmarketevent.springbatch.job.schema.BigQueryRowSchema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.google.cloud.bigquery.Field;
+import com.google.cloud.bigquery.StandardSQLTypeName;
+
+class BigQueryRowSchemaTest {
+
+	private final BigQueryRowSchema schema = BigQueryRowSchema.AUCTIONS_WINNING_BID;
+
+	@Test
+	@DisplayName("DTO 에서 만든 BigQuery 스키마: @JsonPropertyOrder 순서, @JsonProperty 이름 (MERGE 순서용 last_modified 포함)")
+	void getBigQuerySchema_ShouldFollowDtoAnnotations() {
+		// when
+		List<Field> fields = schema.getBigQuerySchema().getFields();
+
+		// then
+		assertEquals(List.of(
+			Field.of("auction_id", StandardSQLTypeName.INT64),
+			Field.of("product_id", StandardSQLTypeName.INT64),
+			Field.of("product_name", StandardSQLTypeName.STRING),
+			Field.of("product_category", StandardSQLTypeName.STRING),
+			Field.of("max_price", StandardSQLTypeName.INT64),
+			Field.of("auction_start_time", StandardSQLTypeName.TIMESTAMP),
+			Field.of("auction_end_time", StandardSQLTypeName.TIMESTAMP),
+			Field.of("last_modified", StandardSQLTypeName.TIMESTAMP)
+		), fields);
+	}
+
+	@Test
+	@DisplayName("Avro 스키마: 같은 컬럼 순서, nullable, TIMESTAMP 는 timestamp-micros")
+	void getAvroSchema_ShouldMatchBigQuerySchema() {
+		// when
+		Schema avroSchema = schema.getAvroSchema();
+
+		// then
+		List<String> avroNames = avroSchema.getFields().stream().map(Schema.Field::name).toList();
+		List<String> bigQueryNames = schema.getBigQuerySchema().getFields().stream().map(Field::getName).toList();
+		assertEquals(bigQueryNames, avroNames);
+
+		Schema startTime = avroSchema.getField("auction_start_time").schema();
+		assertEquals(Schema.Type.UNION, startTime.getType());
+		assertEquals(Schema.Type.NULL, startTime.getTypes().get(0).getType());
+		assertEquals(LogicalTypes.timestampMicros(), startTime.getTypes().get(1).getLogicalType());
+	}
+
+	@Test
+	@DisplayName("Avro 레코드 변환: Instant => epoch 마이크로초, null 유지")
+	void toAvroRecord_ShouldConvertValues() {
+		// given
+		AuctionsWinningBidDto item = AuctionsWinningBidDto.builder()
+			.auctionId(1L).productId(101L).productName("테스트 상품 1")
+			.maxPrice(null)
+			.auctionStartTime(Instant.parse("2025-01-01T00:00:00.123456789Z"))
+			.auctionEndTime(null)
+			.lastModified(Instant.now())
+			.build();
+
+		// when
+		GenericRecord record = schema.toAvroRecord(item);
+
+		// then
+		assertEquals(1L, record.get("auction_id"));
+		assertEquals(101L, record.get("product_id"));
+		assertEquals("테스트 상품 1", record.get("product_name"));
+		assertNull(record.get("product_category"));
+		assertNull(record.get("max_price"));
+		assertEquals(1735689600123456L, record.get("auction_start_time")); // 나노초 이하 버림
+		assertNull(record.get("auction_end_time"));
+	}
+}
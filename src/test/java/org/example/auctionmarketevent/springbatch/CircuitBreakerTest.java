@@ -0,0 +1,96 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.auctionmarketevent.common.dispatch.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+	private final AtomicLong nanoClock = new AtomicLong();
+	private CircuitBreaker circuitBreaker;
+
+	@BeforeEach
+	void setUp() {
+		// 최근 10번 (최소 5번 기록) 중 실패 50% 이상 => OPEN, 1초 뒤 시험 호출 2번
+		circuitBreaker = new CircuitBreaker("test", 10, 50, Duration.ofSeconds(1), 2, nanoClock::get);
+	}
+
+	@Test
+	@DisplayName("최근 호출 실패 비율이 기준 미만이면 CLOSED 유지")
+	void onFailure_BelowThreshold_StaysClosed() {
+		// when
+		for (int i = 0; i < 6; i++) {
+			assertTrue(circuitBreaker.tryAcquire());
+			circuitBreaker.onSuccess();
+		}
+		for (int i = 0; i < 4; i++) {
+			assertTrue(circuitBreaker.tryAcquire());
+			circuitBreaker.onFailure();
+		}
+
+		// then
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+	}
+
+	@Test
+	@DisplayName("실패 비율이 기준 이상이면 OPEN => openDuration 동안 거절")
+	void onFailure_AboveThreshold_OpensAndRejects() {
+		// when
+		failTimes(5);
+
+		// then
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+		nanoClock.addAndGet(Duration.ofMillis(999).toNanos());
+		assertFalse(circuitBreaker.tryAcquire());
+	}
+
+	@Test
+	@DisplayName("OPEN 이 끝나면 시험 호출만 허용 => 모두 성공하면 CLOSED")
+	void halfOpen_TrialsSucceed_Closes() {
+		// given
+		failTimes(5);
+		nanoClock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+		// when
+		assertTrue(circuitBreaker.tryAcquire());
+		assertTrue(circuitBreaker.tryAcquire());
+		assertFalse(circuitBreaker.tryAcquire()); // 시험 호출 수 초과
+
+		// then
+		assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+		circuitBreaker.onSuccess();
+		circuitBreaker.onSuccess();
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		assertTrue(circuitBreaker.tryAcquire());
+	}
+
+	@Test
+	@DisplayName("시험 호출이 실패하면 다시 OPEN")
+	void halfOpen_TrialFails_Reopens() {
+		// given
+		failTimes(5);
+		nanoClock.addAndGet(Duration.ofSeconds(1).toNanos());
+		assertTrue(circuitBreaker.tryAcquire());
+
+		// when
+		circuitBreaker.onFailure();
+
+		// then
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+		assertFalse(circuitBreaker.tryAcquire());
+	}
+
+	// 헬퍼 메서드
+	private void failTimes(int times) {
+		for (int i = 0; i < times; i++) {
+			assertTrue(circuitBreaker.tryAcquire());
+			circuitBreaker.onFailure();
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.example.auctionmarketevent.common.dispatch.ConsistentHashRing;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+
+	private static final int KEYS = 10_000;
+	private static final List<String> NODES = List.of("http://node-a:8081", "http://node-b:8081",
+		"http://node-c:8081");
+
+	@Test
+	@DisplayName("같은 키는 노드 목록이 같으면 항상 같은 노드 + 노드마다 고르게 분배")
+	void nodeFor_StableAndBalanced() {
+		// given
+		ConsistentHashRing ring = new ConsistentHashRing(NODES, 160);
+		ConsistentHashRing rebuilt = new ConsistentHashRing(NODES, 160);
+
+		// when
+		Map<String, Integer> counts = new HashMap<>();
+		for (int i = 0; i < KEYS; i++) {
+			String key = String.valueOf(i);
+			assertEquals(ring.nodeFor(key), rebuilt.nodeFor(key));
+			counts.merge(ring.nodeFor(key), 1, Integer::sum);
+		}
+
+		// then: 1/3 기준 ±10%p 안
+		assertEquals(NODES.size(), counts.size());
+		for (int count : counts.values()) {
+			assertTrue(count > KEYS * 0.23 && count < KEYS * 0.43, "분배 불균형: " + counts);
+		}
+	}
+
+	@Test
+	@DisplayName("노드 추가 시 새 노드로 가는 키만 옮겨감 (약 1 / 노드 수)")
+	void nodeFor_AddNode_MinimalRemapping() {
+		// given
+		ConsistentHashRing before = new ConsistentHashRing(NODES, 160);
+		ConsistentHashRing after = new ConsistentHashRing(List.of("http://node-a:8081", "http://node-b:8081",
+			"http://node-c:8081", "http://node-d:8081"), 160);
+
+		// when
+		int moved = 0;
+		for (int i = 0; i < KEYS; i++) {
+			String key = String.valueOf(i);
+			if (!before.nodeFor(key).equals(after.nodeFor(key))) {
+				moved++;
+				assertEquals("http://node-d:8081", after.nodeFor(key));
+			}
+		}
+
+		// then
+		assertTrue(moved > KEYS * 0.15 && moved < KEYS * 0.35, "옮겨간 키 = " + moved);
+	}
+
+	@Test
+	@DisplayName("노드 제외 시 그 노드에 있던 키만 옮겨감")
+	void nodeFor_RemoveNode_OnlyItsKeysMove() {
+		// given
+		ConsistentHashRing before = new ConsistentHashRing(NODES, 160);
+		ConsistentHashRing after = new ConsistentHashRing(List.of("http://node-a:8081", "http://node-c:8081"), 160);
+
+		// when & then
+		for (int i = 0; i < KEYS; i++) {
+			String key = String.valueOf(i);
+			if (!"http://node-b:8081".equals(before.nodeFor(key))) {
+				assertEquals(before.nodeFor(key), after.nodeFor(key));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("빈 링은 null")
+	void nodeFor_Empty_ReturnsNull() {
+		// given
+		ConsistentHashRing ring = new ConsistentHashRing(List.of(), 160);
+
+		// when & then
+		assertTrue(ring.isEmpty());
+		assertNull(ring.nodeFor("1"));
+	}
+}
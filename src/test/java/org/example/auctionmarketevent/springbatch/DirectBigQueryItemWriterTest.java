@@ -0,0 +1,158 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.example.auctionmarketevent.common.listener.BigQueryDestinationTable;
+import org.example.auctionmarketevent.springbatch.job.dto.AuctionsWinningBidDto;
+import org.example.auctionmarketevent.springbatch.job.schema.BigQueryRowSchema;
+import org.example.auctionmarketevent.springbatch.job.writer.DirectBigQueryItemWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import com.google.cloud.bigquery.Field;
+import com.google.cloud.bigquery.TableId;
+
+class DirectBigQueryItemWriterTest {
+
+	private static final TableId TABLE_ID = TableId.of("test_dataset", "test_table");
+	private static final String MAX_TIMESTAMP_KEY = "maxProcessedTimestampInChunk";
+	private static final String DIRECT_WRITTEN_ROWS_KEY = "directWrittenRows";
+
+	private InMemoryBigQueryTableClient tableClient;
+	private BigQueryDestinationTable destinationTable;
+	private StepExecution stepExecution;
+	private DirectBigQueryItemWriter writer;
+
+	@BeforeEach
+	void setUp() {
+		tableClient = new InMemoryBigQueryTableClient();
+		destinationTable = mock(BigQueryDestinationTable.class);
+		stepExecution = MetaDataInstanceFactory.createStepExecution();
+		writer = new DirectBigQueryItemWriter(tableClient, destinationTable, "test_dataset", "test_table", 2);
+		writer.saveStepExecution(stepExecution);
+	}
+
+	@Test
+	@DisplayName("chunk 를 batchSize 단위 insertAll 로 BigQuery 에 바로 씀 + 행 수 / 최신 타임스탬프 저장")
+	void write_ShouldInsertRowsInBatches() throws Exception {
+		// given
+		Instant now = Instant.parse("2025-01-01T00:00:00.123456Z");
+		List<AuctionsWinningBidDto> items = List.of(item(1L, now.minusSeconds(10)), item(2L, now), item(3L, now));
+
+		// when
+		writer.write(new Chunk<>(items));
+
+		// then
+		assertEquals(List.of(2, 1), tableClient.requestSizes());
+
+		List<Map<String, Object>> rows = tableClient.rows(TABLE_ID);
+		assertEquals(3, rows.size());
+		assertEquals(1L, rows.get(0).get("auction_id"));
+		assertEquals("테스트 상품 1", rows.get(0).get("product_name"));
+		assertEquals("2025-01-01 00:00:00.123456 UTC", rows.get(1).get("auction_start_time"));
+		assertTrue(rows.get(0).containsKey("last_modified"));
+
+		assertEquals(3L, stepExecution.getExecutionContext().getLong(DIRECT_WRITTEN_ROWS_KEY));
+		Timestamp maxTimestamp = (Timestamp)stepExecution.getExecutionContext().get(MAX_TIMESTAMP_KEY);
+		assertEquals(now, maxTimestamp.toInstant());
+	}
+
+	@Test
+	@DisplayName("같은 행을 다시 쓰면 insertId 로 중복 제거")
+	void write_Retry_ShouldDeduplicateByInsertId() throws Exception {
+		// given
+		Instant now = Instant.now();
+		Chunk<AuctionsWinningBidDto> chunk = new Chunk<>(List.of(item(1L, now), item(2L, now)));
+
+		// when
+		writer.write(chunk);
+		writer.write(chunk);
+
+		// then
+		assertEquals(2, tableClient.rows(TABLE_ID).size());
+	}
+
+	@Test
+	@DisplayName("insert 오류가 있으면 예외 + 행 수 / 타임스탬프 갱신 안함")
+	void write_InsertErrors_ShouldThrow() {
+		// given
+		tableClient.rejectRowsWhere(row -> Long.valueOf(2L).equals(row.get("auction_id")));
+		Chunk<AuctionsWinningBidDto> chunk = new Chunk<>(List.of(item(1L, Instant.now()), item(2L, Instant.now())));
+
+		// when & then
+		assertThrows(IllegalStateException.class, () -> writer.write(chunk));
+		assertTrue(tableClient.rows(TABLE_ID).isEmpty());
+		assertEquals(0L, stepExecution.getExecutionContext().getLong(DIRECT_WRITTEN_ROWS_KEY, 0L));
+		assertNull(stepExecution.getExecutionContext().get(MAX_TIMESTAMP_KEY));
+	}
+
+	@Test
+	@DisplayName("last_modified 없는 기존 테이블 => 첫 insertAll 전에 컬럼 추가 (스텝마다 한 번)")
+	void write_TableWithoutLastModified_AddsColumnBeforeFirstInsert() throws Exception {
+		// given: last_modified 가 생기기 전의 테이블, ensureReady 가 컬럼 추가
+		tableClient.createTable(TABLE_ID, BigQueryRowSchema.AUCTIONS_WINNING_BID.getBigQuerySchema().getFields().stream()
+			.map(Field::getName)
+			.filter(name -> !"last_modified".equals(name))
+			.collect(Collectors.toSet()));
+		when(destinationTable.ensureReady()).thenAnswer(invocation -> {
+			tableClient.addColumn(TABLE_ID, "last_modified");
+			return false;
+		});
+		Instant now = Instant.now();
+
+		// when
+		writer.write(new Chunk<>(List.of(item(1L, now), item(2L, now))));
+		writer.write(new Chunk<>(List.of(item(3L, now))));
+
+		// then
+		assertEquals(3, tableClient.rows(TABLE_ID).size());
+		assertTrue(tableClient.rows(TABLE_ID).get(0).containsKey("last_modified"));
+		verify(destinationTable, times(1)).ensureReady();
+	}
+
+	@Test
+	@DisplayName("컬럼 추가 없이 last_modified 없는 테이블에 쓰면 no such field 로 실패")
+	void write_TableWithoutLastModified_FailsWithoutColumnAddition() {
+		// given
+		tableClient.createTable(TABLE_ID, Set.of("auction_id"));
+
+		// when & then
+		assertThrows(IllegalStateException.class,
+			() -> writer.write(new Chunk<>(List.of(item(1L, Instant.now())))));
+		verify(destinationTable).ensureReady();
+	}
+
+	@Test
+	@DisplayName("빈 Chunk 쓰기")
+	void write_EmptyChunk() throws Exception {
+		// when
+		writer.write(new Chunk<>(new ArrayList<>()));
+
+		// then
+		assertTrue(tableClient.requestSizes().isEmpty());
+		assertFalse(stepExecution.getExecutionContext().containsKey(DIRECT_WRITTEN_ROWS_KEY));
+	}
+
+
+	// 헬퍼 메서드
+	private AuctionsWinningBidDto item(long id, Instant lastModified) {
+		return AuctionsWinningBidDto.builder()
+			.auctionId(id).productId(100L + id).productName("테스트 상품 " + id)
+			.productCategory("테스트 카테고리 " + id).maxPrice(100L * id)
+			.auctionStartTime(lastModified).auctionEndTime(lastModified).lastModified(lastModified)
+			.build();
+	}
+}
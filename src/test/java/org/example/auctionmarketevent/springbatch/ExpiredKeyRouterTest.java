@@ -0,0 +1,77 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.auctionmarketevent.common.listener.ExpiredKeyRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExpiredKeyRouterTest {
+
+	private final List<Long> ended = new ArrayList<>();
+	private final List<Long> started = new ArrayList<>();
+	private ExpiredKeyRouter router;
+
+	@BeforeEach
+	void setUp() {
+		router = new ExpiredKeyRouter()
+			.register("auction:end:", ended::add)
+			.register("auction:start:", started::add);
+	}
+
+	@Test
+	@DisplayName("등록한 접두사 + 숫자 ID 이면 해당 handler 로 ID 전달")
+	void route_MatchingPrefix_DispatchesId() {
+		// when
+		boolean endRouted = router.route(bytes("auction:end:42"));
+		boolean startRouted = router.route(bytes("auction:start:9007199254740993"));
+
+		// then
+		assertTrue(endRouted);
+		assertTrue(startRouted);
+		assertEquals(List.of(42L), ended);
+		assertEquals(List.of(9007199254740993L), started);
+	}
+
+	@Test
+	@DisplayName("접두사가 다르거나 ID 가 숫자가 아니면 버림")
+	void route_NonMatchingKey_Dropped() {
+		// when & then
+		assertFalse(router.route(bytes("session:abc")));
+		assertFalse(router.route(bytes("auction:bid:1")));
+		assertFalse(router.route(bytes("auction:end:")));
+		assertFalse(router.route(bytes("auction:end:12a")));
+		assertFalse(router.route(bytes("auction:end:1:extra")));
+		assertFalse(router.route(bytes("auction:end:1234567890123456789"))); // long 범위 밖일 수 있는 19자리
+		assertFalse(router.route(new byte[0]));
+		assertFalse(router.route(null));
+		assertTrue(ended.isEmpty());
+		assertTrue(started.isEmpty());
+	}
+
+	@Test
+	@DisplayName("겹치는 접두사는 더 긴 접두사로 전달")
+	void route_OverlappingPrefix_LongestWins() {
+		// given
+		List<Long> extended = new ArrayList<>();
+		router.register("auction:end:extended:", extended::add);
+
+		// when
+		router.route(bytes("auction:end:extended:7"));
+		router.route(bytes("auction:end:8"));
+
+		// then
+		assertEquals(List.of(7L), extended);
+		assertEquals(List.of(8L), ended);
+	}
+
+	// 헬퍼 메서드
+	private static byte[] bytes(String key) {
+		return key.getBytes(StandardCharsets.UTF_8);
+	}
+}
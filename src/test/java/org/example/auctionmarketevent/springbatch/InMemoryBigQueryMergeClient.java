@@ -0,0 +1,139 @@
+package org.example.auctionmarketevent.springbatch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.example.auctionmarketevent.common.listener.BigQueryMergeClient;
+
+import com.google.cloud.bigquery.JobInfo;
+import com.google.cloud.bigquery.LoadJobConfiguration;
+import com.google.cloud.bigquery.Schema;
+import com.google.cloud.bigquery.TableId;
+
+// 네트워크 없이 테스트하기 위한 메모리 BigQuery (GCS 파일 내용은 stageFile 로 미리 등록)
+class InMemoryBigQueryMergeClient implements BigQueryMergeClient {
+
+	private final Map<String, List<Map<String, Object>>> files = new HashMap<>();
+	private final Map<TableId, List<Map<String, Object>>> tables = new LinkedHashMap<>();
+	private final Set<TableId> createdStagingTables = new LinkedHashSet<>();
+	private final List<TableId> droppedTables = new ArrayList<>();
+	private boolean failLoad; // true 면 로드 작업 실패
+
+	@Override
+	public void createStagingTable(TableId stagingTableId, Schema schema, Duration expiration) {
+		if (tables.containsKey(stagingTableId)) {
+			throw new IllegalStateException("이미 있는 테이블: " + stagingTableId);
+		}
+		tables.put(stagingTableId, new ArrayList<>());
+		createdStagingTables.add(stagingTableId);
+	}
+
+	@Override
+	public void load(LoadJobConfiguration loadConfig) {
+		if (failLoad) {
+			throw new IllegalStateException("BigQuery 스테이징 로드 실패: 잘못된 행");
+		}
+		List<Map<String, Object>> loaded = new ArrayList<>();
+		for (String uri : loadConfig.getSourceUris()) {
+			List<Map<String, Object>> rows = files.get(uri);
+			if (rows == null) {
+				throw new IllegalStateException("GCS 파일 없음: " + uri);
+			}
+			rows.forEach(row -> loaded.add(new LinkedHashMap<>(row)));
+		}
+
+		List<Map<String, Object>> table = tables.computeIfAbsent(loadConfig.getDestinationTable(),
+			id -> new ArrayList<>());
+		if (loadConfig.getWriteDisposition() == JobInfo.WriteDisposition.WRITE_TRUNCATE) {
+			table.clear();
+		}
+		table.addAll(loaded);
+	}
+
+	@Override
+	public MergeStatistics merge(TableId stagingTableId, TableId targetTableId, String keyColumn, String orderColumn,
+		List<String> columns) {
+		List<Map<String, Object>> staging = tables.get(stagingTableId);
+		List<Map<String, Object>> target = tables.get(targetTableId);
+		if (staging == null || target == null) {
+			throw new IllegalStateException("MERGE 테이블 없음: " + stagingTableId + ", " + targetTableId);
+		}
+
+		// 스테이징의 같은 키는 orderColumn 이 가장 큰 행 하나만 사용
+		Map<Object, Map<String, Object>> sourceByKey = new LinkedHashMap<>();
+		staging.stream()
+			.filter(row -> row.get(keyColumn) != null)
+			.forEach(row -> sourceByKey.merge(row.get(keyColumn), row,
+				(current, candidate) -> compare(candidate.get(orderColumn), current.get(orderColumn)) > 0
+					? candidate : current));
+
+		long inserted = 0;
+		long updated = 0;
+		for (Map.Entry<Object, Map<String, Object>> source : sourceByKey.entrySet()) {
+			boolean matched = false;
+			for (Map<String, Object> targetRow : target) {
+				if (Objects.equals(targetRow.get(keyColumn), source.getKey())) {
+					columns.forEach(column -> targetRow.put(column, source.getValue().get(column)));
+					matched = true;
+					updated++;
+				}
+			}
+			if (!matched) {
+				Map<String, Object> newRow = new LinkedHashMap<>();
+				columns.forEach(column -> newRow.put(column, source.getValue().get(column)));
+				target.add(newRow);
+				inserted++;
+			}
+		}
+		return new MergeStatistics(inserted, updated);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static int compare(Object left, Object right) {
+		if (left == null || right == null) {
+			return left == null ? (right == null ? 0 : -1) : 1; // NULL 은 가장 작은 값 (BigQuery DESC 정렬과 같음)
+		}
+		return ((Comparable<Object>)left).compareTo(right);
+	}
+
+	@Override
+	public boolean dropTable(TableId tableId) {
+		droppedTables.add(tableId);
+		return tables.remove(tableId) != null;
+	}
+
+	void stageFile(String gcsUri, List<Map<String, Object>> rows) {
+		files.put(gcsUri, rows);
+	}
+
+	void createTable(TableId tableId) {
+		tables.put(tableId, new ArrayList<>());
+	}
+
+	void failLoad(boolean failLoad) {
+		this.failLoad = failLoad;
+	}
+
+	List<Map<String, Object>> rows(TableId tableId) {
+		return tables.getOrDefault(tableId, List.of());
+	}
+
+	boolean tableExists(TableId tableId) {
+		return tables.containsKey(tableId);
+	}
+
+	Set<TableId> createdStagingTables() {
+		return createdStagingTables;
+	}
+
+	List<TableId> droppedTables() {
+		return droppedTables;
+	}
+}
@@ -0,0 +1,77 @@
+package org.example.auctionmarketevent.springbatch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.example.auctionmarketevent.springbatch.job.writer.BigQueryTableClient;
+
+import com.google.cloud.bigquery.BigQueryError;
+import com.google.cloud.bigquery.InsertAllRequest;
+import com.google.cloud.bigquery.TableId;
+
+// 네트워크 없이 테스트하기 위한 메모리 BigQuery 테이블 (insertId 중복 제거 포함)
+// => 컬럼 목록을 정한 테이블은 없는 컬럼이 있는 행을 거부 (insertAll 은 컬럼을 추가하지 않음)
+class InMemoryBigQueryTableClient implements BigQueryTableClient {
+
+	private final Map<TableId, Map<String, Map<String, Object>>> tables = new HashMap<>();
+	private final Map<TableId, Set<String>> columns = new HashMap<>();
+	private final List<Integer> requestSizes = new ArrayList<>();
+	private Predicate<Map<String, Object>> rejectRow = row -> false; // true 인 행은 insert 오류 반환
+
+	@Override
+	public Map<Long, List<BigQueryError>> insertAll(TableId tableId, List<InsertAllRequest.RowToInsert> rows) {
+		requestSizes.add(rows.size());
+
+		Map<Long, List<BigQueryError>> errors = new HashMap<>();
+		Set<String> tableColumns = columns.get(tableId);
+		for (int i = 0; i < rows.size(); i++) {
+			Map<String, Object> content = rows.get(i).getContent();
+			if (rejectRow.test(content)) {
+				errors.put((long)i, List.of(new BigQueryError("invalid", "row", "거부된 행")));
+			} else if (tableColumns != null) {
+				for (String field : content.keySet()) {
+					if (!tableColumns.contains(field)) {
+						errors.put((long)i, List.of(new BigQueryError("invalid", field, "no such field: " + field)));
+						break;
+					}
+				}
+			}
+		}
+		if (!errors.isEmpty()) {
+			return errors;
+		}
+
+		Map<String, Map<String, Object>> table = tables.computeIfAbsent(tableId, id -> new LinkedHashMap<>());
+		for (InsertAllRequest.RowToInsert row : rows) {
+			table.putIfAbsent(row.getId(), row.getContent());
+		}
+		return Map.of();
+	}
+
+	// 컬럼 목록이 정해진 기존 테이블
+	void createTable(TableId tableId, Set<String> tableColumns) {
+		columns.put(tableId, new HashSet<>(tableColumns));
+	}
+
+	void addColumn(TableId tableId, String column) {
+		columns.get(tableId).add(column);
+	}
+
+	void rejectRowsWhere(Predicate<Map<String, Object>> rejectRow) {
+		this.rejectRow = rejectRow;
+	}
+
+	List<Map<String, Object>> rows(TableId tableId) {
+		return new ArrayList<>(tables.getOrDefault(tableId, Map.of()).values());
+	}
+
+	List<Integer> requestSizes() {
+		return requestSizes;
+	}
+}
@@ -10,7 +10,10 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.example.auctionmarketevent.common.listener.BigQueryMergeClient;
+import org.example.auctionmarketevent.common.listener.BigQueryMergeLoader;
 import org.example.auctionmarketevent.common.listener.IncrementalTimestampStepListener;
+import org.example.auctionmarketevent.springbatch.job.writer.StagingFileFormat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +25,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -51,6 +55,7 @@ class IncrementalTimestampStepListenerTest {
 	@Mock private Job mockBigQueryJob;
 	@Mock private JobStatus mockJobStatus;
 	@Mock private JobStatistics.LoadStatistics mockLoadStats;
+	@Mock private BigQueryMergeLoader mockMergeLoader;
 
 	@InjectMocks
 	private IncrementalTimestampStepListener listener;
@@ -205,6 +210,111 @@ class IncrementalTimestampStepListenerTest {
 		assertEquals(ExitStatus.COMPLETED, exitStatus);
 	}
 
+	@Test
+	@DisplayName("afterStep: drain 모드 + GCS 파일 없을 시 워터마크를 구간 끝으로 업데이트")
+	void afterStep_DrainSliceWithoutFiles_ShouldAdvanceWatermarkToSliceEnd() {
+		// given
+		LocalDateTime sliceEnd = LocalDateTime.of(2024, 1, 1, 12, 0);
+		when(mockStepExecution.getExitStatus()).thenReturn(ExitStatus.COMPLETED);
+		when(mockStepExecution.getJobParameters()).thenReturn(new JobParametersBuilder()
+			.addLocalDateTime("sliceEnd", sliceEnd)
+			.toJobParameters());
+		when(mockExecutionContext.get("gcsFileUris")).thenReturn(new ArrayList<String>());
+		when(mockJdbcTemplate.update(anyString(), any(Timestamp.class), anyString())).thenReturn(1);
+
+		// when
+		ExitStatus exitStatus = listener.afterStep(mockStepExecution);
+
+		// then
+		verify(mockBigQuery, never()).create(any(JobInfo.class));
+		verify(mockJdbcTemplate).update(
+			eq("UPDATE batch_job_metadata SET last_processed_timestamp = ? WHERE job_name = ?"),
+			timestampCaptor.capture(),
+			eq(JOB_NAME)
+		);
+		assertEquals(Timestamp.valueOf(sliceEnd), timestampCaptor.getValue());
+		assertEquals(ExitStatus.COMPLETED, exitStatus);
+	}
+
+	@Test
+	@DisplayName("afterStep: 성공 + BigQuery 직접 쓰기 시 로드 작업 없이 워터마크 업데이트")
+	void afterStep_CompletedWithDirectWrites_ShouldUpdateWatermarkWithoutLoad() {
+		// given
+		Timestamp maxTimestamp = Timestamp.from(Instant.now());
+		when(mockStepExecution.getExitStatus()).thenReturn(ExitStatus.COMPLETED);
+		when(mockExecutionContext.get("gcsFileUris")).thenReturn(null);
+		when(mockExecutionContext.getLong("directWrittenRows", 0L)).thenReturn(3L);
+		when(mockExecutionContext.get("maxProcessedTimestampInChunk")).thenReturn(maxTimestamp);
+		when(mockJdbcTemplate.update(anyString(), any(Timestamp.class), anyString())).thenReturn(1);
+
+		// when
+		ExitStatus exitStatus = listener.afterStep(mockStepExecution);
+
+		// then
+		verify(mockBigQuery, never()).create(any(JobInfo.class));
+		verify(mockStorage, never()).delete(anyList());
+		verify(mockJdbcTemplate).update(
+			eq("UPDATE batch_job_metadata SET last_processed_timestamp = ? WHERE job_name = ?"),
+			timestampCaptor.capture(),
+			eq(JOB_NAME)
+		);
+		assertEquals(maxTimestamp, timestampCaptor.getValue());
+		assertEquals(ExitStatus.COMPLETED, exitStatus);
+	}
+
+	@Test
+	@DisplayName("afterStep: MERGE 모드 시 스테이징 MERGE 후 통계 기록, 메타데이터 업데이트, GCS 임시 파일 삭제")
+	void afterStep_MergeMode_ShouldMergeUpdateDelete() throws InterruptedException {
+		// given
+		when(mockStepExecution.getExitStatus()).thenReturn(ExitStatus.COMPLETED);
+		List<String> gcsUris = List.of("gs://test-bucket/file1.csv");
+		when(mockExecutionContext.get("gcsFileUris")).thenReturn(gcsUris);
+		Timestamp maxTimestamp = Timestamp.from(Instant.now());
+		when(mockExecutionContext.get("maxProcessedTimestampInChunk")).thenReturn(maxTimestamp);
+		when(mockMergeLoader.isEnabled()).thenReturn(true);
+		when(mockMergeLoader.load(gcsUris, StagingFileFormat.CSV))
+			.thenReturn(new BigQueryMergeClient.MergeStatistics(3, 2));
+		when(mockStorage.delete(anyList())).thenReturn(List.of(true));
+		when(mockJdbcTemplate.update(anyString(), any(Timestamp.class), anyString())).thenReturn(1);
+		ReflectionTestUtils.setField(listener, "stagingFileFormat", StagingFileFormat.CSV);
+
+		// when
+		ExitStatus exitStatus = listener.afterStep(mockStepExecution);
+
+		// then
+		verify(mockBigQuery, never()).create(any(JobInfo.class));
+		verify(mockExecutionContext).putLong("mergeInsertedRows", 3L);
+		verify(mockExecutionContext).putLong("mergeUpdatedRows", 2L);
+		verify(mockJdbcTemplate).update(
+			eq("UPDATE batch_job_metadata SET last_processed_timestamp = ? WHERE job_name = ?"),
+			timestampCaptor.capture(),
+			eq(JOB_NAME)
+		);
+		assertEquals(maxTimestamp, timestampCaptor.getValue());
+		verify(mockStorage).delete(anyList());
+		assertEquals(ExitStatus.COMPLETED, exitStatus);
+	}
+
+	@Test
+	@DisplayName("afterStep: MERGE 실패 시 ExitStatus FAILED 로 변경, 워터마크 / 파일 유지")
+	void afterStep_MergeFails_ShouldChangeExitStatusToFailed() throws InterruptedException {
+		// given
+		when(mockStepExecution.getExitStatus()).thenReturn(ExitStatus.COMPLETED);
+		List<String> gcsUris = List.of("gs://test-bucket/file1.csv");
+		when(mockExecutionContext.get("gcsFileUris")).thenReturn(gcsUris);
+		when(mockMergeLoader.isEnabled()).thenReturn(true);
+		when(mockMergeLoader.load(eq(gcsUris), any()))
+			.thenThrow(new IllegalStateException("BigQuery MERGE 실패"));
+
+		// when
+		listener.afterStep(mockStepExecution);
+
+		// then
+		verify(mockStepExecution).setExitStatus(ExitStatus.FAILED);
+		verify(mockJdbcTemplate, never()).update(anyString(), any(), anyString());
+		verify(mockStorage, never()).delete(anyList());
+	}
+
 	@Test
 	@DisplayName("afterStep: Step 실패 시 작업 종료")
 	void afterStep_Failed_ShouldDoNothing() {
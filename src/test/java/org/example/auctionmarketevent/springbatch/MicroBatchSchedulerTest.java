@@ -0,0 +1,136 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.example.auctionmarketevent.common.scheduler.MicroBatchScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class MicroBatchSchedulerTest {
+
+	private static final String JOB_NAME = "testJob";
+	private static final Duration SAFETY_LAG = Duration.ofSeconds(30);
+
+	@Mock private JobLauncher mockJobLauncher;
+	@Mock private Job mockJob;
+	@Mock private JdbcTemplate mockJdbcTemplate;
+
+	private MicroBatchScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		// 간격: 처음 40초, 10초 ~ 160초, 1000 행 이상이면 바쁨
+		scheduler = new MicroBatchScheduler(mockJobLauncher, mockJob, mockJdbcTemplate, null, JOB_NAME, true,
+			SAFETY_LAG, Duration.ofSeconds(40), Duration.ofSeconds(10), Duration.ofSeconds(160), 1000);
+	}
+
+	@Test
+	@DisplayName("runOnce: 구간 끝 = 현재 - safetyLag 로 실행, 적재 행이 많으면 간격 절반")
+	void runOnce_Busy_RunsWithSafetyLagAndShortensInterval() throws Exception {
+		// given
+		givenWatermark(LocalDateTime.now().minusMinutes(10));
+		when(mockJobLauncher.run(eq(mockJob), any(JobParameters.class))).thenReturn(completedExecution(1500));
+
+		// when
+		LocalDateTime before = LocalDateTime.now();
+		Duration next = scheduler.runOnce();
+		LocalDateTime after = LocalDateTime.now();
+
+		// then
+		ArgumentCaptor<JobParameters> parametersCaptor = ArgumentCaptor.forClass(JobParameters.class);
+		verify(mockJobLauncher).run(eq(mockJob), parametersCaptor.capture());
+		LocalDateTime sliceEnd = parametersCaptor.getValue().getLocalDateTime("sliceEnd");
+		assertFalse(sliceEnd.isBefore(before.minus(SAFETY_LAG)));
+		assertFalse(sliceEnd.isAfter(after.minus(SAFETY_LAG)));
+
+		assertEquals(Duration.ofSeconds(20), next);
+		assertEquals(Duration.ofSeconds(10), scheduler.runOnce()); // 최소 간격에서 멈춤
+		assertEquals(Duration.ofSeconds(10), scheduler.runOnce());
+	}
+
+	@Test
+	@DisplayName("runOnce: 변경이 없으면 간격 두 배 (최대 간격까지)")
+	void runOnce_Idle_BacksOff() throws Exception {
+		// given
+		givenWatermark(LocalDateTime.now().minusMinutes(10));
+		when(mockJobLauncher.run(eq(mockJob), any(JobParameters.class))).thenReturn(completedExecution(0));
+
+		// when & then
+		assertEquals(Duration.ofSeconds(80), scheduler.runOnce());
+		assertEquals(Duration.ofSeconds(160), scheduler.runOnce());
+		assertEquals(Duration.ofSeconds(160), scheduler.runOnce());
+	}
+
+	@Test
+	@DisplayName("runOnce: 적재 행이 기준보다 적으면 간격 유지")
+	void runOnce_ModerateLoad_KeepsInterval() throws Exception {
+		// given
+		givenWatermark(LocalDateTime.now().minusMinutes(10));
+		when(mockJobLauncher.run(eq(mockJob), any(JobParameters.class))).thenReturn(completedExecution(200));
+
+		// when & then
+		assertEquals(Duration.ofSeconds(40), scheduler.runOnce());
+	}
+
+	@Test
+	@DisplayName("runOnce: 워터마크가 구간 끝 이후면 Job 실행 없이 건너뜀")
+	void runOnce_WatermarkWithinSafetyLag_Skips() throws Exception {
+		// given
+		givenWatermark(LocalDateTime.now().minusSeconds(5));
+
+		// when
+		Duration next = scheduler.runOnce();
+
+		// then
+		verify(mockJobLauncher, never()).run(any(), any());
+		assertEquals(Duration.ofSeconds(80), next);
+	}
+
+	@Test
+	@DisplayName("runOnce: Job 실패 시 간격을 늘리고 다음 실행 가능 상태로 복구")
+	void runOnce_JobFailed_BacksOff() throws Exception {
+		// given
+		givenWatermark(LocalDateTime.now().minusMinutes(10));
+		JobExecution failed = new JobExecution(1L);
+		failed.setStatus(BatchStatus.FAILED);
+		when(mockJobLauncher.run(eq(mockJob), any(JobParameters.class))).thenReturn(failed);
+
+		// when
+		Duration next = scheduler.runOnce();
+
+		// then
+		assertEquals(Duration.ofSeconds(80), next);
+		assertFalse(scheduler.isRunning());
+	}
+
+	// 헬퍼 메서드
+	private void givenWatermark(LocalDateTime watermark) {
+		when(mockJdbcTemplate.queryForObject(anyString(), eq(Timestamp.class), eq(JOB_NAME)))
+			.thenReturn(Timestamp.valueOf(watermark));
+	}
+
+	private JobExecution completedExecution(long writeCount) {
+		JobExecution execution = new JobExecution(1L);
+		execution.setStatus(BatchStatus.COMPLETED);
+		execution.createStepExecution("mysqlToBigQueryStep").setWriteCount(writeCount);
+		return execution;
+	}
+}
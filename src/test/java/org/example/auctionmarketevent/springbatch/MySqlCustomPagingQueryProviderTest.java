@@ -0,0 +1,296 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.example.auctionmarketevent.common.provider.MySqlCustomPagingQueryProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class MySqlCustomPagingQueryProviderTest {
+
+	private static final String SELECT = "a.id AS auction_id, p.id AS product_id, "
+		+ "GREATEST(a.modified_at, p.modified_at) AS last_modified";
+	private static final String FROM = "auctions a JOIN product p ON a.product_id = p.id";
+	private static final List<String> CHANGE_COLUMNS = List.of("a.modified_at", "p.modified_at");
+	private static final Map<String, String> BRANCH_ID_COLUMN = Map.of("auction_id", "a.id", "product_id", "p.id");
+	private static final int PAGE_SIZE = 100;
+	private static final Timestamp T0 = Timestamp.valueOf("2025-04-01 00:00:00");
+	private static final Timestamp T1 = Timestamp.valueOf("2025-04-01 01:00:00");
+	private static final Timestamp T2 = Timestamp.valueOf("2025-04-01 02:00:00");
+
+	private MySqlCustomPagingQueryProvider provider;
+
+	@BeforeEach
+	void setUp() {
+		provider = new MySqlCustomPagingQueryProvider(SELECT, FROM, CHANGE_COLUMNS, "a.id",
+			"lastProcessedTimestamp", null);
+		provider.addSortKeyColumn("product_id", "p.id");
+	}
+
+	@Test
+	@DisplayName("기본 정렬 키: 변경 컬럼별 범위 스캔 브랜치 + row constructor keyset 조건")
+	void generateRemainingPagesQuery_DefaultSortKeys() {
+		// when
+		String sql = provider.generateRemainingPagesQuery(PAGE_SIZE);
+
+		// then
+		String firstBranch = "(SELECT " + SELECT + " FROM " + FROM
+			+ " WHERE a.modified_at > :lastProcessedTimestamp AND a.modified_at >= p.modified_at"
+			+ " AND a.modified_at >= :_last_modified"
+			+ " AND (a.modified_at, a.id) > (:_last_modified, :_auction_id)"
+			+ " ORDER BY a.modified_at ASC, a.id ASC LIMIT 100)";
+		String secondBranch = "(SELECT " + SELECT + " FROM " + FROM
+			+ " WHERE p.modified_at > :lastProcessedTimestamp AND p.modified_at > a.modified_at"
+			+ " AND p.modified_at >= :_last_modified"
+			+ " AND (p.modified_at, a.id) > (:_last_modified, :_auction_id)"
+			+ " ORDER BY p.modified_at ASC, a.id ASC LIMIT 100)";
+
+		assertEquals("SELECT * FROM (" + firstBranch + " UNION ALL " + secondBranch + ") AS derived_table"
+			+ " ORDER BY last_modified ASC, auction_id ASC LIMIT 100", sql);
+	}
+
+	@Test
+	@DisplayName("추가 조건은 모든 브랜치에 붙음")
+	void generateFirstPageQuery_WithExtraWhereClause() {
+		// given
+		provider = new MySqlCustomPagingQueryProvider(SELECT, FROM, CHANGE_COLUMNS, "a.id",
+			"lastProcessedTimestamp", "a.id BETWEEN :minAuctionId AND :maxAuctionId");
+
+		// when
+		String sql = provider.generateFirstPageQuery(PAGE_SIZE);
+
+		// then
+		assertEquals(2, countOccurrences(sql, "AND (a.id BETWEEN :minAuctionId AND :maxAuctionId)"));
+		assertFalse(sql.contains(":_"));
+	}
+
+	@Test
+	@DisplayName("커서 쿼리: 브랜치 LIMIT 없이 한 번만 정렬, 재시작 시 keyset 조건 포함")
+	void generateCursorQuery_ShouldScanOnceAndResumeWithKeyset() {
+		// when
+		String firstRun = provider.generateCursorQuery(false);
+		String restart = provider.generateCursorQuery(true);
+
+		// then
+		for (String sql : List.of(firstRun, restart)) {
+			assertFalse(sql.contains("LIMIT"));
+			assertEquals(1, countOccurrences(sql, "ORDER BY "));
+			assertTrue(sql.endsWith(") AS derived_table ORDER BY last_modified ASC, auction_id ASC"), sql);
+		}
+		assertFalse(firstRun.contains(":_"));
+		assertTrue(restart.contains("(a.modified_at, a.id) > (:_last_modified, :_auction_id)"), restart);
+		assertTrue(restart.contains("(p.modified_at, a.id) > (:_last_modified, :_auction_id)"), restart);
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("sortKeyCases")
+	@DisplayName("정렬 키 목록과 무관하게 sargable 한 브랜치 쿼리 형태 유지")
+	void generateQueries_AnySortKeys_ShouldKeepShape(String description, Map<String, Order> sortKeys) {
+		// given
+		provider.setSortKeys(sortKeys);
+
+		// when
+		String firstPage = provider.generateFirstPageQuery(PAGE_SIZE);
+		String remainingPages = provider.generateRemainingPagesQuery(PAGE_SIZE);
+
+		// then
+		for (String sql : List.of(firstPage, remainingPages)) {
+			// 변경 컬럼마다 브랜치 하나
+			assertEquals(CHANGE_COLUMNS.size() - 1, countOccurrences(sql, " UNION ALL "));
+			// 계산 컬럼으로 필터링하지 않음 (SELECT 절에만 GREATEST 존재)
+			assertEquals(CHANGE_COLUMNS.size(), countOccurrences(sql, "GREATEST("));
+			assertFalse(sql.contains("WHERE GREATEST"));
+			// 브랜치마다 변경 컬럼 기준 범위 조건 + 브랜치 LIMIT, 바깥 LIMIT
+			for (String changeColumn : CHANGE_COLUMNS) {
+				assertTrue(sql.contains("WHERE " + changeColumn + " > :lastProcessedTimestamp"), sql);
+				assertTrue(sql.contains(branchOrderBy(sortKeys, changeColumn) + " LIMIT " + PAGE_SIZE + ")"), sql);
+			}
+			assertTrue(sql.endsWith(outerOrderBy(sortKeys) + " LIMIT " + PAGE_SIZE), sql);
+		}
+
+		// 첫 페이지는 keyset 조건 없음
+		assertFalse(firstPage.contains(":_"));
+
+		// 나머지 페이지: 모든 정렬 키의 placeholder 가 브랜치마다 존재
+		for (String key : sortKeys.keySet()) {
+			assertTrue(countOccurrences(remainingPages, ":_" + key) >= CHANGE_COLUMNS.size(), remainingPages);
+		}
+
+		boolean sameDirection = sortKeys.values().stream().distinct().count() == 1;
+		Order firstOrder = sortKeys.values().iterator().next();
+		String firstKey = sortKeys.keySet().iterator().next();
+		for (String changeColumn : CHANGE_COLUMNS) {
+			// 선두 정렬 키의 범위 조건 (인덱스 range 시작점)
+			String leadingBound = branchColumn(firstKey, changeColumn)
+				+ (firstOrder == Order.ASCENDING ? " >= " : " <= ") + ":_" + firstKey;
+			assertTrue(remainingPages.contains(leadingBound), remainingPages);
+
+			if (sameDirection && sortKeys.size() > 1) {
+				// 방향이 같으면 row constructor 사용
+				assertTrue(remainingPages.contains(rowConstructor(sortKeys, changeColumn)), remainingPages);
+			} else if (!sameDirection) {
+				// 방향이 섞이면 OR 로 풀어서 생성
+				assertFalse(remainingPages.contains(") > (:_"));
+				assertFalse(remainingPages.contains(") < (:_"));
+				assertTrue(remainingPages.contains(" OR ("), remainingPages);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("브랜치 컬럼 매핑이 없는 정렬 키는 바로 실패")
+	void setSortKeys_UnmappedKey_ShouldFailFast() {
+		// given
+		Map<String, Order> sortKeys = sortKeys("last_modified", Order.ASCENDING, "product_name", Order.ASCENDING);
+
+		// when & then
+		assertThrows(IllegalArgumentException.class, () -> provider.setSortKeys(sortKeys));
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("uniqueSortKeyCases")
+	@DisplayName("H2(MySQL 모드)에서 페이지 쿼리 실행 => 같은 시각이 여러 페이지에 걸쳐도 누락/중복 없이 정렬 순서대로 읽음")
+	void read_H2MySqlMode_ShouldReadAllRowsInOrder(String description, Map<String, Order> sortKeys) throws Exception {
+		// given
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE product (id BIGINT PRIMARY KEY, modified_at DATETIME(6))");
+		jdbcTemplate.execute("CREATE TABLE auctions (id BIGINT PRIMARY KEY, product_id BIGINT, modified_at DATETIME(6))");
+		// 상품 1 => 경매 1, 2, 3 (상품 변경 시각이 더 늦음 => p.modified_at 브랜치)
+		// 상품 2 => 경매 4, 5, 6 (경매 변경 시각이 더 늦음 => a.modified_at 브랜치), 워터마크 이전 경매 7 은 제외
+		jdbcTemplate.update("INSERT INTO product VALUES (1, ?), (2, ?)", T2, T0);
+		jdbcTemplate.update("INSERT INTO auctions VALUES (1, 1, ?), (2, 1, ?), (3, 1, ?)", T1, T1, T0);
+		jdbcTemplate.update("INSERT INTO auctions VALUES (4, 2, ?), (5, 2, ?), (6, 2, ?), (7, 2, ?)", T2, T2, T1, T0);
+
+		provider.setSortKeys(sortKeys);
+		JdbcPagingItemReader<Map<String, Object>> reader = new JdbcPagingItemReaderBuilder<Map<String, Object>>()
+			.name("h2Reader")
+			.dataSource(dataSource)
+			.queryProvider(provider)
+			.parameterValues(Map.of("lastProcessedTimestamp", T0))
+			.pageSize(2)
+			.rowMapper((rs, rowNum) -> Map.of("auction_id", rs.getLong("auction_id"),
+				"product_id", rs.getLong("product_id"), "last_modified", rs.getTimestamp("last_modified")))
+			.build();
+		reader.afterPropertiesSet();
+
+		// when
+		reader.open(new ExecutionContext());
+		List<Map<String, Object>> rows = new ArrayList<>();
+		Map<String, Object> row;
+		while ((row = reader.read()) != null) {
+			rows.add(row);
+		}
+		reader.close();
+
+		// then
+		List<Map<String, Object>> expected = new ArrayList<>(jdbcTemplate.queryForList(
+			"SELECT a.id AS auction_id, p.id AS product_id, GREATEST(a.modified_at, p.modified_at) AS last_modified "
+				+ "FROM " + FROM + " WHERE GREATEST(a.modified_at, p.modified_at) > ? " + outerOrderBy(sortKeys),
+			T0).stream().map(map -> Map.<String, Object>of("auction_id", ((Number)map.get("AUCTION_ID")).longValue(),
+				"product_id", ((Number)map.get("PRODUCT_ID")).longValue(), "last_modified", map.get("LAST_MODIFIED")))
+			.toList());
+		assertEquals(6, rows.size());
+		assertEquals(expected, rows);
+	}
+
+	static Stream<Arguments> sortKeyCases() {
+		return Stream.of(
+			Arguments.of("last_modified ASC", sortKeys("last_modified", Order.ASCENDING)),
+			Arguments.of("last_modified ASC, auction_id ASC",
+				sortKeys("last_modified", Order.ASCENDING, "auction_id", Order.ASCENDING)),
+			Arguments.of("last_modified DESC, auction_id DESC",
+				sortKeys("last_modified", Order.DESCENDING, "auction_id", Order.DESCENDING)),
+			Arguments.of("last_modified ASC, auction_id DESC",
+				sortKeys("last_modified", Order.ASCENDING, "auction_id", Order.DESCENDING)),
+			Arguments.of("last_modified ASC, product_id ASC, auction_id ASC",
+				sortKeys("last_modified", Order.ASCENDING, "product_id", Order.ASCENDING, "auction_id", Order.ASCENDING))
+		);
+	}
+
+
+	// 정렬 키가 행을 유일하게 정하는 경우만 (auction_id 포함) => 페이지 경계의 같은 시각 행을 keyset 으로 구분 가능
+	static Stream<Arguments> uniqueSortKeyCases() {
+		return sortKeyCases().filter(arguments -> ((Map<?, ?>)arguments.get()[1]).containsKey("auction_id"));
+	}
+
+
+	// 헬퍼 메서드
+	private static Map<String, Order> sortKeys(Object... keyAndOrders) {
+		Map<String, Order> sortKeys = new LinkedHashMap<>();
+		for (int i = 0; i < keyAndOrders.length; i += 2) {
+			sortKeys.put((String)keyAndOrders[i], (Order)keyAndOrders[i + 1]);
+		}
+		return sortKeys;
+	}
+
+	private static String branchColumn(String sortKey, String changeColumn) {
+		if ("last_modified".equals(sortKey)) {
+			return changeColumn;
+		}
+		return BRANCH_ID_COLUMN.getOrDefault(sortKey, sortKey);
+	}
+
+	private static String branchOrderBy(Map<String, Order> sortKeys, String changeColumn) {
+		StringBuilder orderBy = new StringBuilder("ORDER BY ");
+		String sep = "";
+		for (Map.Entry<String, Order> sortKey : sortKeys.entrySet()) {
+			orderBy.append(sep).append(branchColumn(sortKey.getKey(), changeColumn))
+				.append(sortKey.getValue() == Order.ASCENDING ? " ASC" : " DESC");
+			sep = ", ";
+		}
+		return orderBy.toString();
+	}
+
+	private static String outerOrderBy(Map<String, Order> sortKeys) {
+		StringBuilder orderBy = new StringBuilder("ORDER BY ");
+		String sep = "";
+		for (Map.Entry<String, Order> sortKey : sortKeys.entrySet()) {
+			orderBy.append(sep).append(sortKey.getKey())
+				.append(sortKey.getValue() == Order.ASCENDING ? " ASC" : " DESC");
+			sep = ", ";
+		}
+		return orderBy.toString();
+	}
+
+	private static String rowConstructor(Map<String, Order> sortKeys, String changeColumn) {
+		StringBuilder columns = new StringBuilder("(");
+		StringBuilder placeholders = new StringBuilder("(");
+		String sep = "";
+		for (String key : sortKeys.keySet()) {
+			columns.append(sep).append(branchColumn(key, changeColumn));
+			placeholders.append(sep).append(":_").append(key);
+			sep = ", ";
+		}
+		String operator = sortKeys.values().iterator().next() == Order.ASCENDING ? " > " : " < ";
+		return columns.append(")") + operator + placeholders.append(")");
+	}
+
+	private static int countOccurrences(String text, String token) {
+		int count = 0;
+		int index = text.indexOf(token);
+		while (index >= 0) {
+			count++;
+			index = text.indexOf(token, index + token.length());
+		}
+		return count;
+	}
+}
@@ -0,0 +1,96 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.example.auctionmarketevent.common.dispatch.OverflowPolicy;
+import org.example.auctionmarketevent.common.dispatch.StripedDispatcher;
+import org.example.auctionmarketevent.common.listener.RedisExpirationListener;
+import org.example.auctionmarketevent.common.notify.AuctionEndIdempotencyGuard;
+import org.example.auctionmarketevent.common.notify.AuctionEndNotifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class RedisExpirationListenerTest {
+
+	@Mock private StringRedisTemplate mockRedisTemplate;
+	@Mock private ValueOperations<String, String> mockValueOperations;
+	@Mock private AuctionEndNotifier mockNotifier;
+
+	private final CountDownLatch redisRelease = new CountDownLatch(1);
+	private StripedDispatcher dispatcher;
+	private AuctionEndIdempotencyGuard guard;
+	private RedisExpirationListener listener;
+
+	@BeforeEach
+	void setUp() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		dispatcher = new StripedDispatcher("test", 2, 100, OverflowPolicy.BLOCK, Duration.ofSeconds(1), meterRegistry);
+		guard = new AuctionEndIdempotencyGuard(mockRedisTemplate, meterRegistry, true, "test:claim:",
+			Duration.ofSeconds(30), Duration.ofHours(24), 100, 3);
+		listener = new RedisExpirationListener(mockNotifier, guard, dispatcher);
+		lenient().when(mockRedisTemplate.opsForValue()).thenReturn(mockValueOperations);
+	}
+
+	@AfterEach
+	void tearDown() {
+		redisRelease.countDown();
+		dispatcher.shutdown(Duration.ofSeconds(5));
+		guard.shutdown();
+	}
+
+	@Test
+	@DisplayName("Redis 선점 확인이 멈춰 있어도 구독 스레드는 막히지 않음 => 선점 + 알림은 작업자에서")
+	void onMessage_RedisSlow_DoesNotBlockSubscriptionThread() {
+		// given: 선점 요청이 redisRelease 전까지 응답하지 않음
+		when(mockValueOperations.setIfAbsent(eq("test:claim:1"), anyString(), any(Duration.class))).thenAnswer(invocation -> {
+			redisRelease.await();
+			return true;
+		});
+		when(mockNotifier.notifyEnded("1")).thenReturn(CompletableFuture.completedFuture(null));
+
+		// when & then: 구독 스레드는 Redis 응답을 기다리지 않음
+		assertTimeoutPreemptively(Duration.ofMillis(500), () -> listener.onMessage(message("auction:end:1"), null));
+		verify(mockNotifier, never()).notifyEnded(anyString());
+
+		// when: Redis 응답
+		redisRelease.countDown();
+
+		// then
+		verify(mockNotifier, timeout(1000)).notifyEnded("1");
+	}
+
+	@Test
+	@DisplayName("경매 키가 아니면 Redis / 작업자 모두 거치지 않고 버림")
+	void onMessage_NotAuctionKey_Ignored() {
+		// when
+		listener.onMessage(message("session:abc"), null);
+
+		// then
+		assertEquals(0, dispatcher.getQueueDepth());
+		verifyNoInteractions(mockValueOperations, mockNotifier);
+	}
+
+	// 헬퍼 메서드
+	private static DefaultMessage message(String key) {
+		return new DefaultMessage("__keyevent@0__:expired".getBytes(StandardCharsets.UTF_8),
+			key.getBytes(StandardCharsets.UTF_8));
+	}
+}
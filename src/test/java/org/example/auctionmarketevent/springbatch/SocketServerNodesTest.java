@@ -0,0 +1,169 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.stream.IntStream;
+
+import org.example.auctionmarketevent.common.config.WebClientConfig;
+import org.example.auctionmarketevent.common.dispatch.CircuitBreaker;
+import org.example.auctionmarketevent.common.notify.SocketServerNodes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SocketServerNodesTest {
+
+	private HttpServer nodeA;
+	private HttpServer nodeB;
+	private volatile int nodeBStatus = 200; // 노드 B 상태 확인 응답 코드
+
+	private String urlA;
+	private String urlB;
+	private SimpleMeterRegistry meterRegistry;
+	private SocketServerNodes nodes;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		nodeA = healthServer(() -> 200);
+		nodeB = healthServer(() -> nodeBStatus);
+		urlA = "http://127.0.0.1:" + nodeA.getAddress().getPort();
+		urlB = "http://127.0.0.1:" + nodeB.getAddress().getPort();
+
+		meterRegistry = new SimpleMeterRegistry();
+		nodes = createNodes(urlA + ", " + urlB + "/", 2, Duration.ofSeconds(1));
+	}
+
+	@AfterEach
+	void tearDown() {
+		nodeA.stop(0);
+		nodeB.stop(0);
+	}
+
+	@Test
+	@DisplayName("상태 확인이 연속 실패한 노드는 링에서 제외, 복구되면 원래 경매를 다시 받음")
+	void checkHealthOnce_DeadNode_RemovedThenRestored() {
+		// given
+		List<String> auctionIds = IntStream.rangeClosed(1, 100).mapToObj(String::valueOf).toList();
+		Map<String, List<String>> initial = nodes.groupByNode(auctionIds);
+		assertEquals(2, initial.size());
+
+		// when: 한 번 실패는 유지, 두 번 연속 실패하면 제외
+		nodeBStatus = 503;
+		nodes.checkHealthOnce();
+		List<String> afterOneFailure = nodes.healthyNodes();
+		nodes.checkHealthOnce();
+
+		// then
+		assertEquals(List.of(urlA, urlB), afterOneFailure);
+		assertEquals(List.of(urlA), nodes.healthyNodes());
+		for (String auctionId : auctionIds) {
+			assertEquals(urlA, nodes.nodeFor(auctionId));
+		}
+		assertEquals(0.0, meterRegistry.get("notify.winner.node.healthy").tag("node", urlB).gauge().value());
+
+		// when: 복구
+		nodeBStatus = 200;
+		nodes.checkHealthOnce();
+
+		// then
+		assertEquals(initial, nodes.groupByNode(auctionIds));
+	}
+
+	@Test
+	@DisplayName("모든 노드가 실패하면 전체 노드로 링 유지")
+	void checkHealthOnce_AllDead_KeepsFullRing() {
+		// given
+		nodes = createNodes(urlB, 1, Duration.ofSeconds(1));
+		nodeBStatus = 500;
+
+		// when
+		nodes.checkHealthOnce();
+
+		// then
+		assertTrue(nodes.healthyNodes().isEmpty());
+		assertEquals(urlB, nodes.nodeFor("1"));
+	}
+
+	@Test
+	@DisplayName("노드 동시 요청 한도를 넘으면 대기 후 실패")
+	void call_OverConcurrencyLimit_Rejected() throws Exception {
+		// given: 노드당 1 개, 대기 50ms
+		nodes = createNodes(urlA, 2, Duration.ofMillis(50));
+		CountDownLatch holding = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		executor.submit(() -> nodes.call(urlA, () -> {
+			holding.countDown();
+			try {
+				return release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+		}));
+		assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+		// when & then
+		assertThrows(IllegalStateException.class, () -> nodes.call(urlA, () -> "두 번째"));
+		assertEquals(1.0, meterRegistry.get("notify.winner.node.rejected").tag("node", urlA).counter().count());
+
+		release.countDown();
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+		assertEquals("세 번째", nodes.call(urlA, () -> "세 번째"));
+	}
+
+	@Test
+	@DisplayName("회로 차단기는 노드마다 따로 => 한 노드가 OPEN 이어도 다른 노드는 요청 허용")
+	void circuitBreaker_PerNode_Independent() {
+		// given
+		CircuitBreaker breakerA = nodes.circuitBreaker(urlA);
+
+		// when
+		for (int i = 0; i < 4; i++) {
+			breakerA.tryAcquire();
+			breakerA.onFailure();
+		}
+
+		// then
+		assertEquals(CircuitBreaker.State.OPEN, breakerA.getState());
+		assertEquals(CircuitBreaker.State.CLOSED, nodes.circuitBreaker(urlB).getState());
+		assertTrue(nodes.circuitBreaker(urlB).tryAcquire());
+		assertEquals(2.0, meterRegistry.get("notify.winner.circuit.state").tag("node", urlA).gauge().value());
+	}
+
+	// 헬퍼 메서드
+	private SocketServerNodes createNodes(String nodeList, int failureThreshold, Duration acquireTimeout) {
+		WebClient webClient = WebClientConfig.notificationWebClient(4, 100, Duration.ofSeconds(1),
+			Duration.ofSeconds(30), Duration.ofMillis(500), Duration.ofSeconds(1), false);
+		return new SocketServerNodes(webClient, meterRegistry, new CircuitBreaker("test", 4, 50, Duration.ofMinutes(1), 1),
+			nodeList, 160, "/actuator/health",
+			Duration.ofSeconds(5), Duration.ofSeconds(1), failureThreshold, 1, acquireTimeout);
+	}
+
+	private static HttpServer healthServer(IntSupplier status) throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/actuator/health", exchange -> {
+			exchange.getRequestBody().readAllBytes();
+			exchange.sendResponseHeaders(status.getAsInt(), -1);
+			exchange.close();
+		});
+		server.start();
+		return server;
+	}
+}
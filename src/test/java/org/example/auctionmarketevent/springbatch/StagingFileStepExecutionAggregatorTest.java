@@ -0,0 +1,73 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.example.auctionmarketevent.springbatch.job.partition.StagingFileStepExecutionAggregator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+
+class StagingFileStepExecutionAggregatorTest {
+
+	private final StagingFileStepExecutionAggregator aggregator = new StagingFileStepExecutionAggregator();
+	private final JobExecution jobExecution = new JobExecution(1L);
+
+	@Test
+	@DisplayName("파티션별 GCS 파일 목록 / 직접 쓰기 행 수를 합치고 워터마크는 파티션 최신 시각 중 최대값")
+	void aggregate_MergesPartitionResults() {
+		// given
+		Timestamp earlier = Timestamp.valueOf(LocalDateTime.of(2025, 4, 28, 1, 0, 0));
+		Timestamp later = Timestamp.valueOf(LocalDateTime.of(2025, 4, 28, 2, 0, 0));
+		StepExecution first = worker("partition0", List.of("gs://bucket/a.csv"), 3L, later);
+		StepExecution second = worker("partition1", List.of("gs://bucket/b.csv", "gs://bucket/c.csv"), 2L, earlier);
+		StepExecution manager = new StepExecution("manager", jobExecution);
+
+		// when
+		aggregator.aggregate(manager, List.of(first, second));
+
+		// then
+		assertEquals(List.of("gs://bucket/a.csv", "gs://bucket/b.csv", "gs://bucket/c.csv"),
+			manager.getExecutionContext().get("gcsFileUris"));
+		assertEquals(5L, manager.getExecutionContext().getLong("directWrittenRows"));
+		assertEquals(later, manager.getExecutionContext().get("maxProcessedTimestampInChunk"));
+	}
+
+	@Test
+	@DisplayName("읽은 행이 없는 파티션은 워터마크에 영향 없음, 모두 비어 있으면 워터마크 없음")
+	void aggregate_EmptyPartitions_ShouldNotSetWatermark() {
+		// given
+		Timestamp latest = Timestamp.valueOf(LocalDateTime.of(2025, 4, 28, 1, 0, 0));
+		StepExecution manager = new StepExecution("manager", jobExecution);
+		StepExecution emptyManager = new StepExecution("emptyManager", jobExecution);
+
+		// when
+		aggregator.aggregate(manager, List.of(worker("partition0", null, 0L, null),
+			worker("partition1", List.of("gs://bucket/a.csv"), 0L, latest)));
+		aggregator.aggregate(emptyManager, List.of(worker("partition0", null, 0L, null)));
+
+		// then
+		assertEquals(latest, manager.getExecutionContext().get("maxProcessedTimestampInChunk"));
+		assertFalse(emptyManager.getExecutionContext().containsKey("maxProcessedTimestampInChunk"));
+		assertEquals(List.of(), emptyManager.getExecutionContext().get("gcsFileUris"));
+	}
+
+	// 헬퍼 메서드
+	private StepExecution worker(String name, List<String> gcsFileUris, long directWrittenRows, Timestamp maxTimestamp) {
+		StepExecution execution = new StepExecution(name, jobExecution);
+		execution.setStatus(BatchStatus.COMPLETED);
+		if (gcsFileUris != null) {
+			execution.getExecutionContext().put("gcsFileUris", gcsFileUris);
+		}
+		execution.getExecutionContext().putLong("directWrittenRows", directWrittenRows);
+		if (maxTimestamp != null) {
+			execution.getExecutionContext().put("maxProcessedTimestampInChunk", maxTimestamp);
+		}
+		return execution;
+	}
+}
@@ -0,0 +1,256 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.avro.file.DataFileStream;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.example.auctionmarketevent.springbatch.job.dto.AuctionsWinningBidDto;
+import org.example.auctionmarketevent.springbatch.job.writer.StreamingGcsItemWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import com.google.cloud.RestorableState;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+
+@ExtendWith(MockitoExtension.class)
+class StreamingGcsItemWriterTest {
+
+	@Mock
+	private Storage mockStorage;
+
+	private final String testBucketName = "test-bucket";
+	private static final String GCS_FILE_URIS_KEY = "gcsFileUris";
+	private static final String MAX_TIMESTAMP_KEY = "maxProcessedTimestampInChunk";
+
+	private StepExecution stepExecution;
+	private List<FakeWriteChannel> channels; // storage.writer() 가 만든 채널 (파일 순서대로)
+
+	@BeforeEach
+	void setUp() {
+		stepExecution = MetaDataInstanceFactory.createStepExecution();
+		channels = new ArrayList<>();
+
+		lenient().when(mockStorage.writer(any(BlobInfo.class))).thenAnswer(invocation -> {
+			FakeWriteChannel channel = new FakeWriteChannel();
+			channels.add(channel);
+			return channel;
+		});
+	}
+
+	@Test
+	@DisplayName("여러 chunk 를 하나의 GCS 파일로 스트리밍 + Step 완료 시에만 파일 목록에 추가")
+	void write_MultipleChunks_ShouldStreamIntoOneFileUntilStepCompletes() throws Exception {
+		// given
+		StreamingGcsItemWriter writer = createWriter(1024 * 1024);
+		Instant now = Instant.now();
+
+		// when
+		writer.write(new Chunk<>(List.of(item(1L, now.minusSeconds(60)))));
+		writer.write(new Chunk<>(List.of(item(2L, now))));
+
+		// then
+		// 업로드 완료 전에는 로드 대상에 없음
+		assertEquals(1, channels.size());
+		assertFalse(channels.get(0).closed);
+		assertTrue(gcsFileUris().isEmpty());
+
+		// when
+		stepExecution.setStatus(BatchStatus.COMPLETED);
+		stepExecution.setExitStatus(ExitStatus.COMPLETED);
+		ExitStatus exitStatus = writer.afterStep(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED, exitStatus);
+		assertTrue(channels.get(0).closed);
+		assertEquals(1, gcsFileUris().size());
+		assertTrue(gcsFileUris().get(0).startsWith("gs://" + testBucketName + "/batch_load_"));
+
+		String csvContent = channels.get(0).content();
+		assertTrue(csvContent.contains("1,101,\"테스트 상품 1\",\"테스트 카테고리 1\",100,"));
+		assertTrue(csvContent.contains("2,102,\"테스트 상품 2\",\"테스트 카테고리 2\",200,"));
+		assertFalse(csvContent.contains("lastModified"));
+
+		Timestamp maxTimestamp = (Timestamp)stepExecution.getExecutionContext().get(MAX_TIMESTAMP_KEY);
+		assertEquals(now, maxTimestamp.toInstant());
+	}
+
+	@Test
+	@DisplayName("파일 크기가 rollSize 를 넘으면 다음 chunk 부터 새 파일에 씀")
+	void write_ExceedsRollSize_ShouldRollToNextFile() throws Exception {
+		// given
+		StreamingGcsItemWriter writer = createWriter(1);
+		Instant now = Instant.now();
+
+		// when
+		writer.write(new Chunk<>(List.of(item(1L, now))));
+		writer.write(new Chunk<>(List.of(item(2L, now))));
+
+		// then
+		assertEquals(2, channels.size());
+		assertTrue(channels.get(0).closed);
+		assertTrue(channels.get(1).closed);
+		assertEquals(2, gcsFileUris().size());
+		assertNotEquals(gcsFileUris().get(0), gcsFileUris().get(1));
+		assertTrue(channels.get(0).content().startsWith("1,101,"));
+		assertTrue(channels.get(1).content().startsWith("2,102,"));
+	}
+
+	@Test
+	@DisplayName("Step 실패 시 열린 업로드는 완료하지 않고, 완료된 파일은 삭제 + 파일 목록 비움")
+	void afterStep_Failed_ShouldAbandonOpenUploadAndDeleteFinishedFiles() throws Exception {
+		// given
+		StreamingGcsItemWriter writer = createWriter(1024 * 1024);
+		writer.write(new Chunk<>(List.of(item(1L, Instant.now())))); // 열린 파일
+		gcsFileUris().add("gs://" + testBucketName + "/finished.csv"); // 이전에 완료된 파일
+
+		// when
+		stepExecution.setStatus(BatchStatus.FAILED);
+		stepExecution.setExitStatus(ExitStatus.FAILED);
+		ExitStatus exitStatus = writer.afterStep(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.FAILED, exitStatus);
+		assertFalse(channels.get(0).closed); // 업로드 완료(close) 안함 => GCS 에 파일 생기지 않음
+		verify(mockStorage).delete(anyList());
+		assertTrue(gcsFileUris().isEmpty());
+	}
+
+	@Test
+	@DisplayName("avro 형식: 압축된 Avro 파일로 스트리밍 + 타임스탬프는 epoch 마이크로초")
+	void write_AvroFormat_ShouldStreamAvroRecords() throws Exception {
+		// given
+		StreamingGcsItemWriter writer = createWriter(1024 * 1024, "avro");
+		Instant now = Instant.parse("2025-01-01T00:00:00.123456Z");
+
+		// when
+		writer.write(new Chunk<>(List.of(item(1L, now))));
+		writer.write(new Chunk<>(List.of(item(2L, now))));
+		stepExecution.setStatus(BatchStatus.COMPLETED);
+		writer.afterStep(stepExecution);
+
+		// then
+		assertEquals(1, gcsFileUris().size());
+		assertTrue(gcsFileUris().get(0).endsWith(".avro"));
+
+		List<GenericRecord> records = new ArrayList<>();
+		try (DataFileStream<GenericRecord> stream = new DataFileStream<>(
+			new ByteArrayInputStream(channels.get(0).bytes()), new GenericDatumReader<>())) {
+			assertEquals("deflate", stream.getMetaString("avro.codec"));
+			stream.forEach(records::add);
+		}
+		assertEquals(2, records.size());
+		assertEquals(1L, records.get(0).get("auction_id"));
+		assertEquals("테스트 상품 1", records.get(0).get("product_name").toString());
+		assertEquals(1735689600123456L, records.get(0).get("auction_start_time"));
+		assertNotNull(records.get(0).getSchema().getField("last_modified"));
+	}
+
+	@Test
+	@DisplayName("빈 Chunk 쓰기 시 GCS 파일을 만들지 않음")
+	void write_EmptyChunk() throws Exception {
+		// given
+		StreamingGcsItemWriter writer = createWriter(1024 * 1024);
+
+		// when
+		writer.write(new Chunk<>(List.of()));
+		stepExecution.setStatus(BatchStatus.COMPLETED);
+		writer.afterStep(stepExecution);
+
+		// then
+		verify(mockStorage, never()).writer(any(BlobInfo.class));
+		assertTrue(gcsFileUris().isEmpty());
+		assertNull(stepExecution.getExecutionContext().get(MAX_TIMESTAMP_KEY));
+	}
+
+
+	// 헬퍼 메서드
+	private StreamingGcsItemWriter createWriter(long rollSize) {
+		return createWriter(rollSize, "csv");
+	}
+
+	private StreamingGcsItemWriter createWriter(long rollSize, String format) {
+		StreamingGcsItemWriter writer = new StreamingGcsItemWriter(mockStorage, testBucketName, rollSize,
+			256 * 1024, format);
+		writer.saveStepExecution(stepExecution);
+		return writer;
+	}
+
+	private AuctionsWinningBidDto item(long id, Instant lastModified) {
+		return AuctionsWinningBidDto.builder()
+			.auctionId(id).productId(100L + id).productName("테스트 상품 " + id)
+			.productCategory("테스트 카테고리 " + id).maxPrice(100L * id)
+			.auctionStartTime(lastModified).auctionEndTime(lastModified).lastModified(lastModified)
+			.build();
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<String> gcsFileUris() {
+		return (List<String>)stepExecution.getExecutionContext().get(GCS_FILE_URIS_KEY);
+	}
+
+	// 메모리에 쓰는 WriteChannel (close 여부 확인용)
+	private static class FakeWriteChannel implements WriteChannel {
+
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		private boolean closed;
+
+		@Override
+		public void setChunkSize(int chunkSize) {
+		}
+
+		@Override
+		public RestorableState<WriteChannel> capture() {
+			return null;
+		}
+
+		@Override
+		public int write(ByteBuffer src) {
+			int length = src.remaining();
+			byte[] buffer = new byte[length];
+			src.get(buffer);
+			bytes.write(buffer, 0, length);
+			return length;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return !closed;
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+
+		String content() {
+			return bytes.toString(StandardCharsets.UTF_8);
+		}
+
+		byte[] bytes() {
+			return bytes.toByteArray();
+		}
+	}
+}
@@ -0,0 +1,180 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.example.auctionmarketevent.common.dispatch.OverflowPolicy;
+import org.example.auctionmarketevent.common.dispatch.StripedDispatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class StripedDispatcherTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private StripedDispatcher dispatcher;
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		dispatcher.shutdown(Duration.ofSeconds(5));
+	}
+
+	@Test
+	@DisplayName("dispatch: 같은 키의 작업은 들어온 순서대로 실행")
+	void dispatch_SameKey_RunsInOrder() throws InterruptedException {
+		// given
+		dispatcher = new StripedDispatcher("test", 4, 1000, OverflowPolicy.BLOCK, Duration.ofSeconds(1), meterRegistry);
+		List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch done = new CountDownLatch(100);
+
+		// when
+		for (int i = 0; i < 100; i++) {
+			int sequence = i;
+			dispatcher.dispatch("auction-1", () -> {
+				executed.add(sequence);
+				done.countDown();
+			});
+		}
+
+		// then
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i, executed.get(i));
+		}
+	}
+
+	@Test
+	@DisplayName("dispatch: REJECT 정책이면 큐가 가득 찼을 때 버리고 rejected 지표 증가")
+	void dispatch_Reject_DropsWhenFull() throws InterruptedException {
+		// given: stripe 1개, 큐 1개 => 실행 중 1 + 대기 1
+		dispatcher = new StripedDispatcher("test", 1, 1, OverflowPolicy.REJECT, Duration.ZERO, meterRegistry);
+		blockWorker("key");
+
+		// when
+		boolean queued = dispatcher.dispatch("key", () -> {
+		});
+		boolean rejected = dispatcher.dispatch("key", () -> {
+		});
+
+		// then
+		assertTrue(queued);
+		assertFalse(rejected);
+		assertEquals(1, dispatcher.getQueueDepth());
+		assertEquals(1.0, meterRegistry.get("dispatch.rejected").tag("dispatcher", "test").counter().count());
+		assertEquals(1.0, meterRegistry.get("dispatch.queue.depth").tag("dispatcher", "test").gauge().value());
+	}
+
+	@Test
+	@DisplayName("dispatch: CALLER_RUNS 정책이면 큐가 가득 찼을 때 호출 스레드에서 실행")
+	void dispatch_CallerRuns_RunsOnCallerThread() throws InterruptedException {
+		// given
+		dispatcher = new StripedDispatcher("test", 1, 1, OverflowPolicy.CALLER_RUNS, Duration.ZERO, meterRegistry);
+		blockWorker("key");
+		dispatcher.dispatch("key", () -> {
+		});
+		List<Thread> ranOn = new ArrayList<>();
+
+		// when
+		boolean accepted = dispatcher.dispatch("key", () -> ranOn.add(Thread.currentThread()));
+
+		// then
+		assertTrue(accepted);
+		assertEquals(List.of(Thread.currentThread()), ranOn);
+		assertEquals(1.0, meterRegistry.get("dispatch.caller_runs").counter().count());
+	}
+
+	@Test
+	@DisplayName("dispatch: BLOCK 정책이면 blockTimeout 동안 기다린 뒤 버림")
+	void dispatch_Block_WaitsThenRejects() throws InterruptedException {
+		// given
+		dispatcher = new StripedDispatcher("test", 1, 1, OverflowPolicy.BLOCK, Duration.ofMillis(200), meterRegistry);
+		blockWorker("key");
+		dispatcher.dispatch("key", () -> {
+		});
+
+		// when
+		long start = System.nanoTime();
+		boolean accepted = dispatcher.dispatch("key", () -> {
+		});
+		long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		// then
+		assertFalse(accepted);
+		assertTrue(waitedMillis >= 150, "대기 시간 = " + waitedMillis);
+		assertEquals(1.0, dispatcher.getRejectedCount());
+	}
+
+	@Test
+	@DisplayName("shutdown: 새 작업은 버리고, 큐에 남은 작업은 실행")
+	void shutdown_DrainsQueuedTasks() throws InterruptedException {
+		// given
+		dispatcher = new StripedDispatcher("test", 1, 10, OverflowPolicy.REJECT, Duration.ZERO, meterRegistry);
+		blockWorker("key");
+		CountDownLatch queuedRan = new CountDownLatch(1);
+		dispatcher.dispatch("key", queuedRan::countDown);
+
+		// when
+		release.countDown();
+		dispatcher.shutdown(Duration.ofSeconds(5));
+
+		// then
+		assertTrue(queuedRan.await(0, TimeUnit.SECONDS));
+		assertFalse(dispatcher.dispatch("key", () -> {
+		}));
+	}
+
+	@Test
+	@DisplayName("dispatch: 같은 stripe 작업자에서 다시 등록하면 큐가 가득 차 있어도 바로 실행")
+	void dispatch_FromOwnWorker_RunsInline() throws InterruptedException {
+		// given: stripe 1개, 큐 1개 => 작업자가 실행 중인 동안 큐를 채움
+		dispatcher = new StripedDispatcher("test", 1, 1, OverflowPolicy.REJECT, Duration.ZERO, meterRegistry);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch queueFull = new CountDownLatch(1);
+		CountDownLatch nestedRan = new CountDownLatch(1);
+		List<Boolean> accepted = Collections.synchronizedList(new ArrayList<>());
+		dispatcher.dispatch("auction-1", () -> {
+			started.countDown();
+			try {
+				queueFull.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			// when: 작업자에서 같은 키로 다시 등록
+			accepted.add(dispatcher.dispatch("auction-1", nestedRan::countDown));
+		});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		assertTrue(dispatcher.dispatch("auction-1", () -> {
+		}));
+		queueFull.countDown();
+
+		// then
+		assertTrue(nestedRan.await(5, TimeUnit.SECONDS));
+		assertEquals(List.of(true), accepted);
+		assertEquals(0.0, dispatcher.getRejectedCount());
+	}
+
+	// 헬퍼 메서드
+	// 작업자 하나를 release 전까지 붙잡아 둠
+	private void blockWorker(String key) throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		dispatcher.dispatch(key, () -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+	}
+}
@@ -0,0 +1,205 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.auctionmarketevent.common.notify.WinnerNotificationChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+class WinnerNotificationChannelTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final List<JsonNode> receivedFrames = new CopyOnWriteArrayList<>(); // 루프백 서버가 받은 프레임
+	private final AtomicInteger connections = new AtomicInteger();
+	private volatile boolean dropFirstConnection; // true => 첫 연결은 프레임 하나를 받고 ack 없이 종료
+
+	private DisposableServer loopbackServer;
+	private SimpleMeterRegistry meterRegistry;
+	private WinnerNotificationChannel channel;
+
+	@BeforeEach
+	void setUp() {
+		// 루프백 소켓 서버 => winner 프레임마다 ack (auctionId 999 는 error)
+		loopbackServer = HttpServer.create()
+			.host("127.0.0.1")
+			.port(0)
+			.route(routes -> routes.ws("/internal/auction/ws", (in, out) -> {
+				if (connections.incrementAndGet() == 1 && dropFirstConnection) {
+					return in.receive().asString().doOnNext(this::record).take(1).then();
+				}
+				return out.sendString(in.receive().asString().map(this::ack));
+			}))
+			.bindNow();
+
+		meterRegistry = new SimpleMeterRegistry();
+		channel = createChannel("ws://127.0.0.1:" + loopbackServer.port() + "/internal/auction/ws");
+	}
+
+	@AfterEach
+	void tearDown() {
+		channel.shutdown();
+		loopbackServer.disposeNow();
+	}
+
+	@Test
+	@DisplayName("연결 하나로 여러 알림 전송 => seq 별 ack 로 각각 완료")
+	void send_Acked_Completes() throws Exception {
+		// given
+		channel.start();
+		awaitConnected();
+
+		// when
+		CompletableFuture<Void> first = channel.send("1");
+		CompletableFuture<Void> second = channel.send("2");
+
+		// then
+		first.get(5, TimeUnit.SECONDS);
+		second.get(5, TimeUnit.SECONDS);
+		assertEquals(1, connections.get());
+		assertEquals(List.of(1L, 2L), receivedFrames.stream().map(frame -> frame.path("seq").asLong()).toList());
+		assertEquals(2L, receivedFrames.get(1).path("message").path("auctionId").asLong());
+		assertEquals(2, meterRegistry.get("notify.winner.channel.ack").timer().count());
+		assertEquals(0.0, meterRegistry.get("notify.winner.channel.in-flight").gauge().value());
+	}
+
+	@Test
+	@DisplayName("서버가 error 로 응답하면 예외로 완료")
+	void send_ErrorAck_CompletesExceptionally() {
+		// given
+		channel.start();
+		awaitConnected();
+
+		// when
+		CompletableFuture<Void> result = channel.send("999");
+
+		// then
+		ExecutionException error = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+		assertInstanceOf(IllegalStateException.class, error.getCause());
+		assertEquals(1.0, meterRegistry.get("notify.winner.channel.rejected").counter().count());
+	}
+
+	@Test
+	@DisplayName("ack 전에 연결이 끊기면 재연결 후 같은 seq 로 다시 보내고 완료")
+	void send_Disconnected_ResendsAfterReconnect() throws Exception {
+		// given
+		dropFirstConnection = true;
+		channel.start();
+		awaitConnected();
+
+		// when
+		CompletableFuture<Void> result = channel.send("1");
+
+		// then
+		result.get(5, TimeUnit.SECONDS);
+		assertEquals(2, connections.get());
+		assertEquals(List.of(1L, 1L), receivedFrames.stream().map(frame -> frame.path("seq").asLong()).toList());
+		assertEquals(1.0, meterRegistry.get("notify.winner.channel.resent").counter().count());
+		assertEquals(1.0, meterRegistry.get("notify.winner.channel.reconnects").counter().count());
+	}
+
+	@Test
+	@DisplayName("연결되지 않았으면 바로 실패 => 호출한 쪽에서 HTTP 로 전송")
+	void send_NotConnected_FailsFast() {
+		// given
+		int closedPort = loopbackServer.port();
+		loopbackServer.disposeNow();
+		channel = createChannel("ws://127.0.0.1:" + closedPort + "/internal/auction/ws");
+		channel.start();
+
+		// when
+		CompletableFuture<Void> result = channel.send("1");
+
+		// then
+		assertFalse(channel.isConnected());
+		assertTrue(result.isCompletedExceptionally());
+	}
+
+	@Test
+	@DisplayName("여러 작업자가 동시에 보내도 서버가 받는 seq 는 보낸 순서대로 증가")
+	void send_ConcurrentSenders_SeqInSendOrder() throws Exception {
+		// given
+		channel.start();
+		awaitConnected();
+		ExecutorService senders = Executors.newFixedThreadPool(8);
+		List<CompletableFuture<Void>> results = new CopyOnWriteArrayList<>();
+
+		// when
+		try {
+			List<Future<?>> submitted = new ArrayList<>();
+			for (int worker = 0; worker < 8; worker++) {
+				int base = worker * 100;
+				submitted.add(senders.submit(() -> {
+					for (int i = 1; i <= 50; i++) {
+						results.add(channel.send(Integer.toString(base + i)));
+					}
+				}));
+			}
+			for (Future<?> future : submitted) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+			CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+		} finally {
+			senders.shutdownNow();
+		}
+
+		// then
+		List<Long> seqs = receivedFrames.stream().map(frame -> frame.path("seq").asLong()).toList();
+		assertEquals(400, seqs.size());
+		for (int i = 1; i < seqs.size(); i++) {
+			assertTrue(seqs.get(i - 1) < seqs.get(i), "seq 순서가 전송 순서와 다름: " + seqs);
+		}
+	}
+
+	// 헬퍼 메서드
+	private WinnerNotificationChannel createChannel(String url) {
+		return new WinnerNotificationChannel(new ReactorNettyWebSocketClient(), objectMapper, null, meterRegistry,
+			true, url, 16, Duration.ofSeconds(5), Duration.ofMillis(50), Duration.ofMillis(200));
+	}
+
+	private void awaitConnected() {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!channel.isConnected()) {
+			assertTrue(System.nanoTime() < deadline, "채널 연결 대기 시간 초과");
+			Thread.onSpinWait();
+		}
+	}
+
+	private JsonNode record(String text) {
+		try {
+			JsonNode frame = objectMapper.readTree(text);
+			receivedFrames.add(frame);
+			return frame;
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private String ack(String text) {
+		JsonNode frame = record(text);
+		boolean rejected = frame.path("message").path("auctionId").asLong() == 999L;
+		return "{\"type\":\"ack\",\"seq\":" + frame.path("seq").asLong() + ",\"status\":\""
+			+ (rejected ? "error" : "ok") + "\",\"error\":\"" + (rejected ? "unknown auction" : "") + "\"}";
+	}
+}
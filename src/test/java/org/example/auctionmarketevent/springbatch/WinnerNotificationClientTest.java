@@ -0,0 +1,183 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.auctionmarketevent.common.config.WebClientConfig;
+import org.example.auctionmarketevent.common.dispatch.CircuitBreaker;
+import org.example.auctionmarketevent.common.notify.SocketServerNodes;
+import org.example.auctionmarketevent.common.notify.WinnerNotificationClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WinnerNotificationClientTest {
+
+	private HttpServer stubServer;
+	private final ConcurrentLinkedQueue<Integer> statuses = new ConcurrentLinkedQueue<>(); // 응답할 상태 코드 (비면 200)
+	private final AtomicInteger requests = new AtomicInteger();
+	private volatile String bulkResponseBody = "{\"failedAuctionIds\":[]}";
+	private volatile String lastRequestBody;
+
+	private SimpleMeterRegistry meterRegistry;
+	private CircuitBreaker circuitBreaker; // 노드마다 복사되는 설정
+	private SocketServerNodes nodes;
+	private String baseUrl;
+	private WinnerNotificationClient client;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		stubServer.createContext("/internal/auction/", this::handle);
+		stubServer.start();
+
+		meterRegistry = new SimpleMeterRegistry();
+		circuitBreaker = new CircuitBreaker("test", 4, 50, Duration.ofMinutes(1), 1);
+		baseUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort();
+		client = createClient(baseUrl);
+	}
+
+	@AfterEach
+	void tearDown() {
+		stubServer.stop(0);
+	}
+
+	@Test
+	@DisplayName("5xx 응답은 재시도 후 성공, 시도마다 상태 코드별 타이머 기록")
+	void notifyWinner_ServerErrorThenOk_Retries() {
+		// given
+		statuses.add(503);
+		statuses.add(500);
+
+		// when
+		client.notifyWinner("1");
+
+		// then
+		assertEquals(3, requests.get());
+		assertEquals(1, timerCount("503"));
+		assertEquals(1, timerCount("500"));
+		assertEquals(1, timerCount("200"));
+		assertEquals(2.0, meterRegistry.get("notify.winner.http.retries").counter().count());
+		assertEquals(CircuitBreaker.State.CLOSED, nodes.circuitBreaker(baseUrl).getState());
+	}
+
+	@Test
+	@DisplayName("단건 알림 본문으로 AuctionEndMessage 전송 (조회기 없으면 auctionId 만)")
+	void notifyWinner_SendsMessageBody() {
+		// when
+		client.notifyWinner("42");
+
+		// then
+		assertTrue(lastRequestBody.contains("\"auctionId\":42"));
+		assertTrue(lastRequestBody.contains("\"userId\":null"));
+	}
+
+	@Test
+	@DisplayName("4xx 응답은 재시도 없이 바로 실패")
+	void notifyWinner_ClientError_NoRetry() {
+		// given
+		statuses.add(404);
+
+		// when & then
+		WebClientResponseException error = assertThrows(WebClientResponseException.class,
+			() -> client.notifyWinner("1"));
+		assertEquals(404, error.getStatusCode().value());
+		assertEquals(1, requests.get());
+	}
+
+	@Test
+	@DisplayName("계속 실패하면 회로 차단기 OPEN => 남은 재시도 / 이후 요청은 서버에 보내지 않고 바로 실패")
+	void notifyWinner_RepeatedFailures_OpensCircuit() {
+		// given: 최근 4번 중 2번 이상 기록 + 실패 50% 이상이면 OPEN
+		for (int i = 0; i < 3; i++) {
+			statuses.add(503);
+		}
+
+		// when: 두 번째 시도 실패로 OPEN => 세 번째 시도는 보내지 않음
+		assertThrows(IllegalStateException.class, () -> client.notifyWinner("1"));
+		assertThrows(IllegalStateException.class, () -> client.notifyWinner("2"));
+
+		// then
+		assertEquals(CircuitBreaker.State.OPEN, nodes.circuitBreaker(baseUrl).getState());
+		assertEquals(2, requests.get());
+		assertEquals(2, timerCount("CIRCUIT_OPEN"));
+	}
+
+	@Test
+	@DisplayName("연결 오류는 재시도 후 마지막 오류 그대로 전달")
+	void notifyWinner_ConnectionRefused_RetriesThenFails() {
+		// given: 회로 차단기가 열리지 않도록 기록 수를 넉넉하게
+		int port = stubServer.getAddress().getPort();
+		stubServer.stop(0);
+		circuitBreaker = new CircuitBreaker("test", 100, 50, Duration.ofMinutes(1), 1);
+		baseUrl = "http://127.0.0.1:" + port;
+		client = createClient(baseUrl);
+
+		// when & then
+		assertThrows(WebClientRequestException.class, () -> client.notifyWinner("1"));
+		assertEquals(3, timerCount("IO_ERROR"));
+	}
+
+	@Test
+	@DisplayName("묶음 알림: 응답의 실패 ID 목록 반환")
+	void notifyWinners_ReturnsFailedIds() {
+		// given
+		bulkResponseBody = "{\"failedAuctionIds\":[\"2\"]}";
+
+		// when
+		List<String> failed = client.notifyWinners(List.of("1", "2"));
+
+		// then
+		assertEquals(List.of("2"), failed);
+		assertEquals(1, meterRegistry.get("notify.winner.http").tag("type", "bulk").tag("status", "200")
+			.timer().count());
+	}
+
+	// 헬퍼 메서드
+	private WinnerNotificationClient createClient(String nodeList) {
+		WebClient webClient = WebClientConfig.notificationWebClient(4, 100, Duration.ofSeconds(1),
+			Duration.ofSeconds(30), Duration.ofMillis(500), Duration.ofSeconds(2), false);
+		nodes = new SocketServerNodes(webClient, meterRegistry, circuitBreaker, nodeList, 16, "/actuator/health",
+			Duration.ofSeconds(5), Duration.ofSeconds(1), 2, 4, Duration.ofSeconds(1));
+		return new WinnerNotificationClient(webClient, nodes, Duration.ofSeconds(10), meterRegistry, 3,
+			Duration.ofMillis(5), Duration.ofMillis(20), null);
+	}
+
+	private long timerCount(String status) {
+		return meterRegistry.get("notify.winner.http").tag("status", status).timers().stream()
+			.mapToLong(timer -> timer.count())
+			.sum();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		requests.incrementAndGet();
+		lastRequestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+		Integer status = statuses.poll();
+		int code = status != null ? status : 200;
+		byte[] body = exchange.getRequestURI().getPath().endsWith("/winners") && code == 200
+			? bulkResponseBody.getBytes(StandardCharsets.UTF_8)
+			: new byte[0];
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(code, body.length == 0 ? -1 : body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+}
@@ -0,0 +1,209 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.example.auctionmarketevent.common.notify.WinnerNotificationClient;
+import org.example.auctionmarketevent.common.notify.WinnerNotificationOutbox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class WinnerNotificationOutboxTest {
+
+	private static final String STREAM_KEY = "test:outbox";
+	private static final String DEAD_STREAM_KEY = "test:outbox:dead";
+	private static final String GROUP = "test-group";
+
+	@Mock private StringRedisTemplate mockRedisTemplate;
+	@Mock private StreamOperations<String, Object, Object> mockStreamOperations;
+	@Mock private WinnerNotificationClient mockClient;
+
+	private SimpleMeterRegistry meterRegistry;
+	private WinnerNotificationOutbox outbox;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		outbox = new WinnerNotificationOutbox(mockRedisTemplate, mockClient, meterRegistry, true, true, STREAM_KEY,
+			DEAD_STREAM_KEY, GROUP, 10, 3, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(1),
+			Duration.ofMinutes(1));
+		lenient().when(mockRedisTemplate.opsForStream()).thenReturn(mockStreamOperations);
+	}
+
+	@Test
+	@DisplayName("append: 실패한 알림을 시도 1 로 스트림에 추가")
+	void append_AddsFirstAttempt() {
+		// when
+		boolean appended = outbox.append("1", new IllegalStateException("소켓 서버 오류"));
+
+		// then
+		assertTrue(appended);
+		verify(mockStreamOperations).add(STREAM_KEY, Map.of("auctionId", "1", "attempt", "1", "error", "소켓 서버 오류"));
+		assertEquals(1.0, meterRegistry.get("notify.outbox.appended").counter().count());
+	}
+
+	@Test
+	@DisplayName("replayOnce: 묶음 요청 => 성공한 항목은 확인 + 삭제, 실패한 항목은 시도 + 1 로 다시 추가")
+	void replayOnce_PartialFailure_RequeuesFailed() {
+		// given
+		givenFresh(List.of(record("1-0", "1", 1), record("2-0", "2", 1)));
+		when(mockClient.notifyWinners(List.of("1", "2"))).thenReturn(List.of("2"));
+
+		// when
+		int processed = outbox.replayOnce();
+
+		// then
+		assertEquals(2, processed);
+		verify(mockStreamOperations).add(eq(STREAM_KEY), eq(Map.of("auctionId", "2", "attempt", "2", "error", "")));
+		verify(mockStreamOperations).acknowledge(STREAM_KEY, GROUP, RecordId.of("1-0"));
+		verify(mockStreamOperations).acknowledge(STREAM_KEY, GROUP, RecordId.of("2-0"));
+		verify(mockStreamOperations).delete(STREAM_KEY, RecordId.of("1-0"));
+		verify(mockStreamOperations).delete(STREAM_KEY, RecordId.of("2-0"));
+		assertEquals(1.0, meterRegistry.get("notify.outbox.delivered").counter().count());
+	}
+
+	@Test
+	@DisplayName("replayOnce: 묶음 알림이 꺼져 있으면 ID 마다 단건 요청")
+	void replayOnce_BulkDisabled_NotifiesEachId() {
+		// given
+		outbox = new WinnerNotificationOutbox(mockRedisTemplate, mockClient, meterRegistry, true, false, STREAM_KEY,
+			DEAD_STREAM_KEY, GROUP, 10, 3, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(1),
+			Duration.ofMinutes(1));
+		givenFresh(List.of(record("1-0", "1", 1), record("2-0", "2", 1)));
+		doThrow(new IllegalStateException("소켓 서버 오류")).when(mockClient).notifyWinner("2");
+
+		// when
+		outbox.replayOnce();
+
+		// then
+		verify(mockClient).notifyWinner("1");
+		verify(mockClient, never()).notifyWinners(anyList());
+		verify(mockStreamOperations).add(eq(STREAM_KEY),
+			eq(Map.of("auctionId", "2", "attempt", "2", "error", "소켓 서버 오류")));
+		assertEquals(1.0, meterRegistry.get("notify.outbox.delivered").counter().count());
+	}
+
+	@Test
+	@DisplayName("replayOnce: 재시도 소진 항목은 dead 스트림으로 이동")
+	void replayOnce_AttemptsExhausted_MovesToDeadStream() {
+		// given
+		givenFresh(List.of(record("1-0", "1", 3)));
+		when(mockClient.notifyWinners(anyList())).thenThrow(new IllegalStateException("소켓 서버 회로 차단기 OPEN"));
+
+		// when
+		outbox.replayOnce();
+
+		// then
+		verify(mockStreamOperations).add(eq(DEAD_STREAM_KEY), anyMap());
+		verify(mockStreamOperations, never()).add(eq(STREAM_KEY), anyMap());
+		verify(mockStreamOperations).acknowledge(STREAM_KEY, GROUP, RecordId.of("1-0"));
+		assertEquals(1.0, meterRegistry.get("notify.outbox.dead").counter().count());
+	}
+
+	@Test
+	@DisplayName("replayOnce: 오래 확인되지 않은 pending 항목 (죽은 인스턴스) 을 가져와서 처리")
+	void replayOnce_StalePending_ClaimsAndProcesses() {
+		// given
+		RecordId staleId = RecordId.of("1-0");
+		RecordId recentId = RecordId.of("2-0");
+		PendingMessages pending = new PendingMessages(GROUP, List.of(
+			new PendingMessage(staleId, Consumer.from(GROUP, "dead-instance"), Duration.ofMinutes(5), 1),
+			new PendingMessage(recentId, Consumer.from(GROUP, "live-instance"), Duration.ofSeconds(5), 1)));
+		when(mockStreamOperations.pending(eq(STREAM_KEY), eq(GROUP), any(Range.class), eq(10L))).thenReturn(pending);
+		when(mockStreamOperations.claim(eq(STREAM_KEY), eq(GROUP), anyString(), eq(Duration.ofMinutes(1)),
+			eq(staleId))).thenReturn(List.of(record("1-0", "1", 1)));
+		when(mockStreamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+			.thenReturn(List.of());
+		when(mockClient.notifyWinners(List.of("1"))).thenReturn(List.of());
+
+		// when
+		int processed = outbox.replayOnce();
+
+		// then
+		assertEquals(1, processed);
+		verify(mockStreamOperations).acknowledge(STREAM_KEY, GROUP, staleId);
+		verify(mockStreamOperations, never()).acknowledge(STREAM_KEY, GROUP, recentId);
+	}
+
+	@Test
+	@DisplayName("replayOnce: 앞쪽 pending 이 모두 살아 있는 소비자 것이어도 다음 페이지의 오래된 항목을 가져옴")
+	@SuppressWarnings("unchecked")
+	void replayOnce_StalePendingBehindLiveEntries_PagesThroughPending() {
+		// given: 첫 페이지 10 개 => 모두 최근 전달, 두 번째 페이지 => 오래된 항목
+		List<PendingMessage> live = new ArrayList<>();
+		for (int i = 1; i <= 10; i++) {
+			live.add(new PendingMessage(RecordId.of(i + "-0"), Consumer.from(GROUP, "live-instance"),
+				Duration.ofSeconds(5), 1));
+		}
+		RecordId staleId = RecordId.of("11-0");
+		when(mockStreamOperations.pending(eq(STREAM_KEY), eq(GROUP), any(Range.class), eq(10L))).thenReturn(
+			new PendingMessages(GROUP, live),
+			new PendingMessages(GROUP, List.of(
+				new PendingMessage(staleId, Consumer.from(GROUP, "dead-instance"), Duration.ofMinutes(5), 1))));
+		when(mockStreamOperations.claim(eq(STREAM_KEY), eq(GROUP), anyString(), eq(Duration.ofMinutes(1)),
+			eq(staleId))).thenReturn(List.of(record("11-0", "11", 1)));
+		when(mockStreamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+			.thenReturn(List.of());
+		when(mockClient.notifyWinners(List.of("11"))).thenReturn(List.of());
+
+		// when
+		int processed = outbox.replayOnce();
+
+		// then: 두 번째 페이지는 첫 페이지 마지막 항목 다음 ID 부터
+		assertEquals(1, processed);
+		ArgumentCaptor<Range<String>> rangeCaptor = ArgumentCaptor.forClass(Range.class);
+		verify(mockStreamOperations, times(2)).pending(eq(STREAM_KEY), eq(GROUP), rangeCaptor.capture(), eq(10L));
+		assertEquals("10-1", rangeCaptor.getAllValues().get(1).getLowerBound().getValue().orElseThrow());
+		verify(mockStreamOperations).acknowledge(STREAM_KEY, GROUP, staleId);
+	}
+
+	@Test
+	@DisplayName("비활성화 시 추가하지 않음 => 호출한 쪽에서 실패 처리")
+	void append_Disabled_ReturnsFalse() {
+		// given
+		outbox = new WinnerNotificationOutbox(mockRedisTemplate, mockClient, meterRegistry, false, true, STREAM_KEY,
+			DEAD_STREAM_KEY, GROUP, 10, 3, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(1),
+			Duration.ofMinutes(1));
+
+		// when & then
+		assertFalse(outbox.append("1", new IllegalStateException("소켓 서버 오류")));
+		verifyNoInteractions(mockStreamOperations);
+	}
+
+	// 헬퍼 메서드
+	private void givenFresh(List<MapRecord<String, Object, Object>> records) {
+		when(mockRedisTemplate.execute(any(RedisCallback.class))).thenReturn("OK");
+		when(mockStreamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+			.thenReturn(records);
+	}
+
+	private static MapRecord<String, Object, Object> record(String id, String auctionId, int attempt) {
+		Map<Object, Object> value = Map.of("auctionId", auctionId, "attempt", String.valueOf(attempt), "error", "");
+		return MapRecord.create(STREAM_KEY, value).withId(RecordId.of(id));
+	}
+}
@@ -0,0 +1,101 @@
+package org.example.auctionmarketevent.springbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.example.auctionmarketevent.common.message.AuctionEndMessage;
+import org.example.auctionmarketevent.common.notify.AuctionEndMessageLoader;
+import org.example.auctionmarketevent.common.notify.WinnerMessageCache;
+import org.example.auctionmarketevent.common.scheduler.WinnerPrewarmer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class WinnerPrewarmerTest {
+
+	@Mock private AuctionEndMessageLoader mockLoader;
+
+	private JdbcTemplate jdbcTemplate;
+	private SimpleMeterRegistry meterRegistry;
+	private WinnerMessageCache cache;
+	private WinnerPrewarmer prewarmer;
+
+	@BeforeEach
+	void setUp() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE auctions (id BIGINT PRIMARY KEY, max_price DECIMAL(19, 2), "
+			+ "end_time DATETIME(6))");
+		Instant now = Instant.now();
+		insertAuction(1, 10000, now.plusSeconds(3)); // 곧 종료, 낙찰자 있음
+		insertAuction(2, 20000, now.plusSeconds(4)); // 곧 종료, 낙찰자 없음
+		insertAuction(3, 30000, now.plusSeconds(60)); // 아직 먼 경매
+		insertAuction(4, 40000, now.minusSeconds(1)); // 이미 종료
+
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new WinnerMessageCache(meterRegistry, true, 100);
+		prewarmer = new WinnerPrewarmer(jdbcTemplate, mockLoader, cache, Duration.ofSeconds(5), Duration.ofSeconds(1),
+			Duration.ofMinutes(1), 1000);
+	}
+
+	@Test
+	@DisplayName("종료가 가까운 경매만 묶음으로 본문 생성 + 낙찰자 있는 경매만 캐시, 알림 시점 조회는 적중")
+	void warmOnce_CachesDueSoonWinners() {
+		// given
+		when(mockLoader.fetch(List.of("1", "2"))).thenReturn(List.of(
+			new AuctionEndMessage(1L, 10L, 10000L, "사용자10"),
+			new AuctionEndMessage(2L, null, null, null)));
+		when(mockLoader.fetch(List.of("2"))).thenReturn(List.of(new AuctionEndMessage(2L, null, null, null)));
+
+		// when
+		int cached = prewarmer.warmOnce();
+		prewarmer.warmOnce(); // 이미 캐시한 경매는 다시 만들지 않음 (2 는 낙찰자가 없으므로 다시 시도)
+
+		// then
+		assertEquals(1, cached);
+		verify(mockLoader, times(1)).fetch(List.of("1", "2"));
+		verify(mockLoader, times(1)).fetch(List.of("2"));
+		assertEquals(new AuctionEndMessage(1L, 10L, 10000L, "사용자10"), cache.get("1"));
+		assertNull(cache.get("2"));
+		assertEquals(1.0, meterRegistry.get("notify.winner.prewarm.hit").counter().count());
+		assertEquals(1.0, meterRegistry.get("notify.winner.prewarm.miss").counter().count());
+		assertEquals(1, meterRegistry.get("notify.winner.prewarm.saved").timer().count());
+	}
+
+	@Test
+	@DisplayName("캐시한 뒤 늦은 입찰로 금액이 바뀌면 무효화 후 다시 생성")
+	void warmOnce_LateBid_Reloads() {
+		// given
+		when(mockLoader.fetch(anyList()))
+			.thenReturn(List.of(new AuctionEndMessage(1L, 10L, 10000L, "사용자10")))
+			.thenReturn(List.of(new AuctionEndMessage(1L, 11L, 15000L, "사용자11")));
+		prewarmer.warmOnce();
+
+		// when
+		jdbcTemplate.update("UPDATE auctions SET max_price = 15000 WHERE id = 1");
+		prewarmer.warmOnce();
+
+		// then
+		assertEquals(new AuctionEndMessage(1L, 11L, 15000L, "사용자11"), cache.peek("1"));
+	}
+
+	// 헬퍼 메서드
+	private void insertAuction(long id, long maxPrice, Instant endTime) {
+		jdbcTemplate.update("INSERT INTO auctions VALUES (?, ?, ?)", id, maxPrice, Timestamp.from(endTime));
+	}
+}